@@ -0,0 +1,65 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reducing a polyline with the Douglas Peucker implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximatorBenchmark {
+
+    /**
+     * the number of points ApproximatorN reduces to, about the width of a screen in pixels
+     */
+    private static final int RESULT_COUNT = 1000;
+
+    @Param({BenchmarkData.SIZE_1K, BenchmarkData.SIZE_10K, BenchmarkData.SIZE_100K,
+            BenchmarkData.SIZE_1M, BenchmarkData.SIZE_10M})
+    public int size;
+
+    private float[] mPoints;
+    private boolean[] mKeep;
+
+    private Approximator mApproximator;
+    private ApproximatorN mApproximatorN;
+
+    @Setup
+    public void setUp() {
+
+        float[] values = BenchmarkData.randomWalk(size);
+        mPoints = new float[size * 2];
+
+        for (int i = 0; i < size; i++) {
+            mPoints[i * 2] = i;
+            mPoints[i * 2 + 1] = values[i];
+        }
+
+        mKeep = new boolean[size];
+        mApproximator = new Approximator();
+        mApproximatorN = new ApproximatorN();
+    }
+
+    @Benchmark
+    public int approximator() {
+        return mApproximator.reduceWithDouglasPeucker(mPoints, size, 1f, mKeep);
+    }
+
+    @Benchmark
+    public float[] approximatorN() {
+        return mApproximatorN.reduceWithDouglasPeucker(mPoints, RESULT_COUNT);
+    }
+}
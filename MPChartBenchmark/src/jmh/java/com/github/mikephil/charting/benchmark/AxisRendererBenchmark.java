@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.AxisRenderer;
+import com.github.mikephil.charting.renderer.YAxisRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks computing the axis labels (computeAxisValues(...)) for changing ranges, like while
+ * zooming and panning.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AxisRendererBenchmark {
+
+    private YAxis mAxis;
+    private AxisRenderer mRenderer;
+
+    private YAxis mForcedAxis;
+    private AxisRenderer mForcedRenderer;
+
+    private YAxis mCenteredAxis;
+    private AxisRenderer mCenteredRenderer;
+
+    private float[] mMin;
+    private float[] mRange;
+    private int mQuery = 0;
+
+    @Setup
+    public void setUp() {
+
+        mAxis = new YAxis();
+        mAxis.setLabelCount(6);
+        mRenderer = new YAxisRenderer(null, mAxis, null);
+
+        mForcedAxis = new YAxis();
+        mForcedAxis.setLabelCount(6, true);
+        mForcedRenderer = new YAxisRenderer(null, mForcedAxis, null);
+
+        mCenteredAxis = new YAxis();
+        mCenteredAxis.setLabelCount(6);
+        mCenteredAxis.setCenterAxisLabels(true);
+        mCenteredRenderer = new YAxisRenderer(null, mCenteredAxis, null);
+
+        mMin = BenchmarkData.queries(-1000f, 1000f);
+        mRange = BenchmarkData.queries(0.01f, 10000f);
+    }
+
+    @Benchmark
+    public int computeAxisValues() {
+        return compute(mRenderer, mAxis);
+    }
+
+    @Benchmark
+    public int computeAxisValuesForced() {
+        return compute(mForcedRenderer, mForcedAxis);
+    }
+
+    @Benchmark
+    public int computeAxisValuesCentered() {
+        return compute(mCenteredRenderer, mCenteredAxis);
+    }
+
+    private int compute(AxisRenderer renderer, YAxis axis) {
+
+        mQuery = (mQuery + 1) & (BenchmarkData.QUERY_COUNT - 1);
+
+        float min = mMin[mQuery];
+
+        // without a ViewPortHandler, computeAxis(...) directly computes the values
+        renderer.computeAxis(min, min + mRange[mQuery], false);
+
+        return axis.mEntryCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks feeding plain and stacked bars into a BarBuffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BarBufferBenchmark {
+
+    @Param({BenchmarkData.SIZE_1K, BenchmarkData.SIZE_10K, BenchmarkData.SIZE_100K,
+            BenchmarkData.SIZE_1M, BenchmarkData.SIZE_10M})
+    public int size;
+
+    /**
+     * 1 for plain bars, more for stacked bars
+     */
+    @Param({"1", "4"})
+    public int stackSize;
+
+    private BarDataSet mDataSet;
+    private BarBuffer mBuffer;
+
+    @Setup
+    public void setUp() {
+
+        mDataSet = new BarDataSet(BenchmarkData.barEntries(size, stackSize), "benchmark");
+
+        mBuffer = new BarBuffer(size * 4 * stackSize, 1, stackSize > 1);
+        mBuffer.setBarWidth(0.85f);
+        mBuffer.setPhases(1f, 1f);
+    }
+
+    @Benchmark
+    public int feed() {
+        mBuffer.feed(mDataSet);
+        return mBuffer.getFeedSize();
+    }
+}
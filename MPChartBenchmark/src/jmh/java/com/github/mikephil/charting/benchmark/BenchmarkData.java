@@ -0,0 +1,120 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the (reproducible) data the benchmarks run on.
+ */
+final class BenchmarkData {
+
+    /**
+     * the DataSet sizes every size dependent benchmark is run with
+     */
+    static final String SIZE_1K = "1000";
+    static final String SIZE_10K = "10000";
+    static final String SIZE_100K = "100000";
+    static final String SIZE_1M = "1000000";
+    static final String SIZE_10M = "10000000";
+
+    /**
+     * number of precomputed query values the benchmarks cycle through, a power of two
+     */
+    static final int QUERY_COUNT = 1024;
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns the y-values of a random walk, which resembles real (e.g. sensor or stock) data
+     * better than uniform noise.
+     *
+     * @param count
+     * @return
+     */
+    static float[] randomWalk(int count) {
+
+        Random random = new Random(SEED);
+        float[] values = new float[count];
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            values[i] = y;
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns entries with the x-values 0, 1, 2, ... and random walk y-values.
+     *
+     * @param count
+     * @return
+     */
+    static List<Entry> entries(int count) {
+
+        float[] values = randomWalk(count);
+        List<Entry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, values[i]));
+
+        return entries;
+    }
+
+    /**
+     * Returns bar entries with the x-values 0, 1, 2, ..., stacked with the given number of values
+     * if stackSize is larger than 1.
+     *
+     * @param count
+     * @param stackSize
+     * @return
+     */
+    static List<BarEntry> barEntries(int count, int stackSize) {
+
+        Random random = new Random(SEED);
+        List<BarEntry> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+
+            if (stackSize > 1) {
+
+                float[] vals = new float[stackSize];
+
+                for (int k = 0; k < stackSize; k++)
+                    vals[k] = random.nextFloat() * 100f - 20f;
+
+                entries.add(new BarEntry(i, vals));
+            } else {
+                entries.add(new BarEntry(i, random.nextFloat() * 100f - 20f));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns QUERY_COUNT random values between min and max.
+     *
+     * @param min
+     * @param max
+     * @return
+     */
+    static float[] queries(float min, float max) {
+
+        Random random = new Random(SEED + 1);
+        float[] queries = new float[QUERY_COUNT];
+
+        for (int i = 0; i < QUERY_COUNT; i++)
+            queries[i] = min + random.nextFloat() * (max - min);
+
+        return queries;
+    }
+}
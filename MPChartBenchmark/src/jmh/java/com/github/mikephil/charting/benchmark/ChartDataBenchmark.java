@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the min / max calculation of a ChartData object over several DataSets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartDataBenchmark {
+
+    private static final int DATA_SET_COUNT = 4;
+
+    /**
+     * the total number of entries, split across the DataSets
+     */
+    @Param({BenchmarkData.SIZE_1K, BenchmarkData.SIZE_10K, BenchmarkData.SIZE_100K,
+            BenchmarkData.SIZE_1M, BenchmarkData.SIZE_10M})
+    public int size;
+
+    private LineData mData;
+
+    @Setup
+    public void setUp() {
+
+        LineDataSet[] sets = new LineDataSet[DATA_SET_COUNT];
+
+        for (int i = 0; i < DATA_SET_COUNT; i++)
+            sets[i] = new LineDataSet(BenchmarkData.entries(size / DATA_SET_COUNT), "set " + i);
+
+        mData = new LineData(sets);
+    }
+
+    /**
+     * notifyDataChanged() recalculates the min and max values of the ChartData (calcMinMax()).
+     */
+    @Benchmark
+    public float calcMinMax() {
+        mData.notifyDataChanged();
+        return mData.getYMax();
+    }
+}
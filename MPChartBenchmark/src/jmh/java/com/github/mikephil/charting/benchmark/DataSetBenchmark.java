@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups and the min / max calculation of a DataSet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetBenchmark {
+
+    @Param({BenchmarkData.SIZE_1K, BenchmarkData.SIZE_10K, BenchmarkData.SIZE_100K,
+            BenchmarkData.SIZE_1M, BenchmarkData.SIZE_10M})
+    public int size;
+
+    private LineDataSet mDataSet;
+
+    private float[] mQueries;
+    private int mQuery = 0;
+
+    @Setup
+    public void setUp() {
+        mDataSet = new LineDataSet(BenchmarkData.entries(size), "benchmark");
+        mQueries = BenchmarkData.queries(0f, size - 1);
+    }
+
+    private float nextQuery() {
+        mQuery = (mQuery + 1) & (BenchmarkData.QUERY_COUNT - 1);
+        return mQueries[mQuery];
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextQuery(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public List<Entry> getEntriesForXValue() {
+        return mDataSet.getEntriesForXValue(Math.round(nextQuery()));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMax() {
+        mDataSet.calcMinMax();
+        return mDataSet.getYMax();
+    }
+
+    /**
+     * Calculates the y-range of a window of a tenth of the DataSet, like auto scaling does.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMaxY() {
+        float fromX = nextQuery() * 0.9f;
+        mDataSet.calcMinMaxY(fromX, fromX + size * 0.1f);
+        return mDataSet.getYMax();
+    }
+}
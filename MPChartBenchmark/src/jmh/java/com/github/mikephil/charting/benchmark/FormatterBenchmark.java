@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.utils.Utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks formatting values, which happens for every drawn value and axis label.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatterBenchmark {
+
+    private DefaultValueFormatter mDefaultFormatter;
+    private LargeValueFormatter mLargeFormatter;
+
+    private float[] mValues;
+    private int mValue = 0;
+
+    private final char[] mChars = new char[64];
+
+    @Setup
+    public void setUp() {
+
+        mDefaultFormatter = new DefaultValueFormatter(2);
+        mLargeFormatter = new LargeValueFormatter();
+
+        // values of all magnitudes, positive and negative
+        Random random = new Random(42L);
+        mValues = new float[BenchmarkData.QUERY_COUNT];
+
+        for (int i = 0; i < mValues.length; i++) {
+            float value = (float) Math.pow(10.0, random.nextInt(13) - 3) * random.nextFloat();
+            mValues[i] = random.nextBoolean() ? value : -value;
+        }
+    }
+
+    private float nextValue() {
+        mValue = (mValue + 1) & (BenchmarkData.QUERY_COUNT - 1);
+        return mValues[mValue];
+    }
+
+    @Benchmark
+    public String formatNumber() {
+        return Utils.formatNumber(nextValue(), 2, true);
+    }
+
+    @Benchmark
+    public String defaultValueFormatter() {
+        return mDefaultFormatter.getFormattedValue(nextValue(), null, 0, null);
+    }
+
+    @Benchmark
+    public String largeValueFormatter() {
+        return mLargeFormatter.getFormattedValue(nextValue(), null, 0, null);
+    }
+
+    @Benchmark
+    public int defaultValueFormatterChars() {
+        return mDefaultFormatter.format(nextValue(), null, mChars);
+    }
+
+    @Benchmark
+    public int largeValueFormatterChars() {
+        return mLargeFormatter.format(nextValue(), null, mChars);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.mikephil.charting.benchmark;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks transforming points from values to pixels. On the JVM, android.graphics.Matrix is
+ * the pure-Java replacement in src/main/java, so this measures the overhead of the Transformer
+ * plus that implementation, not the native Matrix of a device. Compare the results only with
+ * other runs of this benchmark, not with measurements on Android.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformerBenchmark {
+
+    @Param({BenchmarkData.SIZE_1K, BenchmarkData.SIZE_10K, BenchmarkData.SIZE_100K,
+            BenchmarkData.SIZE_1M, BenchmarkData.SIZE_10M})
+    public int size;
+
+    private Transformer mTransformer;
+
+    private float[] mValues;
+    private float[] mPoints;
+
+    @Setup
+    public void setUp() {
+
+        float[] values = BenchmarkData.randomWalk(size);
+        mValues = new float[size * 2];
+
+        for (int i = 0; i < size; i++) {
+            mValues[i * 2] = i;
+            mValues[i * 2 + 1] = values[i];
+        }
+
+        mPoints = new float[size * 2];
+
+        // the matrices of a 1080 x 1920 chart, set directly as the content rect of the
+        // ViewPortHandler is not available on the JVM
+        Matrix value = new Matrix();
+        value.setScale(1000f / size, -10f);
+
+        Matrix offset = new Matrix();
+        offset.setTranslate(40f, 1800f);
+
+        mTransformer = new Transformer(new ViewPortHandler());
+        mTransformer.setValueMatrix(value);
+        mTransformer.setOffsetMatrix(offset);
+    }
+
+    @Benchmark
+    public float[] pointValuesToPixel() {
+        System.arraycopy(mValues, 0, mPoints, 0, mPoints.length);
+        mTransformer.pointValuesToPixel(mPoints);
+        return mPoints;
+    }
+}
@@ -0,0 +1,9 @@
+package android.annotation;
+
+/**
+ * Stand-in for the annotation of the Android SDK, so that the library compiles on a plain JVM.
+ */
+public @interface SuppressLint {
+
+    String[] value();
+}
@@ -0,0 +1,12 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * Stand-in for the Context of the Android SDK. The benchmarks don't create charts, so there is
+ * no implementation of it.
+ */
+public abstract class Context {
+
+    public abstract Resources getResources();
+}
@@ -0,0 +1,19 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * Stand-in for the Resources of the Android SDK, with the metrics of a display of density 1.
+ */
+public class Resources {
+
+    private final DisplayMetrics mMetrics = new DisplayMetrics();
+
+    public DisplayMetrics getDisplayMetrics() {
+        return mMetrics;
+    }
+
+    public int getColor(int id) {
+        return 0;
+    }
+}
@@ -0,0 +1,61 @@
+package android.graphics;
+
+/**
+ * Stand-in for the Canvas of the Android SDK, nothing is drawn on a plain JVM.
+ */
+public class Canvas {
+
+    public int getWidth() {
+        return 0;
+    }
+
+    public int getHeight() {
+        return 0;
+    }
+
+    public int save() {
+        return 1;
+    }
+
+    public void restore() {
+    }
+
+    public void restoreToCount(int saveCount) {
+    }
+
+    public void translate(float dx, float dy) {
+    }
+
+    public void rotate(float degrees) {
+    }
+
+    public boolean clipRect(RectF rect) {
+        return true;
+    }
+
+    public boolean clipRect(float left, float top, float right, float bottom) {
+        return true;
+    }
+
+    public boolean clipPath(Path path) {
+        return true;
+    }
+
+    public void drawColor(int color) {
+    }
+
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+    }
+
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+    }
+
+    public void drawPath(Path path, Paint paint) {
+    }
+
+    public void drawText(String text, float x, float y, Paint paint) {
+    }
+
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+    }
+}
@@ -0,0 +1,10 @@
+package android.graphics;
+
+/**
+ * Stand-in for the DashPathEffect of the Android SDK.
+ */
+public class DashPathEffect extends PathEffect {
+
+    public DashPathEffect(float[] intervals, float phase) {
+    }
+}
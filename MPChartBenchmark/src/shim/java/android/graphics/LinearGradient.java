@@ -0,0 +1,15 @@
+package android.graphics;
+
+/**
+ * Stand-in for the LinearGradient of the Android SDK.
+ */
+public class LinearGradient extends Shader {
+
+    public LinearGradient(float x0, float y0, float x1, float y1,
+                          int color0, int color1, TileMode tile) {
+    }
+
+    public LinearGradient(float x0, float y0, float x1, float y1,
+                          int[] colors, float[] positions, TileMode tile) {
+    }
+}
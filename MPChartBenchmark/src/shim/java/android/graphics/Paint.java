@@ -0,0 +1,155 @@
+package android.graphics;
+
+/**
+ * Stand-in for the Paint of the Android SDK. It keeps the values that are set, but measures no
+ * text, there are no fonts on a plain JVM.
+ */
+public class Paint {
+
+    public static final int ANTI_ALIAS_FLAG = 1;
+
+    public enum Style {
+        FILL, STROKE, FILL_AND_STROKE
+    }
+
+    public enum Align {
+        LEFT, CENTER, RIGHT
+    }
+
+    public static class FontMetrics {
+
+        public float top;
+        public float ascent;
+        public float descent;
+        public float bottom;
+        public float leading;
+    }
+
+    private int mFlags;
+    private int mColor = Color.BLACK;
+    private float mStrokeWidth = 0f;
+    private float mTextSize = 12f;
+    private float mTextScaleX = 1f;
+    private float mTextSkewX = 0f;
+    private float mLetterSpacing = 0f;
+    private Style mStyle = Style.FILL;
+    private Align mTextAlign = Align.LEFT;
+    private Typeface mTypeface;
+    private PathEffect mPathEffect;
+    private Shader mShader;
+
+    public Paint() {
+        this(0);
+    }
+
+    public Paint(int flags) {
+        mFlags = flags;
+    }
+
+    public int getFlags() {
+        return mFlags;
+    }
+
+    public int getColor() {
+        return mColor;
+    }
+
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    public void setAlpha(int alpha) {
+        mColor = (mColor & 0x00FFFFFF) | (alpha << 24);
+    }
+
+    public float getStrokeWidth() {
+        return mStrokeWidth;
+    }
+
+    public void setStrokeWidth(float width) {
+        mStrokeWidth = width;
+    }
+
+    public Style getStyle() {
+        return mStyle;
+    }
+
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    public Align getTextAlign() {
+        return mTextAlign;
+    }
+
+    public void setTextAlign(Align align) {
+        mTextAlign = align;
+    }
+
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public void setTextSize(float textSize) {
+        mTextSize = textSize;
+    }
+
+    public float getTextScaleX() {
+        return mTextScaleX;
+    }
+
+    public float getTextSkewX() {
+        return mTextSkewX;
+    }
+
+    public float getLetterSpacing() {
+        return mLetterSpacing;
+    }
+
+    public Typeface getTypeface() {
+        return mTypeface;
+    }
+
+    public Typeface setTypeface(Typeface typeface) {
+        mTypeface = typeface;
+        return typeface;
+    }
+
+    public PathEffect getPathEffect() {
+        return mPathEffect;
+    }
+
+    public PathEffect setPathEffect(PathEffect effect) {
+        mPathEffect = effect;
+        return effect;
+    }
+
+    public Shader getShader() {
+        return mShader;
+    }
+
+    public Shader setShader(Shader shader) {
+        mShader = shader;
+        return shader;
+    }
+
+    public float measureText(String text) {
+        return 0f;
+    }
+
+    public float measureText(char[] text, int index, int count) {
+        return 0f;
+    }
+
+    public void getTextBounds(String text, int start, int end, Rect bounds) {
+        bounds.set(0, 0, 0, 0);
+    }
+
+    public void getTextBounds(char[] text, int index, int count, Rect bounds) {
+        bounds.set(0, 0, 0, 0);
+    }
+
+    public float getFontMetrics(FontMetrics metrics) {
+        return 0f;
+    }
+}
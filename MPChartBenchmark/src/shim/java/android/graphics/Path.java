@@ -0,0 +1,22 @@
+package android.graphics;
+
+/**
+ * Stand-in for the Path of the Android SDK, nothing is drawn on a plain JVM.
+ */
+public class Path {
+
+    public void reset() {
+    }
+
+    public void moveTo(float x, float y) {
+    }
+
+    public void lineTo(float x, float y) {
+    }
+
+    public void close() {
+    }
+
+    public void transform(Matrix matrix) {
+    }
+}
@@ -0,0 +1,7 @@
+package android.graphics;
+
+/**
+ * Stand-in for the PathEffect of the Android SDK.
+ */
+public class PathEffect {
+}
@@ -0,0 +1,18 @@
+package android.graphics;
+
+/**
+ * Stand-in for the PointF of the Android SDK.
+ */
+public class PointF {
+
+    public float x;
+    public float y;
+
+    public PointF() {
+    }
+
+    public PointF(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -0,0 +1,57 @@
+package android.graphics;
+
+/**
+ * Stand-in for the RectF of the Android SDK, the ViewPortHandler computes with its bounds.
+ */
+public class RectF {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public RectF() {
+    }
+
+    public RectF(float left, float top, float right, float bottom) {
+        set(left, top, right, bottom);
+    }
+
+    public RectF(RectF r) {
+        set(r);
+    }
+
+    public final float width() {
+        return right - left;
+    }
+
+    public final float height() {
+        return bottom - top;
+    }
+
+    public final float centerX() {
+        return (left + right) * 0.5f;
+    }
+
+    public final float centerY() {
+        return (top + bottom) * 0.5f;
+    }
+
+    public void set(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public void set(RectF src) {
+        set(src.left, src.top, src.right, src.bottom);
+    }
+
+    public void inset(float dx, float dy) {
+        left += dx;
+        top += dy;
+        right -= dx;
+        bottom -= dy;
+    }
+}
@@ -0,0 +1,11 @@
+package android.graphics;
+
+/**
+ * Stand-in for the Shader of the Android SDK.
+ */
+public class Shader {
+
+    public enum TileMode {
+        CLAMP, REPEAT, MIRROR
+    }
+}
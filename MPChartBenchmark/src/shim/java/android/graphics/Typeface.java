@@ -0,0 +1,9 @@
+package android.graphics;
+
+/**
+ * Stand-in for the Typeface of the Android SDK.
+ */
+public class Typeface {
+
+    public static final Typeface DEFAULT = new Typeface();
+}
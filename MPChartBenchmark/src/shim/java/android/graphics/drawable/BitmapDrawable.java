@@ -0,0 +1,13 @@
+package android.graphics.drawable;
+
+import android.graphics.Canvas;
+
+/**
+ * Stand-in for the BitmapDrawable of the Android SDK.
+ */
+public class BitmapDrawable extends Drawable {
+
+    @Override
+    public void draw(Canvas canvas) {
+    }
+}
@@ -0,0 +1,26 @@
+package android.graphics.drawable;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+/**
+ * Stand-in for the Drawable of the Android SDK.
+ */
+public abstract class Drawable {
+
+    private final Rect mBounds = new Rect();
+
+    public void setBounds(int left, int top, int right, int bottom) {
+        mBounds.set(left, top, right, bottom);
+    }
+
+    public void setBounds(Rect bounds) {
+        mBounds.set(bounds);
+    }
+
+    public final void copyBounds(Rect bounds) {
+        bounds.set(mBounds);
+    }
+
+    public abstract void draw(Canvas canvas);
+}
@@ -0,0 +1,13 @@
+package android.os;
+
+/**
+ * Stand-in for the Build of the Android SDK, the benchmarks take the code paths of the API
+ * level the library targets.
+ */
+public class Build {
+
+    public static class VERSION {
+
+        public static final int SDK_INT = 28;
+    }
+}
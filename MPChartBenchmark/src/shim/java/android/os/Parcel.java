@@ -0,0 +1,35 @@
+package android.os;
+
+/**
+ * Stand-in for the Parcel of the Android SDK. The benchmarks don't parcel, so it can not be
+ * created.
+ */
+public final class Parcel {
+
+    private Parcel() {
+    }
+
+    public int readInt() {
+        throw new UnsupportedOperationException();
+    }
+
+    public float readFloat() {
+        throw new UnsupportedOperationException();
+    }
+
+    public <T extends Parcelable> T readParcelable(ClassLoader loader) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void writeInt(int val) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void writeFloat(float val) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void writeParcelable(Parcelable p, int flags) {
+        throw new UnsupportedOperationException();
+    }
+}
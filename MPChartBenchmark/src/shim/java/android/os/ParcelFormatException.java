@@ -0,0 +1,15 @@
+package android.os;
+
+/**
+ * Stand-in for the ParcelFormatException of the Android SDK.
+ */
+public class ParcelFormatException extends RuntimeException {
+
+    public ParcelFormatException() {
+        super();
+    }
+
+    public ParcelFormatException(String reason) {
+        super(reason);
+    }
+}
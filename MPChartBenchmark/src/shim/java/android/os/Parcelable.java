@@ -0,0 +1,18 @@
+package android.os;
+
+/**
+ * Stand-in for the Parcelable of the Android SDK.
+ */
+public interface Parcelable {
+
+    int describeContents();
+
+    void writeToParcel(Parcel dest, int flags);
+
+    interface Creator<T> {
+
+        T createFromParcel(Parcel source);
+
+        T[] newArray(int size);
+    }
+}
@@ -0,0 +1,24 @@
+package android.text;
+
+import android.graphics.Canvas;
+
+/**
+ * Stand-in for the Layout of the Android SDK, text is not laid out on a plain JVM.
+ */
+public abstract class Layout {
+
+    public enum Alignment {
+        ALIGN_NORMAL, ALIGN_OPPOSITE, ALIGN_CENTER
+    }
+
+    public int getWidth() {
+        return 0;
+    }
+
+    public int getLineCount() {
+        return 0;
+    }
+
+    public void draw(Canvas canvas) {
+    }
+}
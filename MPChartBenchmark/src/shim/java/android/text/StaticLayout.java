@@ -0,0 +1,12 @@
+package android.text;
+
+/**
+ * Stand-in for the StaticLayout of the Android SDK.
+ */
+public class StaticLayout extends Layout {
+
+    public StaticLayout(CharSequence source, int bufStart, int bufEnd, TextPaint paint,
+                        int outerWidth, Alignment align, float spacingMult,
+                        float spacingAdd, boolean includePad) {
+    }
+}
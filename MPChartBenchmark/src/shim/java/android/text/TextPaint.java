@@ -0,0 +1,9 @@
+package android.text;
+
+import android.graphics.Paint;
+
+/**
+ * Stand-in for the TextPaint of the Android SDK.
+ */
+public class TextPaint extends Paint {
+}
@@ -0,0 +1,9 @@
+package android.util;
+
+/**
+ * Stand-in for the DisplayMetrics of the Android SDK.
+ */
+public class DisplayMetrics {
+
+    public float density = 1f;
+}
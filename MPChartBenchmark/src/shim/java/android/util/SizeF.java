@@ -0,0 +1,23 @@
+package android.util;
+
+/**
+ * Stand-in for the SizeF of the Android SDK.
+ */
+public final class SizeF {
+
+    private final float mWidth;
+    private final float mHeight;
+
+    public SizeF(float width, float height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public float getWidth() {
+        return mWidth;
+    }
+
+    public float getHeight() {
+        return mHeight;
+    }
+}
@@ -0,0 +1,23 @@
+package android.view;
+
+/**
+ * Stand-in for the MotionEvent of the Android SDK. There are no touches on a plain JVM, so it
+ * can not be created.
+ */
+public final class MotionEvent {
+
+    private MotionEvent() {
+    }
+
+    public int getActionIndex() {
+        return 0;
+    }
+
+    public int getPointerCount() {
+        return 0;
+    }
+
+    public int getPointerId(int pointerIndex) {
+        return 0;
+    }
+}
@@ -0,0 +1,25 @@
+package android.view;
+
+/**
+ * Stand-in for the VelocityTracker of the Android SDK. There are no touches on a plain JVM, so
+ * it can not be created.
+ */
+public final class VelocityTracker {
+
+    private VelocityTracker() {
+    }
+
+    public void clear() {
+    }
+
+    public void computeCurrentVelocity(int units, float maxVelocity) {
+    }
+
+    public float getXVelocity(int id) {
+        return 0f;
+    }
+
+    public float getYVelocity(int id) {
+        return 0f;
+    }
+}
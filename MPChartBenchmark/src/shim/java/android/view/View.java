@@ -0,0 +1,27 @@
+package android.view;
+
+/**
+ * Stand-in for the View of the Android SDK. The benchmarks don't create views, so it can not be
+ * created.
+ */
+public class View {
+
+    private View() {
+    }
+
+    public void invalidate() {
+    }
+
+    public void postInvalidateDelayed(long delayMilliseconds) {
+    }
+
+    public void postInvalidateOnAnimation() {
+    }
+
+    public boolean post(Runnable action) {
+        return false;
+    }
+
+    public void postOnAnimation(Runnable action) {
+    }
+}
@@ -0,0 +1,34 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * Stand-in for the ViewConfiguration of the Android SDK, with its default fling velocities.
+ */
+public class ViewConfiguration {
+
+    private static final int MINIMUM_FLING_VELOCITY = 50;
+    private static final int MAXIMUM_FLING_VELOCITY = 8000;
+
+    public static ViewConfiguration get(Context context) {
+        return new ViewConfiguration();
+    }
+
+    @Deprecated
+    public static int getMinimumFlingVelocity() {
+        return MINIMUM_FLING_VELOCITY;
+    }
+
+    @Deprecated
+    public static int getMaximumFlingVelocity() {
+        return MAXIMUM_FLING_VELOCITY;
+    }
+
+    public int getScaledMinimumFlingVelocity() {
+        return MINIMUM_FLING_VELOCITY;
+    }
+
+    public int getScaledMaximumFlingVelocity() {
+        return MAXIMUM_FLING_VELOCITY;
+    }
+}
@@ -27,8 +27,11 @@ public abstract class AbstractBuffer<T> {
     /** indicates from which x-index the visible data begins */
     protected int mFrom = 0;
 
-    /** indicates to which x-index the visible data ranges */
-    protected int mTo = 0;
+    /** indicates to which x-index (inclusive) the visible data ranges */
+    protected int mTo = Integer.MAX_VALUE;
+
+    /** number of values written to the buffer by the last feed */
+    protected int mFeedSize = 0;
 
     /**
      * Initialization with buffer-size.
@@ -61,6 +64,25 @@ public abstract class AbstractBuffer<T> {
         index = 0;
     }
 
+    /**
+     * Returns the x-index the visible data begins with.
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the number of values the last call to feed(...) wrote to the
+     * buffer, starting at index 0. Only these values are valid.
+     *
+     * @return
+     */
+    public int getFeedSize() {
+        return mFeedSize;
+    }
+
     /**
      * Returns the size (length) of the buffer array.
      * 
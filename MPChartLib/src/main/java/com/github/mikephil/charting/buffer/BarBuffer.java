@@ -43,10 +43,12 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int entryCount = data.getEntryCount();
+        final int to = Math.min(mTo, Math.min((int) Math.ceil(entryCount * phaseX), entryCount) - 1);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        // only the visible bars (limitFrom(...) / limitTo(...)) are fed
+        for (int i = mFrom; i <= to; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -125,6 +127,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mFeedSize = index;
         reset();
     }
 }
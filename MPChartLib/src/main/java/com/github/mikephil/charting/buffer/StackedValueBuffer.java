@@ -0,0 +1,191 @@
+package com.github.mikephil.charting.buffer;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.Range;
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+
+/**
+ * Buffer for the positions of the stack values of stacked bars, used for drawing the values.
+ * The positions of all stacked entries a BarBuffer was fed with are computed from the ranges of
+ * the entries (see BarEntry.getRanges()) and transformed to pixels in one call. They are only
+ * computed again if the DataSet, the contents of the BarBuffer, the animation phase or the
+ * transformation changed.
+ */
+public class StackedValueBuffer {
+
+    /**
+     * the positions of the stack values in pixels, order: x,y,x,y,... Only the coordinate of the
+     * value (y, or x for horizontal bars) is valid.
+     */
+    public float[] buffer = new float[0];
+
+    /**
+     * for each stack value, true if the value is drawn below (or left of) its position
+     */
+    public boolean[] below = new boolean[0];
+
+    /** true if the values are positioned on the x-axis (horizontal bars) */
+    protected boolean mHorizontal;
+
+    /** number of values written to the buffer by the last computation */
+    protected int mFeedSize = 0;
+
+    /** the input of the last computation, see feed(...) */
+    private IBarDataSet mDataSet = null;
+    private int mFrom = -1;
+    private int mBarFeedSize = -1;
+    private float[] mBars = new float[0];
+    private float mPhaseY = Float.NaN;
+    private final float[] mMatrixValues = new float[9];
+    private final float[] mMatrixValuesBuffer = new float[9];
+
+    /**
+     * @param horizontal true if the stack values are positioned on the x-axis (horizontal bars)
+     */
+    public StackedValueBuffer(boolean horizontal) {
+        this.mHorizontal = horizontal;
+    }
+
+    /**
+     * Computes the pixel positions of the stack values of all stacked entries the given BarBuffer
+     * was last fed with, in the order of the bars. Non-stacked entries in between have no
+     * positions, missing (null) entries are skipped like the BarBuffer does. Nothing is computed
+     * if neither the DataSet, the fed bars, the phase nor the transformation changed since the
+     * last call.
+     *
+     * @param data
+     * @param bars   the buffer that holds the bars of the DataSet
+     * @param phaseY
+     * @param trans
+     */
+    public void feed(IBarDataSet data, BarBuffer bars, float phaseY, Transformer trans) {
+
+        trans.getSnapshot().getValues(mMatrixValuesBuffer);
+
+        if (isValid(data, bars, phaseY))
+            return;
+
+        int index = 0;
+        int barIndex = 0;
+        int entryIndex = bars.getFrom();
+
+        while (barIndex < bars.getFeedSize()) {
+
+            BarEntry entry = data.getEntryForIndex(entryIndex++);
+
+            if (entry == null)
+                continue;
+
+            float[] vals = entry.getYVals();
+
+            if (vals == null) {
+                barIndex += 4;
+                continue;
+            }
+
+            ensureCapacity(index + vals.length * 2);
+
+            Range[] ranges = entry.getRanges();
+            final boolean useRanges = ranges != null && ranges.length == vals.length;
+
+            final int start = index;
+            float posY = 0f;
+            float negY = -entry.getNegativeSum();
+
+            for (int k = 0; k < vals.length; k++) {
+
+                float value = vals[k];
+                float y;
+
+                if (value == 0.0f && (posY == 0.0f || negY == 0.0f)) {
+                    // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
+                    y = value;
+                } else if (value >= 0.0f) {
+                    posY = useRanges ? ranges[k].to : posY + value;
+                    y = posY;
+                } else {
+                    y = negY;
+                    negY = useRanges ? ranges[k].to : negY - value;
+                }
+
+                buffer[index++] = mHorizontal ? y * phaseY : 0f;
+                buffer[index++] = mHorizontal ? 0f : y * phaseY;
+            }
+
+            // a 0.0 value at the top of a positive stack is drawn below, like negative values
+            for (int k = 0; k < vals.length; k++) {
+                below[start / 2 + k] = (vals[k] == 0.0f && negY == 0.0f && posY > 0.0f)
+                        || vals[k] < 0.0f;
+            }
+
+            barIndex += 4 * vals.length;
+        }
+
+        trans.pointValuesToPixel(buffer, index);
+
+        mFeedSize = index;
+
+        mDataSet = data;
+        mFrom = bars.getFrom();
+        mBarFeedSize = bars.getFeedSize();
+        mPhaseY = phaseY;
+
+        if (mBars.length < mBarFeedSize)
+            mBars = new float[bars.buffer.length];
+
+        System.arraycopy(bars.buffer, 0, mBars, 0, mBarFeedSize);
+        System.arraycopy(mMatrixValuesBuffer, 0, mMatrixValues, 0, mMatrixValues.length);
+    }
+
+    private boolean isValid(IBarDataSet data, BarBuffer bars, float phaseY) {
+
+        if (data != mDataSet || bars.getFrom() != mFrom || bars.getFeedSize() != mBarFeedSize
+                || phaseY != mPhaseY)
+            return false;
+
+        for (int i = 0; i < mMatrixValues.length; i++) {
+            if (mMatrixValues[i] != mMatrixValuesBuffer[i])
+                return false;
+        }
+
+        // the bars are fed from the values of the entries, if they are the same, so are the
+        // entries (values changed without notifyDataSetChanged() are detected as well)
+        for (int i = 0; i < mBarFeedSize; i++) {
+            if (mBars[i] != bars.buffer[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private void ensureCapacity(int size) {
+
+        if (buffer.length >= size)
+            return;
+
+        float[] grown = new float[Math.max(size, buffer.length * 2)];
+        System.arraycopy(buffer, 0, grown, 0, buffer.length);
+        buffer = grown;
+
+        boolean[] grownBelow = new boolean[grown.length / 2];
+        System.arraycopy(below, 0, grownBelow, 0, below.length);
+        below = grownBelow;
+    }
+
+    /**
+     * Discards the computed positions, they are computed again by the next call to feed(...).
+     */
+    public void invalidate() {
+        mDataSet = null;
+    }
+
+    /**
+     * Returns the number of values (x and y) written to the buffer by the last computation.
+     *
+     * @return
+     */
+    public int getFeedSize() {
+        return mFeedSize;
+    }
+}
@@ -4,6 +4,7 @@ package com.github.mikephil.charting.charts;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -18,23 +19,34 @@ import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.EntryQueue;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.jobs.AnimatedMoveViewJob;
 import com.github.mikephil.charting.jobs.AnimatedZoomJob;
 import com.github.mikephil.charting.jobs.MoveViewJob;
 import com.github.mikephil.charting.jobs.ZoomJob;
 import com.github.mikephil.charting.listener.BarLineChartTouchListener;
+import com.github.mikephil.charting.listener.ChartPerformanceListener;
+import com.github.mikephil.charting.listener.ChartPerformanceListener.Phase;
 import com.github.mikephil.charting.listener.OnDrawListener;
+import com.github.mikephil.charting.renderer.GeometryPipeline;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderLayer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
@@ -46,6 +58,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         IBarLineScatterCandleBubbleDataSet<? extends Entry>>>
         extends Chart<T> implements BarLineScatterCandleBubbleDataProvider {
 
+    /**
+     * change flag for notifyDataSetChanged(int): entries or DataSets changed
+     */
+    public static final int CHANGED_DATA = 1;
+
+    /**
+     * change flag for notifyDataSetChanged(int): axis settings (e.g. minimum, maximum) changed
+     */
+    public static final int CHANGED_AXIS = 2;
+
+    /**
+     * change flag for notifyDataSetChanged(int): the legend needs to be recomputed
+     */
+    public static final int CHANGED_LEGEND = 4;
+
+    /**
+     * change flag for notifyDataSetChanged(int): everything changed
+     */
+    public static final int CHANGED_ALL = CHANGED_DATA | CHANGED_AXIS | CHANGED_LEGEND;
+
     /**
      * the maximum number of entries to which values will be drawn
      * (entry numbers greater than this value will cause value-labels to disappear)
@@ -112,6 +144,108 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mKeepPositionOnRotation = false;
 
+    /**
+     * prepares the geometry of the DataSets on background threads, null if disabled
+     */
+    protected GeometryPipeline mGeometryPipeline = null;
+
+    /**
+     * if true, everything but the highlights and markers is drawn into cached layers
+     */
+    protected boolean mLayerCacheEnabled = false;
+
+    /**
+     * cached layer below the highlights (grid, axis lines, data)
+     */
+    protected RenderLayer mContentLayer = null;
+
+    /**
+     * cached layer above the highlights (limit lines, labels, values, legend, description)
+     */
+    protected RenderLayer mLabelLayer = null;
+
+    /**
+     * the state of the inputs the layers were drawn with, see computeLayerState()
+     */
+    private int mLayerState = 0;
+
+    /**
+     * the animation phases of the previous frame
+     */
+    private float mLastPhaseX = 1f;
+    private float mLastPhaseY = 1f;
+
+    /**
+     * if true, notifyDataSetChanged() is deferred until the next draw
+     */
+    protected boolean mDeferredNotifyEnabled = false;
+
+    /**
+     * the CHANGED_... flags collected since the last recomputation
+     */
+    protected int mPendingChanges = 0;
+
+    /**
+     * the registered entry queues and the DataSets they are drained into, see addEntryQueue(...)
+     */
+    protected ArrayList<EntryQueue> mEntryQueues = new ArrayList<>();
+    protected ArrayList<IDataSet<Entry>> mEntryQueueDataSets = new ArrayList<>();
+
+    /**
+     * true while draining the entry queues is scheduled for the next frame
+     */
+    private final AtomicBoolean mEntryQueueDrainScheduled = new AtomicBoolean(false);
+
+    /**
+     * posted by the producer threads, drains the entry queues on the UI thread
+     */
+    private final Runnable mDrainEntryQueues = new Runnable() {
+        @Override
+        public void run() {
+            drainEntryQueues();
+        }
+    };
+
+    /**
+     * set as drain request of the entry queues, schedules one drain per frame
+     */
+    private final Runnable mRequestEntryQueueDrain = new Runnable() {
+        @Override
+        public void run() {
+            if (mEntryQueueDrainScheduled.compareAndSet(false, true))
+                Utils.postOnAnimation(BarLineChartBase.this, mDrainEntryQueues);
+        }
+    };
+
+    /**
+     * true while redrawing for data prepared in the background is scheduled
+     */
+    private final AtomicBoolean mRedrawScheduled = new AtomicBoolean(false);
+
+    /**
+     * posted when geometry or tiles were prepared in the background, redraws the data with them
+     */
+    private final Runnable mRedrawPreparedData = new Runnable() {
+        @Override
+        public void run() {
+            mRedrawScheduled.set(false);
+            invalidateLayers();
+            invalidate();
+        }
+    };
+
+    /**
+     * set as listener of the geometry pipeline and the tile rendering, can be run on any
+     * thread, schedules one redraw per frame
+     */
+    protected final Runnable mRequestRedraw = new Runnable() {
+        @Override
+        public void run() {
+            if (mRedrawScheduled.compareAndSet(false, true))
+                Utils.postOnAnimation(BarLineChartBase.this, mRedrawPreparedData);
+        }
+    };
+
     /**
      * the listener for user drawing on the chart
      */
@@ -135,9 +269,6 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected XAxisRenderer mXAxisRenderer;
 
-    // /** the approximator object used for data filtering */
-    // private Approximator mApproximator;
-
     public BarLineChartBase(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
     }
@@ -192,23 +323,119 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mData == null)
             return;
 
+        flushPendingChanges();
+
         long starttime = System.currentTimeMillis();
+        long frameStart = beginFrame();
+
+        final boolean animating = mAnimator.getPhaseX() != mLastPhaseX
+                || mAnimator.getPhaseY() != mLastPhaseY;
+
+        mLastPhaseX = mAnimator.getPhaseX();
+        mLastPhaseY = mAnimator.getPhaseY();
+
+        // while animating, dragging, zooming or flinging, the layers would be redrawn on every
+        // frame, the chart is drawn directly instead
+        final boolean useLayers = mLayerCacheEnabled && !animating && !isViewPortChanging();
+
+        if (mLayerCacheEnabled && !useLayers)
+            invalidateLayers();
+
+        if (useLayers) {
+
+            final int width = (int) mViewPortHandler.getChartWidth();
+            final int height = (int) mViewPortHandler.getChartHeight();
+
+            // the layers are redrawn if anything they show changed
+            final int state = computeLayerState();
+
+            if (state != mLayerState)
+                invalidateLayers();
+
+            if (mContentLayer.isDirty(width, height) || mLabelLayer.isDirty(width, height)) {
+
+                Canvas contentCanvas = mContentLayer.begin(width, height);
+                Canvas labelCanvas = mLabelLayer.begin(width, height);
+
+                if (contentCanvas != null && labelCanvas != null) {
+                    drawContent(contentCanvas);
+                    drawLabels(labelCanvas);
+                }
+            }
+
+            mLayerState = state;
+
+            mContentLayer.draw(canvas, null);
+
+            drawHighlights(canvas);
+
+            mLabelLayer.draw(canvas, null);
+
+        } else {
+
+            // execute all drawing commands
+            drawContent(canvas);
+
+            drawHighlights(canvas);
+
+            drawLabels(canvas);
+        }
+
+        long start = startTiming();
+        drawMarkers(canvas);
+        phaseCompleted(Phase.DRAW_MARKERS, start);
+
+        frameCompleted(frameStart);
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Draws everything below the highlights: the grid background, the axis lines, the grid
+     * lines, the limit lines drawn behind the data and the data itself. Also computes the axes.
+     *
+     * @param canvas
+     */
+    protected void drawContent(Canvas canvas) {
+
+        long start = startTiming();
 
-        // execute all drawing commands
         drawGridBackground(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
         if (mAutoScaleMinMaxEnabled) {
+            start = startTiming();
             autoScale();
+            phaseCompleted(Phase.AUTO_SCALE, start);
         }
 
-        if (mAxisLeft.isEnabled())
+        if (mAxisLeft.isEnabled()) {
+            start = startTiming();
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+            axisComputed(mAxisLeft, start);
+        }
 
-        if (mAxisRight.isEnabled())
+        if (mAxisRight.isEnabled()) {
+            start = startTiming();
             mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+            axisComputed(mAxisRight, start);
+        }
 
-        if (mXAxis.isEnabled())
+        if (mXAxis.isEnabled()) {
+            start = startTiming();
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+            axisComputed(mXAxis, start);
+        }
+
+        start = startTiming();
 
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
@@ -232,6 +459,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
         int clipRestoreCount = canvas.save();
 
         if (isClipDataToContentEnabled()) {
@@ -239,7 +468,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             canvas.clipRect(mViewPortHandler.getContentRect());
         }
 
+        // evicts the geometry of DataSets that are not drawn anymore
+        if (mGeometryPipeline != null)
+            mGeometryPipeline.startFrame();
+
+        start = startTiming();
         mRenderer.drawData(canvas);
+        phaseCompleted(Phase.DRAW_DATA, start);
+
+        start = startTiming();
 
         if (!mXAxis.isDrawGridLinesBehindDataEnabled())
             mXAxisRenderer.renderGridLines(canvas);
@@ -250,14 +487,48 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
             mAxisRendererRight.renderGridLines(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Draws the highlighted values, clipped to the content rect if clipping the data is enabled.
+     *
+     * @param canvas
+     */
+    protected void drawHighlights(Canvas canvas) {
+
         // if highlighting is enabled
-        if (valuesToHighlight())
-            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+        if (!valuesToHighlight())
+            return;
+
+        int clipRestoreCount = canvas.save();
+
+        if (isClipDataToContentEnabled())
+            canvas.clipRect(mViewPortHandler.getContentRect());
+
+        long start = startTiming();
+        mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+        phaseCompleted(Phase.DRAW_HIGHLIGHTED, start);
 
-        // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
+    }
 
+    /**
+     * Draws everything above the highlights (except for the markers): the extras of the
+     * renderer, the limit lines drawn in front of the data, the axis labels, the values, the
+     * legend and the description.
+     *
+     * @param canvas
+     */
+    protected void drawLabels(Canvas canvas) {
+
+        long start = startTiming();
         mRenderer.drawExtras(canvas);
+        phaseCompleted(Phase.DRAW_EXTRAS, start);
+
+        start = startTiming();
 
         if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
             mXAxisRenderer.renderLimitLines(canvas);
@@ -268,12 +539,20 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
+        start = startTiming();
+
         mXAxisRenderer.renderAxisLabels(canvas);
         mAxisRendererLeft.renderAxisLabels(canvas);
         mAxisRendererRight.renderAxisLabels(canvas);
 
+        phaseCompleted(Phase.DRAW_AXIS_LABELS, start);
+
+        start = startTiming();
+
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -283,20 +562,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
+        phaseCompleted(Phase.DRAW_VALUES, start);
+
+        start = startTiming();
         mLegendRenderer.renderLegend(canvas);
+        phaseCompleted(Phase.DRAW_LEGEND, start);
 
+        start = startTiming();
         drawDescription(canvas);
-
-        drawMarkers(canvas);
-
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
-        }
+        phaseCompleted(Phase.DRAW_DESCRIPTION, start);
     }
 
     /**
@@ -331,29 +605,215 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     @Override
     public void notifyDataSetChanged() {
+        notifyDataSetChanged(CHANGED_ALL);
+    }
+
+    /**
+     * Lets the chart know which parts of it changed, only these are recomputed. Combine the
+     * CHANGED_... flags: CHANGED_DATA if entries or DataSets changed (the render buffers, min and
+     * max values and axes are recomputed), CHANGED_AXIS if only axis settings changed (min and
+     * max values and axes), CHANGED_LEGEND if the legend needs to be recomputed (e.g. DataSets
+     * were added or restyled). If deferred notifying is enabled, the changes are collected and
+     * recomputed once before the next draw.
+     *
+     * @param changes
+     */
+    public void notifyDataSetChanged(int changes) {
 
         if (mData == null) {
             if (mLogEnabled)
                 Log.i(LOG_TAG, "Preparing... DATA NOT SET.");
             return;
-        } else {
-            if (mLogEnabled)
-                Log.i(LOG_TAG, "Preparing...");
         }
 
-        if (mRenderer != null)
-            mRenderer.initBuffers();
+        if (mDeferredNotifyEnabled) {
 
-        calcMinMax();
+            // the first change until the next draw schedules the draw
+            if (mPendingChanges == 0)
+                Utils.postInvalidateOnAnimation(this);
+
+            mPendingChanges |= changes;
+            return;
+        }
 
-        mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
-        mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
-        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        mPendingChanges = 0;
+        performDataSetChanged(changes);
+    }
 
-        if (mLegend != null)
+    /**
+     * Recomputes the changes collected while deferred notifying is enabled, if there are any.
+     * Called before each draw, call it manually before querying values of the chart (e.g. the
+     * axis ranges) that depend on changes since the last draw.
+     */
+    public void flushPendingChanges() {
+
+        int changes = mPendingChanges;
+        mPendingChanges = 0;
+
+        if (changes != 0 && mData != null)
+            performDataSetChanged(changes);
+    }
+
+    /**
+     * Recomputes the given parts of the chart, see notifyDataSetChanged(int).
+     *
+     * @param changes
+     */
+    protected void performDataSetChanged(int changes) {
+
+        if (mLogEnabled)
+            Log.i(LOG_TAG, "Preparing...");
+
+        long notifyStart = startTiming();
+
+        if ((changes & CHANGED_DATA) != 0) {
+
+            if (mRenderer != null)
+                mRenderer.initBuffers();
+
+            // the geometry may have been built from entries that were changed directly
+            if (mGeometryPipeline != null)
+                mGeometryPipeline.clear();
+        }
+
+        invalidateLayers();
+
+        if ((changes & (CHANGED_DATA | CHANGED_AXIS)) != 0) {
+
+            long start = startTiming();
+            calcMinMax();
+            phaseCompleted(Phase.CALC_MIN_MAX, start);
+
+            mAxisLeft.invalidateLabelCache();
+            mAxisRight.invalidateLabelCache();
+            mXAxis.invalidateLabelCache();
+
+            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        }
+
+        if ((changes & CHANGED_LEGEND) != 0 && mLegend != null)
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        phaseCompleted(Phase.NOTIFY_DATA_SET_CHANGED, notifyStart);
+    }
+
+    /**
+     * If enabled, notifyDataSetChanged() only marks the changed parts of the chart, they are
+     * recomputed once before the next draw. Use this if the data is changed in several steps per
+     * frame (e.g. several DataSets are updated separately). Default: false
+     *
+     * @param enabled
+     */
+    public void setDeferredNotifyEnabled(boolean enabled) {
+
+        mDeferredNotifyEnabled = enabled;
+
+        if (!enabled)
+            flushPendingChanges();
+    }
+
+    /**
+     * Returns true if notifyDataSetChanged() is deferred until the next draw.
+     *
+     * @return
+     */
+    public boolean isDeferredNotifyEnabled() {
+        return mDeferredNotifyEnabled;
+    }
+
+    /**
+     * Lightweight alternative to notifyDataSetChanged() for streaming data. Call this if values
+     * were only appended to or evicted from the ends of the DataSets (e.g. of a
+     * RollingLineDataSet), but no DataSets were added, removed or restyled. Only the min and
+     * max values of the data, the axis ranges and the offsets are updated. The render buffers
+     * and the legend are left as they are, the axis labels are computed on the next draw anyway.
+     * Call notifyDataSetChanged() instead if the entry count of a BarDataSet changed.
+     */
+    public void notifyDataSetTailChanged() {
+
+        if (mData == null)
+            return;
+
+        mData.notifyDataChanged();
+
+        invalidateLayers();
+
+        long start = startTiming();
+        calcMinMax();
+        phaseCompleted(Phase.CALC_MIN_MAX, start);
+
+        calculateOffsets();
+    }
+
+    /**
+     * Registers a queue that background threads can offer (x, y) samples to. All samples queued
+     * until the next frame are appended to the given DataSet in one batch, after which the chart
+     * is updated once with notifyDataSetTailChanged() and redrawn. The DataSet must be part of
+     * the data of the chart. Call this on the UI thread.
+     *
+     * @param queue
+     * @param dataSet
+     */
+    public void addEntryQueue(EntryQueue queue, IDataSet<Entry> dataSet) {
+
+        if (queue == null || dataSet == null)
+            return;
+
+        removeEntryQueue(queue);
+
+        mEntryQueues.add(queue);
+        mEntryQueueDataSets.add(dataSet);
+
+        queue.setDrainRequest(mRequestEntryQueueDrain);
+
+        // samples that were queued before the registration
+        if (queue.size() > 0)
+            mRequestEntryQueueDrain.run();
+    }
+
+    /**
+     * Unregisters the given queue, samples still in it are no longer drained into the chart.
+     * Call this on the UI thread.
+     *
+     * @param queue
+     */
+    public void removeEntryQueue(EntryQueue queue) {
+
+        int index = mEntryQueues.indexOf(queue);
+
+        if (index < 0)
+            return;
+
+        queue.setDrainRequest(null);
+
+        mEntryQueues.remove(index);
+        mEntryQueueDataSets.remove(index);
+    }
+
+    /**
+     * Appends the samples of all registered entry queues to their DataSets and updates the chart
+     * once if anything was added. Called on the UI thread once per frame while samples are
+     * queued.
+     */
+    protected void drainEntryQueues() {
+
+        // samples queued from now on schedule the next drain
+        mEntryQueueDrainScheduled.set(false);
+
+        int drained = 0;
+
+        for (int i = 0; i < mEntryQueues.size(); i++)
+            drained += mEntryQueues.get(i).drainTo(mEntryQueueDataSets.get(i));
+
+        if (drained == 0 || mData == null)
+            return;
+
+        notifyDataSetTailChanged();
+        invalidate();
     }
 
     /**
@@ -1311,6 +1771,174 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mKeepPositionOnRotation = keepPositionOnRotation;
     }
 
+    /**
+     * If set to true, the geometry of the DataSets (the lines, cubic paths and fills of single-
+     * colored LineDataSets and the bars of BarDataSets without drawn values) is prepared on
+     * background threads, one DataSet per core, while the UI thread only issues the draw calls.
+     * Until the geometry for a new state of a DataSet is ready, the previous one is drawn if it
+     * was built for the same zoom and position. Only worth it for charts with several large
+     * DataSets. The DataSets must only be modified on the UI thread. The threads are stopped
+     * when the chart is detached from its window. Default: false
+     *
+     * @param enabled
+     */
+    public void setAsyncGeometryEnabled(boolean enabled) {
+
+        if (enabled) {
+            if (mGeometryPipeline == null) {
+                mGeometryPipeline = new GeometryPipeline();
+                mGeometryPipeline.setOnGeometryReadyListener(mRequestRedraw);
+            }
+        } else if (mGeometryPipeline != null) {
+            mGeometryPipeline.release();
+            mGeometryPipeline = null;
+        }
+    }
+
+    /**
+     * Returns true if the geometry of the DataSets is prepared on background threads.
+     *
+     * @return
+     */
+    public boolean isAsyncGeometryEnabled() {
+        return mGeometryPipeline != null;
+    }
+
+    /**
+     * Returns the pipeline preparing the geometry of the DataSets in the background, null if
+     * this is disabled.
+     *
+     * @return
+     */
+    public GeometryPipeline getGeometryPipeline() {
+        return mGeometryPipeline;
+    }
+
+    /**
+     * If set to true, the chart is drawn into two cached bitmaps, one below the highlights
+     * (grid, axis lines, data) and one above them (limit lines, labels, values, legend,
+     * description). They are only redrawn if the viewport, the data (notifyDataSetChanged()),
+     * a property of the axes, the legend, the description or the styling of a DataSet changed.
+     * Highlighting (e.g. dragging the highlight over the chart) and markers then only cost
+     * drawing the two bitmaps. While the chart is animated, dragged, zoomed or flung, it is
+     * drawn directly. The data is drawn into a software bitmap, which needs memory for two
+     * chart-sized bitmaps. Changing a setting of the chart itself (e.g.
+     * setDrawGridBackground(...)) requires calling invalidateLayers(). Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+
+        mLayerCacheEnabled = enabled;
+
+        if (enabled) {
+            if (mContentLayer == null) {
+                mContentLayer = new RenderLayer(Bitmap.Config.ARGB_8888);
+                mLabelLayer = new RenderLayer(Bitmap.Config.ARGB_8888);
+            }
+        } else if (mContentLayer != null) {
+            mContentLayer.release();
+            mLabelLayer.release();
+            mContentLayer = null;
+            mLabelLayer = null;
+        }
+    }
+
+    /**
+     * Returns true if the chart is drawn into cached layers.
+     *
+     * @return
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    /**
+     * Marks the cached layers as outdated, they are redrawn on the next draw.
+     */
+    public void invalidateLayers() {
+
+        if (mContentLayer != null) {
+            mContentLayer.invalidate();
+            mLabelLayer.invalidate();
+        }
+    }
+
+    /**
+     * Combines the inputs of the cached layers (the viewport, the components, the styling of the
+     * DataSets and the animation phases) into one number that changes whenever one of them
+     * changes.
+     *
+     * @return
+     */
+    protected int computeLayerState() {
+
+        int state = mViewPortHandler.getVersion();
+
+        state = state * 31 + mXAxis.getVersion();
+        state = state * 31 + mAxisLeft.getVersion();
+        state = state * 31 + mAxisRight.getVersion();
+
+        if (mLegend != null)
+            state = state * 31 + mLegend.getVersion();
+
+        if (mDescription != null)
+            state = state * 31 + mDescription.getVersion();
+
+        state = state * 31 + Float.floatToIntBits(mAnimator.getPhaseX());
+        state = state * 31 + Float.floatToIntBits(mAnimator.getPhaseY());
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            IDataSet set = mData.getDataSetByIndex(i);
+
+            if (set instanceof BaseDataSet)
+                state = state * 31 + ((BaseDataSet) set).getStyleVersion();
+        }
+
+        return state;
+    }
+
+    @Override
+    public void setPerformanceListener(ChartPerformanceListener l) {
+        super.setPerformanceListener(l);
+
+        // the transformed points are only counted while the chart is monitored
+        mLeftAxisTransformer.setCountingEnabled(l != null);
+        mRightAxisTransformer.setCountingEnabled(l != null);
+    }
+
+    @Override
+    protected long getPointsTransformed() {
+        return mLeftAxisTransformer.getPointsTransformed()
+                + mRightAxisTransformer.getPointsTransformed();
+    }
+
+    /**
+     * Returns true while the chart is dragged, zoomed or decelerates after a fling.
+     *
+     * @return
+     */
+    protected boolean isViewPortChanging() {
+        return mChartTouchListener instanceof BarLineChartTouchListener
+                && ((BarLineChartTouchListener) mChartTouchListener).isViewPortChanging();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        // stop the worker threads, they are started again on the next draw
+        if (mGeometryPipeline != null)
+            mGeometryPipeline.release();
+
+        // free the bitmaps of the layers, they are recreated on the next draw
+        if (mContentLayer != null) {
+            mContentLayer.release();
+            mLabelLayer.release();
+        }
+    }
+
     /**
      * Returns a recyclable MPPointD instance
      * Returns the x and y values in the chart at the given touch point
@@ -1377,7 +2005,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     /**
      * buffer for storing lowest visible x point
+     *
+     * @deprecated no longer used, the visible range is read from the ViewPortSnapshot of the
+     * Transformer
      */
+    @Deprecated
     protected MPPointD posForGetLowestVisibleX = MPPointD.getInstance(0, 0);
 
     /**
@@ -1388,15 +2020,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getLowestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
-        float result = (float) Math.max(mXAxis.mAxisMinimum, posForGetLowestVisibleX.x);
-        return result;
+        ViewPortSnapshot snapshot = getTransformer(AxisDependency.LEFT).getSnapshot();
+        return Math.max(mXAxis.mAxisMinimum, snapshot.getContentLeftX());
     }
 
     /**
      * buffer for storing highest visible x point
+     *
+     * @deprecated no longer used, the visible range is read from the ViewPortSnapshot of the
+     * Transformer
      */
+    @Deprecated
     protected MPPointD posForGetHighestVisibleX = MPPointD.getInstance(0, 0);
 
     /**
@@ -1407,10 +2041,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getHighestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentRight(),
-                mViewPortHandler.contentBottom(), posForGetHighestVisibleX);
-        float result = (float) Math.min(mXAxis.mAxisMaximum, posForGetHighestVisibleX.x);
-        return result;
+        ViewPortSnapshot snapshot = getTransformer(AxisDependency.LEFT).getSnapshot();
+        return Math.min(mXAxis.mAxisMaximum, snapshot.getContentRightX());
     }
 
     /**
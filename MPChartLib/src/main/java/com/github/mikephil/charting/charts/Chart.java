@@ -28,6 +28,7 @@ import android.view.ViewParent;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.animation.Easing;
 import com.github.mikephil.charting.animation.Easing.EasingFunction;
+import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.Description;
 import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
@@ -41,12 +42,14 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.ChartPerformanceListener;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.ObjectPool;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -55,6 +58,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Baseclass of all Chart-Views.
@@ -159,6 +163,28 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
     protected IHighlighter mHighlighter;
 
+    /**
+     * receives the timings of the phases of drawing the chart, null if not monitored
+     */
+    protected ChartPerformanceListener mPerformanceListener = null;
+
+    /**
+     * the counters at the start of the current frame and the counters of the frame
+     */
+    private ChartPerformanceListener.FrameCounters mFrameStartCounters = new ChartPerformanceListener.FrameCounters();
+    private ChartPerformanceListener.FrameCounters mFrameCounters = new ChartPerformanceListener.FrameCounters();
+
+    /**
+     * the summed duration of every phase of the current frame (indexed by ordinal), -1 if the
+     * phase did not run
+     */
+    private final long[] mFramePhaseNanos = new long[ChartPerformanceListener.Phase.values().length];
+
+    /**
+     * true between beginFrame() and frameCompleted(...)
+     */
+    private boolean mFrameRunning = false;
+
     /**
      * object that manages the bounds and drawing constraints of the chart
      */
@@ -561,7 +587,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
-        invalidate();
+        invalidateHighlights();
     }
 
     /**
@@ -720,6 +746,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
+        invalidateHighlights();
+    }
+
+    /**
+     * Redraws the chart after only the highlighted values changed. Charts that cache parts of
+     * their drawing can use this to keep the cache.
+     */
+    protected void invalidateHighlights() {
         invalidate();
     }
 
@@ -1478,8 +1512,158 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setRenderer(DataRenderer renderer) {
 
-        if (renderer != null)
+        if (renderer != null) {
             mRenderer = renderer;
+            mRenderer.setPerformanceListener(mPerformanceListener);
+        }
+    }
+
+    /**
+     * Sets a listener that receives the duration of every phase of preparing and drawing the
+     * chart in nanoseconds, and counters per frame. Provide null to stop monitoring.
+     *
+     * @param l
+     */
+    public void setPerformanceListener(ChartPerformanceListener l) {
+
+        mPerformanceListener = l;
+
+        if (mRenderer != null)
+            mRenderer.setPerformanceListener(l);
+    }
+
+    public ChartPerformanceListener getPerformanceListener() {
+        return mPerformanceListener;
+    }
+
+    /**
+     * Returns the start time for timing a phase, 0 if not monitored.
+     *
+     * @return
+     */
+    protected long startTiming() {
+        return mPerformanceListener == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Reports the duration of the given phase to the performance listener. While a frame is
+     * drawn, the durations of a phase that runs in several parts are summed up and reported
+     * once by frameCompleted(...).
+     *
+     * @param phase
+     * @param start the time returned by startTiming()
+     */
+    protected void phaseCompleted(ChartPerformanceListener.Phase phase, long start) {
+
+        if (mPerformanceListener == null)
+            return;
+
+        final long duration = System.nanoTime() - start;
+
+        if (!mFrameRunning) {
+            mPerformanceListener.onPhaseCompleted(phase, duration);
+            return;
+        }
+
+        final int i = phase.ordinal();
+
+        if (mFramePhaseNanos[i] < 0)
+            mFramePhaseNanos[i] = duration;
+        else
+            mFramePhaseNanos[i] += duration;
+    }
+
+    /**
+     * Reports the duration of computing the given axis to the performance listener.
+     *
+     * @param axis
+     * @param start the time returned by startTiming()
+     */
+    protected void axisComputed(AxisBase axis, long start) {
+        if (mPerformanceListener != null)
+            mPerformanceListener.onAxisComputed(axis, System.nanoTime() - start);
+    }
+
+    /**
+     * Starts monitoring a frame and returns its start time, 0 if not monitored.
+     *
+     * @return
+     */
+    protected long beginFrame() {
+
+        if (mPerformanceListener == null)
+            return 0L;
+
+        collectCounters(mFrameStartCounters);
+        ObjectPool.startCountingMisses();
+
+        Arrays.fill(mFramePhaseNanos, -1L);
+        mFrameRunning = true;
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports the phases, the duration and the counters of the frame to the performance listener.
+     *
+     * @param start the time returned by beginFrame()
+     */
+    protected void frameCompleted(long start) {
+
+        final boolean frameRunning = mFrameRunning;
+        mFrameRunning = false;
+
+        if (!frameRunning)
+            return;
+
+        final long poolMisses = ObjectPool.stopCountingMisses();
+
+        if (mPerformanceListener == null)
+            return;
+
+        final long duration = System.nanoTime() - start;
+
+        final ChartPerformanceListener.Phase[] phases = ChartPerformanceListener.Phase.values();
+
+        for (int i = 0; i < phases.length; i++) {
+
+            if (mFramePhaseNanos[i] >= 0)
+                mPerformanceListener.onPhaseCompleted(phases[i], mFramePhaseNanos[i]);
+        }
+
+        collectCounters(mFrameCounters);
+
+        mFrameCounters.entriesVisited -= mFrameStartCounters.entriesVisited;
+        mFrameCounters.pointsTransformed -= mFrameStartCounters.pointsTransformed;
+        mFrameCounters.poolMisses = poolMisses;
+
+        mPerformanceListener.onFrameCompleted(duration, mFrameCounters);
+    }
+
+    /**
+     * Stores the current (total) values of the counters of this chart in the given object. The
+     * pool misses are counted per frame, see beginFrame().
+     *
+     * @param counters
+     */
+    protected void collectCounters(ChartPerformanceListener.FrameCounters counters) {
+
+        counters.reset();
+
+        if (mRenderer != null)
+            counters.entriesVisited = mRenderer.getEntriesVisited();
+
+        counters.pointsTransformed = getPointsTransformed();
+    }
+
+    /**
+     * Returns the total number of points the Transformers of this chart transformed while a
+     * performance listener was set, 0 if the chart has no Transformers.
+     *
+     * @return
+     */
+    protected long getPointsTransformed() {
+        return 0L;
     }
 
     public IHighlighter getHighlighter() {
@@ -19,6 +19,7 @@ import com.github.mikephil.charting.utils.HorizontalViewPortHandler;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.TransformerHorizontalBarChart;
 import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
 
 /**
  * BarChart with horizontal bar orientation. In this implementation, x- and y-axis are switched, meaning the YAxis class
@@ -288,18 +289,14 @@ public class HorizontalBarChart extends BarChart {
 
     @Override
     public float getLowestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
-        float result = (float) Math.max(mXAxis.mAxisMinimum, posForGetLowestVisibleX.y);
-        return result;
+        ViewPortSnapshot snapshot = getTransformer(AxisDependency.LEFT).getSnapshot();
+        return Math.max(mXAxis.mAxisMinimum, snapshot.getContentBottomY());
     }
 
     @Override
     public float getHighestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                mViewPortHandler.contentTop(), posForGetHighestVisibleX);
-        float result = (float) Math.min(mXAxis.mAxisMaximum, posForGetHighestVisibleX.y);
-        return result;
+        ViewPortSnapshot snapshot = getTransformer(AxisDependency.LEFT).getSnapshot();
+        return Math.min(mXAxis.mAxisMaximum, snapshot.getContentTopY());
     }
 
     /**
@@ -31,7 +31,10 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
     protected void init() {
         super.init();
 
-        mRenderer = new LineChartRenderer(this, mAnimator, mViewPortHandler);
+        LineChartRenderer renderer = new LineChartRenderer(this, mAnimator, mViewPortHandler);
+        renderer.setOnTileRenderedListener(mRequestRedraw);
+
+        mRenderer = renderer;
     }
 
     @Override
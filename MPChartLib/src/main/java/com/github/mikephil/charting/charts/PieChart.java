@@ -12,6 +12,7 @@ import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.PieHighlighter;
+import com.github.mikephil.charting.listener.ChartPerformanceListener.Phase;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.renderer.PieChartRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -129,20 +130,39 @@ public class PieChart extends PieRadarChartBase<PieData> {
         if (mData == null)
             return;
 
+        long frameStart = beginFrame();
+
+        long start = startTiming();
         mRenderer.drawData(canvas);
+        phaseCompleted(Phase.DRAW_DATA, start);
 
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            start = startTiming();
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            phaseCompleted(Phase.DRAW_HIGHLIGHTED, start);
+        }
 
+        start = startTiming();
         mRenderer.drawExtras(canvas);
+        phaseCompleted(Phase.DRAW_EXTRAS, start);
 
+        start = startTiming();
         mRenderer.drawValues(canvas);
+        phaseCompleted(Phase.DRAW_VALUES, start);
 
+        start = startTiming();
         mLegendRenderer.renderLegend(canvas);
+        phaseCompleted(Phase.DRAW_LEGEND, start);
 
+        start = startTiming();
         drawDescription(canvas);
+        phaseCompleted(Phase.DRAW_DESCRIPTION, start);
 
+        start = startTiming();
         drawMarkers(canvas);
+        phaseCompleted(Phase.DRAW_MARKERS, start);
+
+        frameCompleted(frameStart);
     }
 
     @Override
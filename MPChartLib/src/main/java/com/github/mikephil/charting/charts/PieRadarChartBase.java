@@ -18,6 +18,7 @@ import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.ChartPerformanceListener.Phase;
 import com.github.mikephil.charting.listener.PieRadarChartTouchListener;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
@@ -100,12 +101,18 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         if (mData == null)
             return;
 
+        long notifyStart = startTiming();
+
+        long start = startTiming();
         calcMinMax();
+        phaseCompleted(Phase.CALC_MIN_MAX, start);
 
         if (mLegend != null)
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        phaseCompleted(Phase.NOTIFY_DATA_SET_CHANGED, notifyStart);
     }
 
     @Override
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.highlight.RadarHighlighter;
+import com.github.mikephil.charting.listener.ChartPerformanceListener.Phase;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererRadarChart;
 import com.github.mikephil.charting.renderer.YAxisRendererRadarChart;
@@ -109,15 +110,29 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        long notifyStart = startTiming();
+
+        long start = startTiming();
         calcMinMax();
+        phaseCompleted(Phase.CALC_MIN_MAX, start);
+
+        mYAxis.invalidateLabelCache();
+        mXAxis.invalidateLabelCache();
 
+        start = startTiming();
         mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+        axisComputed(mYAxis, start);
+
+        start = startTiming();
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        axisComputed(mXAxis, start);
 
         if (mLegend != null && !mLegend.isLegendCustom())
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        phaseCompleted(Phase.NOTIFY_DATA_SET_CHANGED, notifyStart);
     }
 
     @Override
@@ -127,37 +142,74 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mData == null)
             return;
 
+        long frameStart = beginFrame();
+
 //        if (mYAxis.isEnabled())
 //            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
 
-        if (mXAxis.isEnabled())
+        long start;
+
+        if (mXAxis.isEnabled()) {
+            start = startTiming();
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+            axisComputed(mXAxis, start);
+        }
 
+        start = startTiming();
         mXAxisRenderer.renderAxisLabels(canvas);
+        phaseCompleted(Phase.DRAW_AXIS_LABELS, start);
 
-        if (mDrawWeb)
+        if (mDrawWeb) {
+            start = startTiming();
             mRenderer.drawExtras(canvas);
+            phaseCompleted(Phase.DRAW_EXTRAS, start);
+        }
+
+        start = startTiming();
 
         if (mYAxis.isEnabled() && mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
+        start = startTiming();
         mRenderer.drawData(canvas);
+        phaseCompleted(Phase.DRAW_DATA, start);
 
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+            start = startTiming();
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+            phaseCompleted(Phase.DRAW_HIGHLIGHTED, start);
+        }
+
+        start = startTiming();
 
         if (mYAxis.isEnabled() && !mYAxis.isDrawLimitLinesBehindDataEnabled())
             mYAxisRenderer.renderLimitLines(canvas);
 
+        phaseCompleted(Phase.DRAW_GRID, start);
+
+        start = startTiming();
         mYAxisRenderer.renderAxisLabels(canvas);
+        phaseCompleted(Phase.DRAW_AXIS_LABELS, start);
 
+        start = startTiming();
         mRenderer.drawValues(canvas);
+        phaseCompleted(Phase.DRAW_VALUES, start);
 
+        start = startTiming();
         mLegendRenderer.renderLegend(canvas);
+        phaseCompleted(Phase.DRAW_LEGEND, start);
 
+        start = startTiming();
         drawDescription(canvas);
+        phaseCompleted(Phase.DRAW_DESCRIPTION, start);
 
+        start = startTiming();
         drawMarkers(canvas);
+        phaseCompleted(Phase.DRAW_MARKERS, start);
+
+        frameCompleted(frameStart);
     }
 
     /**
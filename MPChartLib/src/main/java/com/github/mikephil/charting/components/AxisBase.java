@@ -92,6 +92,17 @@ public abstract class AxisBase extends ComponentBase {
 
     protected boolean mCenterAxisLabels = false;
 
+    /**
+     * flag that indicates if the computed axis entries and their formatted labels are reused
+     * across frames
+     */
+    protected boolean mLabelCacheEnabled = false;
+
+    /**
+     * incremented to invalidate the cached axis entries and labels
+     */
+    private int mLabelCacheGeneration = 0;
+
     /**
      * the path effect of the axis line that makes dashed lines possible
      */
@@ -166,6 +177,7 @@ public abstract class AxisBase extends ComponentBase {
      * The minumum number of labels on the axis
      */
     public void setAxisMinLabels(int labels) {
+        mVersion++;
         if (labels > 0)
             mAxisMinLabels = labels;
     }
@@ -181,6 +193,7 @@ public abstract class AxisBase extends ComponentBase {
      * The maximum number of labels on the axis
      */
     public void setAxisMaxLabels(int labels) {
+        mVersion++;
         if (labels > 0)
             mAxisMaxLabels = labels;
     }
@@ -201,6 +214,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setDrawGridLines(boolean enabled) {
+        mVersion++;
         mDrawGridLines = enabled;
     }
 
@@ -219,6 +233,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setDrawAxisLine(boolean enabled) {
+        mVersion++;
         mDrawAxisLine = enabled;
     }
 
@@ -238,6 +253,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setCenterAxisLabels(boolean enabled) {
+        mVersion++;
         mCenterAxisLabels = enabled;
     }
 
@@ -252,6 +268,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param color
      */
     public void setGridColor(int color) {
+        mVersion++;
         mGridColor = color;
     }
 
@@ -271,6 +288,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param width
      */
     public void setAxisLineWidth(float width) {
+        mVersion++;
         mAxisLineWidth = Utils.convertDpToPixel(width);
     }
 
@@ -290,6 +308,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param width
      */
     public void setGridLineWidth(float width) {
+        mVersion++;
         mGridLineWidth = Utils.convertDpToPixel(width);
     }
 
@@ -309,6 +328,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param color
      */
     public void setAxisLineColor(int color) {
+        mVersion++;
         mAxisLineColor = color;
     }
 
@@ -328,6 +348,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setDrawLabels(boolean enabled) {
+        mVersion++;
         mDrawLabels = enabled;
     }
 
@@ -347,6 +368,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param count the number of y-axis labels that should be displayed
      */
     public void setLabelCount(int count) {
+        mVersion++;
 
         if (count > getAxisMaxLabels())
             count = getAxisMaxLabels();
@@ -369,7 +391,6 @@ public abstract class AxisBase extends ComponentBase {
      *              to have uneven values
      */
     public void setLabelCount(int count, boolean force) {
-
         setLabelCount(count);
         mForceLabels = force;
     }
@@ -406,6 +427,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setGranularityEnabled(boolean enabled) {
+        mVersion++;
         mGranularityEnabled = enabled;
     }
 
@@ -423,6 +445,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param granularity
      */
     public void setGranularity(float granularity) {
+        mVersion++;
         mGranularity = granularity;
         // set this to true if it was disabled, as it makes no sense to call this method with granularity disabled
         mGranularityEnabled = true;
@@ -434,6 +457,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param l
      */
     public void addLimitLine(LimitLine l) {
+        mVersion++;
         mLimitLines.add(l);
 
         if (mLimitLines.size() > 6) {
@@ -449,6 +473,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param l
      */
     public void removeLimitLine(LimitLine l) {
+        mVersion++;
         mLimitLines.remove(l);
     }
 
@@ -456,6 +481,7 @@ public abstract class AxisBase extends ComponentBase {
      * Removes all LimitLines from the axis.
      */
     public void removeAllLimitLines() {
+        mVersion++;
         mLimitLines.clear();
     }
 
@@ -475,6 +501,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param enabled
      */
     public void setDrawLimitLinesBehindData(boolean enabled) {
+        mVersion++;
         mDrawLimitLineBehindData = enabled;
     }
 
@@ -488,7 +515,10 @@ public abstract class AxisBase extends ComponentBase {
      *
      * @param enabled
      */
-    public void setDrawGridLinesBehindData(boolean enabled) { mDrawGridLinesBehindData = enabled; }
+    public void setDrawGridLinesBehindData(boolean enabled) {
+        mVersion++;
+        mDrawGridLinesBehindData = enabled;
+    }
 
     public boolean isDrawGridLinesBehindDataEnabled() {
         return mDrawGridLinesBehindData;
@@ -532,11 +562,72 @@ public abstract class AxisBase extends ComponentBase {
      * @param f
      */
     public void setValueFormatter(IAxisValueFormatter f) {
+        mVersion++;
 
         if (f == null)
             mAxisValueFormatter = new DefaultAxisValueFormatter(mDecimals);
         else
             mAxisValueFormatter = f;
+
+        invalidateLabelCache();
+    }
+
+    /**
+     * If set to true, the axis renderer keeps the computed axis entries as long as the axis range
+     * and label settings do not change, and the formatted labels for as long as the formatter
+     * stays the same, so that e.g. panning does not re-format labels. If the formatter returns
+     * different labels for the same value over time (e.g. because its labels are replaced), call
+     * invalidateLabelCache() after changing it, or disable the cache. Default: false
+     *
+     * @param enabled
+     */
+    public void setLabelCacheEnabled(boolean enabled) {
+        mVersion++;
+        mLabelCacheEnabled = enabled;
+        invalidateLabelCache();
+    }
+
+    /**
+     * Returns true if the axis entries and their formatted labels are cached.
+     *
+     * @return
+     */
+    public boolean isLabelCacheEnabled() {
+        return mLabelCacheEnabled;
+    }
+
+    /**
+     * Discards the cached axis entries and labels, they are computed and formatted again when the
+     * axis is drawn the next time. Called by the chart in notifyDataSetChanged().
+     */
+    public void invalidateLabelCache() {
+        mLabelCacheGeneration++;
+    }
+
+    /**
+     * Returns a counter that changes whenever the cached axis entries and labels become invalid.
+     *
+     * @return
+     */
+    public int getLabelCacheGeneration() {
+        return mLabelCacheGeneration;
+    }
+
+    /**
+     * Returns a number that changes whenever a property of this axis or of one of its
+     * LimitLines is set.
+     *
+     * @return
+     */
+    @Override
+    public int getVersion() {
+
+        int version = mVersion;
+
+        for (int i = 0; i < mLimitLines.size(); i++)
+            version = version * 31 + mLimitLines.get(i).getVersion();
+
+        return version;
     }
 
     /**
@@ -564,6 +655,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param phase       offset, in degrees (normally, use 0)
      */
     public void enableGridDashedLine(float lineLength, float spaceLength, float phase) {
+        mVersion++;
         mGridDashPathEffect = new DashPathEffect(new float[]{
                 lineLength, spaceLength
         }, phase);
@@ -577,6 +669,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param effect the DashPathEffect
      */
     public void setGridDashedLine(DashPathEffect effect) {
+        mVersion++;
         mGridDashPathEffect = effect;
     }
 
@@ -584,6 +677,7 @@ public abstract class AxisBase extends ComponentBase {
      * Disables the grid line to be drawn in dashed mode.
      */
     public void disableGridDashedLine() {
+        mVersion++;
         mGridDashPathEffect = null;
     }
 
@@ -616,6 +710,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param phase       offset, in degrees (normally, use 0)
      */
     public void enableAxisLineDashedLine(float lineLength, float spaceLength, float phase) {
+        mVersion++;
         mAxisLineDashPathEffect = new DashPathEffect(new float[]{
                 lineLength, spaceLength
         }, phase);
@@ -629,6 +724,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param effect the DashPathEffect
      */
     public void setAxisLineDashedLine(DashPathEffect effect) {
+        mVersion++;
         mAxisLineDashPathEffect = effect;
     }
 
@@ -636,6 +732,7 @@ public abstract class AxisBase extends ComponentBase {
      * Disables the axis line to be drawn in dashed mode.
      */
     public void disableAxisLineDashedLine() {
+        mVersion++;
         mAxisLineDashPathEffect = null;
     }
 
@@ -675,6 +772,7 @@ public abstract class AxisBase extends ComponentBase {
      * done automatically.
      */
     public void resetAxisMaximum() {
+        mVersion++;
         mCustomAxisMax = false;
     }
 
@@ -693,6 +791,7 @@ public abstract class AxisBase extends ComponentBase {
      * done automatically.
      */
     public void resetAxisMinimum() {
+        mVersion++;
         mCustomAxisMin = false;
     }
 
@@ -715,6 +814,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param min
      */
     public void setAxisMinimum(float min) {
+        mVersion++;
         mCustomAxisMin = true;
         mAxisMinimum = min;
         this.mAxisRange = Math.abs(mAxisMaximum - min);
@@ -738,6 +838,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param max
      */
     public void setAxisMaximum(float max) {
+        mVersion++;
         mCustomAxisMax = true;
         mAxisMaximum = max;
         this.mAxisRange = Math.abs(max - mAxisMinimum);
@@ -795,6 +896,7 @@ public abstract class AxisBase extends ComponentBase {
      */
     public void setSpaceMin(float mSpaceMin)
     {
+        mVersion++;
         this.mSpaceMin = mSpaceMin;
     }
 
@@ -811,6 +913,7 @@ public abstract class AxisBase extends ComponentBase {
      */
     public void setSpaceMax(float mSpaceMax)
     {
+        mVersion++;
         this.mSpaceMax = mSpaceMax;
     }
 }
@@ -43,11 +43,26 @@ public abstract class ComponentBase {
      */
     protected int mTextColor = Color.BLACK;
 
+    /**
+     * incremented by the setters, see getVersion()
+     */
+    protected int mVersion = 0;
+
 
     public ComponentBase() {
 
     }
 
+    /**
+     * Returns a number that changes whenever a property of this component is set. Charts that
+     * cache their drawing use this to detect changed components.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mVersion;
+    }
+
     /**
      * Returns the used offset on the x-axis for drawing the axis or legend
      * labels. This offset is applied before and after the label.
@@ -64,6 +79,7 @@ public abstract class ComponentBase {
      * @param xOffset
      */
     public void setXOffset(float xOffset) {
+        mVersion++;
         mXOffset = Utils.convertDpToPixel(xOffset);
     }
 
@@ -85,6 +101,7 @@ public abstract class ComponentBase {
      * @param yOffset
      */
     public void setYOffset(float yOffset) {
+        mVersion++;
         mYOffset = Utils.convertDpToPixel(yOffset);
     }
 
@@ -103,6 +120,7 @@ public abstract class ComponentBase {
      * @param tf
      */
     public void setTypeface(Typeface tf) {
+        mVersion++;
         mTypeface = tf;
     }
 
@@ -113,6 +131,7 @@ public abstract class ComponentBase {
      * @param size the text size, in DP
      */
     public void setTextSize(float size) {
+        mVersion++;
 
         if (size > 24f)
             size = 24f;
@@ -139,6 +158,7 @@ public abstract class ComponentBase {
      * @param color
      */
     public void setTextColor(int color) {
+        mVersion++;
         mTextColor = color;
     }
 
@@ -159,6 +179,7 @@ public abstract class ComponentBase {
      * @param enabled
      */
     public void setEnabled(boolean enabled) {
+        mVersion++;
         mEnabled = enabled;
     }
 
@@ -39,6 +39,7 @@ public class Description extends ComponentBase {
      * @param text
      */
     public void setText(String text) {
+        mVersion++;
         this.text = text;
     }
 
@@ -58,6 +59,7 @@ public class Description extends ComponentBase {
      * @param y - ycoordinate
      */
     public void setPosition(float x, float y) {
+        mVersion++;
         if (mPosition == null) {
             mPosition = MPPointF.getInstance(x, y);
         } else {
@@ -81,6 +83,7 @@ public class Description extends ComponentBase {
      * @param align
      */
     public void setTextAlign(Paint.Align align) {
+        mVersion++;
         this.mTextAlign = align;
     }
 
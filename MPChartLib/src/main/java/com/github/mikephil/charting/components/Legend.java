@@ -173,6 +173,7 @@ public class Legend extends ComponentBase {
      * @param entries
      */
     public void setEntries(List<LegendEntry> entries) {
+        mVersion++;
         mEntries = entries.toArray(new LegendEntry[entries.size()]);
     }
 
@@ -241,10 +242,12 @@ public class Legend extends ComponentBase {
     }
 
     public void setExtra(List<LegendEntry> entries) {
+        mVersion++;
         mExtraEntries = entries.toArray(new LegendEntry[entries.size()]);
     }
 
     public void setExtra(LegendEntry[] entries) {
+        mVersion++;
         if (entries == null)
             entries = new LegendEntry[]{};
         mExtraEntries = entries;
@@ -257,6 +260,7 @@ public class Legend extends ComponentBase {
      *   to let the changes take effect)
      */
     public void setExtra(int[] colors, String[] labels) {
+        mVersion++;
 
         List<LegendEntry> entries = new ArrayList<>();
 
@@ -286,6 +290,7 @@ public class Legend extends ComponentBase {
      *   notifyDataSetChanged() is needed to auto-calculate the legend again)
      */
     public void setCustom(LegendEntry[] entries) {
+        mVersion++;
 
         mEntries = entries;
         mIsLegendCustom = true;
@@ -300,6 +305,7 @@ public class Legend extends ComponentBase {
      *   notifyDataSetChanged() is needed to auto-calculate the legend again)
      */
     public void setCustom(List<LegendEntry> entries) {
+        mVersion++;
 
         mEntries = entries.toArray(new LegendEntry[entries.size()]);
         mIsLegendCustom = true;
@@ -311,6 +317,7 @@ public class Legend extends ComponentBase {
      * automatically (after notifyDataSetChanged() is called).
      */
     public void resetCustom() {
+        mVersion++;
         mIsLegendCustom = false;
     }
 
@@ -337,6 +344,7 @@ public class Legend extends ComponentBase {
      * @param value
      */
     public void setHorizontalAlignment(LegendHorizontalAlignment value) {
+        mVersion++;
         mHorizontalAlignment = value;
     }
 
@@ -355,6 +363,7 @@ public class Legend extends ComponentBase {
      * @param value
      */
     public void setVerticalAlignment(LegendVerticalAlignment value) {
+        mVersion++;
         mVerticalAlignment = value;
     }
 
@@ -373,6 +382,7 @@ public class Legend extends ComponentBase {
      * @param value
      */
     public void setOrientation(LegendOrientation value) {
+        mVersion++;
         mOrientation = value;
     }
 
@@ -391,6 +401,7 @@ public class Legend extends ComponentBase {
      * @param value
      */
     public void setDrawInside(boolean value) {
+        mVersion++;
         mDrawInside = value;
     }
 
@@ -409,6 +420,7 @@ public class Legend extends ComponentBase {
      * @param pos
      */
     public void setDirection(LegendDirection pos) {
+        mVersion++;
         mDirection = pos;
     }
 
@@ -427,6 +439,7 @@ public class Legend extends ComponentBase {
      * @param shape
      */
     public void setForm(LegendForm shape) {
+        mVersion++;
         mShape = shape;
     }
 
@@ -436,6 +449,7 @@ public class Legend extends ComponentBase {
      * @param size
      */
     public void setFormSize(float size) {
+        mVersion++;
         mFormSize = size;
     }
 
@@ -454,6 +468,7 @@ public class Legend extends ComponentBase {
      * @param size
      */
     public void setFormLineWidth(float size) {
+        mVersion++;
         mFormLineWidth = size;
     }
 
@@ -472,6 +487,7 @@ public class Legend extends ComponentBase {
      * @param dashPathEffect
      */
     public void setFormLineDashEffect(DashPathEffect dashPathEffect) {
+        mVersion++;
         mFormLineDashEffect = dashPathEffect;
     }
 
@@ -499,6 +515,7 @@ public class Legend extends ComponentBase {
      * @param space
      */
     public void setXEntrySpace(float space) {
+        mVersion++;
         mXEntrySpace = space;
     }
 
@@ -518,6 +535,7 @@ public class Legend extends ComponentBase {
      * @param space
      */
     public void setYEntrySpace(float space) {
+        mVersion++;
         mYEntrySpace = space;
     }
 
@@ -537,6 +555,7 @@ public class Legend extends ComponentBase {
      * @param space
      */
     public void setFormToTextSpace(float space) {
+        mVersion++;
         this.mFormToTextSpace = space;
     }
 
@@ -555,6 +574,7 @@ public class Legend extends ComponentBase {
      * @param space
      */
     public void setStackSpace(float space) {
+        mVersion++;
         mStackSpace = space;
     }
 
@@ -587,6 +607,7 @@ public class Legend extends ComponentBase {
      * @param enabled
      */
     public void setWordWrapEnabled(boolean enabled) {
+        mVersion++;
         mWordWrapEnabled = enabled;
     }
 
@@ -623,6 +644,7 @@ public class Legend extends ComponentBase {
      * @param maxSize
      */
     public void setMaxSizePercent(float maxSize) {
+        mVersion++;
         mMaxSizePercent = maxSize;
     }
 
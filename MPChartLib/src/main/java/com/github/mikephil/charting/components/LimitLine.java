@@ -81,6 +81,7 @@ public class LimitLine extends ComponentBase {
      * @param width
      */
     public void setLineWidth(float width) {
+        mVersion++;
 
         if (width < 0.2f)
             width = 0.2f;
@@ -105,6 +106,7 @@ public class LimitLine extends ComponentBase {
      * @param color
      */
     public void setLineColor(int color) {
+        mVersion++;
         mLineColor = color;
     }
 
@@ -125,6 +127,7 @@ public class LimitLine extends ComponentBase {
      * @param phase offset, in degrees (normally, use 0)
      */
     public void enableDashedLine(float lineLength, float spaceLength, float phase) {
+        mVersion++;
         mDashPathEffect = new DashPathEffect(new float[] {
                 lineLength, spaceLength
         }, phase);
@@ -134,6 +137,7 @@ public class LimitLine extends ComponentBase {
      * Disables the line to be drawn in dashed mode.
      */
     public void disableDashedLine() {
+        mVersion++;
         mDashPathEffect = null;
     }
 
@@ -163,6 +167,7 @@ public class LimitLine extends ComponentBase {
      * @param style
      */
     public void setTextStyle(Paint.Style style) {
+        mVersion++;
         this.mTextStyle = style;
     }
 
@@ -182,6 +187,7 @@ public class LimitLine extends ComponentBase {
      * @param pos
      */
     public void setLabelPosition(LimitLabelPosition pos) {
+        mVersion++;
         mLabelPosition = pos;
     }
 
@@ -201,6 +207,7 @@ public class LimitLine extends ComponentBase {
      * @param label
      */
     public void setLabel(String label) {
+        mVersion++;
         mLabel = label;
     }
 
@@ -78,6 +78,7 @@ public class XAxis extends AxisBase {
      * @param pos
      */
     public void setPosition(XAxisPosition pos) {
+        mVersion++;
         mPosition = pos;
     }
 
@@ -94,6 +95,7 @@ public class XAxis extends AxisBase {
      * @param angle the angle in degrees
      */
     public void setLabelRotationAngle(float angle) {
+        mVersion++;
         mLabelRotationAngle = angle;
     }
 
@@ -104,6 +106,7 @@ public class XAxis extends AxisBase {
      * @param enabled
      */
     public void setAvoidFirstLastClipping(boolean enabled) {
+        mVersion++;
         mAvoidFirstLastClipping = enabled;
     }
 
@@ -144,6 +144,7 @@ public class YAxis extends AxisBase {
      * @param minWidth
      */
     public void setMinWidth(float minWidth) {
+        mVersion++;
         mMinWidth = minWidth;
     }
 
@@ -160,6 +161,7 @@ public class YAxis extends AxisBase {
      * @param maxWidth
      */
     public void setMaxWidth(float maxWidth) {
+        mVersion++;
         mMaxWidth = maxWidth;
     }
 
@@ -176,6 +178,7 @@ public class YAxis extends AxisBase {
      * @param pos
      */
     public void setPosition(YAxisLabelPosition pos) {
+        mVersion++;
         mPosition = pos;
     }
 
@@ -192,6 +195,7 @@ public class YAxis extends AxisBase {
      * @param xOffset
      */
     public void setLabelXOffset(float xOffset) {
+        mVersion++;
         mXLabelOffset = xOffset;
     }
 
@@ -221,6 +225,7 @@ public class YAxis extends AxisBase {
      * @param enabled
      */
     public void setDrawTopYLabelEntry(boolean enabled) {
+        mVersion++;
         mDrawTopYLabelEntry = enabled;
     }
 
@@ -232,6 +237,7 @@ public class YAxis extends AxisBase {
      * @param enabled
      */
     public void setInverted(boolean enabled) {
+        mVersion++;
         mInverted = enabled;
     }
 
@@ -264,6 +270,7 @@ public class YAxis extends AxisBase {
      * @param percent
      */
     public void setSpaceTop(float percent) {
+        mVersion++;
         mSpacePercentTop = percent;
     }
 
@@ -282,6 +289,7 @@ public class YAxis extends AxisBase {
      * @param percent
      */
     public void setSpaceBottom(float percent) {
+        mVersion++;
         mSpacePercentBottom = percent;
     }
 
@@ -305,6 +313,7 @@ public class YAxis extends AxisBase {
      * @param mDrawZeroLine
      */
     public void setDrawZeroLine(boolean mDrawZeroLine) {
+        mVersion++;
         this.mDrawZeroLine = mDrawZeroLine;
     }
 
@@ -318,6 +327,7 @@ public class YAxis extends AxisBase {
      * @param color
      */
     public void setZeroLineColor(int color) {
+        mVersion++;
         mZeroLineColor = color;
     }
 
@@ -331,6 +341,7 @@ public class YAxis extends AxisBase {
      * @param width
      */
     public void setZeroLineWidth(float width) {
+        mVersion++;
         this.mZeroLineWidth = Utils.convertDpToPixel(width);
     }
 
@@ -401,6 +412,7 @@ public class YAxis extends AxisBase {
      */
     @Deprecated
     public void setUseAutoScaleMinRestriction( boolean isEnabled ) {
+        mVersion++;
         mUseAutoScaleRestrictionMin = isEnabled;
     }
 
@@ -417,6 +429,7 @@ public class YAxis extends AxisBase {
      */
     @Deprecated
     public void setUseAutoScaleMaxRestriction( boolean isEnabled ) {
+        mVersion++;
         mUseAutoScaleRestrictionMax = isEnabled;
     }
 
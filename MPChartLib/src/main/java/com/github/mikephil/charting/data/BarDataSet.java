@@ -192,6 +192,32 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected void calcMinMaxY(BarEntry e) {
+
+        if (e == null || Float.isNaN(e.getY()))
+            return;
+
+        float min = getEntryYMin(e);
+        float max = getEntryYMax(e);
+
+        if (min < mYMin)
+            mYMin = min;
+
+        if (max > mYMax)
+            mYMax = max;
+    }
+
+    @Override
+    protected float getEntryYMin(BarEntry e) {
+        return e.getYVals() == null ? e.getY() : -e.getNegativeSum();
+    }
+
+    @Override
+    protected float getEntryYMax(BarEntry e) {
+        return e.getYVals() == null ? e.getY() : e.getPositiveSum();
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
@@ -10,6 +10,7 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.KdTree;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -88,6 +89,17 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected boolean mVisible = true;
 
+    /**
+     * incremented whenever a styling property that is copied by copy(...) is set
+     */
+    protected int mStyleVersion = 0;
+
+    /**
+     * incremented whenever values are added, removed or changed through this DataSet and on
+     * notifyDataSetChanged()
+     */
+    protected int mDataVersion = 0;
+
     /**
      * Default constructor.
      */
@@ -114,6 +126,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Use this method to tell the data set that the underlying data has changed.
      */
     public void notifyDataSetChanged() {
+        mDataVersion++;
         calcMinMax();
     }
 
@@ -156,6 +169,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(List<Integer> colors) {
         this.mColors = colors;
+        mStyleVersion++;
     }
 
     /**
@@ -169,6 +183,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(int... colors) {
         this.mColors = ColorTemplate.createColors(colors);
+        mStyleVersion++;
     }
 
     /**
@@ -192,6 +207,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         for (int color : colors) {
             mColors.add(c.getResources().getColor(color));
         }
+        mStyleVersion++;
     }
 
     /**
@@ -203,6 +219,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         if (mColors == null)
             mColors = new ArrayList<Integer>();
         mColors.add(color);
+        mStyleVersion++;
     }
 
     /**
@@ -247,6 +264,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
             mColors = new ArrayList<Integer>();
         }
         mColors.clear();
+        mStyleVersion++;
     }
 
     /**
@@ -266,6 +284,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setHighlightEnabled(boolean enabled) {
         mHighlightEnabled = enabled;
+        mStyleVersion++;
     }
 
     @Override
@@ -280,6 +299,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
             return;
         else
             mValueFormatter = f;
+        mStyleVersion++;
     }
 
     @Override
@@ -298,11 +318,13 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     public void setValueTextColor(int color) {
         mValueColors.clear();
         mValueColors.add(color);
+        mStyleVersion++;
     }
 
     @Override
     public void setValueTextColors(List<Integer> colors) {
         mValueColors = colors;
+        mStyleVersion++;
     }
 
     @Override
@@ -313,6 +335,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setValueTextSize(float size) {
         mValueTextSize = Utils.convertDpToPixel(size);
+        mStyleVersion++;
     }
 
     @Override
@@ -337,6 +360,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     public void setForm(Legend.LegendForm form) {
         mForm = form;
+        mStyleVersion++;
     }
 
     @Override
@@ -346,6 +370,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     public void setFormSize(float formSize) {
         mFormSize = formSize;
+        mStyleVersion++;
     }
 
     @Override
@@ -355,6 +380,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     public void setFormLineWidth(float formLineWidth) {
         mFormLineWidth = formLineWidth;
+        mStyleVersion++;
     }
 
     @Override
@@ -364,6 +390,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     public void setFormLineDashEffect(DashPathEffect dashPathEffect) {
         mFormLineDashEffect = dashPathEffect;
+        mStyleVersion++;
     }
 
     @Override
@@ -374,6 +401,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setDrawValues(boolean enabled) {
         this.mDrawValues = enabled;
+        mStyleVersion++;
     }
 
     @Override
@@ -384,6 +412,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setDrawIcons(boolean enabled) {
         mDrawIcons = enabled;
+        mStyleVersion++;
     }
 
     @Override
@@ -396,6 +425,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
         mIconsOffset.x = offsetDp.x;
         mIconsOffset.y = offsetDp.y;
+        mStyleVersion++;
     }
 
     @Override
@@ -406,6 +436,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setVisible(boolean visible) {
         mVisible = visible;
+        mStyleVersion++;
     }
 
     @Override
@@ -413,6 +444,26 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return mVisible;
     }
 
+    /**
+     * Returns a number that changes whenever a styling property of this DataSet is set.
+     *
+     * @return
+     */
+    public int getStyleVersion() {
+        return mStyleVersion;
+    }
+
+    /**
+     * Returns a number that changes whenever values are added to or removed from this DataSet,
+     * and whenever notifyDataSetChanged() is called. Changes made to the entries directly are
+     * only reflected after notifyDataSetChanged().
+     *
+     * @return
+     */
+    public int getDataVersion() {
+        return mDataVersion;
+    }
+
     @Override
     public YAxis.AxisDependency getAxisDependency() {
         return mAxisDependency;
@@ -421,6 +472,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setAxisDependency(YAxis.AxisDependency dependency) {
         mAxisDependency = dependency;
+        mStyleVersion++;
     }
 
 
@@ -439,6 +491,17 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return -1;
     }
 
+    @Override
+    public void getEntryIndexRange(float fromX, float toX, int[] outRange) {
+        outRange[0] = getEntryIndex(fromX, Float.NaN, DataSet.Rounding.DOWN);
+        outRange[1] = getEntryIndex(toX, Float.NaN, DataSet.Rounding.UP);
+    }
+
+    @Override
+    public KdTree getSpatialIndex() {
+        return null;
+    }
+
     @Override
     public boolean removeFirst() {
 
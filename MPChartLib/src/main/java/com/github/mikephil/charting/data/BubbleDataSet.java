@@ -28,6 +28,12 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         return mHighlightCircleWidth;
     }
 
+    @Override
+    public void calcMinMax() {
+        mMaxSize = 0f;
+        super.calcMinMax();
+    }
+
     @Override
     protected void calcMinMax(BubbleEntry e) {
         super.calcMinMax(e);
@@ -39,6 +45,11 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         }
     }
 
+    @Override
+    protected boolean isMinMaxEntry(BubbleEntry e) {
+        return super.isMinMaxEntry(e) || e.getSize() >= mMaxSize;
+    }
+
     @Override
     public DataSet<BubbleEntry> copy() {
         List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
@@ -10,6 +10,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -445,6 +446,37 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Adds all given Entries to the end of the DataSet at the specified index. The minimum and
+     * maximum values are updated once for the whole batch.
+     *
+     * @param entries
+     * @param dataSetIndex
+     */
+    public void addEntries(Collection<? extends Entry> entries, int dataSetIndex) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            T set = mDataSets.get(dataSetIndex);
+
+            // the entries have to match the entry type of the DataSet, as with addEntry(...)
+            @SuppressWarnings("unchecked")
+            IDataSet<Entry> target = (IDataSet<Entry>) set;
+
+            // add the entries to the dataset
+            target.addEntries(entries);
+
+            // adding can only widen the range, merging the DataSet is enough
+            calcMinMax(set);
+
+        } else {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      *
@@ -523,11 +555,15 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         IDataSet set = mDataSets.get(dataSetIndex);
 
         if (set != null) {
+
+            final float xMin = set.getXMin(), xMax = set.getXMax();
+            final float yMin = set.getYMin(), yMax = set.getYMax();
+
             // remove the entry from the dataset
             boolean removed = set.removeEntry(e);
 
             if (removed) {
-                notifyDataChanged();
+                onEntriesRemoved(set, xMin, xMax, yMin, yMax);
             }
 
             return removed;
@@ -535,6 +571,53 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             return false;
     }
 
+    /**
+     * Removes the Entries from index from (inclusive) to index to (exclusive) from the DataSet at
+     * the specified index. The minimum and maximum values are recalculated at most once for the
+     * whole batch. Returns true if Entries were removed.
+     *
+     * @param from
+     * @param to
+     * @param dataSetIndex
+     * @return
+     */
+    public boolean removeEntries(int from, int to, int dataSetIndex) {
+
+        if (dataSetIndex < 0 || dataSetIndex >= mDataSets.size())
+            return false;
+
+        IDataSet set = mDataSets.get(dataSetIndex);
+
+        final float xMin = set.getXMin(), xMax = set.getXMax();
+        final float yMin = set.getYMin(), yMax = set.getYMax();
+
+        boolean removed = set.removeEntries(from, to);
+
+        if (removed) {
+            onEntriesRemoved(set, xMin, xMax, yMin, yMax);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Updates the minimum and maximum values after Entries were removed from the given DataSet.
+     * They only need to be recalculated if the range of the DataSet changed.
+     *
+     * @param set
+     * @param xMin the min x-value of the DataSet before the removal
+     * @param xMax the max x-value of the DataSet before the removal
+     * @param yMin the min y-value of the DataSet before the removal
+     * @param yMax the max y-value of the DataSet before the removal
+     */
+    protected void onEntriesRemoved(IDataSet set, float xMin, float xMax, float yMin, float yMax) {
+
+        if (set.getXMin() != xMin || set.getXMax() != xMax
+                || set.getYMin() != yMin || set.getYMax() != yMax) {
+            notifyDataChanged();
+        }
+    }
+
     /**
      * Removes the Entry object closest to the given DataSet at the
      * specified index. Returns true if an Entry was removed, false if no Entry
@@ -560,24 +643,45 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
     /**
      * Returns the DataSet that contains the provided Entry, or null, if no
-     * DataSet contains this Entry.
+     * DataSet contains this Entry. The Entry object itself is looked up first,
+     * with a binary search for its x-value in every DataSet, then with
+     * DataSet.getEntryIndex(Entry), which also finds it if its x-value was
+     * changed. Last, an Entry that is equal to it is looked up (see
+     * Entry.equalTo(...)).
      *
      * @param e
      * @return
      */
+    @SuppressWarnings("unchecked")
     public T getDataSetForEntry(Entry e) {
 
         if (e == null)
             return null;
 
+        // the DataSets that don't contain the Entry are not scanned if it is found this way
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            IDataSet set = mDataSets.get(i);
+
+            if (set instanceof DataSet && ((DataSet) set).findEntryIndex(e) >= 0)
+                return mDataSets.get(i);
+        }
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            IDataSet set = mDataSets.get(i);
+
+            if (set.getEntryIndex(e) >= 0)
+                return mDataSets.get(i);
+        }
+
+        // no DataSet contains the object, look for an equal Entry
         for (int i = 0; i < mDataSets.size(); i++) {
 
             T set = mDataSets.get(i);
 
-            for (int j = 0; j < set.getEntryCount(); j++) {
-                if (e.equalTo(set.getEntryForXValue(e.getX(), e.getY())))
-                    return set;
-            }
+            if (e.equalTo(set.getEntryForXValue(e.getX(), e.getY())))
+                return set;
         }
 
         return null;
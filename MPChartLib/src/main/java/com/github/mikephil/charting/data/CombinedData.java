@@ -157,8 +157,51 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         return data;
     }
 
+    /**
+     * Returns the data object at the given index of getAllData(), without creating the list.
+     *
+     * @param index
+     * @return
+     */
     public BarLineScatterCandleBubbleData getDataByIndex(int index) {
-        return getAllData().get(index);
+
+        int i = index;
+
+        if (mLineData != null && i-- == 0)
+            return mLineData;
+        if (mBarData != null && i-- == 0)
+            return mBarData;
+        if (mScatterData != null && i-- == 0)
+            return mScatterData;
+        if (mCandleData != null && i-- == 0)
+            return mCandleData;
+        if (mBubbleData != null && i-- == 0)
+            return mBubbleData;
+
+        throw new IndexOutOfBoundsException("Invalid data index: " + index);
+    }
+
+    /**
+     * Returns the number of data objects, the size of getAllData().
+     *
+     * @return
+     */
+    public int getDataCount() {
+
+        int count = 0;
+
+        if (mLineData != null)
+            count++;
+        if (mBarData != null)
+            count++;
+        if (mScatterData != null)
+            count++;
+        if (mCandleData != null)
+            count++;
+        if (mBubbleData != null)
+            count++;
+
+        return count;
     }
 
     @Override
@@ -186,7 +229,7 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
     @Override
     public Entry getEntryForHighlight(Highlight highlight) {
 
-        if (highlight.getDataIndex() >= getAllData().size())
+        if (highlight.getDataIndex() >= getDataCount())
             return null;
 
         ChartData data = getDataByIndex(highlight.getDataIndex());
@@ -214,7 +257,7 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
      * @return dataset related to highlight
      */
     public IBarLineScatterCandleBubbleDataSet<? extends Entry> getDataSetByHighlight(Highlight highlight) {
-        if (highlight.getDataIndex() >= getAllData().size())
+        if (highlight.getDataIndex() >= getDataCount())
             return null;
 
         BarLineScatterCandleBubbleData data = getDataByIndex(highlight.getDataIndex());
@@ -1,7 +1,12 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.IdentityIndexTable;
+import com.github.mikephil.charting.utils.KdTree;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -39,6 +44,49 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * optional range index over the y-extents of all entries, used to answer
+     * calcMinMaxY(fromX, toX) in O(log n), null if disabled
+     */
+    protected MinMaxSegmentTree mMinMaxIndex = null;
+
+    /**
+     * flag that indicates that the min/max index needs to be rebuilt before it can be used
+     */
+    protected boolean mMinMaxIndexDirty = true;
+
+    /**
+     * optional 2-D index over the x- and y-values of all entries, used for finding the
+     * entry closest to a touch position, null if disabled
+     */
+    protected KdTree mSpatialIndex = null;
+
+    /**
+     * number of entries found by getEntryIndex(Entry) since the entries changed after which the
+     * identity index is built even if it is not enabled
+     */
+    protected static final int ENTRY_INDEX_LOOKUP_THRESHOLD = 64;
+
+    /**
+     * identity index from entry to its position in mEntries, used by getEntryIndex(Entry). Only
+     * built if enabled or after many lookups, kept up to date when entries are appended and
+     * dropped when entries are inserted or removed elsewhere, null if not built
+     */
+    protected IdentityIndexTable mEntryIndex = null;
+
+    /**
+     * the number of entries mEntryIndex was built for
+     */
+    protected int mEntryIndexSize = 0;
+
+    protected boolean mEntryIndexEnabled = false;
+
+    /**
+     * number of entries found by getEntryIndex(Entry) since the identity index was dropped,
+     * lookups of entries that are not in this DataSet don't count
+     */
+    protected int mEntryLookups = 0;
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -66,6 +114,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
+        invalidateMinMaxIndex();
+        onValuesChanged();
+        invalidateEntryIndex();
+
         if (mEntries == null || mEntries.isEmpty())
             return;
 
@@ -87,6 +139,16 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         if (indexTo < indexFrom) return;
 
+        if (mMinMaxIndex != null) {
+
+            if (mMinMaxIndexDirty)
+                buildMinMaxIndex();
+
+            mYMin = mMinMaxIndex.getMin(indexFrom, indexTo);
+            mYMax = mMinMaxIndex.getMax(indexFrom, indexTo);
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -94,6 +156,281 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    /**
+     * Enables / disables the min/max range index of this DataSet. If enabled, the y-range of the
+     * visible entries (needed for the autoScaleMinMax feature) is resolved in O(log n) instead of
+     * iterating over all visible entries on every frame. Appending entries and removing entries
+     * from the front or the end keeps the index up to date in O(log n), inserting or removing
+     * entries in the middle costs O(k + log n) for the k entries between them and the nearer end.
+     * The index needs two floats per node, leave it disabled if autoScaleMinMax is not used.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setMinMaxIndexEnabled(boolean enabled) {
+
+        if (enabled && mMinMaxIndex == null) {
+            mMinMaxIndex = new MinMaxSegmentTree(Math.max(getEntryCount(), 16));
+            mMinMaxIndexDirty = true;
+        } else if (!enabled) {
+            mMinMaxIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if the min/max range index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isMinMaxIndexEnabled() {
+        return mMinMaxIndex != null;
+    }
+
+    /**
+     * Marks the min/max index as outdated, it will be rebuilt the next time it is needed.
+     */
+    protected void invalidateMinMaxIndex() {
+        mMinMaxIndexDirty = true;
+    }
+
+    /**
+     * Rebuilds the min/max index from all entries of this DataSet.
+     */
+    protected void buildMinMaxIndex() {
+
+        mMinMaxIndex.clear();
+
+        for (int i = 0; i < mEntries.size(); i++) {
+            T e = mEntries.get(i);
+            mMinMaxIndex.add(getEntryYMin(e), getEntryYMax(e));
+        }
+
+        mMinMaxIndexDirty = false;
+    }
+
+    /**
+     * Appends the given entry to the min/max index, if it is enabled and up to date.
+     *
+     * @param e
+     */
+    protected void appendToMinMaxIndex(T e) {
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.add(getEntryYMin(e), getEntryYMax(e));
+    }
+
+    /**
+     * Inserts the given entry into the min/max index at the given position, if the index is
+     * enabled and up to date.
+     *
+     * @param index
+     * @param e
+     */
+    protected void insertIntoMinMaxIndex(int index, T e) {
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.insert(index, getEntryYMin(e), getEntryYMax(e));
+    }
+
+    /**
+     * Removes the entries from index from (inclusive) to index to (exclusive) from the min/max
+     * index, if it is enabled and up to date.
+     *
+     * @param from
+     * @param to
+     */
+    protected void removeFromMinMaxIndex(int from, int to) {
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.remove(from, to);
+    }
+
+    /**
+     * Enables / disables the spatial index of this DataSet. If enabled, highlighting by touch
+     * picks the entry closest to the touch position in both dimensions (within the max highlight
+     * distance of the chart) in O(log n), instead of only considering the entries at the closest
+     * x-value. Meant for scatter and bubble charts. The index is rebuilt lazily on the first touch
+     * after the DataSet was modified. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+
+        if (enabled && mSpatialIndex == null)
+            mSpatialIndex = new KdTree();
+        else if (!enabled)
+            mSpatialIndex = null;
+    }
+
+    /**
+     * Returns true if the spatial index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndex != null;
+    }
+
+    @Override
+    public KdTree getSpatialIndex() {
+
+        if (mSpatialIndex == null)
+            return null;
+
+        if (!mSpatialIndex.isValid(this))
+            mSpatialIndex.build(this);
+
+        return mSpatialIndex;
+    }
+
+    /**
+     * Called whenever values were added, removed or changed: increments the data version and
+     * marks the spatial index as outdated.
+     */
+    protected void onValuesChanged() {
+        mDataVersion++;
+        invalidateSpatialIndex();
+    }
+
+    /**
+     * Marks the spatial index as outdated, it will be rebuilt the next time it is needed.
+     */
+    protected void invalidateSpatialIndex() {
+
+        if (mSpatialIndex != null)
+            mSpatialIndex.invalidate();
+    }
+
+    /**
+     * Enables / disables the identity index of the entries. If enabled, getEntryIndex(Entry) is
+     * O(1) instead of a binary search over the x-values followed by a scan over the entries with
+     * the same x-value. The index needs an object reference and an int per entry (at twice the
+     * capacity), it is also built without enabling it once an entry is looked up often. Default:
+     * false
+     *
+     * @param enabled
+     */
+    public void setEntryIndexEnabled(boolean enabled) {
+
+        mEntryIndexEnabled = enabled;
+
+        if (!enabled)
+            invalidateEntryIndex();
+    }
+
+    /**
+     * Returns true if the identity index of the entries is enabled.
+     *
+     * @return
+     */
+    public boolean isEntryIndexEnabled() {
+        return mEntryIndexEnabled;
+    }
+
+    /**
+     * Builds the identity index of the entries, see getEntryIndex(Entry).
+     */
+    protected void buildEntryIndex() {
+
+        if (mEntryIndex == null)
+            mEntryIndex = new IdentityIndexTable(mEntries.size());
+        else
+            mEntryIndex.clear();
+
+        // the first occurrence wins, like List.indexOf(...)
+        for (int i = 0; i < mEntries.size(); i++)
+            mEntryIndex.putIfAbsent(mEntries.get(i), i);
+
+        mEntryIndexSize = mEntries.size();
+    }
+
+    /**
+     * Adds the entries that were appended to the end of the entries since the identity index was
+     * built (or last updated) to it, if it is built.
+     */
+    protected void appendToEntryIndex() {
+
+        if (mEntryIndex == null)
+            return;
+
+        if (mEntries.size() < mEntryIndexSize) {
+            invalidateEntryIndex();
+            return;
+        }
+
+        for (int i = mEntryIndexSize; i < mEntries.size(); i++) {
+
+            // the first occurrence wins, like List.indexOf(...)
+            mEntryIndex.putIfAbsent(mEntries.get(i), i);
+        }
+
+        mEntryIndexSize = mEntries.size();
+    }
+
+    /**
+     * Drops the identity index of the entries, it is built again when it is needed.
+     */
+    protected void invalidateEntryIndex() {
+        mEntryIndex = null;
+        mEntryIndexSize = 0;
+        mEntryLookups = 0;
+    }
+
+    /**
+     * Returns the position of the given entry object by a binary search for its x-value and a
+     * scan over the entries with the same x-value, -1 if it is not in this DataSet or its x-value
+     * was changed after it was added.
+     *
+     * @param e
+     * @return
+     */
+    protected int findEntryIndex(Entry e) {
+
+        final float x = e.getX();
+
+        // find the first index with an x-value >= x
+        int low = 0;
+        int high = mEntries.size();
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mEntries.get(m).getX() < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = low; i < mEntries.size() && mEntries.get(i).getX() == x; i++) {
+            if (mEntries.get(i) == e)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the lowest y-value the given entry covers, used by the min/max index.
+     * Has to be consistent with calcMinMaxY(T).
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMin(T e) {
+        return e.getY();
+    }
+
+    /**
+     * Returns the highest y-value the given entry covers, used by the min/max index.
+     * Has to be consistent with calcMinMaxY(T).
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMax(T e) {
+        return e.getY();
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -109,6 +446,40 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMaxY(e);
     }
 
+    /**
+     * Returns true if the given Entry holds one of the min and max values of this DataSet, so that
+     * removing it requires recalculating them from all remaining entries. Has to cover everything
+     * calcMinMax(T) tracks.
+     *
+     * @param e
+     * @return
+     */
+    protected boolean isMinMaxEntry(T e) {
+        return e.getX() <= mXMin || e.getX() >= mXMax
+                || getEntryYMin(e) <= mYMin || getEntryYMax(e) >= mYMax;
+    }
+
+    /**
+     * Updates the min and max values after the given entries were removed: they are only
+     * recalculated if one of the removed entries held an extreme value. The min/max index has
+     * to be updated by the caller.
+     *
+     * @param minMaxRemoved true if one of the removed entries was a min/max entry
+     */
+    protected void onEntriesRemoved(boolean minMaxRemoved) {
+
+        if (minMaxRemoved) {
+
+            // the min/max index is already up to date, recalculating must not discard it
+            boolean minMaxIndexDirty = mMinMaxIndexDirty;
+            calcMinMax();
+            mMinMaxIndexDirty = minMaxIndexDirty;
+        } else {
+            onValuesChanged();
+            invalidateEntryIndex();
+        }
+    }
+
     protected void calcMinMaxX(T e) {
 
         if (e.getX() < mXMin)
@@ -246,9 +617,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+            insertIntoMinMaxIndex(closestIndex, e);
+            invalidateEntryIndex();
         } else {
             mEntries.add(e);
+            appendToMinMaxIndex(e);
+            appendToEntryIndex();
         }
+
+        onValuesChanged();
     }
 
     @Override
@@ -271,7 +648,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        if (added) {
+            appendToMinMaxIndex(e);
+            appendToEntryIndex();
+            onValuesChanged();
+        }
+
+        return added;
     }
 
     @Override
@@ -283,19 +668,115 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null)
             return false;
 
-        // remove the entry
-        boolean removed = mEntries.remove(e);
+        return removeEntry(mEntries.indexOf(e));
+    }
 
-        if (removed) {
-            calcMinMax();
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (mEntries == null || index < 0 || index >= mEntries.size())
+            return false;
+
+        T e = mEntries.remove(index);
+
+        removeFromMinMaxIndex(index, index + 1);
+        onEntriesRemoved(isMinMaxEntry(e));
+
+        return true;
+    }
+
+    @Override
+    public boolean removeEntries(int from, int to) {
+
+        if (mEntries == null)
+            return false;
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mEntries.size());
+
+        if (from >= to)
+            return false;
+
+        boolean minMaxRemoved = false;
+
+        for (int i = from; i < to && !minMaxRemoved; i++) {
+            minMaxRemoved = isMinMaxEntry(mEntries.get(i));
+        }
+
+        mEntries.subList(from, to).clear();
+
+        removeFromMinMaxIndex(from, to);
+        onEntriesRemoved(minMaxRemoved);
+
+        return true;
+    }
+
+    @Override
+    public void addEntries(Collection<? extends T> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        if (mEntries == null) {
+            mEntries = new ArrayList<T>();
+        }
+
+        mEntries.addAll(entries);
+
+        for (T e : entries) {
+            calcMinMax(e);
+            appendToMinMaxIndex(e);
         }
 
-        return removed;
+        appendToEntryIndex();
+
+        onValuesChanged();
     }
 
+    /**
+     * Returns the position of the given entry object in this DataSet, -1 if it is not part of it.
+     * The entry is looked up by a binary search for its x-value, or with the identity index once
+     * it is built. An entry whose x-value was changed after it was added is found as well, by a
+     * scan over all entries until the identity index is built.
+     *
+     * @param e
+     * @return
+     */
     @Override
     public int getEntryIndex(Entry e) {
-        return mEntries.indexOf(e);
+
+        if (e == null)
+            return mEntries.indexOf(e);
+
+        if (mEntryIndex == null && !mEntryIndexEnabled
+                && mEntryLookups < ENTRY_INDEX_LOOKUP_THRESHOLD) {
+
+            int index = findEntryIndex(e);
+
+            // the x-value of the entry might have been changed after it was added
+            if (index < 0)
+                index = mEntries.indexOf(e);
+
+            // only entries of this DataSet count, ChartData.getDataSetForEntry(...) looks up
+            // entries in all DataSets
+            if (index >= 0)
+                mEntryLookups++;
+
+            return index;
+        }
+
+        // entries might have been added to or removed from the list directly
+        if (mEntryIndex == null || mEntryIndexSize != mEntries.size())
+            buildEntryIndex();
+
+        int index = mEntryIndex.get(e);
+
+        if (index >= 0 && (index >= mEntries.size() || mEntries.get(index) != e)) {
+            buildEntryIndex();
+            index = mEntryIndex.get(e);
+        }
+
+        return index;
     }
 
     @Override
@@ -317,21 +798,33 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mEntries.get(index);
     }
 
+    @Override
+    public float getX(int index) {
+        return mEntries.get(index).getX();
+    }
+
+    @Override
+    public float getY(int index) {
+        return mEntries.get(index).getY();
+    }
+
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
-        if (mEntries == null || mEntries.isEmpty())
+        final int count = getEntryCount();
+
+        if (count == 0)
             return -1;
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = count - 1;
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
+            final float d1 = getX(m) - xValue,
+                    d2 = getX(m + 1) - xValue,
                     ad1 = Math.abs(d1), ad2 = Math.abs(d2);
 
             if (ad2 < ad1) {
@@ -358,10 +851,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
 
         if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
+            float closestXValue = getX(closest);
             if (rounding == Rounding.UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
+                if (closestXValue < xValue && closest < count - 1) {
                     ++closest;
                 }
             } else if (rounding == Rounding.DOWN) {
@@ -373,23 +866,25 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
+
+                // the x-value of the index after rounding
+                closestXValue = getX(closest);
+
+                while (closest > 0 && getX(closest - 1) == closestXValue)
                     closest -= 1;
 
-                float closestYValue = mEntries.get(closest).getY();
+                float closestYValue = getY(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mEntries.size())
+                    if (closest >= count)
                         break;
 
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
+                    if (getX(closest) != closestXValue)
                         break;
 
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
@@ -408,24 +903,23 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         List<T> entries = new ArrayList<T>();
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = getEntryCount() - 1;
 
         while (low <= high) {
             int m = (high + low) / 2;
-            T entry = mEntries.get(m);
+            float x = getX(m);
 
             // if we have a match
-            if (xValue == entry.getX()) {
-                while (m > 0 && mEntries.get(m - 1).getX() == xValue)
+            if (xValue == x) {
+                while (m > 0 && getX(m - 1) == xValue)
                     m--;
 
-                high = mEntries.size();
+                high = getEntryCount();
 
                 // loop over all "equal" entries
                 for (; m < high; m++) {
-                    entry = mEntries.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
+                    if (getX(m) == xValue) {
+                        entries.add(getEntryForIndex(m));
                     } else {
                         break;
                     }
@@ -433,7 +927,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
                 break;
             } else {
-                if (xValue > entry.getX())
+                if (xValue > x)
                     low = m + 1;
                 else
                     high = m - 1;
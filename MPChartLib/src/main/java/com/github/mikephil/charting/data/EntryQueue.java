@@ -0,0 +1,352 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free queue of (x, y) samples that can be filled from any thread (e.g. a network or
+ * sensor thread) and is drained into a DataSet on the UI thread. Register it with the chart (see
+ * BarLineChartBase.addEntryQueue(...)), the chart then drains all queued samples once per frame,
+ * appends them in one batch and refreshes itself once, instead of each sample having to be posted
+ * to the UI thread on its own.
+ *
+ * Any number of threads may call offer(...), only one thread (the UI thread) may drain the queue.
+ * If the queue is full, offer(...) drops the sample and returns false, see getDroppedCount().
+ * Each drain is sorted by x before it is appended, samples that arrive after a newer sample has
+ * already been drained are dropped, see getOutOfOrderCount().
+ */
+public class EntryQueue {
+
+    private final int mCapacity;
+    private final int mMask;
+
+    private final float[] mX;
+    private final float[] mY;
+
+    /**
+     * per slot: the position a producer may write the slot at, or the position + 1 once the
+     * sample is written and may be read
+     */
+    private final AtomicLongArray mSequences;
+
+    /**
+     * the position the next sample is written at, claimed by the producers
+     */
+    private final AtomicLong mTail = new AtomicLong(0);
+
+    /**
+     * the position the next sample is read from, only used by the consumer
+     */
+    private long mHead = 0;
+
+    private final AtomicLong mDropped = new AtomicLong(0);
+
+    /**
+     * true while a drain has been requested but has not started yet
+     */
+    private final AtomicBoolean mDrainRequested = new AtomicBoolean(false);
+
+    /**
+     * called (on the producer thread) when samples are available and no drain is requested yet
+     */
+    private volatile Runnable mDrainRequest;
+
+    /**
+     * buffer for the entries of one drain
+     */
+    private final ArrayList<Entry> mBatch = new ArrayList<>();
+
+    /**
+     * buffers for the samples of one drain and for sorting them, only used by the consumer
+     */
+    private float[] mBatchX = new float[16];
+    private float[] mBatchY = new float[16];
+    private float[] mSortedX = new float[16];
+    private float[] mSortedY = new float[16];
+    private long[] mSortKeys = new long[16];
+
+    /**
+     * number of samples dropped by drainTo(...) because they were older than the DataSet,
+     * only used by the consumer
+     */
+    private long mOutOfOrder = 0;
+
+    /**
+     * @param capacity the maximum number of queued samples, rounded up to the next power of two
+     */
+    public EntryQueue(int capacity) {
+
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+
+        mCapacity = size;
+        mMask = size - 1;
+
+        mX = new float[size];
+        mY = new float[size];
+        mSequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++)
+            mSequences.set(i, i);
+    }
+
+    /**
+     * Adds a sample to the queue. Can be called from any thread. Returns false (and drops the
+     * sample) if the queue is full.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public boolean offer(float x, float y) {
+
+        long pos = mTail.get();
+
+        while (true) {
+
+            final int slot = (int) (pos & mMask);
+            final long diff = mSequences.get(slot) - pos;
+
+            if (diff == 0) {
+
+                if (mTail.compareAndSet(pos, pos + 1)) {
+
+                    mX[slot] = x;
+                    mY[slot] = y;
+
+                    // publishes the sample to the consumer
+                    mSequences.set(slot, pos + 1);
+                    break;
+                }
+
+                pos = mTail.get();
+
+            } else if (diff < 0) {
+
+                // the consumer has not read the sample in this slot yet
+                mDropped.incrementAndGet();
+                return false;
+
+            } else {
+                pos = mTail.get();
+            }
+        }
+
+        if (mDrainRequested.compareAndSet(false, true)) {
+
+            Runnable request = mDrainRequest;
+
+            if (request != null)
+                request.run();
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends all queued samples to the given DataSet, in one batch, and returns their number.
+     * Samples offered by different threads may arrive out of order, so the batch is sorted by
+     * x first. Samples with an x-value lower than the highest x-value of the DataSet can not be
+     * appended and are dropped, see getOutOfOrderCount(). Only call this from the thread that
+     * owns the DataSet (the UI thread), the chart needs to be notified about the change
+     * afterwards. RollingLineDataSet and FloatArrayLineDataSet store the samples without
+     * creating Entry objects.
+     *
+     * @param dataSet
+     * @return
+     */
+    public int drainTo(IDataSet<Entry> dataSet) {
+
+        // samples offered from now on request a new drain
+        mDrainRequested.set(false);
+
+        int count = 0;
+
+        while (poll()) {
+
+            if (count == mBatchX.length)
+                growBatch(count * 2);
+
+            mBatchX[count] = mPolledX;
+            mBatchY[count] = mPolledY;
+            count++;
+        }
+
+        if (count == 0)
+            return 0;
+
+        sortBatch(count);
+
+        // the samples are sorted, the ones lower than the highest x-value are at the start
+        int first = 0;
+
+        if (dataSet.getEntryCount() > 0) {
+
+            final float xMax = dataSet.getXMax();
+
+            while (first < count && mBatchX[first] < xMax)
+                first++;
+        }
+
+        if (first > 0) {
+
+            mOutOfOrder += first;
+            count -= first;
+
+            System.arraycopy(mBatchX, first, mBatchX, 0, count);
+            System.arraycopy(mBatchY, first, mBatchY, 0, count);
+        }
+
+        if (count == 0)
+            return 0;
+
+        if (dataSet instanceof RollingLineDataSet) {
+
+            ((RollingLineDataSet) dataSet).addEntries(mBatchX, mBatchY, count);
+
+        } else if (dataSet instanceof FloatArrayLineDataSet) {
+
+            ((FloatArrayLineDataSet) dataSet).addEntries(mBatchX, mBatchY, count);
+
+        } else {
+
+            for (int i = 0; i < count; i++)
+                mBatch.add(new Entry(mBatchX[i], mBatchY[i]));
+
+            dataSet.addEntries(mBatch);
+
+            mBatch.clear();
+        }
+
+        return count;
+    }
+
+    /**
+     * Sorts the first count samples of the batch by x. The sort is stable, samples with the same
+     * x-value keep the order they were offered in.
+     */
+    private void sortBatch(int count) {
+
+        boolean sorted = true;
+
+        for (int i = 1; i < count && sorted; i++)
+            sorted = mBatchX[i - 1] <= mBatchX[i];
+
+        if (sorted)
+            return;
+
+        if (mSortKeys.length < count)
+            mSortKeys = new long[mBatchX.length];
+
+        // the upper 32 bits order the x-values, the lower ones keep equal x-values stable
+        for (int i = 0; i < count; i++)
+            mSortKeys[i] = ((long) sortableBits(mBatchX[i]) << 32) | i;
+
+        Arrays.sort(mSortKeys, 0, count);
+
+        for (int i = 0; i < count; i++) {
+
+            final int index = (int) mSortKeys[i];
+
+            mSortedX[i] = mBatchX[index];
+            mSortedY[i] = mBatchY[index];
+        }
+
+        float[] x = mBatchX;
+        mBatchX = mSortedX;
+        mSortedX = x;
+
+        float[] y = mBatchY;
+        mBatchY = mSortedY;
+        mSortedY = y;
+    }
+
+    /**
+     * Returns the bits of the given float as an int that sorts like the float.
+     */
+    private static int sortableBits(float x) {
+        final int bits = Float.floatToIntBits(x);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    private void growBatch(int capacity) {
+        mBatchX = Arrays.copyOf(mBatchX, capacity);
+        mBatchY = Arrays.copyOf(mBatchY, capacity);
+        mSortedX = new float[capacity];
+        mSortedY = new float[capacity];
+    }
+
+    private float mPolledX;
+    private float mPolledY;
+
+    /**
+     * Reads the next sample into mPolledX and mPolledY, returns false if the queue is empty.
+     */
+    private boolean poll() {
+
+        final int slot = (int) (mHead & mMask);
+
+        if (mSequences.get(slot) != mHead + 1)
+            return false;
+
+        mPolledX = mX[slot];
+        mPolledY = mY[slot];
+
+        // frees the slot for the producers
+        mSequences.set(slot, mHead + mCapacity);
+        mHead++;
+
+        return true;
+    }
+
+    /**
+     * Sets the action that is run (on the producer thread) when samples are offered and no drain
+     * is pending. Used by the chart to schedule draining on the next frame.
+     *
+     * @param request
+     */
+    public void setDrainRequest(Runnable request) {
+        mDrainRequest = request;
+    }
+
+    /**
+     * Returns the approximate number of queued samples.
+     *
+     * @return
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(mTail.get() - mHead, mCapacity));
+    }
+
+    /**
+     * Returns the maximum number of queued samples.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * Returns the number of samples that were dropped because the queue was full.
+     *
+     * @return
+     */
+    public long getDroppedCount() {
+        return mDropped.get();
+    }
+
+    /**
+     * Returns the number of samples that were dropped while draining because their x-value was
+     * lower than the highest x-value of the DataSet. Only call this from the draining thread.
+     *
+     * @return
+     */
+    public long getOutOfOrderCount() {
+        return mOutOfOrder;
+    }
+}
@@ -0,0 +1,595 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its x- and y-values in growable primitive float arrays instead of
+ * a List of Entry objects. Meant for very large series (hundreds of thousands of points),
+ * where one Entry object per point costs too much memory and pointer chasing.
+ * The renderers read the values through getX(int) / getY(int), Entry objects are only
+ * created on demand (e.g. for highlighting, markers and value-formatting) and are not
+ * retained by the DataSet. The x-values have to be sorted in ascending order.
+ */
+public class FloatArrayLineDataSet extends LineDataSet {
+
+    /**
+     * the x-values of this DataSet, only the first mCount values are valid
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of this DataSet, only the first mCount values are valid
+     */
+    protected float[] mYValues;
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mCount;
+
+    /**
+     * Creates a new, empty FloatArrayLineDataSet.
+     *
+     * @param label
+     */
+    public FloatArrayLineDataSet(String label) {
+        this(new float[16], new float[16], 0, label);
+    }
+
+    /**
+     * Creates a new FloatArrayLineDataSet that uses the provided arrays as its values. The arrays
+     * are NOT copied, the DataSet takes ownership of them. Only the first count values are used.
+     *
+     * @param xValues x-values, sorted in ascending order
+     * @param yValues y-values, same length as the x-values
+     * @param count   the number of valid values in both arrays
+     * @param label
+     * @throws IllegalArgumentException if the x-values are not sorted
+     */
+    public FloatArrayLineDataSet(float[] xValues, float[] yValues, int count, String label) {
+        super(null, label);
+
+        if (xValues.length < count || yValues.length < count)
+            throw new IllegalArgumentException("The provided arrays hold less than " + count + " values.");
+
+        checkOrder(xValues, count);
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mCount = count;
+        mEntries = new EntryListView();
+
+        calcMinMax();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        invalidateMinMaxIndex();
+        onValuesChanged();
+        invalidateLevelOfDetail();
+
+        // called by the super constructor before the arrays are set
+        if (mXValues == null || mCount == 0)
+            return;
+
+        for (int i = 0; i < mCount; i++) {
+            calcMinMax(mXValues[i], mYValues[i]);
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (indexTo < indexFrom) return;
+
+        if (mMinMaxIndex != null) {
+
+            if (mMinMaxIndexDirty)
+                buildMinMaxIndex();
+
+            mYMin = mMinMaxIndex.getMin(indexFrom, indexTo);
+            mYMax = mMinMaxIndex.getMax(indexFrom, indexTo);
+            return;
+        }
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            final float y = mYValues[i];
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected void buildMinMaxIndex() {
+
+        mMinMaxIndex.clear();
+
+        for (int i = 0; i < mCount; i++) {
+            mMinMaxIndex.add(mYValues[i], mYValues[i]);
+        }
+
+        mMinMaxIndexDirty = false;
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given values.
+     *
+     * @param x
+     * @param y
+     */
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Creates a new Entry object for the value at the given index. The returned Entry is not
+     * backed by this DataSet, changes made to it are not reflected in the chart.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        return new Entry(mXValues[index], mYValues[index]);
+    }
+
+    /**
+     * Returns the index of the first value that equals the x- and y-value of the given Entry,
+     * -1 if there is none. Since no Entry objects are retained, values are compared instead of
+     * object identity.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null || mCount == 0)
+            return -1;
+
+        final float x = e.getX();
+        final float y = e.getY();
+
+        // find the first index with an x-value >= x
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[m] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = low; i < mCount && mXValues[i] == x; i++) {
+            if (mYValues[i] == y)
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) >= 0;
+    }
+
+    /**
+     * Adds a new value to the end of the DataSet. The x-value must not be lower than the
+     * currently highest x-value, use addEntryOrdered(...) to insert a value elsewhere.
+     *
+     * @param x
+     * @param y
+     * @throws IllegalArgumentException if the x-value is lower than the highest x-value
+     */
+    public void addEntry(float x, float y) {
+
+        if (mCount > 0 && x < mXValues[mCount - 1])
+            throw new IllegalArgumentException("The x-value " + x
+                    + " is lower than the highest x-value " + mXValues[mCount - 1] + ".");
+
+        ensureCapacity(mCount + 1);
+
+        mXValues[mCount] = x;
+        mYValues[mCount] = y;
+        mCount++;
+
+        calcMinMax(x, y);
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.add(y, y);
+
+        onValuesChanged();
+    }
+
+    /**
+     * Adds the first count values of the given arrays to the end of the DataSet, growing the
+     * arrays at most once. The x-values must be sorted in ascending order and must not be lower
+     * than the currently highest x-value, otherwise nothing is added.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     * @throws IllegalArgumentException if an x-value is out of order
+     */
+    public void addEntries(float[] xValues, float[] yValues, int count) {
+
+        float last = mCount > 0 ? mXValues[mCount - 1] : Float.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < count; i++) {
+
+            if (xValues[i] < last)
+                throw new IllegalArgumentException("The x-value " + xValues[i]
+                        + " is lower than the preceding x-value " + last + ".");
+
+            last = xValues[i];
+        }
+
+        if (count <= 0)
+            return;
+
+        ensureCapacity(mCount + count);
+
+        System.arraycopy(xValues, 0, mXValues, mCount, count);
+        System.arraycopy(yValues, 0, mYValues, mCount, count);
+        mCount += count;
+
+        for (int i = 0; i < count; i++) {
+
+            calcMinMax(xValues[i], yValues[i]);
+
+            if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+                mMinMaxIndex.add(yValues[i], yValues[i]);
+        }
+
+        onValuesChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mCount > 0 && mXValues[mCount - 1] > e.getX()) {
+
+            int index = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
+
+            ensureCapacity(mCount + 1);
+
+            System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+            System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+            mXValues[index] = e.getX();
+            mYValues[index] = e.getY();
+            mCount++;
+
+            calcMinMax(e.getX(), e.getY());
+            insertIntoMinMaxIndex(index, e);
+            onValuesChanged();
+            invalidateLevelOfDetail();
+        } else {
+            addEntry(e.getX(), e.getY());
+        }
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        return removeEntries(index, index + 1);
+    }
+
+    @Override
+    public boolean removeEntries(int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mCount);
+
+        if (from >= to)
+            return false;
+
+        boolean minMaxRemoved = false;
+
+        for (int i = from; i < to && !minMaxRemoved; i++) {
+            minMaxRemoved = isMinMaxValue(mXValues[i], mYValues[i]);
+        }
+
+        System.arraycopy(mXValues, to, mXValues, from, mCount - to);
+        System.arraycopy(mYValues, to, mYValues, from, mCount - to);
+        mCount -= to - from;
+
+        removeFromMinMaxIndex(from, to);
+        onEntriesRemoved(minMaxRemoved);
+
+        return true;
+    }
+
+    @Override
+    public void addEntries(Collection<? extends Entry> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        // check the order first, so that nothing is added if an x-value is out of order
+        float lastX = mCount > 0 ? mXValues[mCount - 1] : -Float.MAX_VALUE;
+
+        for (Entry e : entries) {
+
+            if (e.getX() < lastX)
+                throw new IllegalArgumentException("The x-value " + e.getX()
+                        + " is lower than the preceding x-value " + lastX + ".");
+
+            lastX = e.getX();
+        }
+
+        ensureCapacity(mCount + entries.size());
+
+        for (Entry e : entries) {
+
+            final float x = e.getX();
+            final float y = e.getY();
+
+            mXValues[mCount] = x;
+            mYValues[mCount] = y;
+            mCount++;
+
+            calcMinMax(x, y);
+
+            if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+                mMinMaxIndex.add(y, y);
+        }
+
+        onValuesChanged();
+    }
+
+    /**
+     * Returns true if the given value is one of the min and max values of this DataSet.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected boolean isMinMaxValue(float x, float y) {
+        return x <= mXMin || x >= mXMax || y <= mYMin || y >= mYMax;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces all values of this DataSet with the values of the given entries, which have to be
+     * sorted by their x-values in ascending order.
+     *
+     * @param entries
+     * @throws IllegalArgumentException if an x-value is lower than the preceding one, the
+     *                                  DataSet is not changed then
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        if (entries != null) {
+
+            // check the order first, so that nothing is replaced if an x-value is out of order
+            float lastX = -Float.MAX_VALUE;
+
+            for (Entry e : entries) {
+
+                if (e.getX() < lastX)
+                    throw new IllegalArgumentException("The x-value " + e.getX()
+                            + " is lower than the preceding x-value " + lastX + ".");
+
+                lastX = e.getX();
+            }
+        }
+
+        mCount = 0;
+
+        if (entries != null) {
+
+            ensureCapacity(entries.size());
+
+            for (Entry e : entries) {
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces all values of this DataSet with the provided arrays. As with the constructor, the
+     * arrays are NOT copied and only the first count values are used.
+     *
+     * @param xValues x-values, sorted in ascending order
+     * @param yValues y-values
+     * @param count   the number of valid values in both arrays
+     * @throws IllegalArgumentException if the x-values are not sorted
+     */
+    public void setValues(float[] xValues, float[] yValues, int count) {
+
+        if (xValues.length < count || yValues.length < count)
+            throw new IllegalArgumentException("The provided arrays hold less than " + count + " values.");
+
+        checkOrder(xValues, count);
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mCount = count;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns a read-only view of the values of this DataSet as Entry objects. Entries are
+     * created lazily on access.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getEntries() {
+        return mEntries;
+    }
+
+    /**
+     * Returns the array holding the x-values. Only the first getEntryCount() values are valid.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the array holding the y-values. Only the first getEntryCount() values are valid.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Throws an IllegalArgumentException if the first count x-values are not sorted in ascending
+     * order, the binary searches of the DataSet rely on the order.
+     *
+     * @param xValues
+     * @param count
+     */
+    private static void checkOrder(float[] xValues, int count) {
+
+        for (int i = 1; i < count; i++) {
+
+            if (xValues[i] < xValues[i - 1])
+                throw new IllegalArgumentException("The x-value " + xValues[i] + " at index " + i
+                        + " is lower than the preceding x-value " + xValues[i - 1] + ".");
+        }
+    }
+
+    /**
+     * Makes sure the value arrays can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    protected void ensureCapacity(int capacity) {
+
+        // the arrays passed to the constructor may differ in length
+        final int length = Math.min(mXValues.length, mYValues.length);
+
+        if (length >= capacity)
+            return;
+
+        int newCapacity = Math.max(capacity, length + (length >> 1) + 1);
+
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        FloatArrayLineDataSet copied = new FloatArrayLineDataSet(Arrays.copyOf(mXValues, mCount),
+                Arrays.copyOf(mYValues, mCount), mCount, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Read-only List view on the values, used as mEntries so that all List based methods of the
+     * super classes keep working.
+     */
+    private class EntryListView extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mCount;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.filter.LevelOfDetail;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -64,6 +65,21 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * the simplified versions of this DataSet, null if level of detail is disabled
+     */
+    private LevelOfDetail mLevelOfDetail = null;
+
+    /**
+     * the DataSets that are drawn for the levels of mLevelOfDetail, created on demand
+     */
+    private FloatArrayLineDataSet[] mLevelDataSets = null;
+
+    /**
+     * the style version that was last copied to mLevelDataSets
+     */
+    private int mLevelStyleVersion = 0;
+
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -124,6 +140,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setMode(LineDataSet.Mode mode) {
         mMode = mode;
+        mStyleVersion++;
     }
 
     /**
@@ -140,6 +157,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
             intensity = 0.05f;
 
         mCubicIntensity = intensity;
+        mStyleVersion++;
     }
 
     @Override
@@ -161,6 +179,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         } else {
             Log.e("LineDataSet", "Circle radius cannot be < 1");
         }
+        mStyleVersion++;
     }
 
     @Override
@@ -181,6 +200,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         } else {
             Log.e("LineDataSet", "Circle radius cannot be < 0.5");
         }
+        mStyleVersion++;
     }
 
     @Override
@@ -222,6 +242,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         mDashPathEffect = new DashPathEffect(new float[]{
                 lineLength, spaceLength
         }, phase);
+        mStyleVersion++;
     }
 
     /**
@@ -229,6 +250,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void disableDashedLine() {
         mDashPathEffect = null;
+        mStyleVersion++;
     }
 
     @Override
@@ -249,6 +271,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setDrawCircles(boolean enabled) {
         this.mDrawCircles = enabled;
+        mStyleVersion++;
     }
 
     @Override
@@ -300,6 +323,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setCircleColors(List<Integer> colors) {
         mCircleColors = colors;
+        mStyleVersion++;
     }
 
     /**
@@ -313,6 +337,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setCircleColors(int... colors) {
         this.mCircleColors = ColorTemplate.createColors(colors);
+        mStyleVersion++;
     }
 
     /**
@@ -338,6 +363,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         }
 
         mCircleColors = clrs;
+        mStyleVersion++;
     }
 
     /**
@@ -359,6 +385,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
             mCircleColors = new ArrayList<Integer>();
         }
         mCircleColors.clear();
+        mStyleVersion++;
     }
 
     /**
@@ -368,6 +395,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setCircleHoleColor(int color) {
         mCircleHoleColor = color;
+        mStyleVersion++;
     }
 
     @Override
@@ -382,6 +410,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setDrawCircleHole(boolean enabled) {
         mDrawCircleHole = enabled;
+        mStyleVersion++;
     }
 
     @Override
@@ -401,6 +430,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
             mFillFormatter = new DefaultFillFormatter();
         else
             mFillFormatter = formatter;
+        mStyleVersion++;
     }
 
     @Override
@@ -408,6 +438,149 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    /**
+     * Enables / disables level of detail for this DataSet. If enabled, simplified versions of
+     * this DataSet are precomputed with the Douglas-Peucker algorithm and the renderer draws the
+     * coarsest one that is still accurate for the current zoom (LINEAR mode with a single color
+     * only). Highlighting, circles and values always use the full DataSet. Values appended to
+     * the end of the DataSet are reduced incrementally, other changes rebuild the levels, so
+     * this is meant for large DataSets that are appended to or rarely change. Default: false
+     *
+     * @param enabled
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+
+        if (enabled && mLevelOfDetail == null)
+            setLevelOfDetail(new LevelOfDetail());
+        else if (!enabled)
+            setLevelOfDetail(null);
+    }
+
+    /**
+     * Sets a custom LevelOfDetail (e.g. with different tolerances) for this DataSet, null to
+     * disable level of detail.
+     *
+     * @param levelOfDetail
+     */
+    public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+        mLevelOfDetail = levelOfDetail;
+        mLevelDataSets = null;
+    }
+
+    /**
+     * Returns the LevelOfDetail of this DataSet, null if level of detail is disabled.
+     *
+     * @return
+     */
+    public LevelOfDetail getLevelOfDetail() {
+        return mLevelOfDetail;
+    }
+
+    /**
+     * Returns the DataSet that should be drawn for the lines of this DataSet, if one x-unit spans
+     * scaleX pixels and one y-unit scaleY pixels. This is either a simplified version of this
+     * DataSet (if level of detail is enabled and a level is accurate enough for the given scale),
+     * or this DataSet itself. The simplified versions share the styling of this DataSet.
+     *
+     * @param scaleX the number of pixels per x-unit
+     * @param scaleY the number of pixels per y-unit
+     * @return
+     */
+    public ILineDataSet getLevelOfDetail(float scaleX, float scaleY) {
+
+        if (mLevelOfDetail == null)
+            return this;
+
+        if (mLevelDataSets == null) {
+            mLevelOfDetail.invalidate();
+            mLevelDataSets = new FloatArrayLineDataSet[mLevelOfDetail.getLevelCount()];
+        }
+
+        final boolean valuesChanged = mLevelOfDetail.update(this);
+        final boolean styleChanged = mLevelStyleVersion != mStyleVersion;
+
+        mLevelStyleVersion = mStyleVersion;
+
+        for (int level = 0; level < mLevelDataSets.length; level++) {
+
+            FloatArrayLineDataSet set = mLevelDataSets[level];
+
+            if (set == null)
+                continue;
+
+            if (valuesChanged) {
+
+                if (mLevelOfDetail.getCount(level) == 0) {
+                    mLevelDataSets[level] = null;
+                    continue;
+                }
+
+                set.setValues(mLevelOfDetail.getXValues(level), mLevelOfDetail.getYValues(level),
+                        mLevelOfDetail.getCount(level));
+            }
+
+            if (styleChanged)
+                copy(set);
+        }
+
+        int level = mLevelOfDetail.selectLevel(scaleX, scaleY);
+
+        if (level < 0)
+            return this;
+
+        FloatArrayLineDataSet set = mLevelDataSets[level];
+
+        if (set == null) {
+            set = new FloatArrayLineDataSet(mLevelOfDetail.getXValues(level),
+                    mLevelOfDetail.getYValues(level), mLevelOfDetail.getCount(level), getLabel());
+            copy(set);
+            mLevelDataSets[level] = set;
+        }
+
+        return set;
+    }
+
+    /**
+     * Marks the simplified versions of this DataSet as outdated.
+     */
+    protected void invalidateLevelOfDetail() {
+        if (mLevelOfDetail != null)
+            mLevelOfDetail.invalidate();
+    }
+
+    /**
+     * Notifies the simplified versions of this DataSet that the given number of values was removed
+     * from its start.
+     *
+     * @param count
+     */
+    protected void removeFirstLevelOfDetail(int count) {
+        if (mLevelOfDetail != null)
+            mLevelOfDetail.removeFirst(count);
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        // inserting before the last value is no append
+        if (e != null && getEntryCount() > 0 && getX(getEntryCount() - 1) > e.getX())
+            invalidateLevelOfDetail();
+
+        super.addEntryOrdered(e);
+    }
+
+    @Override
+    protected void onEntriesRemoved(boolean minMaxRemoved) {
+        invalidateLevelOfDetail();
+        super.onEntriesRemoved(minMaxRemoved);
+    }
+
+    @Override
+    public void calcMinMax() {
+        super.calcMinMax();
+        invalidateLevelOfDetail();
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
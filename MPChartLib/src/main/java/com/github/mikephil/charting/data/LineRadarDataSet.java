@@ -62,6 +62,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
     public void setFillColor(int color) {
         mFillColor = color;
         mFillDrawable = null;
+        mStyleVersion++;
     }
 
     @Override
@@ -77,6 +78,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
     @TargetApi(18)
     public void setFillDrawable(Drawable drawable) {
         this.mFillDrawable = drawable;
+        mStyleVersion++;
     }
 
     @Override
@@ -92,6 +94,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
      */
     public void setFillAlpha(int alpha) {
         mFillAlpha = alpha;
+        mStyleVersion++;
     }
 
     /**
@@ -107,6 +110,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
         if (width > 10.0f)
             width = 10.0f;
         mLineWidth = Utils.convertDpToPixel(width);
+        mStyleVersion++;
     }
 
     @Override
@@ -117,6 +121,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
     @Override
     public void setDrawFilled(boolean filled) {
         mDrawFilled = filled;
+        mStyleVersion++;
     }
 
     @Override
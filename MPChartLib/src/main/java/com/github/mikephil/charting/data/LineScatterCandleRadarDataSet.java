@@ -33,6 +33,7 @@ public abstract class LineScatterCandleRadarDataSet<T extends Entry> extends Bar
      */
     public void setDrawHorizontalHighlightIndicator(boolean enabled) {
         this.mDrawHorizontalHighlightIndicator = enabled;
+        mStyleVersion++;
     }
 
     /**
@@ -41,6 +42,7 @@ public abstract class LineScatterCandleRadarDataSet<T extends Entry> extends Bar
      */
     public void setDrawVerticalHighlightIndicator(boolean enabled) {
         this.mDrawVerticalHighlightIndicator = enabled;
+        mStyleVersion++;
     }
 
     /**
@@ -68,6 +70,7 @@ public abstract class LineScatterCandleRadarDataSet<T extends Entry> extends Bar
      */
     public void setHighlightLineWidth(float width) {
         mHighlightLineWidth = Utils.convertDpToPixel(width);
+        mStyleVersion++;
     }
 
     @Override
@@ -86,6 +89,7 @@ public abstract class LineScatterCandleRadarDataSet<T extends Entry> extends Bar
         mHighlightDashPathEffect = new DashPathEffect(new float[] {
                 lineLength, spaceLength
         }, phase);
+        mStyleVersion++;
     }
 
     /**
@@ -93,6 +97,7 @@ public abstract class LineScatterCandleRadarDataSet<T extends Entry> extends Bar
      */
     public void disableDashedHighlightLine() {
         mHighlightDashPathEffect = null;
+        mStyleVersion++;
     }
 
     /**
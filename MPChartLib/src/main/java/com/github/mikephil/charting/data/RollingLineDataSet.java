@@ -0,0 +1,676 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * LineDataSet with a fixed capacity for real-time charts, backed by a circular buffer of
+ * primitive x- and y-values. Appending a value to a full DataSet evicts the oldest value, both in
+ * O(1). The y-range is maintained incrementally with two monotonic queues, so appending and
+ * evicting never requires rescanning the values. The x-values have to be appended in ascending
+ * order. Entry objects are created on demand and not retained, like in FloatArrayLineDataSet.
+ *
+ * After appending, call notifyDataSetTailChanged() on the chart instead of
+ * notifyDataSetChanged() to skip the work that is not needed for values that were only
+ * appended or evicted.
+ */
+public class RollingLineDataSet extends LineDataSet {
+
+    /**
+     * the circular buffers holding the values, the oldest value is at mHead
+     */
+    protected float[] mXValues;
+    protected float[] mYValues;
+
+    /**
+     * buffer position of the oldest value
+     */
+    protected int mHead = 0;
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mCount = 0;
+
+    /**
+     * monotonic queues of buffer positions (circular as well): the y-values of mMinQueue are
+     * increasing from front to back, the ones of mMaxQueue decreasing, the front holds the
+     * position of the lowest (highest) y-value
+     */
+    private int[] mMinQueue;
+    private int mMinFront = 0;
+    private int mMinSize = 0;
+
+    private int[] mMaxQueue;
+    private int mMaxFront = 0;
+    private int mMaxSize = 0;
+
+    /**
+     * Creates a new, empty RollingLineDataSet that holds at most capacity values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public RollingLineDataSet(int capacity, String label) {
+        super(null, label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity must be at least 1, was " + capacity + ".");
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mMinQueue = new int[capacity];
+        mMaxQueue = new int[capacity];
+        mEntries = new EntryListView();
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if the DataSet holds as many values as its capacity allows, the next value
+     * that is appended evicts the oldest one.
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return mCount == mXValues.length;
+    }
+
+    /**
+     * Appends a value to the end of the DataSet, evicting the oldest value if the DataSet is full.
+     * The x-value must not be lower than the currently highest x-value. O(1) amortized.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        if (mCount > 0 && x < getX(mCount - 1))
+            throw new IllegalArgumentException("The x-value " + x
+                    + " is lower than the highest x-value of the DataSet.");
+
+        if (isFull()) {
+            evictFirst();
+            removeFirstLevelOfDetail(1);
+        }
+
+        final int pos = position(mCount);
+
+        mXValues[pos] = x;
+        mYValues[pos] = y;
+        mCount++;
+
+        offer(pos);
+        updateMinMax();
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.add(y, y);
+
+        onValuesChanged();
+    }
+
+    /**
+     * Appends the first count values of the given arrays, evicting the oldest values if the
+     * DataSet is full. The min and max values and the simplified versions are updated once for
+     * all values. The x-values must be sorted in ascending order and must not be lower than the
+     * currently highest x-value, otherwise nothing is added.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     * @throws IllegalArgumentException if an x-value is out of order
+     */
+    public void addEntries(float[] xValues, float[] yValues, int count) {
+
+        float last = mCount > 0 ? getX(mCount - 1) : Float.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < count; i++) {
+
+            if (xValues[i] < last)
+                throw new IllegalArgumentException("The x-value " + xValues[i]
+                        + " is lower than the previous x-value " + last + ".");
+
+            last = xValues[i];
+        }
+
+        if (count <= 0)
+            return;
+
+        int evicted = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            if (isFull()) {
+                evictFirst();
+                evicted++;
+            }
+
+            final int pos = position(mCount);
+
+            mXValues[pos] = xValues[i];
+            mYValues[pos] = yValues[i];
+            mCount++;
+
+            offer(pos);
+
+            if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+                mMinMaxIndex.add(yValues[i], yValues[i]);
+        }
+
+        if (evicted > 0)
+            removeFirstLevelOfDetail(evicted);
+
+        updateMinMax();
+
+        onValuesChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    /**
+     * Appends the given Entry, or inserts it at its sorted position if its x-value is lower than
+     * the highest x-value. Inserting (unlike appending) is O(n).
+     *
+     * @param e
+     */
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mCount == 0 || getX(mCount - 1) <= e.getX()) {
+            addEntry(e.getX(), e.getY());
+            return;
+        }
+
+        if (isFull())
+            evictFirst();
+
+        // find the first index with an x-value > x
+        int index = 0;
+        int high = mCount;
+
+        while (index < high) {
+            int m = (index + high) >>> 1;
+
+            if (getX(m) <= e.getX())
+                index = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = mCount; i > index; i--) {
+            final int to = position(i);
+            final int from = position(i - 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        final int pos = position(index);
+        mXValues[pos] = e.getX();
+        mYValues[pos] = e.getY();
+        mCount++;
+
+        calcMinMax();
+    }
+
+    /**
+     * Removes the oldest value. O(1).
+     *
+     * @return
+     */
+    @Override
+    public boolean removeFirst() {
+
+        if (mCount == 0)
+            return false;
+
+        evictFirst();
+        updateMinMax();
+
+        onValuesChanged();
+        removeFirstLevelOfDetail(1);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    /**
+     * Removes the value at the given index. Removing the oldest value is O(1), any other value O(n).
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public boolean removeEntry(int index) {
+
+        return removeEntries(index, index + 1);
+    }
+
+    /**
+     * Removes the values from index from (inclusive) to index to (exclusive). Removing the oldest
+     * values is O(1) per value, anything else O(n).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    @Override
+    public boolean removeEntries(int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mCount);
+
+        if (from >= to)
+            return false;
+
+        if (from == 0) {
+
+            for (int i = 0; i < to; i++) {
+                evictFirst();
+            }
+
+            updateMinMax();
+
+            onValuesChanged();
+            removeFirstLevelOfDetail(to);
+
+            return true;
+        }
+
+        final int removed = to - from;
+
+        for (int i = from; i < mCount - removed; i++) {
+            final int dst = position(i);
+            final int src = position(i + removed);
+            mXValues[dst] = mXValues[src];
+            mYValues[dst] = mYValues[src];
+        }
+
+        mCount -= removed;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    /**
+     * Appends all given entries, evicting the oldest values if the capacity is exceeded.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntries(Collection<? extends Entry> entries) {
+
+        if (entries == null)
+            return;
+
+        for (Entry e : entries) {
+            addEntry(e.getX(), e.getY());
+        }
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces all values of this DataSet with the values of the given entries (sorted by
+     * x-value). If there are more entries than the capacity allows, only the newest are kept.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mHead = 0;
+        mCount = 0;
+
+        if (entries != null) {
+
+            final int from = Math.max(entries.size() - mXValues.length, 0);
+
+            for (int i = from; i < entries.size(); i++) {
+                Entry e = entries.get(i);
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        invalidateMinMaxIndex();
+        onValuesChanged();
+        invalidateLevelOfDetail();
+
+        // called by the super constructor before the buffers are set
+        if (mXValues == null)
+            return;
+
+        mMinFront = mMinSize = 0;
+        mMaxFront = mMaxSize = 0;
+
+        for (int i = 0; i < mCount; i++) {
+            offer(position(i));
+        }
+
+        updateMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (indexTo < indexFrom) return;
+
+        // all values visible, the queues already know the range
+        if (indexFrom == 0 && indexTo == mCount - 1) {
+            updateMinMax();
+            return;
+        }
+
+        if (mMinMaxIndex != null) {
+
+            if (mMinMaxIndexDirty)
+                buildMinMaxIndex();
+
+            mYMin = mMinMaxIndex.getMin(indexFrom, indexTo);
+            mYMax = mMinMaxIndex.getMax(indexFrom, indexTo);
+            return;
+        }
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            final float y = getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    /**
+     * Enables / disables the min/max range index. The y-range of all values is always resolved
+     * from the monotonic queues, the index resolves the y-range if only some values are visible
+     * in O(log n) instead of scanning them. Appending and evicting values keeps the index up to
+     * date in O(log n), inserting or removing values elsewhere causes a rebuild on the next query.
+     * Default: false
+     *
+     * @param enabled
+     */
+    @Override
+    public void setMinMaxIndexEnabled(boolean enabled) {
+
+        if (enabled && mMinMaxIndex == null) {
+            mMinMaxIndex = new MinMaxSegmentTree(mXValues.length);
+            mMinMaxIndexDirty = true;
+        } else if (!enabled) {
+            mMinMaxIndex = null;
+        }
+    }
+
+    @Override
+    protected void buildMinMaxIndex() {
+
+        mMinMaxIndex.clear();
+
+        for (int i = 0; i < mCount; i++) {
+            final float y = getY(i);
+            mMinMaxIndex.add(y, y);
+        }
+
+        mMinMaxIndexDirty = false;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXValues[position(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYValues[position(index)];
+    }
+
+    /**
+     * Creates a new Entry object for the value at the given index (0 is the oldest value). The
+     * returned Entry is not backed by this DataSet, changes made to it are not reflected in the chart.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        final int pos = position(index);
+
+        return new Entry(mXValues[pos], mYValues[pos]);
+    }
+
+    /**
+     * Returns the index of the first value that equals the x- and y-value of the given Entry,
+     * -1 if there is none. Since no Entry objects are retained, values are compared instead of
+     * object identity.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null || mCount == 0)
+            return -1;
+
+        final float x = e.getX();
+        final float y = e.getY();
+
+        // find the first index with an x-value >= x
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (getX(m) < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = low; i < mCount && getX(i) == x; i++) {
+            if (getY(i) == y)
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) >= 0;
+    }
+
+    /**
+     * Returns a read-only view of the values of this DataSet as Entry objects, from the oldest to
+     * the newest. Entries are created lazily on access.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getEntries() {
+        return mEntries;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        RollingLineDataSet copied = new RollingLineDataSet(mXValues.length, getLabel());
+
+        for (int i = 0; i < mCount; i++) {
+            copied.addEntry(getX(i), getY(i));
+        }
+
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Returns the buffer position of the value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    protected int position(int index) {
+        final int pos = mHead + index;
+        return pos >= mXValues.length ? pos - mXValues.length : pos;
+    }
+
+    /**
+     * Removes the oldest value without updating the min and max values.
+     */
+    private void evictFirst() {
+
+        final int capacity = mXValues.length;
+
+        if (mMinSize > 0 && mMinQueue[mMinFront] == mHead) {
+            mMinFront = (mMinFront + 1) % capacity;
+            mMinSize--;
+        }
+
+        if (mMaxSize > 0 && mMaxQueue[mMaxFront] == mHead) {
+            mMaxFront = (mMaxFront + 1) % capacity;
+            mMaxSize--;
+        }
+
+        mHead = (mHead + 1) % capacity;
+        mCount--;
+
+        if (mMinMaxIndex != null && !mMinMaxIndexDirty)
+            mMinMaxIndex.removeFirst();
+    }
+
+    /**
+     * Adds the newest value (at the given buffer position) to the monotonic queues. Values
+     * that can no longer become the minimum (maximum) before they are evicted are dropped.
+     *
+     * @param pos
+     */
+    private void offer(int pos) {
+
+        final float y = mYValues[pos];
+
+        if (Float.isNaN(y))
+            return;
+
+        final int capacity = mXValues.length;
+
+        while (mMinSize > 0 && mYValues[mMinQueue[(mMinFront + mMinSize - 1) % capacity]] >= y)
+            mMinSize--;
+
+        mMinQueue[(mMinFront + mMinSize) % capacity] = pos;
+        mMinSize++;
+
+        while (mMaxSize > 0 && mYValues[mMaxQueue[(mMaxFront + mMaxSize - 1) % capacity]] <= y)
+            mMaxSize--;
+
+        mMaxQueue[(mMaxFront + mMaxSize) % capacity] = pos;
+        mMaxSize++;
+    }
+
+    /**
+     * Sets the min and max values from the ends of the buffer and the fronts of the queues.
+     */
+    private void updateMinMax() {
+
+        if (mCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+            return;
+        }
+
+        mXMin = mXValues[mHead];
+        mXMax = mXValues[position(mCount - 1)];
+
+        mYMin = mMinSize > 0 ? mYValues[mMinQueue[mMinFront]] : Float.MAX_VALUE;
+        mYMax = mMaxSize > 0 ? mYValues[mMaxQueue[mMaxFront]] : -Float.MAX_VALUE;
+    }
+
+    /**
+     * Read-only List view on the values, used as mEntries so that all List based methods of the
+     * super classes keep working.
+     */
+    private class EntryListView extends AbstractList<Entry> {
+
+        @Override
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return mCount;
+        }
+    }
+}
@@ -1,102 +1,121 @@
 
 package com.github.mikephil.charting.data.filter;
 
-import android.annotation.TargetApi;
-import android.os.Build;
-
 import java.util.Arrays;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
  * http://en.wikipedia.org/wiki/Ramer�Douglas�Peucker_algorithm
  *
+ * The reduction is done iteratively with an explicit stack, no temporary point arrays are
+ * created while reducing.
+ *
  * @author Philipp Baldauf & Phliipp Jahoda
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
-    public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
+    /**
+     * stack of (start, end) index pairs that still need to be processed
+     */
+    private int[] mStack = new int[64];
 
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+    public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
+        int pointCount = points.length / 2;
+        boolean[] keep = new boolean[pointCount];
 
-        for (int i = 2; i < points.length - 2; i += 2) {
+        int keptCount = reduceWithDouglasPeucker(points, pointCount, tolerance, keep);
 
-            float distance = line.distance(points[i], points[i + 1]);
+        float[] reduced = new float[keptCount * 2];
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
+        for (int i = 0, j = 0; i < pointCount; i++) {
+            if (keep[i]) {
+                reduced[j++] = points[i * 2];
+                reduced[j++] = points[i * 2 + 1];
             }
         }
 
-        if (greatestDistance > tolerance) {
-
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
-
-            float[] result1 = reduced1;
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
-
-            return concat(result1, result2);
-        } else {
-            return line.getPoints();
-        }
+        return reduced;
     }
 
     /**
-     * Combine arrays.
+     * Reduces the given polyline and marks the points that are kept in the provided keep array.
      *
-     * @param arrays
-     * @return
+     * @param points     the points of the polyline (x, y, x, y, ...)
+     * @param pointCount the number of points to use from the points array
+     * @param tolerance  points closer to the simplified line than this are dropped
+     * @param keep       receives true for every point that is kept, at least of size pointCount
+     * @return the number of points that are kept
      */
-    float[] concat(float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
-        }
-        float[] result = new float[length];
-        int pos = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[pos] = element;
-                pos++;
-            }
+    public int reduceWithDouglasPeucker(float[] points, int pointCount, float tolerance, boolean[] keep) {
+
+        if (pointCount <= 2) {
+            Arrays.fill(keep, 0, pointCount, true);
+            return pointCount;
         }
-        return result;
-    }
 
-    private class Line {
+        Arrays.fill(keep, 0, pointCount, false);
 
-        private float[] points;
+        // first and last always stay
+        keep[0] = true;
+        keep[pointCount - 1] = true;
 
-        private float sxey;
-        private float exsy;
+        int keptCount = 2;
+        int stackSize = 0;
 
-        private float dx;
-        private float dy;
+        mStack[stackSize++] = 0;
+        mStack[stackSize++] = pointCount - 1;
 
-        private float length;
+        while (stackSize > 0) {
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+            final int end = mStack[--stackSize];
+            final int start = mStack[--stackSize];
 
-            points = new float[]{x1, y1, x2, y2};
-        }
+            if (end <= start + 1)
+                continue;
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
-        }
+            final float x1 = points[start * 2], y1 = points[start * 2 + 1];
+            final float x2 = points[end * 2], y2 = points[end * 2 + 1];
+
+            final float dx = x1 - x2;
+            final float dy = y1 - y2;
+            final float sxey = x1 * y2;
+            final float exsy = x2 * y1;
+            final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            int greatestIndex = 0;
+            float greatestDistance = 0f;
+
+            for (int i = start + 1; i < end; i++) {
+
+                final float x = points[i * 2];
+                final float y = points[i * 2 + 1];
+
+                final float distance = length == 0f
+                        ? (float) Math.hypot(x - x1, y - y1)
+                        : Math.abs(dy * x - dx * y + sxey - exsy) / length;
 
-        public float[] getPoints() {
-            return points;
+                if (distance > greatestDistance) {
+                    greatestDistance = distance;
+                    greatestIndex = i;
+                }
+            }
+
+            if (greatestDistance > tolerance) {
+
+                keep[greatestIndex] = true;
+                keptCount++;
+
+                if (mStack.length < stackSize + 4)
+                    mStack = Arrays.copyOf(mStack, mStack.length * 2);
+
+                mStack[stackSize++] = start;
+                mStack[stackSize++] = greatestIndex;
+                mStack[stackSize++] = greatestIndex;
+                mStack[stackSize++] = end;
+            }
         }
+
+        return keptCount;
     }
 }
@@ -1,4 +1,3 @@
-
 package com.github.mikephil.charting.data.filter;
 
 import java.util.ArrayList;
@@ -25,11 +24,15 @@ public class ApproximatorN
 
         int currentStoredPoints = 2;
 
+        // sorted by distance, the line with the greatest distance is at the end
         ArrayList<Line> queue = new ArrayList<>();
         Line line = new Line(0, pointCount - 1, points);
-        queue.add(line);
 
-        do {
+        if (line.index > 0)
+            queue.add(line);
+
+        while (!queue.isEmpty()) {
+
             line = queue.remove(queue.size() - 1);
 
             // store the key
@@ -38,7 +41,7 @@ public class ApproximatorN
             // check point count tolerance
             currentStoredPoints += 1;
 
-            if (currentStoredPoints == resultCount)
+            if (currentStoredPoints >= resultCount)
                 break;
 
             // split the polyline at the key and recurse
@@ -53,11 +56,11 @@ public class ApproximatorN
                 int insertionIndex = insertionIndex(right, queue);
                 queue.add(insertionIndex, right);
             }
-        } while (queue.isEmpty());
+        }
 
         float[] reducedEntries = new float[currentStoredPoints * 2];
 
-        for (int i = 0, i2 = 0, r2 = 0; i < currentStoredPoints; i++, r2 += 2) {
+        for (int i = 0, i2 = 0, r2 = 0; i < pointCount; i++, r2 += 2) {
             if (keep[i]) {
                 reducedEntries[i2++] = points[r2];
                 reducedEntries[i2++] = points[r2 + 1];
@@ -68,18 +71,21 @@ public class ApproximatorN
     }
 
     private static float distanceToLine(
-            float ptX, float ptY, float[]
-            fromLinePoint1, float[] fromLinePoint2) {
-        float dx = fromLinePoint2[0] - fromLinePoint1[0];
-        float dy = fromLinePoint2[1] - fromLinePoint1[1];
+            float ptX, float ptY,
+            float fromX, float fromY, float toX, float toY) {
+        float dx = toX - fromX;
+        float dy = toY - fromY;
 
         float dividend = Math.abs(
                 dy * ptX -
                         dx * ptY -
-                        fromLinePoint1[0] * fromLinePoint2[1] +
-                        fromLinePoint2[0] * fromLinePoint1[1]);
+                        fromX * toY +
+                        toX * fromY);
         double divisor = Math.sqrt(dx * dx + dy * dy);
 
+        if (divisor == 0)
+            return (float) Math.hypot(ptX - fromX, ptY - fromY);
+
         return (float)(dividend / divisor);
     }
 
@@ -94,15 +100,15 @@ public class ApproximatorN
             this.start = start;
             this.end = end;
 
-            float[] startPoint = new float[]{points[start * 2], points[start * 2 + 1]};
-            float[] endPoint = new float[]{points[end * 2], points[end * 2 + 1]};
-
             if (end <= start + 1) return;
 
+            final float startX = points[start * 2], startY = points[start * 2 + 1];
+            final float endX = points[end * 2], endY = points[end * 2 + 1];
+
             for (int i = start + 1, i2 = i * 2; i < end; i++, i2 += 2) {
                 float distance = distanceToLine(
                         points[i2], points[i2 + 1],
-                        startPoint, endPoint);
+                        startX, startY, endX, endY);
 
                 if (distance > this.distance) {
                     this.index = i;
@@ -111,10 +117,6 @@ public class ApproximatorN
             }
         }
 
-        boolean equals(final Line rhs) {
-            return (start == rhs.start) && (end == rhs.end) && index == rhs.index;
-        }
-
         boolean lessThan(final Line rhs) {
             return distance < rhs.distance;
         }
@@ -124,14 +126,11 @@ public class ApproximatorN
         int min = 0;
         int max = queue.size();
 
-        while (!queue.isEmpty()) {
+        while (min < max) {
             int midIndex = min + (max - min) / 2;
             Line midLine = queue.get(midIndex);
 
-            if (midLine.equals(line)) {
-                return midIndex;
-            }
-            else if (line.lessThan(midLine)) {
+            if (line.lessThan(midLine)) {
                 // perform search in left half
                 max = midIndex;
             }
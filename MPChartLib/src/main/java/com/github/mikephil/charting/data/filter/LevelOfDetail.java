@@ -0,0 +1,405 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.Arrays;
+
+/**
+ * Holds simplified versions (levels) of the values of a DataSet, reduced with the
+ * Douglas-Peucker algorithm at several tolerances. The tolerances are relative to the x- and
+ * y-range of the DataSet (0.01f means 1% of the range), so a level can be picked for the
+ * current zoom without knowing the chart size in advance. Every level is reduced from the next
+ * finer one, which keeps building cheap and its memory bounded by the size of the DataSet.
+ * Values appended to the end (or removed from the start, see removeFirst(...)) are reduced
+ * incrementally by update(...), any other change requires a rebuild.
+ */
+public class LevelOfDetail {
+
+    /**
+     * the default tolerances, from fine to coarse
+     */
+    public static final float[] DEFAULT_TOLERANCES = new float[]{
+            1f / 262144f, 1f / 65536f, 1f / 16384f, 1f / 4096f, 1f / 1024f
+    };
+
+    /**
+     * the tolerances of the levels, from fine to coarse
+     */
+    private float[] mTolerances;
+
+    /**
+     * the maximum deviation in pixels a level may have from the full DataSet to be used
+     */
+    private float mMaxPixelError = 0.5f;
+
+    private float[][] mXValues;
+    private float[][] mYValues;
+    private int[] mCounts;
+
+    /**
+     * the state of the DataSet the levels were built from
+     */
+    private boolean mValid = false;
+    private int mEntryCount;
+    private float mXMin, mXMax, mYMin, mYMax;
+
+    /**
+     * the origin and size of the relative coordinates, from the last full build
+     */
+    private float mOriginX, mOriginY, mXRange, mYRange;
+
+    /**
+     * the number of values at the last full build, and the number of values appended or removed
+     * since then
+     */
+    private int mBuildCount;
+    private int mChangedCount;
+
+    /**
+     * the number of values removed from the start of the DataSet that are not removed from the
+     * levels yet
+     */
+    private int mRemovedFirst = 0;
+
+    /**
+     * buffers for reducing
+     */
+    private float[] mPoints = new float[0];
+    private float[] mPointsX = new float[0];
+    private float[] mPointsY = new float[0];
+    private boolean[] mKeep = new boolean[0];
+
+    private Approximator mApproximator = new Approximator();
+
+    public LevelOfDetail() {
+        this(DEFAULT_TOLERANCES);
+    }
+
+    /**
+     * @param tolerances the relative tolerances of the levels, sorted from fine to coarse
+     */
+    public LevelOfDetail(float... tolerances) {
+        mTolerances = tolerances.clone();
+        mXValues = new float[tolerances.length][];
+        mYValues = new float[tolerances.length][];
+        mCounts = new int[tolerances.length];
+    }
+
+    /**
+     * Sets the maximum deviation (in pixels) a simplified level may have from the full DataSet
+     * to be picked by selectLevel(...). Default: 0.5f
+     *
+     * @param maxPixelError
+     */
+    public void setMaxPixelError(float maxPixelError) {
+        mMaxPixelError = maxPixelError;
+    }
+
+    public float getMaxPixelError() {
+        return mMaxPixelError;
+    }
+
+    /**
+     * Marks the levels as outdated, they have to be rebuilt before they can be used again.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Returns true if the levels were built from the current state of the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    public boolean isValid(IDataSet set) {
+        return mValid
+                && mEntryCount == set.getEntryCount()
+                && mXMin == set.getXMin() && mXMax == set.getXMax()
+                && mYMin == set.getYMin() && mYMax == set.getYMax();
+    }
+
+    /**
+     * Notifies the levels that the given number of values was removed from the start of the
+     * DataSet, they are removed from the levels on the next update(...).
+     *
+     * @param count
+     */
+    public void removeFirst(int count) {
+        mRemovedFirst += count;
+    }
+
+    /**
+     * Brings the levels up to date with the given DataSet and returns true if any level changed.
+     * Values appended to the end of the DataSet and values removed from its start (see
+     * removeFirst(...)) are reduced incrementally, otherwise the levels are rebuilt. The levels
+     * are also rebuilt once the DataSet changed by more values than it had at the last build, so
+     * that the incremental reductions do not drift too far from a full reduction.
+     *
+     * @param set
+     * @return
+     */
+    public boolean update(IDataSet set) {
+
+        if (isValid(set) && mRemovedFirst == 0)
+            return false;
+
+        final int entryCount = set.getEntryCount();
+        final int retained = mEntryCount - mRemovedFirst;
+
+        if (!mValid
+                || mEntryCount < 3
+                || retained < 2
+                || entryCount < retained
+                || mChangedCount + mRemovedFirst + entryCount - retained > mBuildCount) {
+            build(set);
+            return true;
+        }
+
+        if (mRemovedFirst > 0)
+            removeFirst(set);
+
+        if (entryCount > retained) {
+            append(set, retained - 1, entryCount, true);
+            mChangedCount += entryCount - retained;
+        }
+
+        mEntryCount = entryCount;
+        mXMin = set.getXMin();
+        mXMax = set.getXMax();
+        mYMin = set.getYMin();
+        mYMax = set.getYMax();
+
+        return true;
+    }
+
+    /**
+     * (Re-)builds all levels from the values of the given DataSet.
+     *
+     * @param set
+     */
+    public void build(IDataSet set) {
+
+        mEntryCount = set.getEntryCount();
+        mXMin = set.getXMin();
+        mXMax = set.getXMax();
+        mYMin = set.getYMin();
+        mYMax = set.getYMax();
+        mValid = true;
+
+        mBuildCount = mEntryCount;
+        mChangedCount = 0;
+        mRemovedFirst = 0;
+
+        for (int level = 0; level < mTolerances.length; level++) {
+            mCounts[level] = 0;
+        }
+
+        if (mEntryCount < 3) {
+            for (int level = 0; level < mTolerances.length; level++) {
+                mXValues[level] = null;
+                mYValues[level] = null;
+            }
+            return;
+        }
+
+        mOriginX = mXMin;
+        mOriginY = mYMin;
+        mXRange = mXMax - mXMin > 0f ? mXMax - mXMin : 1f;
+        mYRange = mYMax - mYMin > 0f ? mYMax - mYMin : 1f;
+
+        append(set, 0, mEntryCount, false);
+    }
+
+    /**
+     * Reduces the values of the DataSet from index from (inclusive) to index to (exclusive) and
+     * appends the result to every level. If connected, the value at from is the last value of
+     * every level already and is not appended again.
+     */
+    private void append(IDataSet set, int from, int to, boolean connected) {
+
+        final int count = to - from;
+
+        if (mPointsX.length < count) {
+            mPoints = new float[count * 2];
+            mPointsX = new float[count];
+            mPointsY = new float[count];
+            mKeep = new boolean[count];
+        }
+
+        final float[] points = mPoints;
+        final float[] pointsX = mPointsX;
+        final float[] pointsY = mPointsY;
+        final boolean[] keep = mKeep;
+
+        for (int i = 0; i < count; i++) {
+            pointsX[i] = set.getX(from + i);
+            pointsY[i] = set.getY(from + i);
+            points[i * 2] = (pointsX[i] - mOriginX) / mXRange;
+            points[i * 2 + 1] = (pointsY[i] - mOriginY) / mYRange;
+        }
+
+        int remaining = count;
+
+        for (int level = 0; level < mTolerances.length; level++) {
+
+            mApproximator.reduceWithDouglasPeucker(points, remaining, mTolerances[level], keep);
+
+            // compact the remaining points, the next level is reduced from them
+            int kept = 0;
+
+            for (int i = 0; i < remaining; i++) {
+                if (keep[i]) {
+                    points[kept * 2] = points[i * 2];
+                    points[kept * 2 + 1] = points[i * 2 + 1];
+                    pointsX[kept] = pointsX[i];
+                    pointsY[kept] = pointsY[i];
+                    kept++;
+                }
+            }
+
+            remaining = kept;
+
+            final int skip = connected ? 1 : 0;
+            final int levelCount = mCounts[level];
+
+            ensureCapacity(level, levelCount + remaining - skip);
+
+            System.arraycopy(pointsX, skip, mXValues[level], levelCount, remaining - skip);
+            System.arraycopy(pointsY, skip, mYValues[level], levelCount, remaining - skip);
+
+            mCounts[level] = levelCount + remaining - skip;
+        }
+    }
+
+    /**
+     * Removes the values before the first value of the DataSet from every level. If a level
+     * does not start at the first value afterwards, the first value is inserted.
+     */
+    private void removeFirst(IDataSet set) {
+
+        final float firstX = set.getX(0);
+        final float firstY = set.getY(0);
+
+        for (int level = 0; level < mTolerances.length; level++) {
+
+            final float[] xValues = mXValues[level];
+            final float[] yValues = mYValues[level];
+            final int levelCount = mCounts[level];
+
+            int removed = 0;
+
+            while (removed < levelCount && xValues[removed] < firstX)
+                removed++;
+
+            final boolean insertFirst = removed == levelCount
+                    || xValues[removed] != firstX || yValues[removed] != firstY;
+
+            // the removed values make room for the first value
+            final int offset = insertFirst ? removed - 1 : removed;
+
+            if (offset > 0) {
+                System.arraycopy(xValues, offset, xValues, 0, levelCount - offset);
+                System.arraycopy(yValues, offset, yValues, 0, levelCount - offset);
+            } else if (offset < 0) {
+                ensureCapacity(level, levelCount + 1);
+                System.arraycopy(mXValues[level], 0, mXValues[level], 1, levelCount);
+                System.arraycopy(mYValues[level], 0, mYValues[level], 1, levelCount);
+            }
+
+            if (insertFirst) {
+                mXValues[level][0] = firstX;
+                mYValues[level][0] = firstY;
+            }
+
+            mCounts[level] = levelCount - offset;
+        }
+
+        mChangedCount += mRemovedFirst;
+        mEntryCount -= mRemovedFirst;
+        mRemovedFirst = 0;
+    }
+
+    private void ensureCapacity(int level, int capacity) {
+
+        final float[] xValues = mXValues[level];
+
+        if (xValues != null && xValues.length >= capacity)
+            return;
+
+        final int length = xValues == null ? 0 : xValues.length;
+        final int newCapacity = Math.max(capacity, length + (length >> 1));
+
+        mXValues[level] = xValues == null
+                ? new float[newCapacity] : Arrays.copyOf(xValues, newCapacity);
+        mYValues[level] = mYValues[level] == null
+                ? new float[newCapacity] : Arrays.copyOf(mYValues[level], newCapacity);
+    }
+
+    /**
+     * Returns the coarsest level that deviates at most about getMaxPixelError() pixels from the full
+     * DataSet, if one x-unit spans scaleX pixels and one y-unit scaleY pixels (the MSCALE_X and
+     * MSCALE_Y values of the value to pixel matrix). Returns -1 if no level is accurate enough or
+     * if no level holds less values than the DataSet.
+     *
+     * @param scaleX the number of pixels per x-unit
+     * @param scaleY the number of pixels per y-unit
+     * @return
+     */
+    public int selectLevel(float scaleX, float scaleY) {
+
+        if (!mValid)
+            return -1;
+
+        // the tolerances are relative to the ranges of the values
+        final float size = Math.max(mXRange * Math.abs(scaleX), mYRange * Math.abs(scaleY));
+
+        for (int level = mTolerances.length - 1; level >= 0; level--) {
+
+            if (mTolerances[level] * size <= mMaxPixelError) {
+                return mCounts[level] > 0 && mCounts[level] < mEntryCount ? level : -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of levels.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        return mTolerances.length;
+    }
+
+    /**
+     * Returns the number of values of the given level.
+     *
+     * @param level
+     * @return
+     */
+    public int getCount(int level) {
+        return mCounts[level];
+    }
+
+    /**
+     * Returns the x-values of the given level, the array may be larger than the number of values.
+     *
+     * @param level
+     * @return
+     */
+    public float[] getXValues(int level) {
+        return mXValues[level];
+    }
+
+    /**
+     * Returns the y-values of the given level, the array may be larger than the number of values.
+     *
+     * @param level
+     * @return
+     */
+    public float[] getYValues(int level) {
+        return mYValues[level];
+    }
+}
@@ -1,13 +1,15 @@
 package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.CharDecimalFormat;
 
 import java.text.DecimalFormat;
 
 /**
  * Created by philipp on 02/06/16.
  */
-public class DefaultAxisValueFormatter implements IAxisValueFormatter
+public class DefaultAxisValueFormatter implements IAxisValueFormatter, ICharFormatter
 {
 
     /**
@@ -15,6 +17,11 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat into char arrays
+     */
+    protected CharDecimalFormat mCharFormat;
+
     /**
      * the number of decimal digits this formatter uses
      */
@@ -37,6 +44,7 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mCharFormat = new CharDecimalFormat(mFormat);
     }
 
     @Override
@@ -45,6 +53,16 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int format(float value, Entry entry, char[] out) {
+
+        // subclasses may override getFormattedValue(...)
+        if (getClass() != DefaultAxisValueFormatter.class)
+            return -1;
+
+        return mCharFormat.format(value, out, 0);
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses or -1, if unspecified.
      *
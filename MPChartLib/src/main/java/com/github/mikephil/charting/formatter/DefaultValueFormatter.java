@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.CharDecimalFormat;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -12,7 +13,7 @@ import java.text.DecimalFormat;
  *
  * @author Philipp Jahoda
  */
-public class DefaultValueFormatter implements IValueFormatter
+public class DefaultValueFormatter implements IValueFormatter, ICharFormatter
 {
 
     /**
@@ -20,6 +21,11 @@ public class DefaultValueFormatter implements IValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat into char arrays
+     */
+    protected CharDecimalFormat mCharFormat;
+
     protected int mDecimalDigits;
 
     /**
@@ -49,6 +55,7 @@ public class DefaultValueFormatter implements IValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mCharFormat = new CharDecimalFormat(mFormat);
     }
 
     @Override
@@ -60,6 +67,16 @@ public class DefaultValueFormatter implements IValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int format(float value, Entry entry, char[] out) {
+
+        // subclasses may override getFormattedValue(...)
+        if (getClass() != DefaultValueFormatter.class)
+            return -1;
+
+        return mCharFormat.format(value, out, 0);
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses.
      *
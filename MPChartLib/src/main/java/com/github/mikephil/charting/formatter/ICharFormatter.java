@@ -0,0 +1,26 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.data.Entry;
+
+/**
+ * Interface for value and axis formatters that can format into a reusable char array instead of
+ * creating a new String for every label. The renderers use it (and Canvas.drawText(char[], ...))
+ * for formatters that implement it, and fall back to the String API of IValueFormatter and
+ * IAxisValueFormatter otherwise, or if format(...) returns -1.
+ *
+ * The result has to be the same as the String returned by getFormattedValue(...).
+ */
+public interface ICharFormatter
+{
+
+    /**
+     * Called when a value is formatted before being drawn. Must not allocate memory.
+     *
+     * @param value the value to be formatted
+     * @param entry the entry the value belongs to, null for axis labels
+     * @param out   the array to write the label to, starting at index 0
+     * @return the number of chars written, or -1 if the value could not be formatted into the
+     * array (e.g. if it is too small), then the String API is used instead
+     */
+    int format(float value, Entry entry, char[] out);
+}
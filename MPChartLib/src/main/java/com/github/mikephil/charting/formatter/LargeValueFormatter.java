@@ -6,6 +6,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -17,7 +18,7 @@ import java.text.DecimalFormat;
  * @author Philipp Jahoda
  * @author Oleksandr Tyshkovets <olexandr.tyshkovets@gmail.com>
  */
-public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
+public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter, ICharFormatter
 {
 
     private String[] mSuffix = new String[]{
@@ -27,8 +28,50 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    /**
+     * true if format(...) produces the same results as the DecimalFormat
+     */
+    private boolean mCharFormatSupported;
+    private char mDecimalSeparator;
+    private String mNegativePrefix;
+
+    /**
+     * values the char formatting is checked with against the DecimalFormat
+     */
+    private static final double[] PROBES = new double[]{
+            0, 12, 3.14159, 1499, 5821, -10500, 7800000, 123456789
+    };
+
+    /**
+     * the powers of ten that are exact in a double
+     */
+    private static final double[] POW_10 = new double[23];
+
+    static {
+        POW_10[0] = 1.0;
+
+        for (int i = 1; i < POW_10.length; i++)
+            POW_10[i] = POW_10[i - 1] * 10.0;
+    }
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mNegativePrefix = mFormat.getNegativePrefix();
+
+        mCharFormatSupported = symbols.getZeroDigit() == '0'
+                && "E".equals(symbols.getExponentSeparator());
+
+        // the significant digits of engineering patterns differ between implementations
+        char[] out = new char[32];
+
+        for (int i = 0; i < PROBES.length && mCharFormatSupported; i++) {
+            int length = makePretty(PROBES[i], out);
+            mCharFormatSupported = length >= 0
+                    && makePretty(PROBES[i]).equals(String.valueOf(out, 0, length));
+        }
     }
 
     /**
@@ -53,6 +96,23 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
         return makePretty(value) + mText;
     }
 
+    // ICharFormatter
+    @Override
+    public int format(float value, Entry entry, char[] out) {
+
+        // subclasses may override getFormattedValue(...)
+        if (!mCharFormatSupported || getClass() != LargeValueFormatter.class)
+            return -1;
+
+        int length = makePretty(value, out);
+
+        if (length < 0 || mText == null || length + mText.length() > out.length)
+            return -1;
+
+        mText.getChars(0, mText.length(), out, length);
+        return length + mText.length();
+    }
+
     /**
      * Set an appendix text to be added at the end of the formatted value.
      *
@@ -97,6 +157,151 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
         return r;
     }
 
+    /**
+     * Same as makePretty(double), but writes the result into the given array without
+     * allocating. Returns the number of chars written, or -1 if the number has to be formatted
+     * with makePretty(double) (e.g. numbers below 1, whose exponent is negative).
+     */
+    private int makePretty(double number, char[] out) {
+
+        if (Double.isNaN(number) || Double.isInfinite(number))
+            return -1;
+
+        final boolean negative = number < 0.0 || (number == 0.0 && 1.0 / number < 0.0);
+        final double abs = Math.abs(number);
+
+        // the DecimalFormat rounds to 3 significant digits and uses an exponent that is a
+        // multiple of 3 (engineering notation)
+        int digits = 0;
+        int exponent = 0;
+        int integerDigits = 1;
+
+        if (abs != 0.0) {
+
+            if (abs < 1.0)
+                return -1;
+
+            int e = (int) Math.floor(Math.log10(abs));
+
+            // log10 may be off by one close to powers of ten
+            if (abs >= pow10(e + 1))
+                e++;
+            else if (abs < pow10(e))
+                e--;
+
+            // the value scaled to 3 digits before the decimal point
+            final double scaled = e < 2 ? abs * POW_10[2 - e] : abs / pow10(e - 2);
+
+            final double floor = Math.floor(scaled);
+            final double rest = scaled - floor;
+
+            // the rounding of exact middle values in engineering notation differs between
+            // implementations, and with the larger powers of ten (which are not exact) the
+            // middle cannot be told apart
+            if (rest == 0.5
+                    || (e - 2 >= POW_10.length && Math.abs(rest - 0.5) < 4.0 * Math.ulp(scaled)))
+                return -1;
+
+            digits = (int) floor + (rest > 0.5 ? 1 : 0);
+
+            if (digits == 1000) {
+                digits = 100;
+                e++;
+            }
+
+            exponent = e - e % 3;
+            integerDigits = e - exponent + 1;
+        } else if (negative) {
+            return -1;
+        }
+
+        final int suffixIndex = exponent / 3;
+
+        // makePretty(double) fails for these
+        if (exponent > 99 || suffixIndex >= mSuffix.length || mSuffix[suffixIndex] == null)
+            return -1;
+
+        final String suffix = mSuffix[suffixIndex];
+
+        // replaceAll(...) treats these as special characters
+        if (suffix.indexOf('$') >= 0 || suffix.indexOf('\\') >= 0)
+            return -1;
+
+        final int prefixLength = negative ? mNegativePrefix.length() : 0;
+
+        if (prefixLength + 4 + suffix.length() > out.length)
+            return -1;
+
+        int length = 0;
+
+        if (negative) {
+            mNegativePrefix.getChars(0, prefixLength, out, 0);
+            length = prefixLength;
+        }
+
+        // the 3 significant digits, the integer digits first, then the fraction without
+        // trailing zeros
+        final char d0 = (char) ('0' + digits / 100);
+        final char d1 = (char) ('0' + digits / 10 % 10);
+        final char d2 = (char) ('0' + digits % 10);
+
+        out[length++] = d0;
+
+        if (integerDigits > 1)
+            out[length++] = d1;
+
+        if (integerDigits > 2)
+            out[length++] = d2;
+
+        if (integerDigits == 1 && (d1 != '0' || d2 != '0')) {
+            out[length++] = mDecimalSeparator;
+            out[length++] = d1;
+
+            if (d2 != '0')
+                out[length++] = d2;
+
+        } else if (integerDigits == 2 && d2 != '0') {
+            out[length++] = mDecimalSeparator;
+            out[length++] = d2;
+        }
+
+        suffix.getChars(0, suffix.length(), out, length);
+        length += suffix.length();
+
+        // shorten like makePretty(double) does
+        while (length > mMaxLength || isNumberWithDotAndLetter(out, length)) {
+
+            if (length < 2)
+                return -1;
+
+            out[length - 2] = out[length - 1];
+            length--;
+        }
+
+        return length;
+    }
+
+    private static double pow10(int exponent) {
+        return exponent >= 0 && exponent < POW_10.length ? POW_10[exponent] : Math.pow(10.0, exponent);
+    }
+
+    /**
+     * Returns true if the chars match the regex "[0-9]+\\.[a-z]".
+     */
+    private static boolean isNumberWithDotAndLetter(char[] chars, int length) {
+
+        if (length < 3 || chars[length - 2] != '.'
+                || chars[length - 1] < 'a' || chars[length - 1] > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+            if (chars[i] < '0' || chars[i] > '9')
+                return false;
+        }
+
+        return true;
+    }
+
     public int getDecimalDigits() {
         return 0;
     }
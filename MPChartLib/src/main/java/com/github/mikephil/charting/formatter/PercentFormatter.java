@@ -3,6 +3,7 @@ package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.CharDecimalFormat;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -13,13 +14,21 @@ import java.text.DecimalFormat;
  *
  * @author Philipp Jahoda
  */
-public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
+public class PercentFormatter implements IValueFormatter, IAxisValueFormatter, ICharFormatter
 {
 
+    private static final String SUFFIX = " %";
+
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat into char arrays
+     */
+    protected CharDecimalFormat mCharFormat;
+
     public PercentFormatter() {
         mFormat = new DecimalFormat("###,###,##0.0");
+        mCharFormat = new CharDecimalFormat(mFormat);
     }
 
     /**
@@ -29,18 +38,36 @@ public class PercentFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public PercentFormatter(DecimalFormat format) {
         this.mFormat = format;
+        this.mCharFormat = new CharDecimalFormat(format);
     }
 
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return mFormat.format(value) + " %";
+        return mFormat.format(value) + SUFFIX;
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(float value, AxisBase axis) {
-        return mFormat.format(value) + " %";
+        return mFormat.format(value) + SUFFIX;
+    }
+
+    // ICharFormatter
+    @Override
+    public int format(float value, Entry entry, char[] out) {
+
+        // subclasses may override getFormattedValue(...)
+        if (getClass() != PercentFormatter.class)
+            return -1;
+
+        int length = mCharFormat.format(value, out, 0);
+
+        if (length < 0 || length + SUFFIX.length() > out.length)
+            return -1;
+
+        SUFFIX.getChars(0, SUFFIX.length(), out, length);
+        return length + SUFFIX.length();
     }
 
     public int getDecimalDigits() {
@@ -2,6 +2,7 @@ package com.github.mikephil.charting.formatter;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.CharDecimalFormat;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
@@ -12,7 +13,7 @@ import java.text.DecimalFormat;
  * A formatter specifically for stacked BarChart that allows to specify whether the all stack values
  * or just the top value should be drawn.
  */
-public class StackedValueFormatter implements IValueFormatter
+public class StackedValueFormatter implements IValueFormatter, ICharFormatter
 {
 
     /**
@@ -27,6 +28,11 @@ public class StackedValueFormatter implements IValueFormatter
 
     private DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat into char arrays
+     */
+    private CharDecimalFormat mCharFormat;
+
     /**
      * Constructor.
      *
@@ -46,6 +52,7 @@ public class StackedValueFormatter implements IValueFormatter
         }
 
         this.mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        this.mCharFormat = new CharDecimalFormat(mFormat);
     }
 
     @Override
@@ -72,4 +79,35 @@ public class StackedValueFormatter implements IValueFormatter
         // return the "proposed" value
         return mFormat.format(value) + mAppendix;
     }
+
+    @Override
+    public int format(float value, Entry entry, char[] out) {
+
+        // subclasses may override getFormattedValue(...)
+        if (getClass() != StackedValueFormatter.class)
+            return -1;
+
+        if (!mDrawWholeStack && entry instanceof BarEntry) {
+
+            BarEntry barEntry = (BarEntry) entry;
+            float[] vals = barEntry.getYVals();
+
+            if (vals != null) {
+
+                // only the top of the stack shows the "sum" across all stack values
+                if (vals[vals.length - 1] == value)
+                    value = barEntry.getY();
+                else
+                    return 0;
+            }
+        }
+
+        int length = mCharFormat.format(value, out, 0);
+
+        if (length < 0 || mAppendix == null || length + mAppendix.length() > out.length)
+            return -1;
+
+        mAppendix.getChars(0, mAppendix.length(), out, length);
+        return length + mAppendix.length();
+    }
 }
@@ -1,12 +1,16 @@
 package com.github.mikephil.charting.highlight;
 
+import android.graphics.Matrix;
+
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.KdTree;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +31,13 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * buffers for looking up the closest entry through the spatial index of a DataSet
+     */
+    protected MPPointD mTouchValueBuffer = MPPointD.getInstance(0, 0);
+    protected float[] mMatrixValueBuffer = new float[9];
+    protected float[] mPixelBuffer = new float[2];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -142,12 +153,78 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
+            KdTree index = getSpatialIndex(dataSet);
+
+            if (index != null) {
+
+                Highlight high = buildClosestHighlight(dataSet, index, i, x, y);
+
+                if (high != null)
+                    mHighlightBuffer.add(high);
+
+                continue;
+            }
+
             mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
         }
 
         return mHighlightBuffer;
     }
 
+    /**
+     * Returns the spatial index that should be used to find the entry of the given DataSet closest
+     * to a touch position, null if the entries at the closest x-value should be used instead.
+     *
+     * @param set
+     * @return
+     */
+    protected KdTree getSpatialIndex(IDataSet set) {
+        return set.getSpatialIndex();
+    }
+
+    /**
+     * Returns a Highlight for the entry of the given DataSet that is closest to the touch position
+     * in pixels, looked up through the spatial index of the DataSet. Returns null if no entry is
+     * within the max highlight distance of the chart. Apart from the returned Highlight, this
+     * does not allocate.
+     *
+     * @param set
+     * @param index        the spatial index of the DataSet
+     * @param dataSetIndex
+     * @param x            touch position
+     * @param y            touch position
+     * @return
+     */
+    protected Highlight buildClosestHighlight(IDataSet set, KdTree index, int dataSetIndex, float x, float y) {
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        trans.getValuesByTouchPoint(x, y, mTouchValueBuffer);
+        trans.getSnapshot().getValues(mMatrixValueBuffer);
+
+        // the pixel size of one unit per axis turns value distances into pixel distances
+        int entryIndex = index.nearest(
+                (float) mTouchValueBuffer.x, (float) mTouchValueBuffer.y,
+                mMatrixValueBuffer[Matrix.MSCALE_X], mMatrixValueBuffer[Matrix.MSCALE_Y],
+                mChart.getMaxHighlightDistance());
+
+        if (entryIndex < 0)
+            return null;
+
+        final float entryX = set.getX(entryIndex);
+        final float entryY = set.getY(entryIndex);
+
+        mPixelBuffer[0] = entryX;
+        mPixelBuffer[1] = entryY;
+
+        trans.pointValuesToPixel(mPixelBuffer);
+
+        return new Highlight(
+                entryX, entryY,
+                mPixelBuffer[0], mPixelBuffer[1],
+                dataSetIndex, set.getAxisDependency());
+    }
+
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
      *
@@ -184,6 +261,8 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
                     e.getX(), e.getY(),
                     (float) pixels.x, (float) pixels.y,
                     dataSetIndex, set.getAxisDependency()));
+
+            MPPointD.recycleInstance(pixels);
         }
 
         return highlights;
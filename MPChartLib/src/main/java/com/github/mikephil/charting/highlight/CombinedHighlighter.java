@@ -7,6 +7,7 @@ import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.KdTree;
 
 import java.util.List;
 
@@ -57,6 +58,20 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
+                    KdTree index = getSpatialIndex(dataSet);
+
+                    if (index != null) {
+
+                        Highlight high = buildClosestHighlight(dataSet, index, j, x, y);
+
+                        if (high != null) {
+                            high.setDataIndex(i);
+                            mHighlightBuffer.add(high);
+                        }
+
+                        continue;
+                    }
+
                     List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
                     for (Highlight high : highs)
                     {
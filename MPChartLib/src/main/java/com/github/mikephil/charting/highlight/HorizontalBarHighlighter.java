@@ -6,6 +6,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.KdTree;
 import com.github.mikephil.charting.utils.MPPointD;
 
 import java.util.ArrayList;
@@ -73,11 +74,19 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 					e.getX(), e.getY(),
 					(float) pixels.x, (float) pixels.y,
 					dataSetIndex, set.getAxisDependency()));
+
+			MPPointD.recycleInstance(pixels);
 		}
 
 		return highlights;
 	}
 
+	@Override
+	protected KdTree getSpatialIndex(IDataSet set) {
+		// the x-values run vertically, the spatial lookup assumes horizontal x-values
+		return null;
+	}
+
 	@Override
 	protected float getDistance(float x1, float y1, float x2, float y2) {
 		return Math.abs(y1 - y2);
@@ -9,8 +9,10 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.utils.KdTree;
 import com.github.mikephil.charting.utils.MPPointF;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -122,6 +124,26 @@ public interface IDataSet<T extends Entry> {
      */
     T getEntryForIndex(int index);
 
+    /**
+     * Returns the x-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Prefer this over getEntryForIndex(...).getX() in render loops, DataSets that do not
+     * hold Entry objects can answer it without allocating.
+     *
+     * @param index
+     * @return
+     */
+    float getX(int index);
+
+    /**
+     * Returns the y-value of the Entry at the given index (NOT xIndex) in the values array.
+     * Prefer this over getEntryForIndex(...).getY() in render loops, DataSets that do not
+     * hold Entry objects can answer it without allocating.
+     *
+     * @param index
+     * @return
+     */
+    float getY(int index);
+
     /**
      * Returns the first Entry index found at the given x-value with binary
      * search.
@@ -138,6 +160,28 @@ public interface IDataSet<T extends Entry> {
      */
     int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding);
 
+    /**
+     * Resolves the index range of the Entries that cover the given x-range with binary search.
+     * outRange[0] receives the index of the Entry at fromX (rounded down), outRange[1] the index
+     * of the Entry at toX (rounded up). Both are -1 if the DataSet holds no Entries.
+     * Use this instead of looking up the Entries and calling getEntryIndex(Entry) on them,
+     * which is a linear search.
+     *
+     * @param fromX    the lower bound of the x-range
+     * @param toX      the upper bound of the x-range
+     * @param outRange array of at least size 2 that receives the indices
+     */
+    void getEntryIndexRange(float fromX, float toX, int[] outRange);
+
+    /**
+     * Returns the 2-D spatial index over the x- and y-values of this DataSet, up to date with
+     * its current values, or null if the DataSet has no spatial index (enabled). Used by the
+     * highlighters to find the entry closest to a touch position.
+     *
+     * @return
+     */
+    KdTree getSpatialIndex();
+
     /**
      * Returns the position of the provided entry in the DataSets Entry array.
      * Returns -1 if doesn't exist.
@@ -180,6 +224,14 @@ public interface IDataSet<T extends Entry> {
      */
     void addEntryOrdered(T e);
 
+    /**
+     * Adds all given Entries to the end of the DataSet. The minimum and maximum values of the
+     * DataSet are updated once for the whole batch.
+     *
+     * @param entries
+     */
+    void addEntries(Collection<? extends T> entries);
+
     /**
      * Removes the first Entry (at index 0) of this DataSet from the entries array.
      * Returns true if successful, false if not.
@@ -223,6 +275,18 @@ public interface IDataSet<T extends Entry> {
      */
     boolean removeEntry(int index);
 
+    /**
+     * Removes the Entries from index from (inclusive) to index to (exclusive). The minimum and
+     * maximum values of the DataSet are recalculated at most once for the whole batch, and only if
+     * one of the removed Entries held an extreme value.
+     * Returns true if Entries were removed, false if the range is empty or out of bounds.
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    boolean removeEntries(int from, int to);
+
     /**
      * Checks if this DataSet contains the specified Entry. Returns true if so,
      * false if not. NOTE: Performance is pretty bad on this one, do not
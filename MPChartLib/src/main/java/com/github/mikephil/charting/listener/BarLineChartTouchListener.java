@@ -652,6 +652,16 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
         mDecelerationVelocity.y = 0;
     }
 
+    /**
+     * Returns true while the chart is dragged or zoomed, or decelerates after a fling.
+     *
+     * @return
+     */
+    public boolean isViewPortChanging() {
+        return mTouchMode != NONE
+                || mDecelerationVelocity.x != 0.f || mDecelerationVelocity.y != 0.f;
+    }
+
     public void computeScroll() {
 
         if (mDecelerationVelocity.x == 0.f && mDecelerationVelocity.y == 0.f)
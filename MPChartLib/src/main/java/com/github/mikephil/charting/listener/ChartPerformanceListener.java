@@ -0,0 +1,135 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Listener for monitoring the performance of a chart. Receives the duration of every phase of
+ * preparing and drawing the chart in nanoseconds, and a few counters per frame. All callbacks
+ * are made on the thread that draws the chart (usually the UI thread) in the middle of drawing,
+ * so implementations should only record the values (e.g. into a histogram for percentiles) and
+ * return quickly. Timings are only taken while a listener is set.
+ */
+public interface ChartPerformanceListener {
+
+    /**
+     * The phases of preparing and drawing a chart.
+     */
+    enum Phase {
+
+        /**
+         * notifyDataSetChanged(), including calculating the min and max values
+         */
+        NOTIFY_DATA_SET_CHANGED,
+
+        /**
+         * calculating the min and max values of the data and the axes
+         */
+        CALC_MIN_MAX,
+
+        /**
+         * recalculating the y-range for the visible entries (auto scale min max)
+         */
+        AUTO_SCALE,
+
+        /**
+         * drawing the grid background, axis lines, grid lines and limit lines
+         */
+        DRAW_GRID,
+
+        /**
+         * drawing the data of all DataSets
+         */
+        DRAW_DATA,
+
+        /**
+         * drawing the highlights
+         */
+        DRAW_HIGHLIGHTED,
+
+        /**
+         * drawing the extras of the renderer (e.g. circles, the web of a RadarChart)
+         */
+        DRAW_EXTRAS,
+
+        /**
+         * drawing the axis labels
+         */
+        DRAW_AXIS_LABELS,
+
+        /**
+         * drawing the values of the entries
+         */
+        DRAW_VALUES,
+
+        DRAW_LEGEND,
+
+        DRAW_DESCRIPTION,
+
+        DRAW_MARKERS
+    }
+
+    /**
+     * Counters collected during one frame.
+     */
+    class FrameCounters {
+
+        /**
+         * number of entries the drawing loops of the renderers looked at
+         */
+        public long entriesVisited;
+
+        /**
+         * number of points transformed between values and pixels, by the Transformers of the
+         * chart
+         */
+        public long pointsTransformed;
+
+        /**
+         * number of times an object pool (e.g. of MPPointF) ran empty and had to allocate on
+         * the thread drawing the chart, during the frame
+         */
+        public long poolMisses;
+
+        public void reset() {
+            entriesVisited = 0;
+            pointsTransformed = 0;
+            poolMisses = 0;
+        }
+    }
+
+    /**
+     * Called when a phase of preparing or drawing the chart was completed. The phases of drawing
+     * are reported once per frame, right before onFrameCompleted(...), phases that are split up
+     * while drawing (e.g. the grid lines behind and in front of the data) with their summed
+     * duration.
+     *
+     * @param phase
+     * @param durationNanos
+     */
+    void onPhaseCompleted(Phase phase, long durationNanos);
+
+    /**
+     * Called after the labels of an axis were computed.
+     *
+     * @param axis
+     * @param durationNanos
+     */
+    void onAxisComputed(AxisBase axis, long durationNanos);
+
+    /**
+     * Called after the data of a DataSet was drawn (part of the DRAW_DATA phase).
+     *
+     * @param dataSet
+     * @param durationNanos
+     */
+    void onDataSetDrawn(IDataSet dataSet, long durationNanos);
+
+    /**
+     * Called after a frame was drawn.
+     *
+     * @param durationNanos the duration of the whole frame
+     * @param counters      the counters of the frame, only valid during the call
+     */
+    void onFrameCompleted(long durationNanos, FrameCounters counters);
+}
@@ -0,0 +1,142 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+
+/**
+ * Fixed size cache of formatted axis labels, keyed by the axis value. The cached labels are only
+ * valid for the formatter they were formatted with, see validate(...). When the cache is full,
+ * the label that was added first is replaced.
+ *
+ * Labels are usually looked up in the order of the axis entries, so the search for a value
+ * starts behind the last hit and lookups of consecutive labels take constant time.
+ */
+public class AxisLabelCache {
+
+    private final float[] mValues;
+    private final char[][] mChars;
+    private final int[] mLengths;
+
+    /**
+     * the number of cached labels
+     */
+    private int mSize = 0;
+
+    /**
+     * the slot the next label is stored in once the cache is full
+     */
+    private int mNext = 0;
+
+    /**
+     * the slot of the last hit, the next search starts behind it
+     */
+    private int mLastHit = -1;
+
+    private IAxisValueFormatter mFormatter;
+    private int mGeneration;
+
+    /**
+     * @param capacity the maximum number of cached labels
+     */
+    public AxisLabelCache(int capacity) {
+
+        mValues = new float[capacity];
+        mChars = new char[capacity][];
+        mLengths = new int[capacity];
+    }
+
+    /**
+     * Clears the cache if the labels were formatted with a different formatter, or the given
+     * generation (see AxisBase.getLabelCacheGeneration()) differs.
+     *
+     * @param formatter
+     * @param generation
+     */
+    public void validate(IAxisValueFormatter formatter, int generation) {
+
+        if (formatter != mFormatter || generation != mGeneration) {
+            clear();
+            mFormatter = formatter;
+            mGeneration = generation;
+        }
+    }
+
+    /**
+     * Removes all cached labels.
+     */
+    public void clear() {
+        mSize = 0;
+        mNext = 0;
+        mLastHit = -1;
+        mFormatter = null;
+    }
+
+    /**
+     * Copies the cached label of the given value into the given array and returns its length, or
+     * returns -1 if the value is not cached.
+     *
+     * @param value
+     * @param out
+     * @return
+     */
+    public int get(float value, char[] out) {
+
+        for (int i = 1; i <= mSize; i++) {
+
+            int slot = (mLastHit + i) % mSize;
+
+            if (mValues[slot] == value) {
+
+                int length = mLengths[slot];
+
+                if (length > out.length)
+                    return -1;
+
+                System.arraycopy(mChars[slot], 0, out, 0, length);
+                mLastHit = slot;
+
+                return length;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Adds the label of the given value, the first length chars of the given array.
+     *
+     * @param value
+     * @param chars
+     * @param length
+     */
+    public void put(float value, char[] chars, int length) {
+
+        if (mValues.length == 0)
+            return;
+
+        int slot;
+
+        if (mSize < mValues.length) {
+            slot = mSize++;
+        } else {
+            slot = mNext;
+            mNext = (mNext + 1) % mValues.length;
+        }
+
+        if (mChars[slot] == null || mChars[slot].length < length)
+            mChars[slot] = new char[Math.max(length, 16)];
+
+        System.arraycopy(chars, 0, mChars[slot], 0, length);
+        mValues[slot] = value;
+        mLengths[slot] = length;
+        mLastHit = slot;
+    }
+
+    /**
+     * Returns the number of cached labels.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+}
@@ -7,10 +7,13 @@ import android.graphics.Paint;
 import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.components.AxisBase;
-import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.formatter.ICharFormatter;
+import com.github.mikephil.charting.utils.FSize;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
 
 /**
  * Baseclass of all axis renderers.
@@ -45,6 +48,32 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mLimitLinePaint;
 
+    /**
+     * buffer the axis labels are formatted into (see formatLabel(...))
+     */
+    protected char[] mLabelChars = new char[64];
+
+    /**
+     * the formatted labels of the axis entries, reused across frames if the label cache of the
+     * axis is enabled
+     */
+    protected AxisLabelCache mLabelCache = new AxisLabelCache(64);
+
+    /**
+     * the input of the last computation of the axis entries, the entries are only computed again
+     * if it changes (and the label cache of the axis is enabled)
+     */
+    private float mComputedMin = Float.NaN;
+    private float mComputedMax = Float.NaN;
+    private int mComputedLabelCount;
+    private boolean mComputedForceLabels;
+    private boolean mComputedCenterLabels;
+    private boolean mComputedGranularityEnabled;
+    private float mComputedGranularity;
+    private int mComputedGeneration;
+    private float[] mComputedEntries;
+    private int mComputedEntryCount;
+
     public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans, AxisBase axis) {
         super(viewPortHandler);
 
@@ -121,21 +150,17 @@ public abstract class AxisRenderer extends Renderer {
         // zoom / contentrect bounds)
         if (mViewPortHandler != null && mViewPortHandler.contentWidth() > 10 && !mViewPortHandler.isFullyZoomedOutY()) {
 
-            MPPointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentTop());
-            MPPointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom());
+            ViewPortSnapshot snapshot = mTrans.getSnapshot();
 
             if (!inverted) {
 
-                min = (float) p2.y;
-                max = (float) p1.y;
+                min = snapshot.getContentBottomY();
+                max = snapshot.getContentTopY();
             } else {
 
-                min = (float) p1.y;
-                max = (float) p2.y;
+                min = snapshot.getContentTopY();
+                max = snapshot.getContentBottomY();
             }
-
-            MPPointD.recycleInstance(p1);
-            MPPointD.recycleInstance(p2);
         }
 
         computeAxisValues(min, max);
@@ -148,6 +173,9 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected void computeAxisValues(float min, float max) {
 
+        if (isAxisValuesComputed(min, max))
+            return;
+
         float yMin = min;
         float yMax = max;
 
@@ -158,6 +186,7 @@ public abstract class AxisRenderer extends Renderer {
             mAxis.mEntries = new float[]{};
             mAxis.mCenteredEntries = new float[]{};
             mAxis.mEntryCount = 0;
+            axisValuesComputed(min, max);
             return;
         }
 
@@ -261,6 +290,51 @@ public abstract class AxisRenderer extends Renderer {
                 mAxis.mCenteredEntries[i] = mAxis.mEntries[i] + offset;
             }
         }
+
+        axisValuesComputed(min, max);
+    }
+
+    /**
+     * Returns true if the axis entries have already been computed for the given range and the
+     * current label settings of the axis, and have not been changed since.
+     *
+     * @param min
+     * @param max
+     * @return
+     */
+    protected boolean isAxisValuesComputed(float min, float max) {
+
+        return mAxis.isLabelCacheEnabled()
+                && min == mComputedMin
+                && max == mComputedMax
+                && mAxis.getLabelCount() == mComputedLabelCount
+                && mAxis.isForceLabelsEnabled() == mComputedForceLabels
+                && mAxis.isCenterAxisLabelsEnabled() == mComputedCenterLabels
+                && mAxis.isGranularityEnabled() == mComputedGranularityEnabled
+                && mAxis.getGranularity() == mComputedGranularity
+                && mAxis.getLabelCacheGeneration() == mComputedGeneration
+                && mAxis.mEntries == mComputedEntries
+                && mAxis.mEntryCount == mComputedEntryCount;
+    }
+
+    /**
+     * Remembers the input of the computation of the axis entries, see isAxisValuesComputed(...).
+     *
+     * @param min
+     * @param max
+     */
+    protected void axisValuesComputed(float min, float max) {
+
+        mComputedMin = min;
+        mComputedMax = max;
+        mComputedLabelCount = mAxis.getLabelCount();
+        mComputedForceLabels = mAxis.isForceLabelsEnabled();
+        mComputedCenterLabels = mAxis.isCenterAxisLabelsEnabled();
+        mComputedGranularityEnabled = mAxis.isGranularityEnabled();
+        mComputedGranularity = mAxis.getGranularity();
+        mComputedGeneration = mAxis.getLabelCacheGeneration();
+        mComputedEntries = mAxis.mEntries;
+        mComputedEntryCount = mAxis.mEntryCount;
     }
 
     /**
@@ -290,4 +364,98 @@ public abstract class AxisRenderer extends Renderer {
      * @param c
      */
     public abstract void renderLimitLines(Canvas c);
+
+    /**
+     * Formats the label of the axis entry with the given index into mLabelChars and returns the
+     * number of chars (0 if there is no such entry).
+     *
+     * @param index
+     * @return
+     */
+    protected int formatLabel(int index) {
+
+        if (index < 0 || index >= mAxis.mEntries.length)
+            return 0;
+
+        return formatLabel(mAxis.mEntries[index]);
+    }
+
+    /**
+     * Formats the given value with the formatter of the axis into mLabelChars and returns the
+     * number of chars. If the label cache of the axis is enabled, labels that have already been
+     * formatted are copied from the cache. Formatters that implement ICharFormatter format into
+     * the array directly, without allocating. For all others, the String returned by
+     * getFormattedValue(...) is copied.
+     *
+     * @param value
+     * @return
+     */
+    protected int formatLabel(float value) {
+
+        IAxisValueFormatter formatter = mAxis.getValueFormatter();
+
+        if (!mAxis.isLabelCacheEnabled())
+            return formatLabel(formatter, value);
+
+        mLabelCache.validate(formatter, mAxis.getLabelCacheGeneration());
+
+        int length = mLabelCache.get(value, mLabelChars);
+
+        if (length < 0) {
+            length = formatLabel(formatter, value);
+            mLabelCache.put(value, mLabelChars, length);
+        }
+
+        return length;
+    }
+
+    private int formatLabel(IAxisValueFormatter formatter, float value) {
+
+        if (formatter instanceof ICharFormatter) {
+
+            int length = ((ICharFormatter) formatter).format(value, null, mLabelChars);
+
+            if (length >= 0)
+                return length;
+        }
+
+        String text = formatter.getFormattedValue(value, mAxis);
+
+        if (mLabelChars.length < text.length())
+            mLabelChars = new char[text.length()];
+
+        text.getChars(0, text.length(), mLabelChars, 0);
+
+        return text.length();
+    }
+
+    /**
+     * Calculates the size of the longest label of the axis entries (see
+     * AxisBase.getLongestLabel()) with the label paint. The labels are formatted through the
+     * label cache and their sizes are cached by Utils.calcTextSize(...), so this is cheap if the
+     * labels do not change.
+     *
+     * @param outputFSize an output variable, modified by the function
+     */
+    protected void calcLongestLabelSize(FSize outputFSize) {
+
+        int longestIndex = -1;
+        int longestLength = 0;
+
+        for (int i = 0; i < mAxis.mEntries.length; i++) {
+
+            int length = formatLabel(i);
+
+            if (longestLength < length) {
+                longestIndex = i;
+                longestLength = length;
+            }
+        }
+
+        // the label might have been overwritten by the following labels
+        if (longestIndex >= 0)
+            formatLabel(longestIndex);
+
+        Utils.calcTextSize(mAxisLabelPaint, mLabelChars, 0, longestLength, outputFSize);
+    }
 }
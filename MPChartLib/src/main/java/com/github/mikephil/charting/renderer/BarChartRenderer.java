@@ -9,11 +9,13 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.buffer.StackedValueBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.utils.Fill;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -34,6 +36,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     protected BarBuffer[] mBarBuffers;
 
+    /**
+     * the positions of the stack values of each DataSet, for drawing the values
+     */
+    protected StackedValueBuffer[] mStackedValueBuffers;
+
+    /**
+     * buffer for the range of entry indices whose bars are inside the visible x-range
+     */
+    protected int[] mVisibleBarRange = new int[2];
+
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
@@ -60,31 +72,148 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         BarData barData = mChart.getBarData();
         mBarBuffers = new BarBuffer[barData.getDataSetCount()];
+        mStackedValueBuffers = new StackedValueBuffer[barData.getDataSetCount()];
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
+            mBarBuffers[i] = createBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
                     barData.getDataSetCount(), set.isStacked());
+            mStackedValueBuffers[i] = new StackedValueBuffer(false);
         }
     }
 
+    /**
+     * Creates the buffer the bars of a DataSet are fed into.
+     *
+     * @param size
+     * @param dataSetCount
+     * @param containsStacks
+     * @return
+     */
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new BarBuffer(size, dataSetCount, containsStacks);
+    }
+
     @Override
     public void drawData(Canvas c) {
 
         BarData barData = mChart.getBarData();
 
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+
+        // start preparing all DataSets in parallel before the first one is drawn
+        if (pipeline != null) {
+            for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+                IBarDataSet set = barData.getDataSetByIndex(i);
+
+                if (set.isVisible())
+                    requestGeometry(pipeline, set);
+            }
+        }
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
 
             if (set.isVisible()) {
+                long start = startTiming();
                 drawDataSet(c, set, i);
+                dataSetDrawn(set, start);
             }
         }
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
 
+    /**
+     * Calculates the range of entry indices of the given DataSet whose bars are (at least
+     * partially) inside the visible x-range and stores it in mVisibleBarRange. Uses the same
+     * binary search as the XBounds, so only the visible bars need to be fed, transformed and drawn.
+     *
+     * @param dataSet
+     */
+    protected void calcVisibleBarRange(IBarDataSet dataSet) {
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+
+        dataSet.getEntryIndexRange(mChart.getLowestVisibleX() - barWidthHalf,
+                mChart.getHighestVisibleX() + barWidthHalf, mVisibleBarRange);
+
+        mVisibleBarRange[0] = Math.max(mVisibleBarRange[0], 0);
+    }
+
+    /**
+     * Requests the bars of the given DataSet from the pipeline. DataSets whose values are drawn
+     * are always fed on the UI thread, because drawValues(...) reads the fed buffers.
+     *
+     * @param pipeline
+     * @param dataSet
+     */
+    protected void requestGeometry(GeometryPipeline pipeline, IBarDataSet dataSet) {
+
+        if (isDrawingValuesAllowed(mChart) && shouldDrawValues(dataSet))
+            return;
+
+        calcVisibleBarRange(dataSet);
+
+        if (mVisibleBarRange[1] < mVisibleBarRange[0])
+            return;
+
+        GeometryPipeline.Geometry request = pipeline.getRequest(dataSet);
+
+        mChart.getTransformer(dataSet.getAxisDependency()).getSnapshot().getValues(request.matrix);
+        request.from = mVisibleBarRange[0];
+        request.to = mVisibleBarRange[1];
+        request.phaseX = mAnimator.getPhaseX();
+        request.phaseY = mAnimator.getPhaseY();
+        request.barWidth = mChart.getBarData().getBarWidth();
+        request.flags = mChart.isInverted(dataSet.getAxisDependency()) ? 1 : 0;
+
+        pipeline.request(dataSet, mBarGeometryBuilder);
+    }
+
+    /**
+     * Feeds the bars of the state stored in the Geometry into its own BarBuffer and maps them to
+     * pixels, the same way drawDataSet(...) does. Runs on the worker threads of the
+     * GeometryPipeline.
+     */
+    protected GeometryPipeline.GeometryBuilder mBarGeometryBuilder = new GeometryPipeline.GeometryBuilder() {
+
+        @Override
+        public void build(IDataSet dataSet, GeometryPipeline.Geometry geometry) {
+
+            final IBarDataSet set = (IBarDataSet) dataSet;
+            final int size = (geometry.to - geometry.from + 1) * 4 * (set.isStacked() ? set.getStackSize() : 1);
+
+            if (!(geometry.buffer instanceof BarBuffer) || geometry.buffer.size() < size)
+                geometry.buffer = createBarBuffer(size, 1, set.isStacked());
+
+            final BarBuffer buffer = (BarBuffer) geometry.buffer;
+            buffer.setPhases(geometry.phaseX, geometry.phaseY);
+            buffer.setInverted(geometry.flags == 1);
+            buffer.setBarWidth(geometry.barWidth);
+            buffer.limitFrom(geometry.from);
+            buffer.limitTo(geometry.to);
+
+            buffer.feed(set);
+
+            final int count = buffer.getFeedSize();
+            geometry.ensureCapacity(count);
+
+            final float[] vertices = geometry.vertices;
+
+            for (int j = 0; j < count; j += 2) {
+                final float x = buffer.buffer[j];
+                final float y = buffer.buffer[j + 1];
+                vertices[j] = geometry.mapX(x, y);
+                vertices[j + 1] = geometry.mapY(x, y);
+            }
+
+            geometry.count = count;
+        }
+    };
+
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -97,6 +226,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        calcVisibleBarRange(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -107,13 +238,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = mVisibleBarRange[0], count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()),
+                    mVisibleBarRange[1] + 1);
                 i < count;
                 i++) {
 
-                BarEntry e = dataSet.getEntryForIndex(i);
-
-                x = e.getX();
+                x = dataSet.getX(i);
 
                 mBarShadowRectBuffer.left = x - barWidthHalf;
                 mBarShadowRectBuffer.right = x + barWidthHalf;
@@ -133,16 +263,39 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+        GeometryPipeline.Geometry geometry = pipeline == null ? null : pipeline.get(dataSet);
+
+        final float[] bars;
+        final int barsSize;
+        final int firstBar;
+
+        if (geometry != null) {
+
+            // the bars were already prepared in the background
+            bars = geometry.vertices;
+            barsSize = geometry.count;
+            firstBar = geometry.from;
+
+        } else {
 
-        buffer.feed(dataSet);
+            // initialize the buffer
+            BarBuffer buffer = mBarBuffers[index];
+            buffer.setPhases(phaseX, phaseY);
+            buffer.setDataSet(index);
+            buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+            buffer.setBarWidth(mChart.getBarData().getBarWidth());
+            buffer.limitFrom(mVisibleBarRange[0]);
+            buffer.limitTo(mVisibleBarRange[1]);
 
-        trans.pointValuesToPixel(buffer.buffer);
+            buffer.feed(dataSet);
+
+            trans.pointValuesToPixel(buffer.buffer, buffer.getFeedSize());
+
+            bars = buffer.buffer;
+            barsSize = buffer.getFeedSize();
+            firstBar = buffer.getFrom();
+        }
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -152,12 +305,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // index of the first fed bar, stacks take one bar per stack-entry
+        final int firstPos = firstBar * (dataSet.isStacked() ? dataSet.getStackSize() : 1);
 
-            if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
+        for (int j = 0, pos = firstPos; j < barsSize; j += 4, pos++) {
+            mEntriesVisited++;
+
+            if (!mViewPortHandler.isInBoundsLeft(bars[j + 2]))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
+            if (!mViewPortHandler.isInBoundsRight(bars[j]))
                 break;
 
             if (!isSingleColor) {
@@ -170,20 +327,20 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 dataSet.getFill(pos)
                         .fillRect(
                                 c, mRenderPaint,
-                                buffer.buffer[j],
-                                buffer.buffer[j + 1],
-                                buffer.buffer[j + 2],
-                                buffer.buffer[j + 3],
+                                bars[j],
+                                bars[j + 1],
+                                bars[j + 2],
+                                bars[j + 3],
                                 isInverted ? Fill.Direction.DOWN : Fill.Direction.UP);
             }
             else {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mRenderPaint);
+                c.drawRect(bars[j], bars[j + 1], bars[j + 2],
+                        bars[j + 3], mRenderPaint);
             }
 
             if (drawBorder) {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mBarBorderPaint);
+                c.drawRect(bars[j], bars[j + 1], bars[j + 2],
+                        bars[j + 3], mBarBorderPaint);
             }
         }
     }
@@ -248,7 +405,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getFrom();
+
+                    for (int j = 0; j < buffer.getFeedSize(); j += 4) {
+                        mEntriesVisited++;
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -259,7 +419,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
@@ -267,7 +427,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     val >= 0 ?
                                             (buffer.buffer[j + 1] + posOffset) :
                                             (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                                    dataSet.getValueTextColor(from + j / 4));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -297,13 +457,25 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
+                    // the positions of all stack values, transformed at once
+                    StackedValueBuffer stackBuffer = mStackedValueBuffers[i];
+                    stackBuffer.feed(dataSet, buffer, phaseY, trans);
+
                     int bufferIndex = 0;
-                    int index = 0;
+                    int stackIndex = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.getFeedSize()) {
+                        mEntriesVisited++;
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
+                        // the BarBuffer has no bars for missing entries
+                        if (entry == null) {
+                            index++;
+                            continue;
+                        }
+
                         float[] vals = entry.getYVals();
                         float x = (buffer.buffer[bufferIndex] + buffer.buffer[bufferIndex + 2]) / 2f;
 
@@ -317,74 +489,44 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                             if (!mViewPortHandler.isInBoundsRight(x))
                                 break;
 
-                            if (!mViewPortHandler.isInBoundsY(buffer.buffer[bufferIndex + 1])
-                                    || !mViewPortHandler.isInBoundsLeft(x))
-                                continue;
+                            if (mViewPortHandler.isInBoundsY(buffer.buffer[bufferIndex + 1])
+                                    && mViewPortHandler.isInBoundsLeft(x)) {
 
-                            if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, dataSet.getValueFormatter(), entry.getY(), entry, i, x,
-                                        buffer.buffer[bufferIndex + 1] +
-                                                (entry.getY() >= 0 ? posOffset : negOffset),
-                                        color);
-                            }
+                                if (dataSet.isDrawValuesEnabled()) {
+                                    drawValue(c, dataSet.getValueFormatter(), entry.getY(), entry, i, x,
+                                            buffer.buffer[bufferIndex + 1] +
+                                                    (entry.getY() >= 0 ? posOffset : negOffset),
+                                            color);
+                                }
 
-                            if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+                                if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
 
-                                Drawable icon = entry.getIcon();
+                                    Drawable icon = entry.getIcon();
 
-                                float px = x;
-                                float py = buffer.buffer[bufferIndex + 1] +
-                                        (entry.getY() >= 0 ? posOffset : negOffset);
+                                    float px = x;
+                                    float py = buffer.buffer[bufferIndex + 1] +
+                                            (entry.getY() >= 0 ? posOffset : negOffset);
 
-                                px += iconsOffset.x;
-                                py += iconsOffset.y;
+                                    px += iconsOffset.x;
+                                    py += iconsOffset.y;
 
-                                Utils.drawImage(
-                                        c,
-                                        icon,
-                                        (int)px,
-                                        (int)py,
-                                        icon.getIntrinsicWidth(),
-                                        icon.getIntrinsicHeight());
+                                    Utils.drawImage(
+                                            c,
+                                            icon,
+                                            (int)px,
+                                            (int)py,
+                                            icon.getIntrinsicWidth(),
+                                            icon.getIntrinsicHeight());
+                                }
                             }
 
                             // draw stack values
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            for (int k = 0; k < vals.length; k++) {
 
-                            float posY = 0f;
-                            float negY = -entry.getNegativeSum();
-
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
-
-                                float value = vals[idx];
-                                float y;
-
-                                if (value == 0.0f && (posY == 0.0f || negY == 0.0f)) {
-                                    // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
-                                    y = value;
-                                } else if (value >= 0.0f) {
-                                    posY += value;
-                                    y = posY;
-                                } else {
-                                    y = negY;
-                                    negY -= value;
-                                }
-
-                                transformed[k + 1] = y * phaseY;
-                            }
-
-                            trans.pointValuesToPixel(transformed);
-
-                            for (int k = 0; k < transformed.length; k += 2) {
-
-                                final float val = vals[k / 2];
-                                final boolean drawBelow =
-                                        (val == 0.0f && negY == 0.0f && posY > 0.0f) ||
-                                                val < 0.0f;
-                                float y = transformed[k + 1]
-                                        + (drawBelow ? negOffset : posOffset);
+                                float y = stackBuffer.buffer[stackIndex + k * 2 + 1]
+                                        + (stackBuffer.below[stackIndex / 2 + k] ? negOffset : posOffset);
 
                                 if (!mViewPortHandler.isInBoundsRight(x))
                                     break;
@@ -396,7 +538,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 if (dataSet.isDrawValuesEnabled()) {
                                     drawValue(c,
                                             dataSet.getValueFormatter(),
-                                            vals[k / 2],
+                                            vals[k],
                                             entry,
                                             i,
                                             x,
@@ -417,6 +559,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                             icon.getIntrinsicHeight());
                                 }
                             }
+
+                            stackIndex += vals.length * 2;
                         }
 
                         bufferIndex = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
@@ -1,7 +1,7 @@
 package com.github.mikephil.charting.renderer;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
-import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.charts.BarLineChartBase;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
@@ -18,10 +18,29 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
      */
     protected XBounds mXBounds = new XBounds();
 
+    /**
+     * if not NaN, the XBounds are calculated for this x-range (in values) instead of the visible
+     * range, e.g. to draw only a strip of the chart
+     */
+    protected float mDrawXMin = Float.NaN;
+    protected float mDrawXMax = Float.NaN;
+
     public BarLineScatterCandleBubbleRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
     }
 
+    /**
+     * Returns the pipeline preparing the geometry of the DataSets of the given chart in the
+     * background, null if this is disabled or the chart is no BarLineChartBase.
+     *
+     * @param chart
+     * @return
+     */
+    protected static GeometryPipeline getGeometryPipeline(BarLineScatterCandleBubbleDataProvider chart) {
+        return chart instanceof BarLineChartBase
+                ? ((BarLineChartBase<?>) chart).getGeometryPipeline() : null;
+    }
+
     /**
      * Returns true if the DataSet values should be drawn, false if not.
      *
@@ -73,6 +92,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          */
         public int range;
 
+        /**
+         * buffer for the index range query
+         */
+        private int[] mIndexRange = new int[2];
+
         /**
          * Calculates the minimum and maximum x values as well as the range between them.
          *
@@ -82,14 +106,13 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         public void set(BarLineScatterCandleBubbleDataProvider chart, IBarLineScatterCandleBubbleDataSet dataSet) {
             float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-            float low = chart.getLowestVisibleX();
-            float high = chart.getHighestVisibleX();
+            float low = Float.isNaN(mDrawXMin) ? chart.getLowestVisibleX() : mDrawXMin;
+            float high = Float.isNaN(mDrawXMax) ? chart.getHighestVisibleX() : mDrawXMax;
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            dataSet.getEntryIndexRange(low, high, mIndexRange);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = Math.max(mIndexRange[0], 0);
+            max = Math.max(mIndexRange[1], 0);
             range = (int) ((max - min) * phaseX);
         }
     }
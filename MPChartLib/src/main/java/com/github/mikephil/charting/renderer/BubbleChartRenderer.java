@@ -50,8 +50,11 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (IBubbleDataSet set : bubbleData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startTiming();
                 drawDataSet(c, set);
+                dataSetDrawn(set, start);
+            }
         }
     }
 
@@ -89,6 +92,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+            mEntriesVisited++;
 
             final BubbleEntry entry = dataSet.getEntryForIndex(j);
 
@@ -155,6 +159,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
                 for (int j = 0; j < positions.length; j += 2) {
+                    mEntriesVisited++;
 
                     int valueTextColor = dataSet.getValueTextColor(j / 2 + mXBounds.min);
                     valueTextColor = Color.argb(Math.round(255.f * alpha), Color.red(valueTextColor),
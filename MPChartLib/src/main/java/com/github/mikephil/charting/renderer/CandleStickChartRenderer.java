@@ -3,6 +3,7 @@ package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
@@ -30,6 +31,33 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     private float[] mOpenBuffers = new float[4];
     private float[] mCloseBuffers = new float[4];
 
+    /**
+     * if true, DataSets that don't color each candle differently are drawn in batches, see
+     * setBatchDrawingEnabled(...)
+     */
+    protected boolean mBatchDrawingEnabled = true;
+
+    /**
+     * the groups of candles drawn with the same paint state
+     */
+    private static final int DECREASING = 0;
+    private static final int INCREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * per group: the lines of the shadows (or of the open-high-low-close bars) and of the
+     * bodies (left, close, right, open), and the number of values in them
+     */
+    private float[][] mBatchLines = new float[3][0];
+    private float[][] mBatchBodies = new float[3][0];
+    private int[] mBatchLineCounts = new int[3];
+    private int[] mBatchBodyCounts = new int[3];
+
+    /**
+     * the path the bodies of one group are added to
+     */
+    protected Path mBatchPath = new Path();
+
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -48,8 +76,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         for (ICandleDataSet set : candleData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startTiming();
                 drawDataSet(c, set);
+                dataSetDrawn(set, start);
+            }
         }
     }
 
@@ -66,8 +97,14 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        if (mBatchDrawingEnabled && isBatchable(dataSet)) {
+            drawDataSetBatched(c, dataSet, trans);
+            return;
+        }
+
         // draw the body
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+            mEntriesVisited++;
 
             // get the entry
             CandleEntry e = dataSet.getEntryForIndex(j);
@@ -252,6 +289,230 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * Returns true if all candles of the given DataSet that point in the same direction are
+     * drawn with the same color, which is the case if the DataSet has only one color or the
+     * colors of all directions (and the shadow) are set.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isBatchable(ICandleDataSet dataSet) {
+
+        if (dataSet.getColors().size() == 1)
+            return true;
+
+        if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE)
+            return false;
+
+        return !dataSet.getShowCandleBar() || dataSet.getShadowColorSameAsCandle()
+                || dataSet.getShadowColor() != ColorTemplate.COLOR_NONE;
+    }
+
+    /**
+     * Draws the candles of the given DataSet grouped by direction (decreasing, increasing,
+     * neutral). The lines and bodies of each group are collected in one buffer, transformed
+     * at once and drawn with one call, instead of transforming and drawing every candle on its
+     * own. All shadows are drawn before the bodies.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     */
+    protected void drawDataSetBatched(Canvas c, ICandleDataSet dataSet, Transformer trans) {
+
+        final float phaseY = mAnimator.getPhaseY();
+        final float barSpace = dataSet.getBarSpace();
+        final boolean showCandleBar = dataSet.getShowCandleBar();
+
+        final int candleCount = mXBounds.range + 1;
+
+        for (int group = 0; group < 3; group++) {
+
+            if (mBatchLines[group].length < candleCount * 12)
+                mBatchLines[group] = new float[candleCount * 12];
+
+            if (mBatchBodies[group].length < candleCount * 4)
+                mBatchBodies[group] = new float[candleCount * 4];
+
+            mBatchLineCounts[group] = 0;
+            mBatchBodyCounts[group] = 0;
+        }
+
+        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+            mEntriesVisited++;
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
+            if (e == null)
+                continue;
+
+            final float xPos = e.getX();
+
+            final float open = e.getOpen();
+            final float close = e.getClose();
+            final float high = e.getHigh();
+            final float low = e.getLow();
+
+            final int group = open > close ? DECREASING : open < close ? INCREASING : NEUTRAL;
+
+            final float[] lines = mBatchLines[group];
+            int i = mBatchLineCounts[group];
+
+            if (showCandleBar) {
+
+                // the shadows, from the high to the top and from the low to the bottom of the body
+                lines[i++] = xPos;
+                lines[i++] = high * phaseY;
+                lines[i++] = xPos;
+                lines[i++] = Math.max(open, close) * phaseY;
+
+                lines[i++] = xPos;
+                lines[i++] = low * phaseY;
+                lines[i++] = xPos;
+                lines[i++] = Math.min(open, close) * phaseY;
+
+                final float[] bodies = mBatchBodies[group];
+                int b = mBatchBodyCounts[group];
+
+                bodies[b++] = xPos - 0.5f + barSpace;
+                bodies[b++] = close * phaseY;
+                bodies[b++] = xPos + 0.5f - barSpace;
+                bodies[b++] = open * phaseY;
+
+                mBatchBodyCounts[group] = b;
+
+            } else {
+
+                // the range, the open and the close line
+                lines[i++] = xPos;
+                lines[i++] = high * phaseY;
+                lines[i++] = xPos;
+                lines[i++] = low * phaseY;
+
+                lines[i++] = xPos - 0.5f + barSpace;
+                lines[i++] = open * phaseY;
+                lines[i++] = xPos;
+                lines[i++] = open * phaseY;
+
+                lines[i++] = xPos + 0.5f - barSpace;
+                lines[i++] = close * phaseY;
+                lines[i++] = xPos;
+                lines[i++] = close * phaseY;
+            }
+
+            mBatchLineCounts[group] = i;
+        }
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+
+        for (int group = 0; group < 3; group++) {
+
+            final int count = mBatchLineCounts[group];
+
+            if (count == 0)
+                continue;
+
+            trans.pointValuesToPixel(mBatchLines[group], count);
+
+            mRenderPaint.setColor(showCandleBar
+                    ? getShadowColor(dataSet, group)
+                    : getCandleColor(dataSet, group));
+
+            c.drawLines(mBatchLines[group], 0, count, mRenderPaint);
+        }
+
+        if (!showCandleBar)
+            return;
+
+        for (int group = 0; group < 3; group++) {
+
+            final int count = mBatchBodyCounts[group];
+
+            if (count == 0)
+                continue;
+
+            final float[] bodies = mBatchBodies[group];
+
+            trans.pointValuesToPixel(bodies, count);
+
+            mRenderPaint.setColor(getCandleColor(dataSet, group));
+
+            if (group == NEUTRAL) {
+
+                // open equals close, the body is a line
+                mRenderPaint.setStyle(Paint.Style.STROKE);
+                c.drawLines(bodies, 0, count, mRenderPaint);
+                continue;
+            }
+
+            mBatchPath.reset();
+
+            for (int b = 0; b < count; b += 4) {
+                mBatchPath.addRect(
+                        Math.min(bodies[b], bodies[b + 2]), Math.min(bodies[b + 1], bodies[b + 3]),
+                        Math.max(bodies[b], bodies[b + 2]), Math.max(bodies[b + 1], bodies[b + 3]),
+                        Path.Direction.CW);
+            }
+
+            mRenderPaint.setStyle(group == DECREASING
+                    ? dataSet.getDecreasingPaintStyle()
+                    : dataSet.getIncreasingPaintStyle());
+
+            c.drawPath(mBatchPath, mRenderPaint);
+        }
+    }
+
+    /**
+     * Returns the color of the candles of the given group (DECREASING, INCREASING, NEUTRAL),
+     * only valid if the DataSet is batchable.
+     */
+    private int getCandleColor(ICandleDataSet dataSet, int group) {
+
+        int color = group == DECREASING ? dataSet.getDecreasingColor()
+                : group == INCREASING ? dataSet.getIncreasingColor()
+                : dataSet.getNeutralColor();
+
+        return color == ColorTemplate.COLOR_NONE ? dataSet.getColor() : color;
+    }
+
+    /**
+     * Returns the color of the shadows of the candles of the given group, only valid if the
+     * DataSet is batchable.
+     */
+    private int getShadowColor(ICandleDataSet dataSet, int group) {
+
+        if (dataSet.getShadowColorSameAsCandle())
+            return getCandleColor(dataSet, group);
+
+        return dataSet.getShadowColor() == ColorTemplate.COLOR_NONE
+                ? dataSet.getColor()
+                : dataSet.getShadowColor();
+    }
+
+    /**
+     * If set to true, the candles of DataSets that don't color each candle differently (one
+     * color, or increasing, decreasing, neutral and shadow color set) are grouped by direction
+     * and each group is drawn with one call. Other DataSets are always drawn candle by candle.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public void setBatchDrawingEnabled(boolean enabled) {
+        mBatchDrawingEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the candles are drawn in batches where possible.
+     *
+     * @return
+     */
+    public boolean isBatchDrawingEnabled() {
+        return mBatchDrawingEnabled;
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -284,6 +545,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
                 for (int j = 0; j < positions.length; j += 2) {
+                    mEntriesVisited++;
 
                     float x = positions[j];
                     float y = positions[j + 1];
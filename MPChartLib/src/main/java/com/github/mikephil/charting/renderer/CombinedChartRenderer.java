@@ -10,6 +10,7 @@ import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.CombinedData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.listener.ChartPerformanceListener;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
@@ -40,6 +41,10 @@ public class CombinedChartRenderer extends DataRenderer {
      */
     public void createRenderers() {
 
+        // keep the counters of the replaced renderers
+        for (DataRenderer renderer : mRenderers)
+            mEntriesVisited += renderer.getEntriesVisited();
+
         mRenderers.clear();
 
         CombinedChart chart = (CombinedChart)mChart.get();
@@ -73,6 +78,28 @@ public class CombinedChartRenderer extends DataRenderer {
                     break;
             }
         }
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setPerformanceListener(mPerformanceListener);
+    }
+
+    @Override
+    public void setPerformanceListener(ChartPerformanceListener listener) {
+        super.setPerformanceListener(listener);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setPerformanceListener(listener);
+    }
+
+    @Override
+    public long getEntriesVisited() {
+
+        long entries = mEntriesVisited;
+
+        for (DataRenderer renderer : mRenderers)
+            entries += renderer.getEntriesVisited();
+
+        return entries;
     }
 
     @Override
@@ -10,10 +10,12 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.ICharFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.ChartPerformanceListener;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -48,6 +50,22 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * buffer the value labels are formatted into (see formatValue(...))
+     */
+    protected char[] mValueChars = new char[64];
+
+    /**
+     * receives the drawing time of every DataSet, null if not monitored
+     */
+    protected ChartPerformanceListener mPerformanceListener = null;
+
+    /**
+     * total number of entries the drawing loops of this renderer looked at, for performance
+     * monitoring (entries prepared in the background are not counted)
+     */
+    protected long mEntriesVisited = 0;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -68,6 +86,44 @@ public abstract class DataRenderer extends Renderer {
         mHighlightPaint.setColor(Color.rgb(255, 187, 115));
     }
 
+    /**
+     * Sets the listener that receives the drawing time of every DataSet.
+     *
+     * @param listener
+     */
+    public void setPerformanceListener(ChartPerformanceListener listener) {
+        mPerformanceListener = listener;
+    }
+
+    /**
+     * Returns the total number of entries this renderer looked at while drawing.
+     *
+     * @return
+     */
+    public long getEntriesVisited() {
+        return mEntriesVisited;
+    }
+
+    /**
+     * Returns the start time for timing the drawing of a DataSet, 0 if not monitored.
+     *
+     * @return
+     */
+    protected long startTiming() {
+        return mPerformanceListener == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Reports the drawing time of the given DataSet to the performance listener.
+     *
+     * @param set
+     * @param start the time returned by startTiming()
+     */
+    protected void dataSetDrawn(IDataSet set, long start) {
+        if (mPerformanceListener != null)
+            mPerformanceListener.onDataSetDrawn(set, System.nanoTime() - start);
+    }
+
     protected boolean isDrawingValuesAllowed(ChartInterface chart) {
         return chart.getData().getEntryCount() < chart.getMaxVisibleCount()
                 * mViewPortHandler.getScaleX();
@@ -148,8 +204,40 @@ public abstract class DataRenderer extends Renderer {
      * @param color
      */
     public void drawValue(Canvas c, IValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
+        int length = formatValue(formatter, value, entry, dataSetIndex);
         mValuePaint.setColor(color);
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+        c.drawText(mValueChars, 0, length, x, y, mValuePaint);
+    }
+
+    /**
+     * Formats the given value into mValueChars and returns the number of chars. Formatters that
+     * implement ICharFormatter format into the array directly, without allocating. For all
+     * others, the String returned by getFormattedValue(...) is copied.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @return
+     */
+    protected int formatValue(IValueFormatter formatter, float value, Entry entry, int dataSetIndex) {
+
+        if (formatter instanceof ICharFormatter) {
+
+            int length = ((ICharFormatter) formatter).format(value, entry, mValueChars);
+
+            if (length >= 0)
+                return length;
+        }
+
+        String text = formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+
+        if (mValueChars.length < text.length())
+            mValueChars = new char[text.length()];
+
+        text.getChars(0, text.length(), mValueChars, 0);
+
+        return text.length();
     }
 
     /**
@@ -0,0 +1,537 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Path;
+import android.graphics.PathEffect;
+import android.util.Log;
+
+import com.github.mikephil.charting.buffer.AbstractBuffer;
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Prepares the pixel-space geometry (vertex arrays and paths) of DataSets on background threads,
+ * one task per DataSet, so that preparing several large DataSets scales across cores and the UI
+ * thread only has to issue the Canvas calls.
+ *
+ * Every DataSet has a front and a back Geometry. A request stores the state the geometry has
+ * to be built for (value-to-pixel matrix including the touch matrix of the ViewPortHandler,
+ * visible index range, animation phase and the version of the DataSet) and starts a task
+ * filling the back buffer, unless the front buffer was already built for the same state or a
+ * task is still running. The UI thread never waits: it draws the last completed front buffer
+ * while the back buffer is built, and swaps the buffers once the task finished (the listener
+ * set with setOnGeometryReadyListener(...) is notified so that the chart is redrawn). A front
+ * buffer built for a different matrix than the requested one is not handed out, the DataSet then
+ * has to be prepared on the UI thread. DataSets that were not requested in the previous frame
+ * (see startFrame()) are evicted.
+ *
+ * The DataSets are read on the worker threads while the UI thread keeps running, so they must
+ * only be modified on the UI thread, through the methods of the DataSet or followed by
+ * notifyDataSetChanged(). Geometry that was built while its DataSet changed (detected with
+ * BaseDataSet.getDataVersion(), or the entry count and the min and max values of other
+ * DataSets) is never drawn, it is discarded and built again for the new values. DataSets that
+ * change on every frame therefore gain nothing from the pipeline.
+ */
+public class GeometryPipeline {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /**
+     * Builds the geometry of a DataSet, called on a worker thread.
+     */
+    public interface GeometryBuilder {
+
+        /**
+         * Fills the vertices of the given Geometry (growing the array if needed) with the
+         * pixel-space vertices of the DataSet, for the state stored in the Geometry, and sets
+         * the number of valid values. Must not touch any objects shared with the UI thread
+         * other than reading the DataSet.
+         *
+         * @param set
+         * @param geometry
+         */
+        void build(IDataSet set, Geometry geometry);
+    }
+
+    /**
+     * Pixel-space vertices of a DataSet, and the state they were built for.
+     */
+    public static class Geometry {
+
+        /**
+         * the pixel-space vertices (x, y, x, y, ...), only the first count values are valid
+         */
+        public float[] vertices = new float[0];
+
+        /**
+         * number of valid values in the vertices array
+         */
+        public int count = 0;
+
+        /**
+         * the values of the value-to-pixel matrix (see android.graphics.Matrix.getValues(...))
+         */
+        public final float[] matrix = new float[9];
+
+        /**
+         * the range of entry indices to build the geometry for (both inclusive)
+         */
+        public int from, to;
+
+        public float phaseX, phaseY;
+
+        /**
+         * builder specific flags, e.g. the drawing mode
+         */
+        public int flags;
+
+        /**
+         * the width of the bars in values, for bar geometry
+         */
+        public float barWidth;
+
+        /**
+         * the y-value of the fill line, for filled geometry
+         */
+        public float fillLinePosition;
+
+        /**
+         * the intensity of cubic lines and the effect of dashed lines, for line geometry
+         */
+        public float cubicIntensity;
+        public PathEffect dashPathEffect;
+
+        /**
+         * the path of the DataSet in pixels (e.g. cubic lines), created by the builder if needed
+         */
+        public Path path;
+
+        /**
+         * the filled area of the DataSet in pixels, created by the builder if needed
+         */
+        public Path fillPath;
+
+        /**
+         * builder specific buffer (e.g. the BarBuffer the bars are fed into), owned by this
+         * Geometry so that it is never shared between threads
+         */
+        public AbstractBuffer<?> buffer;
+
+        /**
+         * the version of the DataSet: the data and style version of BaseDataSets, the entry
+         * count and the min and max values of all others
+         */
+        private IDataSet mSet;
+        private boolean mVersioned;
+        private int mDataVersion, mStyleVersion;
+        private int mEntryCount;
+        private float mXMin, mXMax, mYMin, mYMax;
+
+        /**
+         * Maps the given value to its pixel x-position with the stored matrix.
+         *
+         * @param x
+         * @param y
+         * @return
+         */
+        public float mapX(float x, float y) {
+            return matrix[0] * x + matrix[1] * y + matrix[2];
+        }
+
+        /**
+         * Maps the given value to its pixel y-position with the stored matrix.
+         *
+         * @param x
+         * @param y
+         * @return
+         */
+        public float mapY(float x, float y) {
+            return matrix[3] * x + matrix[4] * y + matrix[5];
+        }
+
+        /**
+         * Makes sure the vertices array can hold at least the given number of values.
+         *
+         * @param size
+         */
+        public void ensureCapacity(int size) {
+            if (vertices.length < size)
+                vertices = new float[Math.max(size, vertices.length + (vertices.length >> 1))];
+        }
+
+        private void setVersion(IDataSet set) {
+
+            mSet = set;
+            mVersioned = set instanceof BaseDataSet;
+
+            if (mVersioned) {
+                mDataVersion = ((BaseDataSet<?>) set).getDataVersion();
+                mStyleVersion = ((BaseDataSet<?>) set).getStyleVersion();
+            }
+
+            mEntryCount = set.getEntryCount();
+            mXMin = set.getXMin();
+            mXMax = set.getXMax();
+            mYMin = set.getYMin();
+            mYMax = set.getYMax();
+        }
+
+        /**
+         * Returns true if the values of the given DataSet did not change since the version of
+         * this Geometry was set. Only the entry count is compared for DataSets without a data
+         * version, their min and max y-values also change with the visible range.
+         */
+        private boolean isVersionOf(IDataSet set) {
+
+            if (mSet != set || mEntryCount != set.getEntryCount())
+                return false;
+
+            return !mVersioned || mDataVersion == ((BaseDataSet<?>) set).getDataVersion();
+        }
+
+        private void copyState(Geometry other) {
+            System.arraycopy(other.matrix, 0, matrix, 0, 9);
+            from = other.from;
+            to = other.to;
+            phaseX = other.phaseX;
+            phaseY = other.phaseY;
+            flags = other.flags;
+            barWidth = other.barWidth;
+            fillLinePosition = other.fillLinePosition;
+            cubicIntensity = other.cubicIntensity;
+            dashPathEffect = other.dashPathEffect;
+            mSet = other.mSet;
+            mVersioned = other.mVersioned;
+            mDataVersion = other.mDataVersion;
+            mStyleVersion = other.mStyleVersion;
+            mEntryCount = other.mEntryCount;
+            mXMin = other.mXMin;
+            mXMax = other.mXMax;
+            mYMin = other.mYMin;
+            mYMax = other.mYMax;
+        }
+
+        private boolean hasSameState(Geometry other) {
+
+            if (mSet != other.mSet || mEntryCount != other.mEntryCount
+                    || from != other.from || to != other.to
+                    || phaseX != other.phaseX || phaseY != other.phaseY
+                    || barWidth != other.barWidth || fillLinePosition != other.fillLinePosition)
+                return false;
+
+            if (mVersioned) {
+
+                if (mDataVersion != other.mDataVersion)
+                    return false;
+
+            } else if (mXMin != other.mXMin || mXMax != other.mXMax
+                    || mYMin != other.mYMin || mYMax != other.mYMax) {
+                return false;
+            }
+
+            return hasSameMatrix(other);
+        }
+
+        /**
+         * Returns true if this Geometry can be drawn for the state of the other one: it was built
+         * with the same matrix, flags and styling, but possibly for an older version of the
+         * DataSet.
+         */
+        private boolean hasSameMatrix(Geometry other) {
+
+            if (flags != other.flags || cubicIntensity != other.cubicIntensity
+                    || dashPathEffect != other.dashPathEffect || mStyleVersion != other.mStyleVersion)
+                return false;
+
+            for (int i = 0; i < 9; i++) {
+                if (matrix[i] != other.matrix[i])
+                    return false;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * front and back buffer of one DataSet
+     */
+    private static class Slot {
+
+        Geometry front = new Geometry();
+        Geometry back = new Geometry();
+
+        /**
+         * the state of the latest request
+         */
+        Geometry request = new Geometry();
+
+        boolean frontValid = false;
+
+        /**
+         * true if the geometry was requested since it was last handed out
+         */
+        boolean requested = false;
+
+        /**
+         * the frame the geometry was last requested in
+         */
+        int frame;
+
+        /**
+         * the task building the back buffer, null if none is running
+         */
+        Future<?> pending = null;
+
+        /**
+         * set when the slot is evicted, its running task must not notify anymore
+         */
+        volatile boolean discarded = false;
+    }
+
+    private final IdentityHashMap<IDataSet, Slot> mSlots = new IdentityHashMap<>();
+
+    private ExecutorService mExecutor = null;
+
+    /**
+     * the current frame, see startFrame()
+     */
+    private int mFrame = 0;
+
+    /**
+     * notified (on a worker thread) when a task finished
+     */
+    private volatile Runnable mOnGeometryReady = null;
+
+    /**
+     * Sets the action that is run (on a worker thread) whenever the geometry of a DataSet was
+     * built, e.g. to redraw the chart.
+     *
+     * @param listener
+     */
+    public void setOnGeometryReadyListener(Runnable listener) {
+        mOnGeometryReady = listener;
+    }
+
+    /**
+     * Starts a new frame, call this before the geometry of the DataSets of the frame is requested.
+     * Evicts the geometry of all DataSets that were not requested in the previous frame, e.g.
+     * removed DataSets or levels of detail that are not drawn anymore.
+     */
+    public void startFrame() {
+
+        mFrame++;
+
+        for (Iterator<Slot> it = mSlots.values().iterator(); it.hasNext(); ) {
+
+            Slot slot = it.next();
+
+            if (mFrame - slot.frame > 1) {
+                discard(slot);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the Geometry that holds the state for the next request of the given DataSet. Set
+     * the matrix, range, phases and flags on it, then call request(...).
+     *
+     * @param set
+     * @return
+     */
+    public Geometry getRequest(IDataSet set) {
+
+        Slot slot = mSlots.get(set);
+
+        if (slot == null) {
+            slot = new Slot();
+            mSlots.put(set, slot);
+        }
+
+        slot.frame = mFrame;
+
+        return slot.request;
+    }
+
+    /**
+     * Starts building the geometry of the given DataSet for the state set on getRequest(set) in
+     * the background, unless the current front buffer was built for the same state. If a task is
+     * still running for the DataSet, the new state is built after it finished. Never blocks.
+     *
+     * @param set
+     * @param builder
+     */
+    public void request(final IDataSet set, final GeometryBuilder builder) {
+
+        final Slot slot = mSlots.get(set);
+
+        if (slot == null)
+            return;
+
+        slot.request.setVersion(set);
+        slot.requested = true;
+
+        collect(slot);
+
+        // the running task has to finish before the back buffer is reused, the chart is redrawn
+        // and requests again then
+        if (slot.pending != null)
+            return;
+
+        if (slot.frontValid && slot.front.hasSameState(slot.request))
+            return;
+
+        final Geometry back = slot.back;
+        back.copyState(slot.request);
+
+        slot.pending = getExecutor().submit(new Runnable() {
+            @Override
+            public void run() {
+
+                builder.build(set, back);
+
+                Runnable listener = mOnGeometryReady;
+
+                if (listener != null && !slot.discarded)
+                    listener.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the latest completed geometry of the given DataSet if it was built with the matrix
+     * of the latest request, even if it was built for an older version of the DataSet (a newer
+     * one is then still being built). Returns null if there is no such geometry (not requested
+     * since the last call, not built yet, built for another matrix or building it failed). In
+     * that case the DataSet has to be prepared on the calling thread. Never blocks.
+     *
+     * @param set
+     * @return
+     */
+    public Geometry get(IDataSet set) {
+
+        Slot slot = mSlots.get(set);
+
+        if (slot == null || !slot.requested)
+            return null;
+
+        slot.requested = false;
+
+        collect(slot);
+
+        if (!slot.frontValid || !slot.front.hasSameMatrix(slot.request))
+            return null;
+
+        return slot.front;
+    }
+
+    /**
+     * Swaps the buffers of the given slot if its task finished successfully and the DataSet did
+     * not change meanwhile, without waiting.
+     *
+     * @param slot
+     */
+    private void collect(Slot slot) {
+
+        if (slot.pending == null || !slot.pending.isDone())
+            return;
+
+        // the DataSet is only modified on this thread, if it changed since the request the
+        // geometry may be inconsistent and is built again for the new values
+        final boolean current = slot.back.isVersionOf(slot.back.mSet);
+
+        try {
+            slot.pending.get();
+
+            if (current) {
+                Geometry front = slot.front;
+                slot.front = slot.back;
+                slot.back = front;
+                slot.frontValid = true;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+
+            // reading a DataSet that was modified meanwhile may fail, it is built again
+            if (current)
+                Log.e(LOG_TAG, "Preparing the geometry failed.", e.getCause());
+        } catch (CancellationException e) {
+            // the back buffer is incomplete
+        }
+
+        slot.pending = null;
+    }
+
+    private void discard(Slot slot) {
+
+        slot.discarded = true;
+
+        if (slot.pending != null)
+            slot.pending.cancel(false);
+    }
+
+    /**
+     * Discards the geometry of all DataSets, e.g. after the data changed.
+     */
+    public void clear() {
+
+        for (Slot slot : mSlots.values()) {
+            discard(slot);
+        }
+
+        mSlots.clear();
+    }
+
+    /**
+     * Returns the number of DataSets geometry is held for.
+     *
+     * @return
+     */
+    public int getSlotCount() {
+        return mSlots.size();
+    }
+
+    /**
+     * Discards all geometry and stops the worker threads, call this when the chart is detached
+     * from its window. The pipeline can still be used afterwards, the threads are started again
+     * on the next request.
+     */
+    public void release() {
+
+        clear();
+
+        if (mExecutor != null) {
+            mExecutor.shutdown();
+            mExecutor = null;
+        }
+    }
+
+    private ExecutorService getExecutor() {
+
+        if (mExecutor == null) {
+
+            mExecutor = Executors.newFixedThreadPool(
+                    Math.max(Runtime.getRuntime().availableProcessors(), 1),
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "MPAndroidChart-Geometry");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+
+        return mExecutor;
+    }
+}
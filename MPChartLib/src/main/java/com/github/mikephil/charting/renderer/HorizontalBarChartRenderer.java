@@ -9,6 +9,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.buffer.HorizontalBarBuffer;
+import com.github.mikephil.charting.buffer.StackedValueBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
@@ -42,15 +43,22 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     public void initBuffers() {
 
         BarData barData = mChart.getBarData();
-        mBarBuffers = new HorizontalBarBuffer[barData.getDataSetCount()];
+        mBarBuffers = new BarBuffer[barData.getDataSetCount()];
+        mStackedValueBuffers = new StackedValueBuffer[barData.getDataSetCount()];
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
+            mBarBuffers[i] = createBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
                     barData.getDataSetCount(), set.isStacked());
+            mStackedValueBuffers[i] = new StackedValueBuffer(true);
         }
     }
 
+    @Override
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new HorizontalBarBuffer(size, dataSetCount, containsStacks);
+    }
+
     private RectF mBarShadowRectBuffer = new RectF();
 
     @Override
@@ -66,6 +74,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        calcVisibleBarRange(dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -76,13 +86,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = mVisibleBarRange[0], count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()),
+                    mVisibleBarRange[1] + 1);
                  i < count;
                  i++) {
 
-                BarEntry e = dataSet.getEntryForIndex(i);
-
-                x = e.getX();
+                x = dataSet.getX(i);
 
                 mBarShadowRectBuffer.top = x - barWidthHalf;
                 mBarShadowRectBuffer.bottom = x + barWidthHalf;
@@ -102,16 +111,39 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+        GeometryPipeline.Geometry geometry = pipeline == null ? null : pipeline.get(dataSet);
+
+        final float[] bars;
+        final int barsSize;
+        final int firstBar;
+
+        if (geometry != null) {
 
-        buffer.feed(dataSet);
+            // the bars were already prepared in the background
+            bars = geometry.vertices;
+            barsSize = geometry.count;
+            firstBar = geometry.from;
 
-        trans.pointValuesToPixel(buffer.buffer);
+        } else {
+
+            // initialize the buffer
+            BarBuffer buffer = mBarBuffers[index];
+            buffer.setPhases(phaseX, phaseY);
+            buffer.setDataSet(index);
+            buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+            buffer.setBarWidth(mChart.getBarData().getBarWidth());
+            buffer.limitFrom(mVisibleBarRange[0]);
+            buffer.limitTo(mVisibleBarRange[1]);
+
+            buffer.feed(dataSet);
+
+            trans.pointValuesToPixel(buffer.buffer, buffer.getFeedSize());
+
+            bars = buffer.buffer;
+            barsSize = buffer.getFeedSize();
+            firstBar = buffer.getFrom();
+        }
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -121,38 +153,42 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // index of the first fed bar, stacks take one bar per stack-entry
+        final int firstPos = firstBar * (dataSet.isStacked() ? dataSet.getStackSize() : 1);
+
+        for (int j = 0, pos = firstPos; j < barsSize; j += 4, pos++) {
+            mEntriesVisited++;
 
-            if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
+            if (!mViewPortHandler.isInBoundsTop(bars[j + 3]))
                 break;
 
-            if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
+            if (!mViewPortHandler.isInBoundsBottom(bars[j + 1]))
                 continue;
 
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(pos));
             }
 
             if (isCustomFill) {
                 dataSet.getFill(pos)
                         .fillRect(
                                 c, mRenderPaint,
-                                buffer.buffer[j],
-                                buffer.buffer[j + 1],
-                                buffer.buffer[j + 2],
-                                buffer.buffer[j + 3],
+                                bars[j],
+                                bars[j + 1],
+                                bars[j + 2],
+                                bars[j + 3],
                                 isInverted ? Fill.Direction.LEFT : Fill.Direction.RIGHT);
             }
             else {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mRenderPaint);
+                c.drawRect(bars[j], bars[j + 1], bars[j + 2],
+                        bars[j + 3], mRenderPaint);
             }
 
             if (drawBorder) {
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mBarBorderPaint);
+                c.drawRect(bars[j], bars[j + 1], bars[j + 2],
+                        bars[j + 3], mBarBorderPaint);
             }
         }
     }
@@ -196,7 +232,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getFrom();
+
+                    for (int j = 0; j < buffer.getFeedSize(); j += 4) {
+                        mEntriesVisited++;
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -209,12 +248,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
-                        String formattedValue = formatter.getFormattedValue(val, entry, i, mViewPortHandler);
+                        int valueLength = formatValue(formatter, val, entry, i);
 
                         // calculate the correct offset depending on the draw position of the value
-                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, mValueChars, 0, valueLength);
                         posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                         negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus)
                                 - (buffer.buffer[j + 2] - buffer.buffer[j]);
@@ -225,11 +264,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         }
 
                         if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c,
-                                    formattedValue,
+                            drawFormattedValue(c,
+                                    valueLength,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(from + j / 4));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -257,13 +296,25 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
+                    // the positions of all stack values, transformed at once
+                    StackedValueBuffer stackBuffer = mStackedValueBuffers[i];
+                    stackBuffer.feed(dataSet, buffer, phaseY, trans);
+
                     int bufferIndex = 0;
-                    int index = 0;
+                    int stackIndex = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.getFeedSize()) {
+                        mEntriesVisited++;
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
+                        // the BarBuffer has no bars for missing entries
+                        if (entry == null) {
+                            index++;
+                            continue;
+                        }
+
                         int color = dataSet.getValueTextColor(index);
                         float[] vals = entry.getYVals();
 
@@ -275,89 +326,59 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[bufferIndex + 1]))
                                 break;
 
-                            if (!mViewPortHandler.isInBoundsX(buffer.buffer[bufferIndex]))
-                                continue;
-
-                            if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[bufferIndex + 1]))
-                                continue;
-
-                            float val = entry.getY();
-                            String formattedValue = formatter.getFormattedValue(val,
-                                    entry, i, mViewPortHandler);
-
-                            // calculate the correct offset depending on the draw position of the value
-                            float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
-                            posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
-                            negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
-
-                            if (isInverted) {
-                                posOffset = -posOffset - valueTextWidth;
-                                negOffset = -negOffset - valueTextWidth;
-                            }
-
-                            if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, formattedValue,
-                                        buffer.buffer[bufferIndex + 2]
-                                                + (entry.getY() >= 0 ? posOffset : negOffset),
-                                        buffer.buffer[bufferIndex + 1] + halfTextHeight, color);
-                            }
-
-                            if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
+                            if (mViewPortHandler.isInBoundsX(buffer.buffer[bufferIndex])
+                                    && mViewPortHandler.isInBoundsBottom(buffer.buffer[bufferIndex + 1])) {
 
-                                Drawable icon = entry.getIcon();
+                                float val = entry.getY();
+                                int valueLength = formatValue(formatter, val, entry, i);
 
-                                float px = buffer.buffer[bufferIndex + 2]
-                                        + (entry.getY() >= 0 ? posOffset : negOffset);
-                                float py = buffer.buffer[bufferIndex + 1];
-
-                                px += iconsOffset.x;
-                                py += iconsOffset.y;
+                                // calculate the correct offset depending on the draw position of the value
+                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, mValueChars, 0, valueLength);
+                                posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
+                                negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
-                                Utils.drawImage(
-                                        c,
-                                        icon,
-                                        (int)px,
-                                        (int)py,
-                                        icon.getIntrinsicWidth(),
-                                        icon.getIntrinsicHeight());
-                            }
+                                if (isInverted) {
+                                    posOffset = -posOffset - valueTextWidth;
+                                    negOffset = -negOffset - valueTextWidth;
+                                }
 
-                        } else {
+                                if (dataSet.isDrawValuesEnabled()) {
+                                    drawFormattedValue(c, valueLength,
+                                            buffer.buffer[bufferIndex + 2]
+                                                    + (entry.getY() >= 0 ? posOffset : negOffset),
+                                            buffer.buffer[bufferIndex + 1] + halfTextHeight, color);
+                                }
 
-                            float[] transformed = new float[vals.length * 2];
+                                if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
 
-                            float posY = 0f;
-                            float negY = -entry.getNegativeSum();
+                                    Drawable icon = entry.getIcon();
 
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
+                                    float px = buffer.buffer[bufferIndex + 2]
+                                            + (entry.getY() >= 0 ? posOffset : negOffset);
+                                    float py = buffer.buffer[bufferIndex + 1];
 
-                                float value = vals[idx];
-                                float y;
+                                    px += iconsOffset.x;
+                                    py += iconsOffset.y;
 
-                                if (value == 0.0f && (posY == 0.0f || negY == 0.0f)) {
-                                    // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
-                                    y = value;
-                                } else if (value >= 0.0f) {
-                                    posY += value;
-                                    y = posY;
-                                } else {
-                                    y = negY;
-                                    negY -= value;
+                                    Utils.drawImage(
+                                            c,
+                                            icon,
+                                            (int)px,
+                                            (int)py,
+                                            icon.getIntrinsicWidth(),
+                                            icon.getIntrinsicHeight());
                                 }
-
-                                transformed[k] = y * phaseY;
                             }
 
-                            trans.pointValuesToPixel(transformed);
+                        } else {
 
-                            for (int k = 0; k < transformed.length; k += 2) {
+                            for (int k = 0; k < vals.length; k++) {
 
-                                final float val = vals[k / 2];
-                                String formattedValue = formatter.getFormattedValue(val,
-                                        entry, i, mViewPortHandler);
+                                final float val = vals[k];
+                                int valueLength = formatValue(formatter, val, entry, i);
 
                                 // calculate the correct offset depending on the draw position of the value
-                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, mValueChars, 0, valueLength);
                                 posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                                 negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -366,12 +387,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     negOffset = -negOffset - valueTextWidth;
                                 }
 
-                                final boolean drawBelow =
-                                        (val == 0.0f && negY == 0.0f && posY > 0.0f) ||
-                                                val < 0.0f;
-
-                                float x = transformed[k]
-                                        + (drawBelow ? negOffset : posOffset);
+                                float x = stackBuffer.buffer[stackIndex + k * 2]
+                                        + (stackBuffer.below[stackIndex / 2 + k] ? negOffset : posOffset);
                                 float y = (buffer.buffer[bufferIndex + 1] + buffer.buffer[bufferIndex + 3]) / 2f;
 
                                 if (!mViewPortHandler.isInBoundsTop(y))
@@ -384,7 +401,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     continue;
 
                                 if (dataSet.isDrawValuesEnabled()) {
-                                    drawValue(c, formattedValue, x, y + halfTextHeight, color);
+                                    drawFormattedValue(c, valueLength, x, y + halfTextHeight, color);
                                 }
 
                                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -400,6 +417,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                             icon.getIntrinsicHeight());
                                 }
                             }
+
+                            stackIndex += vals.length * 2;
                         }
 
                         bufferIndex = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
@@ -417,6 +436,20 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         c.drawText(valueText, x, y, mValuePaint);
     }
 
+    /**
+     * Draws the first length chars of mValueChars, see formatValue(...).
+     *
+     * @param c
+     * @param length
+     * @param x
+     * @param y
+     * @param color
+     */
+    protected void drawFormattedValue(Canvas c, int length, float x, float y, int color) {
+        mValuePaint.setColor(color);
+        c.drawText(mValueChars, 0, length, x, y, mValuePaint);
+    }
+
     @Override
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
@@ -3,12 +3,19 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.PathEffect;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
+import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
@@ -16,7 +23,9 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BitmapTileCache;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.LongHashSet;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -24,11 +33,18 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
+    private static final String LOG_TAG = "MPAndroidChart";
+
     protected LineDataProvider mChart;
 
     /**
@@ -43,95 +59,1337 @@ public class LineChartRenderer extends LineRadarRenderer {
     protected WeakReference<Bitmap> mDrawBitmap;
 
     /**
-     * on this canvas, the paths are rendered, it is initialized with the
-     * pathBitmap
+     * on this canvas, the paths are rendered, it is initialized with the
+     * pathBitmap
+     */
+    protected Canvas mBitmapCanvas;
+
+    /**
+     * the bitmap configuration to be used
+     */
+    protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+
+    protected Path cubicPath = new Path();
+    protected Path cubicFillPath = new Path();
+
+    /**
+     * the drawing modes of the geometry prepared by the GeometryPipeline (see Geometry.flags)
+     */
+    protected static final int GEOMETRY_LINEAR = 0;
+    protected static final int GEOMETRY_STEPPED = 1;
+    protected static final int GEOMETRY_CUBIC_BEZIER = 2;
+    protected static final int GEOMETRY_HORIZONTAL_BEZIER = 3;
+    protected static final int GEOMETRY_MODE_MASK = 3;
+
+    /**
+     * flag of geometry that includes the filled area
+     */
+    protected static final int GEOMETRY_FILLED = 4;
+
+    /**
+     * if true, linear single-color lines are reduced to at most 4 points per pixel column
+     * before they are drawn
+     */
+    protected boolean mDecimationEnabled = false;
+
+    /**
+     * if true, the lines are drawn into a bitmap that is kept between frames, panning along the
+     * x-axis only draws the newly exposed strip
+     */
+    protected boolean mRetainedDrawingEnabled = false;
+
+    /**
+     * the retained lines and the buffer the retained lines are shifted into while panning
+     */
+    private Bitmap mRetainedBitmap, mScratchBitmap;
+    private Canvas mRetainedCanvas, mScratchCanvas;
+
+    /**
+     * paint for drawing the retained lines at sub-pixel positions
+     */
+    private Paint mRetainedPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    /**
+     * true if the retained bitmap can be reused
+     */
+    private boolean mRetainedValid = false;
+
+    /**
+     * the x-translation of the value-to-pixel matrix the retained lines are drawn with
+     */
+    private float mRetainedTranslateX;
+
+    /**
+     * the state the retained lines were drawn with: the value-to-pixel matrices of both axes,
+     * the animation phase and the style and data versions of every DataSet
+     */
+    private float[] mRetainedMatrices = new float[18];
+    private float[] mMatrixValuesBuffer = new float[9];
+    private float mRetainedPhaseY;
+    private ILineDataSet[] mRetainedSets = new ILineDataSet[0];
+    private int[] mRetainedSetStates = new int[0];
+
+    /**
+     * number of values stored per DataSet in mRetainedSetStates
+     */
+    private static final int RETAINED_SET_STATE_SIZE = 2;
+
+    /**
+     * cache of pre-rendered tiles of the lines, null if disabled
+     */
+    protected BitmapTileCache mTileCache = null;
+
+    /**
+     * width of a tile in pixels (without the padding)
+     */
+    protected int mTileWidth = 256;
+
+    /**
+     * pixels rendered on both sides of a tile, so that neighbouring tiles are filtered seamlessly
+     */
+    private static final int TILE_PADDING = 1;
+
+    /**
+     * number of zoom levels (x-scales tiles are rendered at) per doubling of the x-scale
+     */
+    private static final int TILE_LEVELS_PER_DOUBLING = 64;
+
+    /**
+     * maximum number of tiles to composite per frame, beyond that the lines are drawn directly
+     */
+    private static final int MAX_VISIBLE_TILES = 32;
+
+    private Rect mTileSrcRect = new Rect();
+    private RectF mTileDstRect = new RectF();
+
+    /**
+     * the version of the data, the y-mapping and the styling the tiles are rendered for, part
+     * of every cached tile
+     */
+    private int mTileVersion = 0;
+
+    /**
+     * the keys of the tiles that are being rendered
+     */
+    private LongHashSet mPendingTiles = new LongHashSet(MAX_VISIBLE_TILES);
+
+    /**
+     * the keys of the tiles that failed to render for the current version, they are not
+     * requested again until the version changes
+     */
+    private LongHashSet mFailedTiles = new LongHashSet(MAX_VISIBLE_TILES);
+
+    /**
+     * the rendered tiles, handed from the worker thread to the UI thread
+     */
+    private ConcurrentLinkedQueue<TileJob> mRenderedTiles = new ConcurrentLinkedQueue<>();
+
+    /**
+     * renders the tiles in the background, null until the first tile is requested
+     */
+    private ExecutorService mTileExecutor = null;
+
+    /**
+     * run (on the worker thread) when a tile was rendered, to redraw the chart
+     */
+    protected Runnable mOnTileRendered = null;
+
+    public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
+                             ViewPortHandler viewPortHandler) {
+        super(animator, viewPortHandler);
+        mChart = chart;
+
+        mCirclePaintInner = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mCirclePaintInner.setStyle(Paint.Style.FILL);
+        mCirclePaintInner.setColor(Color.WHITE);
+    }
+
+    @Override
+    public void initBuffers() {
+        mRetainedValid = false;
+
+        // the cached tiles are kept and drawn until they are rendered again
+        invalidateTiles();
+    }
+
+    @Override
+    public void drawData(Canvas c) {
+
+        int width = (int) mViewPortHandler.getChartWidth();
+        int height = (int) mViewPortHandler.getChartHeight();
+
+        if (mTileCache != null && drawDataTiled(c)) {
+            mRetainedValid = false;
+            return;
+        }
+
+        if (mRetainedDrawingEnabled) {
+            drawDataRetained(c, width, height);
+            return;
+        }
+
+        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+
+        if (drawBitmap == null
+                || (drawBitmap.getWidth() != width)
+                || (drawBitmap.getHeight() != height)) {
+
+            if (width > 0 && height > 0) {
+                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+                mDrawBitmap = new WeakReference<>(drawBitmap);
+                mBitmapCanvas = new Canvas(drawBitmap);
+            } else
+                return;
+        }
+
+        drawBitmap.eraseColor(Color.TRANSPARENT);
+
+        drawDataSets(c, mChart.getLineData());
+
+        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Draws the lines of all visible DataSets.
+     *
+     * @param c
+     * @param lineData
+     */
+    protected void drawDataSets(Canvas c, LineData lineData) {
+
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+
+        // start preparing the lines of all DataSets before the first one is drawn
+        if (pipeline != null) {
+
+            for (ILineDataSet set : lineData.getDataSets()) {
+
+                if (set.isVisible() && set.getEntryCount() > 0)
+                    requestGeometry(pipeline, set);
+            }
+        }
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+
+            if (set.isVisible()) {
+                long start = startTiming();
+                drawDataSet(c, set);
+                dataSetDrawn(set, start);
+            }
+        }
+    }
+
+    /**
+     * Draws the data by compositing cached tiles. The tiles are rendered on a worker thread at
+     * x-scales rounded to one of TILE_LEVELS_PER_DOUBLING levels per doubling of the scale and
+     * stretched to the current scale when drawn, so every tile can be reused until the y-range,
+     * the data or its styling changes. Until a tile is rendered for the current version, its
+     * outdated version is drawn, or nothing if there is none. Returns false if the data cannot
+     * be tiled (more than one color per DataSet, fill drawables, running animations), then the
+     * lines have to be drawn directly.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean drawDataTiled(Canvas c) {
+
+        LineData lineData = mChart.getLineData();
+
+        collectRenderedTiles();
+
+        if (mAnimator.getPhaseX() < 1f || mAnimator.getPhaseY() < 1f)
+            return false;
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+
+            // multi-colored lines are culled to the content rect, drawables are positioned in it
+            if (set.isVisible() && (set.getColors().size() > 1
+                    || (set.isDrawFilledEnabled() && set.getFillDrawable() != null)))
+                return false;
+        }
+
+        // tiles stay valid as long as nothing but the x-scale and -translation changed
+        if (!updateRetainedState(lineData, false))
+            invalidateTiles();
+
+        final float scaleX = mRetainedMatrices[Matrix.MSCALE_X];
+        final float translateX = mRetainedMatrices[Matrix.MTRANS_X];
+
+        if (!(scaleX > 0f))
+            return false;
+
+        final int level = Math.round((float) (Math.log(scaleX) / Math.log(2.0)) * TILE_LEVELS_PER_DOUBLING);
+        final double levelScaleX = Math.pow(2.0, (double) level / TILE_LEVELS_PER_DOUBLING);
+
+        // width of a tile in values
+        final double tileValueWidth = mTileWidth / levelScaleX;
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final int top = (int) Math.floor(content.top);
+        final int height = (int) Math.ceil(content.bottom) - top;
+
+        if (height <= 0)
+            return false;
+
+        final long firstTile = (long) Math.floor((content.left - translateX) / scaleX / tileValueWidth);
+        final long lastTile = (long) Math.floor((content.right - translateX) / scaleX / tileValueWidth);
+
+        if (lastTile - firstTile >= MAX_VISIBLE_TILES)
+            return false;
+
+        // width of a tile on screen at the current scale
+        final double tileScreenWidth = mTileWidth * (scaleX / levelScaleX);
+
+        mTileSrcRect.set(TILE_PADDING, 0, TILE_PADDING + mTileWidth, height);
+
+        for (long index = firstTile; index <= lastTile; index++) {
+
+            final long key = BitmapTileCache.key(level, index);
+
+            BitmapTileCache.Tile tile = mTileCache.get(key);
+
+            final boolean usable = tile != null
+                    && tile.bitmap.getWidth() == mTileWidth + 2 * TILE_PADDING
+                    && tile.bitmap.getHeight() == height;
+
+            if (!usable || tile.version != mTileVersion)
+                requestTile(lineData, key, index, levelScaleX, top, height);
+
+            if (!usable)
+                continue;
+
+            final float left = (float) (index * tileValueWidth * scaleX + translateX);
+
+            mTileDstRect.set(left, top, (float) (left + tileScreenWidth), top + height);
+
+            c.drawBitmap(tile.bitmap, mTileSrcRect, mTileDstRect, mRetainedPaint);
+        }
+
+        return true;
+    }
+
+    /**
+     * Increments the version the tiles are rendered for, the cached tiles are drawn until they
+     * are rendered for the new version.
+     */
+    private void invalidateTiles() {
+        mTileVersion++;
+        mFailedTiles.clear();
+    }
+
+    /**
+     * Moves the tiles rendered by the worker thread into the cache. Tiles of DataSets that
+     * changed while they were rendered are discarded.
+     */
+    private void collectRenderedTiles() {
+
+        TileJob job;
+
+        while ((job = mRenderedTiles.poll()) != null) {
+
+            mPendingTiles.remove(job.key);
+
+            final boolean current = job.isCurrent();
+
+            if (job.error != null && current) {
+
+                Log.e(LOG_TAG, "Rendering the tile failed.", job.error);
+
+                // it would fail again, it is rendered again for the next version
+                if (job.version == mTileVersion)
+                    mFailedTiles.add(job.key);
+            }
+
+            if (job.error != null || !current || mTileCache == null) {
+
+                if (mTileCache != null)
+                    mTileCache.recycle(job.bitmap);
+
+                continue;
+            }
+
+            mTileCache.put(job.key, new BitmapTileCache.Tile(job.bitmap, job.version));
+        }
+    }
+
+    /**
+     * Starts rendering the tile with the given index at the given x-scale for the current
+     * version on the worker thread, unless the tile is already being rendered or failed to
+     * render for this version. The state of the DataSets is captured here, the worker only
+     * reads their entries. The DataSets must only be modified on the UI thread, a tile rendered
+     * while one of its DataSets changed is discarded.
+     *
+     * @param lineData
+     * @param key
+     * @param index
+     * @param levelScaleX the x-scale of the tile, in pixels per value
+     * @param top         the top of the content rect
+     * @param height      the height of the content rect
+     */
+    private void requestTile(LineData lineData, long key, long index, double levelScaleX, int top, int height) {
+
+        // a newer version is requested once the running one is done
+        if (mPendingTiles.contains(key) || mFailedTiles.contains(key))
+            return;
+
+        Bitmap bitmap = mTileCache.obtain(mTileWidth + 2 * TILE_PADDING, height, mBitmapConfig);
+
+        if (bitmap == null)
+            return;
+
+        final float scaleX = mRetainedMatrices[Matrix.MSCALE_X];
+        final float translateX = mRetainedMatrices[Matrix.MTRANS_X];
+
+        // maps the pixels at the current scale to the pixels of the tile
+        final double scale = levelScaleX / scaleX;
+        final double translate = -index * (double) mTileWidth + TILE_PADDING;
+
+        final double tileValueWidth = mTileWidth / levelScaleX;
+        final double margin = (getStripMargin(lineData) + TILE_PADDING) / levelScaleX;
+
+        final List<ILineDataSet> dataSets = lineData.getDataSets();
+        final TileLayer[] layers = new TileLayer[dataSets.size()];
+
+        int count = 0;
+
+        for (ILineDataSet set : dataSets) {
+
+            final int mode = getGeometryMode(set);
+
+            if (!set.isVisible() || set.getEntryCount() == 0 || mode < 0)
+                continue;
+
+            final TileLayer layer = new TileLayer();
+            final GeometryPipeline.Geometry geometry = layer.geometry;
+            final float[] matrix = geometry.matrix;
+
+            mChart.getTransformer(set.getAxisDependency()).getSnapshot().getValues(matrix);
+
+            matrix[Matrix.MSCALE_X] *= scale;
+            matrix[Matrix.MSKEW_X] *= scale;
+            matrix[Matrix.MTRANS_X] = (float) ((matrix[Matrix.MTRANS_X] - translateX) * scale + translate);
+            matrix[Matrix.MTRANS_Y] -= top;
+
+            geometry.phaseX = 1f;
+            geometry.phaseY = 1f;
+            geometry.flags = mode;
+
+            if (set.isDrawFilledEnabled()) {
+                geometry.flags |= GEOMETRY_FILLED;
+                geometry.fillLinePosition = set.getFillFormatter().getFillLinePosition(set, mChart);
+                layer.fillColor = (set.getFillAlpha() << 24) | (set.getFillColor() & 0xffffff);
+            }
+
+            // the level of detail is captured here, it is updated on the UI thread
+            layer.set = mode == GEOMETRY_LINEAR ? getLevelOfDetail(set) : set;
+            layer.dataSet = set;
+
+            if (set instanceof BaseDataSet)
+                layer.dataVersion = ((BaseDataSet) set).getDataVersion();
+
+            layer.color = set.getColor();
+            layer.lineWidth = set.getLineWidth();
+            layer.dashPathEffect = set.getDashPathEffect();
+
+            layers[count++] = layer;
+        }
+
+        TileJob job = new TileJob(key, mTileVersion, bitmap, Arrays.copyOf(layers, count),
+                (float) (index * tileValueWidth - margin),
+                (float) ((index + 1) * tileValueWidth + margin));
+
+        mPendingTiles.add(key);
+
+        getTileExecutor().execute(job);
+    }
+
+    /**
+     * The state of one DataSet captured for rendering a tile.
+     */
+    private static final class TileLayer {
+
+        /**
+         * the DataSet (or its level of detail) the tile is rendered from
+         */
+        ILineDataSet set;
+
+        /**
+         * the DataSet of the chart and its data version when the tile was requested
+         */
+        ILineDataSet dataSet;
+        int dataVersion;
+
+        /**
+         * holds the matrix (value to tile pixels), the drawing mode and the fill line
+         */
+        final GeometryPipeline.Geometry geometry = new GeometryPipeline.Geometry();
+
+        int color;
+        int fillColor;
+        float lineWidth;
+        PathEffect dashPathEffect;
+    }
+
+    /**
+     * Renders one tile on the worker thread, with its own canvas and paint, and hands it to the
+     * UI thread.
+     */
+    private final class TileJob implements Runnable {
+
+        final long key;
+        final int version;
+        final Bitmap bitmap;
+        final TileLayer[] layers;
+        final float xMin, xMax;
+
+        /**
+         * set if rendering the tile failed
+         */
+        volatile RuntimeException error = null;
+
+        private final Runnable mListener = mOnTileRendered;
+
+        TileJob(long key, int version, Bitmap bitmap, TileLayer[] layers, float xMin, float xMax) {
+            this.key = key;
+            this.version = version;
+            this.bitmap = bitmap;
+            this.layers = layers;
+            this.xMin = xMin;
+            this.xMax = xMax;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                render();
+            } catch (RuntimeException e) {
+                error = e;
+            }
+
+            mRenderedTiles.add(this);
+
+            if (mListener != null)
+                mListener.run();
+        }
+
+        /**
+         * Returns true if none of the DataSets of the tile changed since it was requested. Call
+         * this on the UI thread.
+         *
+         * @return
+         */
+        boolean isCurrent() {
+
+            for (TileLayer layer : layers) {
+
+                if (layer.dataSet instanceof BaseDataSet
+                        && ((BaseDataSet) layer.dataSet).getDataVersion() != layer.dataVersion)
+                    return false;
+            }
+
+            return true;
+        }
+
+        private void render() {
+
+            final Canvas canvas = new Canvas(bitmap);
+            final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            final int[] range = new int[2];
+
+            for (TileLayer layer : layers) {
+
+                final ILineDataSet set = layer.set;
+                final GeometryPipeline.Geometry geometry = layer.geometry;
+
+                set.getEntryIndexRange(xMin, xMax, range);
+
+                if (range[0] < 0 || range[1] < range[0])
+                    continue;
+
+                geometry.from = range[0];
+                geometry.to = Math.min(range[1], set.getEntryCount() - 1);
+
+                mLineGeometryBuilder.build(set, geometry);
+
+                if ((geometry.flags & GEOMETRY_FILLED) != 0 && geometry.fillPath != null) {
+                    paint.setStyle(Paint.Style.FILL);
+                    paint.setColor(layer.fillColor);
+                    paint.setPathEffect(null);
+                    canvas.drawPath(geometry.fillPath, paint);
+                }
+
+                paint.setStyle(Paint.Style.STROKE);
+                paint.setColor(layer.color);
+                paint.setStrokeWidth(layer.lineWidth);
+                paint.setPathEffect(layer.dashPathEffect);
+
+                switch (geometry.flags & GEOMETRY_MODE_MASK) {
+                    case GEOMETRY_CUBIC_BEZIER:
+                    case GEOMETRY_HORIZONTAL_BEZIER:
+                        canvas.drawPath(geometry.path, paint);
+                        break;
+                    default:
+                        canvas.drawLines(geometry.vertices, 0, geometry.count, paint);
+                        break;
+                }
+            }
+
+            canvas.setBitmap(null);
+        }
+    }
+
+    private ExecutorService getTileExecutor() {
+
+        if (mTileExecutor == null) {
+
+            mTileExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPAndroidChart-Tiles");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return mTileExecutor;
+    }
+
+    /**
+     * Stops the tile rendering thread and frees the tiles that were rendered but not collected.
+     */
+    private void releaseTileRendering() {
+
+        if (mTileExecutor != null) {
+            mTileExecutor.shutdown();
+            mTileExecutor = null;
+        }
+
+        TileJob job;
+
+        while ((job = mRenderedTiles.poll()) != null)
+            job.bitmap.recycle();
+
+        mPendingTiles.clear();
+        mFailedTiles.clear();
+    }
+
+    /**
+     * Sets the action that is run (on the tile rendering thread) whenever a tile was rendered,
+     * e.g. to redraw the chart. Set by the LineChart.
+     *
+     * @param listener
+     */
+    public void setOnTileRenderedListener(Runnable listener) {
+        mOnTileRendered = listener;
+    }
+
+    /**
+     * Draws the data using the retained bitmap. If nothing but the x-translation of the chart
+     * changed since the last frame, the retained lines are shifted by the (rounded) translation
+     * and only the exposed strip is drawn, otherwise everything is redrawn. The sub-pixel rest
+     * of the translation is applied when drawing the bitmap.
+     *
+     * @param c
+     * @param width
+     * @param height
+     */
+    protected void drawDataRetained(Canvas c, int width, int height) {
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        prepareRetainedBitmaps(width, height);
+
+        LineData lineData = mChart.getLineData();
+
+        final boolean unchanged = updateRetainedState(lineData, true);
+        final float translateX = mRetainedMatrices[Matrix.MTRANS_X];
+
+        // the content rect, rounded outwards so that the strips line up with the pixels
+        final RectF content = mViewPortHandler.getContentRect();
+        final int left = Math.max((int) Math.floor(content.left), 0);
+        final int top = Math.max((int) Math.floor(content.top), 0);
+        final int right = Math.min((int) Math.ceil(content.right), width);
+        final int bottom = Math.min((int) Math.ceil(content.bottom), height);
+
+        final int shift = Math.round(translateX - mRetainedTranslateX);
+
+        if (!mRetainedValid || !unchanged || Math.abs(shift) >= right - left) {
+
+            eraseRetainedBitmap();
+            mRetainedTranslateX = translateX;
+
+            drawRetainedStrip(lineData, left, top, right, bottom, 0f);
+
+            mRetainedValid = true;
+
+        } else if (shift != 0) {
+
+            // move the retained lines by the whole pixels of the translation
+            shiftRetainedBitmap(shift, left, top, right, bottom);
+
+            mRetainedTranslateX += shift;
+
+            final float rest = translateX - mRetainedTranslateX;
+
+            if (shift > 0)
+                drawRetainedStrip(lineData, left, top, left + shift, bottom, rest);
+            else
+                drawRetainedStrip(lineData, right + shift, top, right, bottom, rest);
+        }
+
+        c.drawBitmap(mRetainedBitmap, translateX - mRetainedTranslateX, 0, mRetainedPaint);
+    }
+
+    /**
+     * Creates the retained bitmap and the buffer it is shifted into if they don't exist or have
+     * another size, the retained lines are redrawn then.
+     *
+     * @param width
+     * @param height
+     */
+    protected void prepareRetainedBitmaps(int width, int height) {
+
+        if (mRetainedBitmap != null
+                && mRetainedBitmap.getWidth() == width && mRetainedBitmap.getHeight() == height)
+            return;
+
+        releaseRetainedBitmaps();
+
+        mRetainedBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+        mRetainedCanvas = new Canvas(mRetainedBitmap);
+        mScratchBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+        mScratchCanvas = new Canvas(mScratchBitmap);
+    }
+
+    /**
+     * Clears the retained bitmap before everything is redrawn.
+     */
+    protected void eraseRetainedBitmap() {
+        mRetainedBitmap.eraseColor(Color.TRANSPARENT);
+    }
+
+    /**
+     * Moves the retained lines by the given number of pixels along the x-axis, clipped to the
+     * given rect. The exposed strip is left empty.
+     *
+     * @param shift
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     */
+    protected void shiftRetainedBitmap(int shift, int left, int top, int right, int bottom) {
+
+        mScratchBitmap.eraseColor(Color.TRANSPARENT);
+
+        int save = mScratchCanvas.save();
+        mScratchCanvas.clipRect(left, top, right, bottom);
+        mScratchCanvas.drawBitmap(mRetainedBitmap, shift, 0, null);
+        mScratchCanvas.restoreToCount(save);
+
+        Bitmap bitmap = mRetainedBitmap;
+        mRetainedBitmap = mScratchBitmap;
+        mScratchBitmap = bitmap;
+
+        Canvas canvas = mRetainedCanvas;
+        mRetainedCanvas = mScratchCanvas;
+        mScratchCanvas = canvas;
+    }
+
+    /**
+     * Draws all DataSets into the retained bitmap, clipped to the given rect (in pixels of the
+     * bitmap). Only the entries around the rect are drawn.
+     *
+     * @param lineData
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @param rest     the part of the x-translation the retained lines are not drawn with
+     */
+    protected void drawRetainedStrip(LineData lineData, int left, int top, int right, int bottom,
+                                     float rest) {
+
+        // widen the strip so that lines starting or ending just outside of it are drawn
+        final float margin = getStripMargin(lineData);
+
+        Transformer trans = mChart.getTransformer(YAxis.AxisDependency.LEFT);
+
+        MPPointD low = trans.getValuesByTouchPoint(left + rest - margin, 0f);
+        MPPointD high = trans.getValuesByTouchPoint(right + rest + margin, 0f);
+
+        mDrawXMin = (float) Math.min(low.x, high.x);
+        mDrawXMax = (float) Math.max(low.x, high.x);
+
+        MPPointD.recycleInstance(low);
+        MPPointD.recycleInstance(high);
+
+        int save = mRetainedCanvas.save();
+        mRetainedCanvas.clipRect(left, top, right, bottom);
+        mRetainedCanvas.translate(-rest, 0f);
+
+        // lines that are usually drawn on the bitmap-canvas go to the retained bitmap as well
+        Canvas bitmapCanvas = mBitmapCanvas;
+        mBitmapCanvas = mRetainedCanvas;
+
+        drawDataSets(mRetainedCanvas, lineData);
+
+        mBitmapCanvas = bitmapCanvas;
+
+        mRetainedCanvas.restoreToCount(save);
+
+        mDrawXMin = Float.NaN;
+        mDrawXMax = Float.NaN;
+    }
+
+    /**
+     * Returns the distance in pixels by which a strip of the chart has to be widened so that
+     * lines starting or ending just outside of it are drawn into it.
+     *
+     * @param lineData
+     * @return
+     */
+    private float getStripMargin(LineData lineData) {
+
+        float margin = 2f;
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+            if (set.isVisible())
+                margin = Math.max(margin, set.getLineWidth() + 2f);
+        }
+
+        return margin;
+    }
+
+    /**
+     * Stores the current state of the chart and the DataSets and returns true if nothing but
+     * the x-translation (and the x-scale, if compareScaleX is false) changed since the last
+     * call.
+     *
+     * @param lineData
+     * @param compareScaleX
+     * @return
+     */
+    private boolean updateRetainedState(LineData lineData, boolean compareScaleX) {
+
+        boolean unchanged = true;
+
+        final float[] matrices = mRetainedMatrices;
+        final float[] values = mMatrixValuesBuffer;
+
+        final float translateDiff = matrices[9 + Matrix.MTRANS_X] - matrices[Matrix.MTRANS_X];
+
+        mChart.getTransformer(YAxis.AxisDependency.LEFT).getSnapshot().getValues(values);
+
+        for (int i = 0; i < 9; i++) {
+
+            if (i != Matrix.MTRANS_X && (compareScaleX || i != Matrix.MSCALE_X)
+                    && matrices[i] != values[i])
+                unchanged = false;
+
+            matrices[i] = values[i];
+        }
+
+        mChart.getTransformer(YAxis.AxisDependency.RIGHT).getSnapshot().getValues(values);
+
+        for (int i = 0; i < 9; i++) {
+
+            if (i != Matrix.MTRANS_X && (compareScaleX || i != Matrix.MSCALE_X)
+                    && matrices[9 + i] != values[i])
+                unchanged = false;
+
+            matrices[9 + i] = values[i];
+        }
+
+        if (matrices[9 + Matrix.MTRANS_X] - matrices[Matrix.MTRANS_X] != translateDiff)
+            unchanged = false;
+
+        // the visible range of a running x-animation does not move with the translation
+        if (mAnimator.getPhaseX() < 1f || mAnimator.getPhaseY() != mRetainedPhaseY)
+            unchanged = false;
+
+        mRetainedPhaseY = mAnimator.getPhaseY();
+
+        final List<ILineDataSet> dataSets = lineData.getDataSets();
+        final int count = dataSets.size();
+
+        if (mRetainedSets.length != count) {
+            mRetainedSets = new ILineDataSet[count];
+            mRetainedSetStates = new int[count * RETAINED_SET_STATE_SIZE];
+            unchanged = false;
+        }
+
+        for (int i = 0; i < count; i++) {
+
+            ILineDataSet set = dataSets.get(i);
+
+            if (mRetainedSets[i] != set) {
+                mRetainedSets[i] = set;
+                unchanged = false;
+            }
+
+            // DataSets that are not versioned are redrawn on every frame
+            if (!(set instanceof BaseDataSet)) {
+                unchanged = false;
+                continue;
+            }
+
+            int offset = i * RETAINED_SET_STATE_SIZE;
+
+            unchanged &= updateRetainedSetState(offset, ((BaseDataSet) set).getStyleVersion());
+            unchanged &= updateRetainedSetState(offset + 1, ((BaseDataSet) set).getDataVersion());
+        }
+
+        return unchanged;
+    }
+
+    private boolean updateRetainedSetState(int index, int value) {
+
+        if (mRetainedSetStates[index] == value)
+            return true;
+
+        mRetainedSetStates[index] = value;
+        return false;
+    }
+
+    private void releaseRetainedBitmaps() {
+
+        if (mRetainedBitmap != null) {
+            mRetainedBitmap.recycle();
+            mScratchBitmap.recycle();
+            mRetainedBitmap = null;
+            mScratchBitmap = null;
+            mRetainedCanvas = null;
+            mScratchCanvas = null;
+        }
+
+        mRetainedValid = false;
+    }
+
+    protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
+
+        if (dataSet.getEntryCount() < 1)
+            return;
+
+        mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
+        mRenderPaint.setPathEffect(dataSet.getDashPathEffect());
+
+        switch (dataSet.getMode()) {
+            default:
+            case LINEAR:
+                drawLinear(c, getLevelOfDetail(dataSet));
+                break;
+
+            case STEPPED:
+                drawLinear(c, dataSet);
+                break;
+
+            case CUBIC_BEZIER:
+                drawCubicBezier(dataSet);
+                break;
+
+            case HORIZONTAL_BEZIER:
+                drawHorizontalBezier(dataSet);
+                break;
+        }
+
+        mRenderPaint.setPathEffect(null);
+    }
+
+    /**
+     * Returns the DataSet that should be drawn for the lines of the given DataSet at the current
+     * zoom, a simplified version of it if level of detail is enabled for it.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected ILineDataSet getLevelOfDetail(ILineDataSet dataSet) {
+
+        // colors are assigned by entry index, simplifying would shift them
+        if (!(dataSet instanceof LineDataSet) || dataSet.getColors().size() > 1)
+            return dataSet;
+
+        mChart.getTransformer(dataSet.getAxisDependency()).getSnapshot()
+                .getValues(mMatrixValuesBuffer);
+
+        return ((LineDataSet) dataSet).getLevelOfDetail(
+                mMatrixValuesBuffer[Matrix.MSCALE_X], mMatrixValuesBuffer[Matrix.MSCALE_Y]);
+    }
+
+    /**
+     * Requests the geometry of the given DataSet from the pipeline: the line vertices if its
+     * lines are drawn as a single-colored vertex array (see drawLinear(...)), the path if it is
+     * drawn cubic, and the filled area if filling is enabled.
+     *
+     * @param pipeline
+     * @param dataSet
+     */
+    protected void requestGeometry(GeometryPipeline pipeline, ILineDataSet dataSet) {
+
+        int flags = getGeometryMode(dataSet);
+
+        if (flags < 0)
+            return;
+
+        final ILineDataSet set = flags == GEOMETRY_LINEAR ? getLevelOfDetail(dataSet) : dataSet;
+
+        final boolean isLinear = flags == GEOMETRY_LINEAR || flags == GEOMETRY_STEPPED;
+
+        if (isLinear && set.getColors().size() > 1)
+            return;
+
+        mXBounds.set(mChart, set);
+
+        if (mXBounds.min >= set.getEntryCount())
+            return;
+
+        // decimated lines are drawn on the UI thread
+        if (isLinear && mDecimationEnabled && flags != GEOMETRY_STEPPED && !set.isDashedLineEnabled()
+                && mXBounds.range > mViewPortHandler.contentWidth() * 4)
+            return;
+
+        GeometryPipeline.Geometry request = pipeline.getRequest(set);
+
+        if (set.isDrawFilledEnabled()) {
+            flags |= GEOMETRY_FILLED;
+            request.fillLinePosition = set.getFillFormatter().getFillLinePosition(set, mChart);
+        }
+
+        mChart.getTransformer(set.getAxisDependency()).getSnapshot().getValues(request.matrix);
+        request.from = mXBounds.min;
+        request.to = mXBounds.min + mXBounds.range;
+        request.phaseX = mAnimator.getPhaseX();
+        request.phaseY = mAnimator.getPhaseY();
+        request.flags = flags;
+        request.cubicIntensity = set.getCubicIntensity();
+        request.dashPathEffect = set.getDashPathEffect();
+
+        pipeline.request(set, mLineGeometryBuilder);
+    }
+
+    /**
+     * Returns the GEOMETRY_... drawing mode of the given DataSet, or -1 if its geometry cannot be
+     * prepared in the background.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected static int getGeometryMode(ILineDataSet dataSet) {
+
+        switch (dataSet.getMode()) {
+            case LINEAR:
+                return GEOMETRY_LINEAR;
+            case STEPPED:
+                return GEOMETRY_STEPPED;
+            case CUBIC_BEZIER:
+                return GEOMETRY_CUBIC_BEZIER;
+            case HORIZONTAL_BEZIER:
+                return GEOMETRY_HORIZONTAL_BEZIER;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Builds the same line segments as the single-color branch of drawLinear(...), the same
+     * paths as drawCubicBezier(...) and drawHorizontalBezier(...), and the filled areas, mapped
+     * to pixels. Runs on the worker threads of the GeometryPipeline.
+     */
+    protected GeometryPipeline.GeometryBuilder mLineGeometryBuilder = new GeometryPipeline.GeometryBuilder() {
+
+        @Override
+        public void build(IDataSet dataSet, GeometryPipeline.Geometry geometry) {
+
+            final ILineDataSet set = (ILineDataSet) dataSet;
+            final boolean filled = (geometry.flags & GEOMETRY_FILLED) != 0;
+
+            switch (geometry.flags & GEOMETRY_MODE_MASK) {
+                case GEOMETRY_CUBIC_BEZIER:
+                    buildCubicBezier(set, geometry);
+                    break;
+                case GEOMETRY_HORIZONTAL_BEZIER:
+                    buildHorizontalBezier(set, geometry);
+                    break;
+                default:
+                    buildLinear(set, geometry);
+
+                    if (filled)
+                        buildLinearFill(set, geometry);
+                    return;
+            }
+
+            if (filled) {
+
+                if (geometry.fillPath == null)
+                    geometry.fillPath = new Path();
+
+                final float fillMin = geometry.fillLinePosition;
+                final float lastX = set.getX(geometry.to);
+                final float firstX = set.getX(geometry.from);
+
+                geometry.fillPath.set(geometry.path);
+                geometry.fillPath.lineTo(geometry.mapX(lastX, fillMin), geometry.mapY(lastX, fillMin));
+                geometry.fillPath.lineTo(geometry.mapX(firstX, fillMin), geometry.mapY(firstX, fillMin));
+                geometry.fillPath.close();
+            }
+        }
+    };
+
+    /**
+     * Fills the vertices of the given Geometry with the line segments of drawLinear(...).
+     */
+    private static void buildLinear(ILineDataSet dataSet, GeometryPipeline.Geometry geometry) {
+
+        final boolean isDrawSteppedEnabled = (geometry.flags & GEOMETRY_MODE_MASK) == GEOMETRY_STEPPED;
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+        final float phaseY = geometry.phaseY;
+
+        geometry.ensureCapacity(Math.max((geometry.to - geometry.from + 1) * pointsPerEntryPair,
+                pointsPerEntryPair) * 2);
+
+        final float[] vertices = geometry.vertices;
+
+        int j = 0;
+        for (int x = geometry.from; x <= geometry.to; x++) {
+
+            final int prev = x == 0 ? 0 : (x - 1);
+
+            final float x1 = dataSet.getX(prev);
+            final float y1 = dataSet.getY(prev) * phaseY;
+            final float x2 = dataSet.getX(x);
+            final float y2 = dataSet.getY(x) * phaseY;
+
+            final float px1 = geometry.mapX(x1, y1);
+            final float py1 = geometry.mapY(x1, y1);
+
+            vertices[j++] = px1;
+            vertices[j++] = py1;
+
+            if (isDrawSteppedEnabled) {
+                final float px2 = geometry.mapX(x2, y1);
+                final float py2 = geometry.mapY(x2, y1);
+
+                vertices[j++] = px2;
+                vertices[j++] = py2;
+                vertices[j++] = px2;
+                vertices[j++] = py2;
+            }
+
+            vertices[j++] = geometry.mapX(x2, y2);
+            vertices[j++] = geometry.mapY(x2, y2);
+        }
+
+        geometry.count = j;
+    }
+
+    /**
+     * Builds the filled area of drawLinearFill(...) into the fill path of the given Geometry, as
+     * one sub-path per chunk of entries.
      */
-    protected Canvas mBitmapCanvas;
+    private static void buildLinearFill(ILineDataSet dataSet, GeometryPipeline.Geometry geometry) {
+
+        if (geometry.fillPath == null)
+            geometry.fillPath = new Path();
+
+        final Path filled = geometry.fillPath;
+        filled.reset();
+
+        final float fillMin = geometry.fillLinePosition;
+        final float phaseY = geometry.phaseY;
+        final boolean isDrawSteppedEnabled = (geometry.flags & GEOMETRY_MODE_MASK) == GEOMETRY_STEPPED;
+
+        final int startingIndex = geometry.from;
+        final int endingIndex = geometry.to;
+        final int indexInterval = 128;
+
+        int currentStartIndex;
+        int currentEndIndex;
+        int iterations = 0;
+
+        do {
+            currentStartIndex = startingIndex + (iterations * indexInterval);
+            currentEndIndex = currentStartIndex + indexInterval;
+            currentEndIndex = currentEndIndex > endingIndex ? endingIndex : currentEndIndex;
+
+            if (currentStartIndex <= currentEndIndex) {
+
+                final float startX = dataSet.getX(currentStartIndex);
+                float previousY = dataSet.getY(currentStartIndex) * phaseY;
+
+                filled.moveTo(geometry.mapX(startX, fillMin), geometry.mapY(startX, fillMin));
+                filled.lineTo(geometry.mapX(startX, previousY), geometry.mapY(startX, previousY));
+
+                for (int x = currentStartIndex + 1; x <= currentEndIndex; x++) {
+
+                    final float currentX = dataSet.getX(x);
+                    final float currentY = dataSet.getY(x) * phaseY;
+
+                    if (isDrawSteppedEnabled)
+                        filled.lineTo(geometry.mapX(currentX, previousY), geometry.mapY(currentX, previousY));
+
+                    filled.lineTo(geometry.mapX(currentX, currentY), geometry.mapY(currentX, currentY));
+
+                    previousY = currentY;
+                }
+
+                if (currentEndIndex > currentStartIndex) {
+                    final float endX = dataSet.getX(currentEndIndex);
+                    filled.lineTo(geometry.mapX(endX, fillMin), geometry.mapY(endX, fillMin));
+                }
+
+                filled.close();
+            }
+
+            iterations++;
+
+        } while (currentStartIndex <= currentEndIndex);
+    }
 
     /**
-     * the bitmap configuration to be used
+     * Builds the path of drawCubicBezier(...) in pixels. The matrix only scales and translates,
+     * so mapping the control points maps the curve.
      */
-    protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+    private static void buildCubicBezier(ILineDataSet dataSet, GeometryPipeline.Geometry geometry) {
 
-    protected Path cubicPath = new Path();
-    protected Path cubicFillPath = new Path();
+        if (geometry.path == null)
+            geometry.path = new Path();
 
-    public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
-                             ViewPortHandler viewPortHandler) {
-        super(animator, viewPortHandler);
-        mChart = chart;
+        final Path path = geometry.path;
+        path.reset();
 
-        mCirclePaintInner = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mCirclePaintInner.setStyle(Paint.Style.FILL);
-        mCirclePaintInner.setColor(Color.WHITE);
-    }
+        final float phaseY = geometry.phaseY;
+        final float intensity = geometry.cubicIntensity;
 
-    @Override
-    public void initBuffers() {
-    }
+        if (geometry.to - geometry.from < 1)
+            return;
 
-    @Override
-    public void drawData(Canvas c) {
+        final int firstIndex = geometry.from + 1;
 
-        int width = (int) mViewPortHandler.getChartWidth();
-        int height = (int) mViewPortHandler.getChartHeight();
+        int prevPrevIndex;
+        int prevIndex = Math.max(firstIndex - 2, 0);
+        int curIndex = Math.max(firstIndex - 1, 0);
+        int nextIndex;
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        final float startX = dataSet.getX(curIndex);
+        final float startY = dataSet.getY(curIndex) * phaseY;
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+        path.moveTo(geometry.mapX(startX, startY), geometry.mapY(startX, startY));
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
-        }
+        for (int j = geometry.from + 1; j <= geometry.to; j++) {
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+            prevPrevIndex = prevIndex;
+            prevIndex = curIndex;
+            curIndex = j;
 
-        LineData lineData = mChart.getLineData();
+            nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
 
-        for (ILineDataSet set : lineData.getDataSets()) {
+            final float prevX = dataSet.getX(prevIndex);
+            final float prevY = dataSet.getY(prevIndex);
+            final float curX = dataSet.getX(curIndex);
+            final float curY = dataSet.getY(curIndex);
 
-            if (set.isVisible())
-                drawDataSet(c, set);
-        }
+            final float prevDx = (curX - dataSet.getX(prevPrevIndex)) * intensity;
+            final float prevDy = (curY - dataSet.getY(prevPrevIndex)) * intensity;
+            final float curDx = (dataSet.getX(nextIndex) - prevX) * intensity;
+            final float curDy = (dataSet.getY(nextIndex) - prevY) * intensity;
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+            final float x1 = prevX + prevDx, y1 = (prevY + prevDy) * phaseY;
+            final float x2 = curX - curDx, y2 = (curY - curDy) * phaseY;
+            final float x3 = curX, y3 = curY * phaseY;
+
+            path.cubicTo(geometry.mapX(x1, y1), geometry.mapY(x1, y1),
+                    geometry.mapX(x2, y2), geometry.mapY(x2, y2),
+                    geometry.mapX(x3, y3), geometry.mapY(x3, y3));
+        }
     }
 
-    protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
+    /**
+     * Builds the path of drawHorizontalBezier(...) in pixels.
+     */
+    private static void buildHorizontalBezier(ILineDataSet dataSet, GeometryPipeline.Geometry geometry) {
 
-        if (dataSet.getEntryCount() < 1)
+        if (geometry.path == null)
+            geometry.path = new Path();
+
+        final Path path = geometry.path;
+        path.reset();
+
+        final float phaseY = geometry.phaseY;
+
+        if (geometry.to - geometry.from < 1)
             return;
 
-        mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
-        mRenderPaint.setPathEffect(dataSet.getDashPathEffect());
+        float curX = dataSet.getX(geometry.from);
+        float curY = dataSet.getY(geometry.from) * phaseY;
 
-        switch (dataSet.getMode()) {
-            default:
-            case LINEAR:
-            case STEPPED:
-                drawLinear(c, dataSet);
-                break;
+        path.moveTo(geometry.mapX(curX, curY), geometry.mapY(curX, curY));
 
-            case CUBIC_BEZIER:
-                drawCubicBezier(dataSet);
-                break;
+        for (int j = geometry.from + 1; j <= geometry.to; j++) {
 
-            case HORIZONTAL_BEZIER:
-                drawHorizontalBezier(dataSet);
-                break;
+            final float prevX = curX;
+            final float prevY = curY;
+            curX = dataSet.getX(j);
+            curY = dataSet.getY(j) * phaseY;
+
+            final float cpx = prevX + (curX - prevX) / 2.0f;
+
+            path.cubicTo(geometry.mapX(cpx, prevY), geometry.mapY(cpx, prevY),
+                    geometry.mapX(cpx, curY), geometry.mapY(cpx, curY),
+                    geometry.mapX(curX, curY), geometry.mapY(curX, curY));
         }
+    }
+
+    /**
+     * Draws the cubic path and the filled area prepared by the GeometryPipeline, if there are any
+     * for the given DataSet. Returns false if the DataSet has to be prepared here.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean drawCubicGeometry(ILineDataSet dataSet) {
+
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+        GeometryPipeline.Geometry geometry = pipeline == null ? null : pipeline.get(dataSet);
+
+        if (geometry == null || geometry.path == null)
+            return false;
+
+        if ((geometry.flags & GEOMETRY_FILLED) != 0 && geometry.fillPath != null)
+            drawFilledGeometry(mBitmapCanvas, dataSet, geometry);
+
+        mRenderPaint.setColor(dataSet.getColor());
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+
+        mBitmapCanvas.drawPath(geometry.path, mRenderPaint);
 
         mRenderPaint.setPathEffect(null);
+
+        return true;
+    }
+
+    /**
+     * Draws the filled area prepared by the GeometryPipeline.
+     */
+    private void drawFilledGeometry(Canvas c, ILineDataSet dataSet, GeometryPipeline.Geometry geometry) {
+
+        final Drawable drawable = dataSet.getFillDrawable();
+
+        if (drawable != null) {
+            drawFilledPath(c, geometry.fillPath, drawable);
+        } else {
+            drawFilledPath(c, geometry.fillPath, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
     }
 
     protected void drawHorizontalBezier(ILineDataSet dataSet) {
 
+        // the path was already prepared in the background
+        if (drawCubicGeometry(dataSet))
+            return;
+
         float phaseY = mAnimator.getPhaseY();
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -142,24 +1400,28 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         if (mXBounds.range >= 1) {
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+            float prevX;
+            float prevY;
+            float curX = dataSet.getX(mXBounds.min);
+            float curY = dataSet.getY(mXBounds.min);
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+                mEntriesVisited++;
 
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+                prevX = curX;
+                prevY = curY;
+                curX = dataSet.getX(j);
+                curY = dataSet.getY(j);
 
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+                final float cpx = prevX + (curX - prevX) / 2.0f;
 
                 cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+                        cpx, prevY * phaseY,
+                        cpx, curY * phaseY,
+                        curX, curY * phaseY);
             }
         }
 
@@ -185,6 +1447,10 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     protected void drawCubicBezier(ILineDataSet dataSet) {
 
+        // the path was already prepared in the background
+        if (drawCubicGeometry(dataSet))
+            return;
+
         float phaseY = mAnimator.getPhaseY();
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -210,34 +1476,36 @@ public class LineChartRenderer extends LineRadarRenderer {
             final int firstIndex = mXBounds.min + 1;
             final int lastIndex = mXBounds.min + mXBounds.range;
 
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
-
-            if (cur == null) return;
+            int prevPrevIndex;
+            int prevIndex = Math.max(firstIndex - 2, 0);
+            int curIndex = Math.max(firstIndex - 1, 0);
+            int nextIndex;
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(dataSet.getX(curIndex), dataSet.getY(curIndex) * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+                mEntriesVisited++;
 
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                prevPrevIndex = prevIndex;
+                prevIndex = curIndex;
+                curIndex = j;
 
                 nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                final float prevX = dataSet.getX(prevIndex);
+                final float prevY = dataSet.getY(prevIndex);
+                final float curX = dataSet.getX(curIndex);
+                final float curY = dataSet.getY(curIndex);
+
+                prevDx = (curX - dataSet.getX(prevPrevIndex)) * intensity;
+                prevDy = (curY - dataSet.getY(prevPrevIndex)) * intensity;
+                curDx = (dataSet.getX(nextIndex) - prevX) * intensity;
+                curDy = (dataSet.getY(nextIndex) - prevY) * intensity;
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                cubicPath.cubicTo(prevX + prevDx, (prevY + prevDy) * phaseY,
+                        curX - curDx,
+                        (curY - curDy) * phaseY, curX, curY * phaseY);
             }
         }
 
@@ -266,8 +1534,8 @@ public class LineChartRenderer extends LineRadarRenderer {
         float fillMin = dataSet.getFillFormatter()
                 .getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        spline.lineTo(dataSet.getX(bounds.min + bounds.range), fillMin);
+        spline.lineTo(dataSet.getX(bounds.min), fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
@@ -314,9 +1582,17 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        GeometryPipeline pipeline = getGeometryPipeline(mChart);
+        GeometryPipeline.Geometry geometry = pipeline == null ? null : pipeline.get(dataSet);
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
-            drawLinearFill(c, dataSet, trans, mXBounds);
+
+            // the filled area was already prepared in the background
+            if (geometry != null && (geometry.flags & GEOMETRY_FILLED) != 0 && geometry.fillPath != null)
+                drawFilledGeometry(c, dataSet, geometry);
+            else
+                drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
         // more than 1 color
@@ -330,29 +1606,26 @@ public class LineChartRenderer extends LineRadarRenderer {
             int max = mXBounds.min + mXBounds.range;
 
             for (int j = mXBounds.min; j < max; j++) {
+                mEntriesVisited++;
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
-
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                mLineBuffer[0] = dataSet.getX(j);
+                mLineBuffer[1] = dataSet.getY(j) * phaseY;
 
                 if (j < mXBounds.max) {
 
-                    e = dataSet.getEntryForIndex(j + 1);
-
-                    if (e == null) break;
+                    final float nextX = dataSet.getX(j + 1);
+                    final float nextY = dataSet.getY(j + 1);
 
                     if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
+                        mLineBuffer[2] = nextX;
                         mLineBuffer[3] = mLineBuffer[1];
                         mLineBuffer[4] = mLineBuffer[2];
                         mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
+                        mLineBuffer[6] = nextX;
+                        mLineBuffer[7] = nextY * phaseY;
                     } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
+                        mLineBuffer[2] = nextX;
+                        mLineBuffer[3] = nextY * phaseY;
                     }
 
                 } else {
@@ -388,37 +1661,53 @@ public class LineChartRenderer extends LineRadarRenderer {
                 canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
             }
 
+        } else if (mDecimationEnabled && !isDrawSteppedEnabled && !dataSet.isDashedLineEnabled()
+                && mXBounds.range > mViewPortHandler.contentWidth() * 4) {
+
+            drawLinearDecimated(canvas, dataSet, trans,
+                    Math.max(mXBounds.min - 1, 0), mXBounds.min + mXBounds.range);
+
         } else { // only one color per dataset
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+            // the lines were already prepared in the background
+            if (geometry != null) {
+
+                if (geometry.count > 0) {
+                    mRenderPaint.setColor(dataSet.getColor());
+                    canvas.drawLines(geometry.vertices, 0, geometry.count, mRenderPaint);
+                }
 
-            Entry e1, e2;
+                mRenderPaint.setPathEffect(null);
+                return;
+            }
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
+                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
 
-            if (e1 != null) {
+            if (mXBounds.min < entryCount) {
 
                 int j = 0;
                 for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+                    mEntriesVisited++;
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+                    final int prev = x == 0 ? 0 : (x - 1);
 
-                    if (e1 == null || e2 == null) continue;
+                    final float x1 = dataSet.getX(prev);
+                    final float y1 = dataSet.getY(prev) * phaseY;
+                    final float x2 = dataSet.getX(x);
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+                    mLineBuffer[j++] = x1;
+                    mLineBuffer[j++] = y1;
 
                     if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
+                        mLineBuffer[j++] = x2;
+                        mLineBuffer[j++] = y1;
+                        mLineBuffer[j++] = x2;
+                        mLineBuffer[j++] = y1;
                     }
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
+                    mLineBuffer[j++] = x2;
+                    mLineBuffer[j++] = dataSet.getY(x) * phaseY;
                 }
 
                 if (j > 0) {
@@ -436,6 +1725,147 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * buffer for the line segments of the decimated line
+     */
+    private float[] mDecimatedLineBuffer = new float[64];
+
+    /**
+     * number of floats used in the decimated line buffer
+     */
+    private int mDecimatedLineSize = 0;
+
+    /**
+     * last point that was added to the decimated line, in values
+     */
+    private float mDecimatedPrevX, mDecimatedPrevY;
+
+    /**
+     * buffer for deriving the x-mapping of the transformer
+     */
+    private float[] mDecimationMappingBuffer = new float[4];
+
+    /**
+     * Draws a single-color linear line reduced to at most 4 points per pixel column (first,
+     * min, max and last entry of the column, in order). As every column still covers the same
+     * vertical extent and the columns are connected the same way, the result looks the same as
+     * drawing every entry, but the cost is bounded by the width of the chart instead of the
+     * number of entries.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param from    index of the first entry of the line
+     * @param to      index of the last entry of the line
+     */
+    protected void drawLinearDecimated(Canvas c, ILineDataSet dataSet, Transformer trans, int from, int to) {
+
+        final float phaseY = mAnimator.getPhaseY();
+
+        // the value to pixel mapping only scales and translates, derive its x-part
+        mDecimationMappingBuffer[0] = 0f;
+        mDecimationMappingBuffer[1] = 0f;
+        mDecimationMappingBuffer[2] = 1f;
+        mDecimationMappingBuffer[3] = 0f;
+
+        trans.pointValuesToPixel(mDecimationMappingBuffer);
+
+        final float scaleX = mDecimationMappingBuffer[2] - mDecimationMappingBuffer[0];
+        final float translateX = mDecimationMappingBuffer[0];
+
+        mDecimatedLineSize = -1;
+
+        int column = 0;
+        int first = -1, last = -1, min = -1, max = -1;
+        float minY = 0f, maxY = 0f;
+
+        for (int i = from; i <= to; i++) {
+            mEntriesVisited++;
+
+            final float y = dataSet.getY(i);
+            final int col = (int) Math.floor(dataSet.getX(i) * scaleX + translateX);
+
+            if (first == -1 || col != column) {
+
+                if (first != -1)
+                    addDecimatedColumn(dataSet, phaseY, first, min, max, last);
+
+                column = col;
+                first = last = min = max = i;
+                minY = maxY = y;
+                continue;
+            }
+
+            last = i;
+
+            if (y < minY) {
+                minY = y;
+                min = i;
+            }
+
+            if (y > maxY) {
+                maxY = y;
+                max = i;
+            }
+        }
+
+        if (first != -1)
+            addDecimatedColumn(dataSet, phaseY, first, min, max, last);
+
+        if (mDecimatedLineSize >= 4) {
+
+            trans.pointValuesToPixel(mDecimatedLineBuffer, mDecimatedLineSize);
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            c.drawLines(mDecimatedLineBuffer, 0, mDecimatedLineSize, mRenderPaint);
+        }
+    }
+
+    /**
+     * Adds the entries of one pixel column to the decimated line, in the order of their indices.
+     */
+    private void addDecimatedColumn(ILineDataSet dataSet, float phaseY, int first, int min, int max, int last) {
+
+        final int lower = Math.min(min, max);
+        final int upper = Math.max(min, max);
+
+        addDecimatedPoint(dataSet.getX(first), dataSet.getY(first) * phaseY);
+
+        if (lower != first)
+            addDecimatedPoint(dataSet.getX(lower), dataSet.getY(lower) * phaseY);
+
+        if (upper != lower && upper != first)
+            addDecimatedPoint(dataSet.getX(upper), dataSet.getY(upper) * phaseY);
+
+        if (last != upper && last != first)
+            addDecimatedPoint(dataSet.getX(last), dataSet.getY(last) * phaseY);
+    }
+
+    /**
+     * Adds a point to the decimated line, every point after the first one adds a line segment
+     * that starts at the previous point.
+     */
+    private void addDecimatedPoint(float x, float y) {
+
+        if (mDecimatedLineSize < 0) {
+            // first point of the line
+            mDecimatedLineSize = 0;
+        } else {
+
+            if (mDecimatedLineBuffer.length < mDecimatedLineSize + 4)
+                mDecimatedLineBuffer = Arrays.copyOf(mDecimatedLineBuffer, mDecimatedLineBuffer.length * 2);
+
+            mDecimatedLineBuffer[mDecimatedLineSize++] = mDecimatedPrevX;
+            mDecimatedLineBuffer[mDecimatedLineSize++] = mDecimatedPrevY;
+            mDecimatedLineBuffer[mDecimatedLineSize++] = x;
+            mDecimatedLineBuffer[mDecimatedLineSize++] = y;
+        }
+
+        mDecimatedPrevX = x;
+        mDecimatedPrevY = y;
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -503,30 +1933,30 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        final float startX = dataSet.getX(startIndex);
 
-        filled.moveTo(entry.getX(), fillMin);
-        filled.lineTo(entry.getX(), entry.getY() * phaseY);
+        filled.moveTo(startX, fillMin);
+        filled.lineTo(startX, dataSet.getY(startIndex) * phaseY);
 
         // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
+        float previousY = dataSet.getY(startIndex);
         for (int x = startIndex + 1; x <= endIndex; x++) {
 
-            currentEntry = dataSet.getEntryForIndex(x);
+            final float currentX = dataSet.getX(x);
+            final float currentY = dataSet.getY(x);
 
             if (isDrawSteppedEnabled) {
-                filled.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+                filled.lineTo(currentX, previousY * phaseY);
             }
 
-            filled.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            filled.lineTo(currentX, currentY * phaseY);
 
-            previousEntry = currentEntry;
+            previousY = currentY;
         }
 
         // close up
-        if (currentEntry != null) {
-            filled.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            filled.lineTo(dataSet.getX(endIndex), fillMin);
         }
 
         filled.close();
@@ -567,6 +1997,7 @@ public class LineChartRenderer extends LineRadarRenderer {
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
                 for (int j = 0; j < positions.length; j += 2) {
+                    mEntriesVisited++;
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -670,13 +2101,10 @@ public class LineChartRenderer extends LineRadarRenderer {
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
+                mEntriesVisited++;
 
-                Entry e = dataSet.getEntryForIndex(j);
-
-                if (e == null) break;
-
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                mCirclesBuffer[0] = dataSet.getX(j);
+                mCirclesBuffer[1] = dataSet.getY(j) * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -723,6 +2151,101 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * If set to true, single-color LINEAR lines (not dashed) that show more than 4 entries per
+     * pixel column are reduced to the first, lowest, highest and last entry of every pixel column
+     * before they are drawn. The drawn line looks the same, but the drawing cost no longer grows
+     * with the number of visible entries. Default: false
+     *
+     * @param enabled
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        mDecimationEnabled = enabled;
+    }
+
+    /**
+     * Returns true if lines are reduced to at most 4 points per pixel column before drawing.
+     *
+     * @return
+     */
+    public boolean isDecimationEnabled() {
+        return mDecimationEnabled;
+    }
+
+    /**
+     * If set to true, the lines are drawn into a bitmap that is kept between frames. While the
+     * chart is only panned along the x-axis, the bitmap is shifted and only the newly exposed
+     * strip is drawn. Zooming, changing the y-range, animations and changes of the data redraw
+     * everything. Changing the entries directly requires calling notifyDataSetChanged(). Data
+     * outside of the content rect is not drawn in this mode. Needs memory for two chart-sized
+     * bitmaps. Default: false
+     *
+     * @param enabled
+     */
+    public void setRetainedDrawingEnabled(boolean enabled) {
+        mRetainedDrawingEnabled = enabled;
+
+        if (!enabled)
+            releaseRetainedBitmaps();
+    }
+
+    /**
+     * Returns true if the lines are drawn into a bitmap that is kept between frames.
+     *
+     * @return
+     */
+    public boolean isRetainedDrawingEnabled() {
+        return mRetainedDrawingEnabled;
+    }
+
+    /**
+     * Enables caching the lines in tiles of a fixed pixel width, which are reused when the same
+     * region is shown again at (nearly) the same zoom, e.g. when scrolling back and forth over
+     * a long, zoomed-in series. At most the given number of bytes is used for the tiles, the
+     * least recently used tiles are evicted beyond that. Missing tiles are rendered on a
+     * background thread when they become visible, nothing is drawn in their place meanwhile.
+     * When the y-range, the data or its styling changes, the tiles are rendered again and the
+     * outdated ones are drawn until then. Changing the entries directly requires calling
+     * notifyDataSetChanged() on the chart, and the DataSets must only be modified on the UI
+     * thread. Data outside of the content rect is not drawn in this mode. Provide 0 to disable
+     * the cache (default).
+     *
+     * @param maxBytes
+     */
+    public void setTileCacheSize(int maxBytes) {
+
+        if (mTileCache != null) {
+            releaseTileRendering();
+            mTileCache.release();
+            mTileCache = null;
+        }
+
+        if (maxBytes > 0)
+            mTileCache = new BitmapTileCache(maxBytes);
+    }
+
+    /**
+     * Sets the width of the cached tiles in pixels. Default: 256
+     *
+     * @param width
+     */
+    public void setTileWidth(int width) {
+
+        mTileWidth = Math.max(width, 16);
+
+        // tiles of the previous width are not drawn anymore and age out of the cache
+        invalidateTiles();
+    }
+
+    /**
+     * Returns the width of the cached tiles in pixels.
+     *
+     * @return
+     */
+    public int getTileWidth() {
+        return mTileWidth;
+    }
+
     /**
      * Sets the Bitmap.Config to be used by this renderer.
      * Default: Bitmap.Config.ARGB_8888
@@ -748,6 +2271,10 @@ public class LineChartRenderer extends LineRadarRenderer {
      * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
+        releaseRetainedBitmaps();
+        releaseTileRendering();
+        if (mTileCache != null)
+            mTileCache.release();
         if (mBitmapCanvas != null) {
             mBitmapCanvas.setBitmap(null);
             mBitmapCanvas = null;
@@ -146,8 +146,13 @@ public class PieChartRenderer extends DataRenderer {
 
         for (IPieDataSet set : pieData.getDataSets()) {
 
-            if (set.isVisible() && set.getEntryCount() > 0)
+            if (set.isVisible() && set.getEntryCount() > 0) {
+                long start = startTiming();
                 drawDataSet(c, set);
+                dataSetDrawn(set, start);
+
+                mEntriesVisited += set.getEntryCount();
+            }
         }
     }
 
@@ -64,7 +64,11 @@ public class RadarChartRenderer extends LineRadarRenderer {
         for (IRadarDataSet set : radarData.getDataSets()) {
 
             if (set.isVisible()) {
+                long start = startTiming();
                 drawDataSet(c, set, mostEntries);
+                dataSetDrawn(set, start);
+
+                mEntriesVisited += set.getEntryCount();
             }
         }
     }
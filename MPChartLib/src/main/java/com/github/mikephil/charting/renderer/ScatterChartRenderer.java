@@ -40,12 +40,20 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         for (IScatterDataSet set : scatterData.getDataSets()) {
 
-            if (set.isVisible())
+            if (set.isVisible()) {
+                long start = startTiming();
                 drawDataSet(c, set);
+                dataSetDrawn(set, start);
+            }
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * the number of points that are transformed with one matrix call
+     */
+    protected static final int POINT_BATCH_SIZE = 128;
+
+    float[] mPixelBuffer = new float[POINT_BATCH_SIZE * 2];
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -68,27 +76,41 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
                 (float)dataSet.getEntryCount()));
 
-        for (int i = 0; i < max; i++) {
+        // the x-values are sorted, only the visible part of the DataSet has to be scanned
+        mXBounds.set(mChart, dataSet);
 
-            Entry e = dataSet.getEntryForIndex(i);
+        final int to = Math.min(mXBounds.max, max - 1);
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        for (int batchStart = mXBounds.min; batchStart <= to; batchStart += POINT_BATCH_SIZE) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            final int count = Math.min(POINT_BATCH_SIZE, to - batchStart + 1);
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
-                break;
+            for (int j = 0; j < count; j++) {
+                mPixelBuffer[j * 2] = dataSet.getX(batchStart + j);
+                mPixelBuffer[j * 2 + 1] = dataSet.getY(batchStart + j) * phaseY;
+            }
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
-                continue;
+            trans.pointValuesToPixel(mPixelBuffer, count * 2);
+
+            for (int j = 0; j < count; j++) {
+                mEntriesVisited++;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
-            renderer.renderShape(
-                    c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
-                    mRenderPaint);
+                final float x = mPixelBuffer[j * 2];
+                final float y = mPixelBuffer[j * 2 + 1];
+
+                if (!viewPortHandler.isInBoundsRight(x))
+                    return;
+
+                if (!viewPortHandler.isInBoundsLeft(x)
+                        || !viewPortHandler.isInBoundsY(y))
+                    continue;
+
+                mRenderPaint.setColor(dataSet.getColor(batchStart + j));
+                renderer.renderShape(
+                        c, dataSet, mViewPortHandler,
+                        x, y,
+                        mRenderPaint);
+            }
         }
     }
 
@@ -123,6 +145,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
                 for (int j = 0; j < positions.length; j += 2) {
+                    mEntriesVisited++;
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
@@ -12,11 +12,11 @@ import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.utils.FSize;
-import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
 
 import java.util.List;
 
@@ -24,10 +24,17 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected XAxis mXAxis;
 
+    /**
+     * true if a subclass overrides drawLabel(...) with the formatted label as a String, the labels
+     * are then drawn through it
+     */
+    private final boolean mDrawsLabelStrings;
+
     public XAxisRenderer(ViewPortHandler viewPortHandler, XAxis xAxis, Transformer trans) {
         super(viewPortHandler, trans, xAxis);
 
         this.mXAxis = xAxis;
+        this.mDrawsLabelStrings = overridesStringLabels(getClass());
 
         mAxisLabelPaint.setColor(Color.BLACK);
         mAxisLabelPaint.setTextAlign(Align.CENTER);
@@ -47,21 +54,17 @@ public class XAxisRenderer extends AxisRenderer {
         // zoom / contentrect bounds)
         if (mViewPortHandler.contentWidth() > 10 && !mViewPortHandler.isFullyZoomedOutX()) {
 
-            MPPointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentTop());
-            MPPointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentRight(), mViewPortHandler.contentTop());
+            ViewPortSnapshot snapshot = mTrans.getSnapshot();
 
             if (inverted) {
 
-                min = (float) p2.x;
-                max = (float) p1.x;
+                min = snapshot.getContentRightX();
+                max = snapshot.getContentLeftX();
             } else {
 
-                min = (float) p1.x;
-                max = (float) p2.x;
+                min = snapshot.getContentLeftX();
+                max = snapshot.getContentRightX();
             }
-
-            MPPointD.recycleInstance(p1);
-            MPPointD.recycleInstance(p2);
         }
 
         computeAxisValues(min, max);
@@ -76,12 +79,11 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected void computeSize() {
 
-        String longest = mXAxis.getLongestLabel();
-
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        final FSize labelSize = FSize.getInstance(0, 0);
+        calcLongestLabelSize(labelSize);
 
         final float labelWidth = labelSize.width;
         final float labelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
@@ -172,6 +174,8 @@ public class XAxisRenderer extends AxisRenderer {
         }
     }
 
+    protected float[] mLabelPositionsBuffer = new float[2];
+
     /**
      * draws the x-labels on the specified y-position
      *
@@ -182,7 +186,10 @@ public class XAxisRenderer extends AxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        if (mLabelPositionsBuffer.length != mXAxis.mEntryCount * 2)
+            mLabelPositionsBuffer = new float[mXAxis.mEntryCount * 2];
+
+        float[] positions = mLabelPositionsBuffer;
 
         for (int i = 0; i < positions.length; i += 2) {
 
@@ -192,6 +199,8 @@ public class XAxisRenderer extends AxisRenderer {
             } else {
                 positions[i] = mXAxis.mEntries[i / 2];
             }
+
+            positions[i + 1] = 0f;
         }
 
         mTrans.pointValuesToPixel(positions);
@@ -202,13 +211,13 @@ public class XAxisRenderer extends AxisRenderer {
 
             if (mViewPortHandler.isInBoundsX(x)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                int length = formatLabel(mXAxis.mEntries[i / 2]);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
                     // avoid clipping of the last
                     if (i / 2 == mXAxis.mEntryCount - 1 && mXAxis.mEntryCount > 1) {
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = Utils.calcTextWidth(mAxisLabelPaint, mLabelChars, 0, length);
 
                         if (width > mViewPortHandler.offsetRight() * 2
                                 && x + width > mViewPortHandler.getChartWidth())
@@ -217,19 +226,75 @@ public class XAxisRenderer extends AxisRenderer {
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = Utils.calcTextWidth(mAxisLabelPaint, mLabelChars, 0, length);
                         x += width / 2;
                     }
                 }
 
-                drawLabel(c, label, x, pos, anchor, labelRotationAngleDegrees);
+                drawLabel(c, length, x, pos, anchor, labelRotationAngleDegrees);
             }
         }
     }
 
+    /**
+     * Draws the given label. If a subclass overrides this method, every label is drawn through it
+     * (as a new String), otherwise the labels are drawn from mLabelChars without allocating.
+     *
+     * @param c
+     * @param formattedLabel
+     * @param x
+     * @param y
+     * @param anchor
+     * @param angleDegrees
+     */
     protected void drawLabel(Canvas c, String formattedLabel, float x, float y, MPPointF anchor, float angleDegrees) {
         Utils.drawXAxisValue(c, formattedLabel, x, y, mAxisLabelPaint, anchor, angleDegrees);
     }
+
+    /**
+     * Draws the first length chars of mLabelChars, see formatLabel(...). If a subclass overrides
+     * drawLabel(...) with the String of the label, the label is drawn through that method.
+     *
+     * @param c
+     * @param length
+     * @param x
+     * @param y
+     * @param anchor
+     * @param angleDegrees
+     */
+    protected void drawLabel(Canvas c, int length, float x, float y, MPPointF anchor, float angleDegrees) {
+
+        if (mDrawsLabelStrings) {
+            drawLabel(c, new String(mLabelChars, 0, length), x, y, anchor, angleDegrees);
+            return;
+        }
+
+        Utils.drawXAxisValue(c, mLabelChars, 0, length, x, y, mAxisLabelPaint, anchor, angleDegrees);
+    }
+
+    /**
+     * Returns true if the given subclass (or one of its superclasses below XAxisRenderer)
+     * overrides drawLabel(...) with the String of the label.
+     *
+     * @param type
+     * @return
+     */
+    private static boolean overridesStringLabels(Class<?> type) {
+
+        for (; type != XAxisRenderer.class; type = type.getSuperclass()) {
+
+            try {
+                type.getDeclaredMethod("drawLabel", Canvas.class, String.class, float.class,
+                        float.class, MPPointF.class, float.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden on this level
+            }
+        }
+
+        return false;
+    }
+
     protected Path mRenderGridLinesPath = new Path();
     protected float[] mRenderGridLinesBuffer = new float[2];
     @Override
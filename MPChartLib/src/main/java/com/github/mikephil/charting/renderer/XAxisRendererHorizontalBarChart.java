@@ -13,10 +13,10 @@ import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.utils.FSize;
 import com.github.mikephil.charting.utils.MPPointF;
-import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
 
 import java.util.List;
 
@@ -38,21 +38,17 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         // zoom / contentrect bounds)
         if (mViewPortHandler.contentWidth() > 10 && !mViewPortHandler.isFullyZoomedOutY()) {
 
-            MPPointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom());
-            MPPointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentTop());
+            ViewPortSnapshot snapshot = mTrans.getSnapshot();
 
             if (inverted) {
 
-                min = (float) p2.y;
-                max = (float) p1.y;
+                min = snapshot.getContentTopY();
+                max = snapshot.getContentBottomY();
             } else {
 
-                min = (float) p1.y;
-                max = (float) p2.y;
+                min = snapshot.getContentBottomY();
+                max = snapshot.getContentTopY();
             }
-
-            MPPointD.recycleInstance(p1);
-            MPPointD.recycleInstance(p2);
         }
 
         computeAxisValues(min, max);
@@ -64,9 +60,8 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
 
-        String longest = mXAxis.getLongestLabel();
-
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        final FSize labelSize = FSize.getInstance(0, 0);
+        calcLongestLabelSize(labelSize);
 
         final float labelWidth = (int)(labelSize.width + mXAxis.getXOffset() * 3.5f);
         final float labelHeight = labelSize.height;
@@ -82,6 +77,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         mXAxis.mLabelRotatedHeight = Math.round(labelRotatedSize.height);
 
         FSize.recycleInstance(labelRotatedSize);
+        FSize.recycleInstance(labelSize);
     }
 
     @Override
@@ -136,10 +132,15 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        if (mLabelPositionsBuffer.length != mXAxis.mEntryCount * 2)
+            mLabelPositionsBuffer = new float[mXAxis.mEntryCount * 2];
+
+        float[] positions = mLabelPositionsBuffer;
 
         for (int i = 0; i < positions.length; i += 2) {
 
+            positions[i] = 0f;
+
             // only fill x values
             if (centeringEnabled) {
                 positions[i + 1] = mXAxis.mCenteredEntries[i / 2];
@@ -156,8 +157,8 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
             if (mViewPortHandler.isInBoundsY(y)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
-                drawLabel(c, label, pos, y, anchor, labelRotationAngleDegrees);
+                int length = formatLabel(mXAxis.mEntries[i / 2]);
+                drawLabel(c, length, pos, y, anchor, labelRotationAngleDegrees);
             }
         }
     }
@@ -43,14 +43,14 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
         MPPointF pOut = MPPointF.getInstance(0,0);
         for (int i = 0; i < mChart.getData().getMaxEntryCountSet().getEntryCount(); i++) {
 
-            String label = mXAxis.getValueFormatter().getFormattedValue(i, mXAxis);
+            int length = formatLabel((float) i);
 
             float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
 
             Utils.getPosition(center, mChart.getYRange() * factor
                     + mXAxis.mLabelRotatedWidth / 2f, angle, pOut);
 
-            drawLabel(c, label, pOut.x, pOut.y - mXAxis.mLabelRotatedHeight / 2.f,
+            drawLabel(c, length, pOut.x, pOut.y - mXAxis.mLabelRotatedHeight / 2.f,
                     drawLabelAnchor, labelRotationAngleDegrees);
         }
 
@@ -124,9 +124,9 @@ public class YAxisRenderer extends AxisRenderer {
         // draw
         for (int i = from; i < to; i++) {
 
-            String text = mYAxis.getFormattedLabel(i);
+            int length = formatLabel(i);
 
-            c.drawText(text,
+            c.drawText(mLabelChars, 0, length,
                     fixedPosition + xOffset,
                     positions[i * 2 + 1] + offset,
                     mAxisLabelPaint);
@@ -15,6 +15,7 @@ import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
 
 import java.util.List;
 
@@ -40,21 +41,15 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         // zoom / contentrect bounds)
         if (mViewPortHandler.contentHeight() > 10 && !mViewPortHandler.isFullyZoomedOutX()) {
 
-            MPPointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                    mViewPortHandler.contentTop());
-            MPPointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentRight(),
-                    mViewPortHandler.contentTop());
+            ViewPortSnapshot snapshot = mTrans.getSnapshot();
 
             if (!inverted) {
-                yMin = (float) p1.x;
-                yMax = (float) p2.x;
+                yMin = snapshot.getContentLeftX();
+                yMax = snapshot.getContentRightX();
             } else {
-                yMin = (float) p2.x;
-                yMax = (float) p1.x;
+                yMin = snapshot.getContentRightX();
+                yMax = snapshot.getContentLeftX();
             }
-
-            MPPointD.recycleInstance(p1);
-            MPPointD.recycleInstance(p2);
         }
 
         computeAxisValues(yMin, yMax);
@@ -146,9 +141,9 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
 
         for (int i = from; i < to; i++) {
 
-            String text = mYAxis.getFormattedLabel(i);
+            int length = formatLabel(i);
 
-            c.drawText(text,
+            c.drawText(mLabelChars, 0, length,
                     positions[i * 2],
                     fixedPosition - offset + xOffset,
                     mAxisLabelPaint);
@@ -171,9 +171,9 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             Utils.getPosition(center, r, mChart.getRotationAngle(), pOut);
 
-            String label = mYAxis.getFormattedLabel(j);
+            int length = formatLabel(j);
 
-            c.drawText(label, pOut.x + xOffset, pOut.y, mAxisLabelPaint);
+            c.drawText(mLabelChars, 0, length, pOut.x + xOffset, pOut.y, mAxisLabelPaint);
         }
         MPPointF.recycleInstance(center);
         MPPointF.recycleInstance(pOut);
@@ -0,0 +1,222 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memory-bounded cache of equally sized bitmaps (tiles), keyed by a long (e.g. zoom level and
+ * tile index, see key(...)). Every tile stores the version of the data it was rendered for, a
+ * tile of an older version can still be drawn while the current one is rendered. When the
+ * budget is exceeded the least recently used tiles are evicted. Evicted bitmaps are kept for
+ * reuse so that rendering new tiles does not have to allocate.
+ *
+ * The cache is not thread-safe, only use it on the UI thread.
+ */
+public class BitmapTileCache {
+
+    /**
+     * A cached bitmap and the version of the data it was rendered for.
+     */
+    public static final class Tile {
+
+        public final Bitmap bitmap;
+
+        public final int version;
+
+        public Tile(Bitmap bitmap, int version) {
+            this.bitmap = bitmap;
+            this.version = version;
+        }
+    }
+
+    /**
+     * maximum number of evicted bitmaps kept for reuse
+     */
+    private static final int MAX_RECYCLED = 4;
+
+    /**
+     * the tiles in access order, the least recently used first
+     */
+    private final LinkedHashMap<Long, Tile> mTiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int mMaxBytes;
+
+    /**
+     * the summed size of the cached tiles
+     */
+    private int mBytes = 0;
+
+    private final ArrayList<Bitmap> mRecycled = new ArrayList<>(MAX_RECYCLED);
+
+    /**
+     * @param maxBytes the memory budget of the cached tiles, in bytes
+     */
+    public BitmapTileCache(int maxBytes) {
+        mMaxBytes = Math.max(maxBytes, 1);
+    }
+
+    /**
+     * Returns the key of the given tile of the given level. The level must fit into 16 bits and
+     * the index into 48 bits (both signed).
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public static long key(int level, long index) {
+        return ((long) level << 48) | (index & 0xffffffffffffL);
+    }
+
+    /**
+     * Returns the cached tile with the given key (of any version), or null if it is not cached.
+     *
+     * @param key
+     * @return
+     */
+    public Tile get(long key) {
+        return mTiles.get(key);
+    }
+
+    /**
+     * Adds the given tile to the cache, replacing the tile with the same key and evicting the
+     * least recently used tiles if the budget is exceeded. The bitmap of the tile must not be
+     * cached already.
+     *
+     * @param key
+     * @param tile
+     */
+    public void put(long key, Tile tile) {
+
+        Tile previous = mTiles.put(key, tile);
+
+        mBytes += sizeOf(tile);
+
+        if (previous != null) {
+            mBytes -= sizeOf(previous);
+
+            if (previous != tile)
+                entryRemoved(key, previous);
+        }
+
+        trimToSize(mMaxBytes);
+    }
+
+    /**
+     * Returns a cleared bitmap of the given size for rendering a new tile, reusing an evicted
+     * one if possible.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public Bitmap obtain(int width, int height, Bitmap.Config config) {
+
+        for (int i = mRecycled.size() - 1; i >= 0; i--) {
+
+            Bitmap bitmap = mRecycled.remove(i);
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                    && bitmap.getConfig() == config) {
+                bitmap.eraseColor(0);
+                return bitmap;
+            }
+
+            bitmap.recycle();
+        }
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns the number of cached tiles.
+     *
+     * @return
+     */
+    public int size() {
+        return mTiles.size();
+    }
+
+    /**
+     * Returns the summed size of the cached tiles in bytes.
+     *
+     * @return
+     */
+    public int getByteCount() {
+        return mBytes;
+    }
+
+    /**
+     * Removes all tiles from the cache.
+     */
+    public void clear() {
+        trimToSize(-1);
+    }
+
+    /**
+     * Removes all tiles and frees their bitmaps.
+     */
+    public void release() {
+
+        trimToSize(-1);
+
+        for (Bitmap bitmap : mRecycled)
+            bitmap.recycle();
+
+        mRecycled.clear();
+    }
+
+    /**
+     * Keeps the bitmap of a tile that is no longer used for reuse (or frees it).
+     *
+     * @param bitmap
+     */
+    public void recycle(Bitmap bitmap) {
+
+        if (mRecycled.size() < MAX_RECYCLED)
+            mRecycled.add(bitmap);
+        else
+            bitmap.recycle();
+    }
+
+    /**
+     * Returns the size of the given tile in bytes.
+     *
+     * @param tile
+     * @return
+     */
+    protected int sizeOf(Tile tile) {
+        return tile.bitmap.getRowBytes() * tile.bitmap.getHeight();
+    }
+
+    /**
+     * Called when a tile was evicted, replaced or removed.
+     *
+     * @param key
+     * @param tile
+     */
+    protected void entryRemoved(long key, Tile tile) {
+        recycle(tile.bitmap);
+    }
+
+    private void trimToSize(int maxBytes) {
+
+        Iterator<Map.Entry<Long, Tile>> it = mTiles.entrySet().iterator();
+
+        while (mBytes > maxBytes && it.hasNext()) {
+
+            Map.Entry<Long, Tile> eldest = it.next();
+            it.remove();
+
+            mBytes -= sizeOf(eldest.getValue());
+            entryRemoved(eldest.getKey(), eldest.getValue());
+        }
+
+        if (mTiles.isEmpty())
+            mBytes = 0;
+    }
+}
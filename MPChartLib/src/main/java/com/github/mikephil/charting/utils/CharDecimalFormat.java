@@ -0,0 +1,207 @@
+package com.github.mikephil.charting.utils;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formats numbers into a char array without allocating, with the same output as the DecimalFormat
+ * it is created from. Only the simple patterns the formatters of the library use are supported
+ * (optional grouping, fixed or limited number of fraction digits, constant prefix and suffix),
+ * check isSupported().
+ *
+ * Only floats are accepted: a float multiplied with a power of ten of up to 10^9 is exact in a
+ * double, so the rounding (half even) can be done on the exact value like the DecimalFormat does.
+ * Numbers that cannot be formatted exactly like the DecimalFormat does (NaN, infinity, very large
+ * numbers and negative numbers that are rounded to zero) are not formatted, format(...) returns -1
+ * and the caller has to fall back to the DecimalFormat.
+ */
+public class CharDecimalFormat {
+
+    private static final long[] POW_10 = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+    };
+
+    /**
+     * numbers are only formatted if the scaled number (number * 10^fraction digits) stays below
+     * this, so that its integer part fits into a long
+     */
+    private static final double MAX_SCALED = 1e18;
+
+    private final boolean mSupported;
+
+    private final char mZeroDigit;
+    private final char mGroupingSeparator;
+    private final char mDecimalSeparator;
+
+    /**
+     * the grouping size, 0 if grouping is not used
+     */
+    private final int mGroupingSize;
+
+    private final int mMinIntegerDigits;
+    private final int mMinFractionDigits;
+    private final int mMaxFractionDigits;
+
+    private final boolean mDecimalSeparatorAlwaysShown;
+
+    private final String mPositivePrefix;
+    private final String mPositiveSuffix;
+    private final String mNegativePrefix;
+    private final String mNegativeSuffix;
+
+    /**
+     * Creates a CharDecimalFormat that formats like the given DecimalFormat (in its current
+     * configuration, later changes to the DecimalFormat are not applied).
+     *
+     * @param format
+     */
+    public CharDecimalFormat(DecimalFormat format) {
+
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        String pattern = format.toPattern();
+
+        mZeroDigit = symbols.getZeroDigit();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+
+        mGroupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        mMinIntegerDigits = format.getMinimumIntegerDigits();
+        mMinFractionDigits = format.getMinimumFractionDigits();
+        mMaxFractionDigits = format.getMaximumFractionDigits();
+        mDecimalSeparatorAlwaysShown = format.isDecimalSeparatorAlwaysShown();
+
+        mPositivePrefix = format.getPositivePrefix();
+        mPositiveSuffix = format.getPositiveSuffix();
+        mNegativePrefix = format.getNegativePrefix();
+        mNegativeSuffix = format.getNegativeSuffix();
+
+        // no scientific notation, percent or currency formatting, no truncated integer digits
+        mSupported = pattern.indexOf('E') < 0
+                && pattern.indexOf('\u00A4') < 0
+                && pattern.indexOf('@') < 0
+                && format.getMultiplier() == 1
+                && format.getRoundingMode() == RoundingMode.HALF_EVEN
+                && format.getMaximumIntegerDigits() >= 19
+                && mMinIntegerDigits <= 18
+                && mMaxFractionDigits < POW_10.length
+                && mMinFractionDigits <= mMaxFractionDigits;
+    }
+
+    /**
+     * Returns true if the DecimalFormat this object was created from can be reproduced.
+     * Otherwise, format(...) always returns -1.
+     *
+     * @return
+     */
+    public boolean isSupported() {
+        return mSupported;
+    }
+
+    /**
+     * Formats the given number into the given array, starting at the given offset. Returns the
+     * number of chars written, or -1 if the number cannot be formatted exactly like the
+     * DecimalFormat does, or if it does not fit into the array.
+     *
+     * @param number
+     * @param out
+     * @param offset
+     * @return
+     */
+    public int format(float number, char[] out, int offset) {
+
+        if (!mSupported || Float.isNaN(number) || Float.isInfinite(number))
+            return -1;
+
+        final boolean negative = number < 0f || (number == 0f && 1f / number < 0f);
+
+        // exact, the 24 bit mantissa of the float times the 21 bit odd part of 10^9 fits into the
+        // 53 bits of the double
+        final double scaled = Math.abs((double) number) * POW_10[mMaxFractionDigits];
+
+        if (scaled >= MAX_SCALED)
+            return -1;
+
+        final double floor = Math.floor(scaled);
+        final double rest = scaled - floor;
+
+        long digits = (long) floor;
+
+        // round half even, like the DecimalFormat
+        if (rest > 0.5 || (rest == 0.5 && (digits & 1L) == 1L))
+            digits++;
+
+        // the sign of numbers rounded to zero differs between implementations
+        if (negative && digits == 0L)
+            return -1;
+
+        long integerPart = digits / POW_10[mMaxFractionDigits];
+        long fractionPart = digits % POW_10[mMaxFractionDigits];
+
+        // drop the trailing zeros of the fraction down to the minimum number of fraction digits
+        int fractionDigits = mMaxFractionDigits;
+
+        while (fractionDigits > mMinFractionDigits && fractionPart % 10L == 0L) {
+            fractionPart /= 10L;
+            fractionDigits--;
+        }
+
+        int integerDigits = 1;
+
+        for (long rem = integerPart / 10L; rem != 0L; rem /= 10L)
+            integerDigits++;
+
+        // like the DecimalFormat, a zero integer part is only left out if there is a fraction
+        if (integerPart == 0L && mMinIntegerDigits == 0 && fractionDigits > 0)
+            integerDigits = 0;
+
+        integerDigits = Math.max(integerDigits, mMinIntegerDigits);
+
+        final int separators = mGroupingSize > 0 && integerDigits > 0
+                ? (integerDigits - 1) / mGroupingSize : 0;
+
+        final boolean showSeparator = fractionDigits > 0 || mDecimalSeparatorAlwaysShown;
+
+        final String prefix = negative ? mNegativePrefix : mPositivePrefix;
+        final String suffix = negative ? mNegativeSuffix : mPositiveSuffix;
+
+        final int length = prefix.length() + integerDigits + separators
+                + (showSeparator ? 1 : 0) + fractionDigits + suffix.length();
+
+        if (offset < 0 || offset + length > out.length)
+            return -1;
+
+        int index = offset;
+
+        prefix.getChars(0, prefix.length(), out, index);
+        index += prefix.length();
+
+        // the integer digits, written backwards from their last position
+        int pos = index + integerDigits + separators - 1;
+
+        for (int i = 0; i < integerDigits; i++) {
+
+            if (i > 0 && mGroupingSize > 0 && i % mGroupingSize == 0)
+                out[pos--] = mGroupingSeparator;
+
+            out[pos--] = (char) (mZeroDigit + (int) (integerPart % 10L));
+            integerPart /= 10L;
+        }
+
+        index += integerDigits + separators;
+
+        if (showSeparator)
+            out[index++] = mDecimalSeparator;
+
+        for (int i = fractionDigits - 1; i >= 0; i--) {
+            out[index + i] = (char) (mZeroDigit + (int) (fractionPart % 10L));
+            fractionPart /= 10L;
+        }
+
+        index += fractionDigits;
+
+        suffix.getChars(0, suffix.length(), out, index);
+
+        return length;
+    }
+}
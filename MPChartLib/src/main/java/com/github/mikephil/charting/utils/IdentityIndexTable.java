@@ -0,0 +1,145 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from objects (compared by identity) to int indices, e.g. from the
+ * entries of a DataSet to their positions. Keys and indices are stored in two parallel arrays
+ * with linear probing, so no Integer objects are created for lookups or insertions. Keys can not
+ * be removed, the table is cleared and filled again instead.
+ */
+public class IdentityIndexTable {
+
+    private Object[] mKeys;
+    private int[] mIndices;
+
+    /**
+     * number of keys in the table
+     */
+    private int mSize = 0;
+
+    /**
+     * @param expectedSize the number of keys the table has room for before it needs to grow
+     */
+    public IdentityIndexTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the index stored for the given key, or -1 if the key is not in the table.
+     *
+     * @param key
+     * @return
+     */
+    public int get(Object key) {
+
+        final int mask = mKeys.length - 1;
+
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+
+            Object k = mKeys[i];
+
+            if (k == key)
+                return mIndices[i];
+
+            if (k == null)
+                return -1;
+        }
+    }
+
+    /**
+     * Stores the given index for the given key, unless the key is already in the table (the
+     * first index stored for a key wins).
+     *
+     * @param key must not be null
+     * @param index
+     */
+    public void putIfAbsent(Object key, int index) {
+
+        // the load factor is kept at or below 1/2
+        if ((mSize + 1) * 2 > mKeys.length)
+            rehash(mKeys.length * 2);
+
+        final int mask = mKeys.length - 1;
+
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+
+            Object k = mKeys[i];
+
+            if (k == key)
+                return;
+
+            if (k == null) {
+                mKeys[i] = key;
+                mIndices[i] = index;
+                mSize++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in the table.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all keys, the capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(mKeys, null);
+        mSize = 0;
+    }
+
+    private void rehash(int capacity) {
+
+        Object[] keys = mKeys;
+        int[] indices = mIndices;
+
+        allocate(capacity);
+
+        final int mask = mKeys.length - 1;
+
+        for (int j = 0; j < keys.length; j++) {
+
+            if (keys[j] == null)
+                continue;
+
+            int i = hash(keys[j]) & mask;
+
+            while (mKeys[i] != null)
+                i = (i + 1) & mask;
+
+            mKeys[i] = keys[j];
+            mIndices[i] = indices[j];
+        }
+    }
+
+    private void allocate(int capacity) {
+        mKeys = new Object[capacity];
+        mIndices = new int[capacity];
+    }
+
+    /**
+     * Returns the power of two that holds the given number of keys at a load factor of 1/2.
+     */
+    private static int capacityFor(int size) {
+
+        int capacity = 16;
+
+        while (capacity < size * 2 && capacity < (1 << 30))
+            capacity <<= 1;
+
+        return capacity;
+    }
+
+    private static int hash(Object key) {
+        int h = System.identityHashCode(key);
+        // spread the higher bits, the table only uses the lower ones
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Static 2-D k-d tree over the (x, y) values of a DataSet, used to find the entry closest to a
+ * touch position in O(log n). The tree is stored implicitly in flat arrays: the node of the range
+ * [from, to) is its middle element, the left and right halves are its subtrees, and the split
+ * dimension alternates between x (even depth) and y (odd depth).
+ *
+ * The tree does not follow changes of the DataSet, it has to be rebuilt after the values were
+ * modified. Queries do not allocate, but the tree is not thread-safe.
+ */
+public class KdTree {
+
+    /**
+     * the x- and y-values in tree order
+     */
+    private float[] mX = new float[0];
+    private float[] mY = new float[0];
+
+    /**
+     * the index of each value in the DataSet, in tree order
+     */
+    private int[] mIndices = new int[0];
+
+    /**
+     * number of values in the tree (values with NaN coordinates are left out)
+     */
+    private int mSize = 0;
+
+    /**
+     * the entry count of the DataSet when the tree was built
+     */
+    private int mEntryCount = 0;
+
+    private boolean mDirty = true;
+
+    /**
+     * state of the running query
+     */
+    private float mQueryX, mQueryY, mScaleX, mScaleY, mBestDistance;
+    private int mBest;
+
+    /**
+     * Marks the tree as outdated, it has to be rebuilt before it can be used again.
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Returns true if the tree was built from the current state of the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    public boolean isValid(IDataSet set) {
+        return !mDirty && mEntryCount == set.getEntryCount();
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * (Re-)builds the tree from the values of the given DataSet.
+     *
+     * @param set
+     */
+    public void build(IDataSet set) {
+
+        final int entryCount = set.getEntryCount();
+
+        if (mIndices.length < entryCount) {
+            mX = new float[entryCount];
+            mY = new float[entryCount];
+            mIndices = new int[entryCount];
+        }
+
+        mSize = 0;
+
+        for (int i = 0; i < entryCount; i++) {
+
+            final float x = set.getX(i);
+            final float y = set.getY(i);
+
+            if (Float.isNaN(x) || Float.isNaN(y))
+                continue;
+
+            mX[mSize] = x;
+            mY[mSize] = y;
+            mIndices[mSize] = i;
+            mSize++;
+        }
+
+        build(0, mSize, true);
+
+        mEntryCount = entryCount;
+        mDirty = false;
+    }
+
+    private void build(int from, int to, boolean splitX) {
+
+        if (to - from < 2)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        select(from, to - 1, mid, splitX);
+
+        build(from, mid, !splitX);
+        build(mid + 1, to, !splitX);
+    }
+
+    /**
+     * Returns the DataSet index of the value closest to the given point, or -1 if no value is
+     * closer than maxDistance. The distance is measured after scaling the x-differences with
+     * scaleX and the y-differences with scaleY, which allows searching in pixel distance while
+     * the tree holds values.
+     *
+     * @param x           x-value of the point
+     * @param y           y-value of the point
+     * @param scaleX      length of one unit on the x-axis (e.g. in pixels)
+     * @param scaleY      length of one unit on the y-axis (e.g. in pixels)
+     * @param maxDistance the maximum (scaled) distance
+     * @return
+     */
+    public int nearest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        if (mSize == 0)
+            return -1;
+
+        mQueryX = x;
+        mQueryY = y;
+        mScaleX = Math.abs(scaleX);
+        mScaleY = Math.abs(scaleY);
+        mBestDistance = maxDistance * maxDistance;
+        mBest = -1;
+
+        nearest(0, mSize, true);
+
+        return mBest < 0 ? -1 : mIndices[mBest];
+    }
+
+    private void nearest(int from, int to, boolean splitX) {
+
+        if (from >= to)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        final float dx = (mX[mid] - mQueryX) * mScaleX;
+        final float dy = (mY[mid] - mQueryY) * mScaleY;
+        final float distance = dx * dx + dy * dy;
+
+        if (distance < mBestDistance) {
+            mBestDistance = distance;
+            mBest = mid;
+        }
+
+        final float diff = splitX ? dx : dy;
+
+        // search the side of the query point first, the other side only if it can be closer
+        if (diff > 0f) {
+            nearest(from, mid, !splitX);
+
+            if (diff * diff < mBestDistance)
+                nearest(mid + 1, to, !splitX);
+        } else {
+            nearest(mid + 1, to, !splitX);
+
+            if (diff * diff < mBestDistance)
+                nearest(from, mid, !splitX);
+        }
+    }
+
+    /**
+     * Partially sorts the range [left, right] by x (or y) so that the element at index k is in
+     * its sorted position, all elements before it are lower or equal and all after it higher or
+     * equal (quickselect).
+     */
+    private void select(int left, int right, int k, boolean byX) {
+
+        final float[] values = byX ? mX : mY;
+
+        while (right > left) {
+
+            final float pivot = values[(left + right) >>> 1];
+
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+
+                while (values[i] < pivot)
+                    i++;
+
+                while (values[j] > pivot)
+                    j--;
+
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j)
+                right = j;
+            else if (k >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int i, int j) {
+
+        float x = mX[i];
+        mX[i] = mX[j];
+        mX[j] = x;
+
+        float y = mY[i];
+        mY[i] = mY[j];
+        mY[j] = y;
+
+        int index = mIndices[i];
+        mIndices[i] = mIndices[j];
+        mIndices[j] = index;
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of longs, e.g. the keys of tiles (see BitmapTileCache.key(...)). The
+ * keys are stored in an array with linear probing, so no Long objects are created for lookups,
+ * insertions or removals.
+ */
+public class LongHashSet {
+
+    private long[] mKeys;
+
+    /**
+     * true for the slots that hold a key, every long value is a valid key
+     */
+    private boolean[] mUsed;
+
+    /**
+     * number of keys in the set
+     */
+    private int mSize = 0;
+
+    /**
+     * @param expectedSize the number of keys the set has room for before it needs to grow
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns true if the given key is in the set.
+     *
+     * @param key
+     * @return
+     */
+    public boolean contains(long key) {
+        return mUsed[find(key)];
+    }
+
+    /**
+     * Adds the given key to the set. Returns false if it was already in the set.
+     *
+     * @param key
+     * @return
+     */
+    public boolean add(long key) {
+
+        // the load factor is kept at or below 1/2
+        if ((mSize + 1) * 2 > mKeys.length)
+            rehash(mKeys.length * 2);
+
+        final int i = find(key);
+
+        if (mUsed[i])
+            return false;
+
+        mKeys[i] = key;
+        mUsed[i] = true;
+        mSize++;
+
+        return true;
+    }
+
+    /**
+     * Removes the given key from the set. Returns false if it was not in the set.
+     *
+     * @param key
+     * @return
+     */
+    public boolean remove(long key) {
+
+        final int mask = mKeys.length - 1;
+
+        int i = find(key);
+
+        if (!mUsed[i])
+            return false;
+
+        mUsed[i] = false;
+        mSize--;
+
+        // move the following keys of the probe sequence into the gap, so that lookups don't
+        // stop at it
+        for (int j = (i + 1) & mask; mUsed[j]; j = (j + 1) & mask) {
+
+            final int home = hash(mKeys[j]) & mask;
+
+            // the key stays if its home slot lies cyclically in (i, j]
+            if (i <= j ? (i < home && home <= j) : (i < home || home <= j))
+                continue;
+
+            mKeys[i] = mKeys[j];
+            mUsed[i] = true;
+            mUsed[j] = false;
+            i = j;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of keys in the set.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all keys, the capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(mUsed, false);
+        mSize = 0;
+    }
+
+    /**
+     * Returns the slot that holds the given key, or the free slot that ends its probe sequence.
+     */
+    private int find(long key) {
+
+        final int mask = mKeys.length - 1;
+
+        int i = hash(key) & mask;
+
+        while (mUsed[i] && mKeys[i] != key)
+            i = (i + 1) & mask;
+
+        return i;
+    }
+
+    private void rehash(int capacity) {
+
+        long[] keys = mKeys;
+        boolean[] used = mUsed;
+
+        allocate(capacity);
+
+        final int mask = mKeys.length - 1;
+
+        for (int j = 0; j < keys.length; j++) {
+
+            if (!used[j])
+                continue;
+
+            int i = hash(keys[j]) & mask;
+
+            while (mUsed[i])
+                i = (i + 1) & mask;
+
+            mKeys[i] = keys[j];
+            mUsed[i] = true;
+        }
+    }
+
+    private void allocate(int capacity) {
+        mKeys = new long[capacity];
+        mUsed = new boolean[capacity];
+    }
+
+    /**
+     * Returns the power of two that holds the given number of keys at a load factor of 1/2.
+     */
+    private static int capacityFor(int size) {
+
+        int capacity = 16;
+
+        while (capacity < size * 2 && capacity < (1 << 30))
+            capacity <<= 1;
+
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        // the keys of tiles differ in their lower and their upper bits, both are mixed in
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
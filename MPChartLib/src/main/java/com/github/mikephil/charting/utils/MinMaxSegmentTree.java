@@ -0,0 +1,399 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree over a growable list of (min, max) pairs that answers the minimum and maximum
+ * of any index range in O(log n). Appending, updating and removing the first or last pair is
+ * O(log n) (amortized for appends). The leaves are used as a ring, so removing from the front
+ * only moves the start of the list. Inserting or removing pairs in the middle moves the pairs
+ * towards the nearer end and costs O(k + log n) for k moved pairs.
+ *
+ * NaN values are ignored, a range that only contains NaN values reports a minimum of
+ * Float.MAX_VALUE and a maximum of -Float.MAX_VALUE.
+ */
+public class MinMaxSegmentTree {
+
+    /**
+     * number of leaves the tree has room for, always a power of two
+     */
+    private int mCapacity;
+
+    /**
+     * number of pairs stored in the tree
+     */
+    private int mSize;
+
+    /**
+     * leaf (relative to mCapacity) that holds the pair at index 0
+     */
+    private int mStart;
+
+    /**
+     * tree nodes, node i has the children 2i and 2i + 1, the leaves start at mCapacity
+     */
+    private float[] mMin;
+    private float[] mMax;
+
+    public MinMaxSegmentTree() {
+        this(16);
+    }
+
+    /**
+     * @param capacity the number of pairs the tree has room for before it needs to grow
+     */
+    public MinMaxSegmentTree(int capacity) {
+
+        mCapacity = 1;
+
+        while (mCapacity < capacity)
+            mCapacity <<= 1;
+
+        mMin = new float[mCapacity * 2];
+        mMax = new float[mCapacity * 2];
+        clear();
+    }
+
+    /**
+     * Returns the number of pairs stored in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all pairs from the tree.
+     */
+    public void clear() {
+        mSize = 0;
+        mStart = 0;
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Appends a pair to the end of the tree.
+     *
+     * @param min
+     * @param max
+     */
+    public void add(float min, float max) {
+
+        if (mSize == mCapacity)
+            grow();
+
+        set(mSize++, min, max);
+    }
+
+    /**
+     * Inserts a pair at the given index, the pairs on the side of the nearer end are moved.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void insert(int index, float min, float max) {
+
+        if (index < 0 || index > mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        if (index == mSize) {
+            add(min, max);
+            return;
+        }
+
+        if (mSize == mCapacity)
+            grow();
+
+        if (index < mSize - index) {
+
+            // move the start one leaf back and the pairs before the index with it
+            mStart = mStart == 0 ? mCapacity - 1 : mStart - 1;
+            mSize++;
+
+            for (int i = 0; i < index; i++)
+                copyLeaf(i + 1, i);
+
+            setLeaf(index, min, max);
+            updateParents(0, index);
+
+        } else {
+
+            mSize++;
+
+            for (int i = mSize - 1; i > index; i--)
+                copyLeaf(i - 1, i);
+
+            setLeaf(index, min, max);
+            updateParents(index, mSize - 1);
+        }
+    }
+
+    /**
+     * Replaces the pair at the given index.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void set(int index, float min, float max) {
+
+        if (index < 0 || index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        int i = leaf(index);
+
+        mMin[i] = Float.isNaN(min) ? Float.MAX_VALUE : min;
+        mMax[i] = Float.isNaN(max) ? -Float.MAX_VALUE : max;
+
+        for (i >>= 1; i > 0; i >>= 1) {
+            mMin[i] = Math.min(mMin[2 * i], mMin[2 * i + 1]);
+            mMax[i] = Math.max(mMax[2 * i], mMax[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Removes the first pair of the tree.
+     */
+    public void removeFirst() {
+
+        if (mSize == 0)
+            return;
+
+        set(0, Float.NaN, Float.NaN);
+
+        mStart = mStart == mCapacity - 1 ? 0 : mStart + 1;
+        mSize--;
+    }
+
+    /**
+     * Removes the last pair of the tree.
+     */
+    public void removeLast() {
+
+        if (mSize == 0)
+            return;
+
+        set(mSize - 1, Float.NaN, Float.NaN);
+        mSize--;
+    }
+
+    /**
+     * Removes the pairs from index from (inclusive) to index to (exclusive), the pairs on the
+     * side of the nearer end are moved.
+     *
+     * @param from
+     * @param to
+     */
+    public void remove(int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mSize);
+
+        int count = to - from;
+
+        if (count <= 0)
+            return;
+
+        if (from < mSize - to) {
+
+            // move the pairs before the range back and the start behind them
+            for (int i = from - 1; i >= 0; i--)
+                copyLeaf(i, i + count);
+
+            for (int i = 0; i < count; i++)
+                setLeaf(i, Float.NaN, Float.NaN);
+
+            updateParents(0, to - 1);
+
+            mStart = (mStart + count) % mCapacity;
+
+        } else {
+
+            for (int i = to; i < mSize; i++)
+                copyLeaf(i, i - count);
+
+            for (int i = mSize - count; i < mSize; i++)
+                setLeaf(i, Float.NaN, Float.NaN);
+
+            updateParents(from, mSize - 1);
+        }
+
+        mSize -= count;
+    }
+
+    /**
+     * Returns the minimum of all pairs from index from to index to (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMin(int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mSize - 1);
+
+        if (from > to)
+            return Float.MAX_VALUE;
+
+        int l = leaf(from);
+        int r = leaf(to);
+
+        if (l <= r)
+            return getMin(mMin, l, r + 1);
+
+        // the range wraps around the end of the leaves
+        return Math.min(getMin(mMin, l, 2 * mCapacity), getMin(mMin, mCapacity, r + 1));
+    }
+
+    /**
+     * Returns the maximum of all pairs from index from to index to (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMax(int from, int to) {
+
+        from = Math.max(from, 0);
+        to = Math.min(to, mSize - 1);
+
+        if (from > to)
+            return -Float.MAX_VALUE;
+
+        int l = leaf(from);
+        int r = leaf(to);
+
+        if (l <= r)
+            return getMax(mMax, l, r + 1);
+
+        // the range wraps around the end of the leaves
+        return Math.max(getMax(mMax, l, 2 * mCapacity), getMax(mMax, mCapacity, r + 1));
+    }
+
+    private static float getMin(float[] tree, int l, int r) {
+
+        float min = Float.MAX_VALUE;
+
+        while (l < r) {
+
+            if ((l & 1) == 1)
+                min = Math.min(min, tree[l++]);
+
+            if ((r & 1) == 1)
+                min = Math.min(min, tree[--r]);
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        return min;
+    }
+
+    private static float getMax(float[] tree, int l, int r) {
+
+        float max = -Float.MAX_VALUE;
+
+        while (l < r) {
+
+            if ((l & 1) == 1)
+                max = Math.max(max, tree[l++]);
+
+            if ((r & 1) == 1)
+                max = Math.max(max, tree[--r]);
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the node of the leaf that holds the pair at the given index.
+     *
+     * @param index
+     * @return
+     */
+    private int leaf(int index) {
+        int i = mStart + index;
+        return (i >= mCapacity ? i - mCapacity : i) + mCapacity;
+    }
+
+    private void setLeaf(int index, float min, float max) {
+        int i = leaf(index);
+        mMin[i] = Float.isNaN(min) ? Float.MAX_VALUE : min;
+        mMax[i] = Float.isNaN(max) ? -Float.MAX_VALUE : max;
+    }
+
+    private void copyLeaf(int fromIndex, int toIndex) {
+        int from = leaf(fromIndex);
+        int to = leaf(toIndex);
+        mMin[to] = mMin[from];
+        mMax[to] = mMax[from];
+    }
+
+    /**
+     * Recalculates the parents of the leaves of the pairs from index from to index to (both
+     * inclusive).
+     *
+     * @param from
+     * @param to
+     */
+    private void updateParents(int from, int to) {
+
+        int l = leaf(from);
+        int r = leaf(to);
+
+        if (l <= r) {
+            updateParentsOfLeaves(l, r);
+        } else {
+            updateParentsOfLeaves(l, 2 * mCapacity - 1);
+            updateParentsOfLeaves(mCapacity, r);
+        }
+    }
+
+    private void updateParentsOfLeaves(int l, int r) {
+
+        for (l >>= 1, r >>= 1; l > 0; l >>= 1, r >>= 1) {
+
+            for (int i = l; i <= r; i++) {
+                mMin[i] = Math.min(mMin[2 * i], mMin[2 * i + 1]);
+                mMax[i] = Math.max(mMax[2 * i], mMax[2 * i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Doubles the capacity of the tree, keeps all stored pairs and moves them to the start of
+     * the leaves.
+     */
+    private void grow() {
+
+        int capacity = mCapacity * 2;
+
+        float[] min = new float[capacity * 2];
+        float[] max = new float[capacity * 2];
+
+        Arrays.fill(min, Float.MAX_VALUE);
+        Arrays.fill(max, -Float.MAX_VALUE);
+
+        for (int i = 0; i < mSize; i++) {
+            min[capacity + i] = mMin[leaf(i)];
+            max[capacity + i] = mMax[leaf(i)];
+        }
+
+        for (int i = capacity - 1; i > 0; i--) {
+            min[i] = Math.min(min[2 * i], min[2 * i + 1]);
+            max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+        }
+
+        mCapacity = capacity;
+        mStart = 0;
+        mMin = min;
+        mMax = max;
+    }
+}
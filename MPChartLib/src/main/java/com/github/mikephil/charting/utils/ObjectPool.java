@@ -19,6 +19,16 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
 
     private static int ids = 0;
 
+    /**
+     * the misses of every thread that counts them, see startCountingMisses()
+     */
+    private static final ThreadLocal<MissCounter> sMissCounter = new ThreadLocal<MissCounter>() {
+        @Override
+        protected MissCounter initialValue() {
+            return new MissCounter();
+        }
+    };
+
     private int poolId;
     private int desiredCapacity;
     private Object[] objects;
@@ -27,6 +37,28 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
     private float replenishPercentage;
 
 
+    /**
+     * Starts counting how often any pool runs empty and has to allocate new objects on the
+     * calling thread, e.g. while a chart draws a frame.
+     */
+    public static void startCountingMisses(){
+        MissCounter counter = sMissCounter.get();
+        counter.misses = 0;
+        counter.counting = true;
+    }
+
+    /**
+     * Stops counting the misses on the calling thread and returns their number since
+     * startCountingMisses().
+     *
+     * @return
+     */
+    public static long stopCountingMisses(){
+        MissCounter counter = sMissCounter.get();
+        counter.counting = false;
+        return counter.misses;
+    }
+
     /**
      * Returns the id of the given pool instance.
      *
@@ -114,6 +146,11 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
 
         if(this.objectsPointer == -1 && this.replenishPercentage > 0.0f){
             this.refillPool();
+
+            MissCounter counter = sMissCounter.get();
+
+            if(counter.counting)
+                counter.misses++;
         }
 
         T result = (T)objects[this.objectsPointer];
@@ -215,4 +252,9 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         protected abstract Poolable instantiate();
 
     }
-}
\ No newline at end of file
+
+    private static final class MissCounter {
+        boolean counting;
+        long misses;
+    }
+}
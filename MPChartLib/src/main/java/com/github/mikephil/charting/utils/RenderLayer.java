@@ -0,0 +1,101 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+/**
+ * An offscreen bitmap that caches a part of the chart between frames. The layer is redrawn only
+ * after it was invalidated (or the size of the chart changed), otherwise the cached bitmap is
+ * simply drawn again.
+ */
+public class RenderLayer {
+
+    private Bitmap mBitmap;
+
+    private Canvas mCanvas;
+
+    private boolean mDirty = true;
+
+    /**
+     * the bitmap configuration to be used
+     */
+    private Bitmap.Config mBitmapConfig;
+
+    public RenderLayer(Bitmap.Config config) {
+        mBitmapConfig = config;
+    }
+
+    /**
+     * Marks the layer as outdated, it is redrawn before it is drawn the next time.
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Returns true if the layer has to be redrawn before it can be drawn with the given size.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public boolean isDirty(int width, int height) {
+        return mDirty || mBitmap == null
+                || mBitmap.getWidth() != width || mBitmap.getHeight() != height;
+    }
+
+    /**
+     * Clears the layer (resizing it if needed) and returns the canvas to redraw it on. Returns
+     * null if the size is invalid.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas begin(int width, int height) {
+
+        if (width <= 0 || height <= 0)
+            return null;
+
+        if (mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+
+            release();
+
+            mBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+            mCanvas = new Canvas(mBitmap);
+        } else
+            mBitmap.eraseColor(Color.TRANSPARENT);
+
+        mDirty = false;
+
+        return mCanvas;
+    }
+
+    /**
+     * Draws the cached layer.
+     *
+     * @param c
+     * @param paint
+     */
+    public void draw(Canvas c, Paint paint) {
+
+        if (mBitmap != null)
+            c.drawBitmap(mBitmap, 0, 0, paint);
+    }
+
+    /**
+     * Frees the bitmap of the layer, it is recreated when it is drawn the next time.
+     */
+    public void release() {
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+            mCanvas = null;
+        }
+
+        mDirty = true;
+    }
+}
@@ -0,0 +1,374 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.os.Build;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of text measurements (Paint.measureText(...) and Paint.getTextBounds(...)),
+ * keyed by the text and the paint settings that influence the measurement (typeface, text size,
+ * scale, skew, letter spacing and flags such as fake bold). A change of these settings leads to
+ * different keys, so cached measurements never become outdated, they are evicted when the cache
+ * is full, least recently used first.
+ *
+ * Lookups do not allocate, only measuring a text that is not cached does. The cache is not
+ * thread-safe, it is meant to be used on the UI thread.
+ */
+public class TextMetricsCache {
+
+    private static final int DEFAULT_MAX_SIZE = 512;
+
+    /**
+     * the measurements of a text, computed when they are first requested
+     */
+    private static final class Metrics {
+
+        float width;
+        boolean hasWidth = false;
+
+        int boundsLeft;
+        int boundsTop;
+        int boundsRight;
+        int boundsBottom;
+        boolean hasBounds = false;
+    }
+
+    /**
+     * The text and paint settings of a measurement. The keys in the cache hold the text as a
+     * String, the lookup key may refer to a range of a char array instead.
+     */
+    private static final class Key {
+
+        Typeface typeface;
+        float textSize;
+        float textScaleX;
+        float textSkewX;
+        float letterSpacing;
+        int flags;
+
+        String text;
+
+        char[] chars;
+        int index;
+        int count;
+
+        int hash;
+
+        void set(Paint paint) {
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            letterSpacing = Build.VERSION.SDK_INT >= 21 ? paint.getLetterSpacing() : 0f;
+            flags = paint.getFlags();
+        }
+
+        void setText(String text) {
+            this.text = text;
+            this.chars = null;
+            hash = hashSettings() * 31 + text.hashCode();
+        }
+
+        void setText(char[] chars, int index, int count) {
+            this.text = null;
+            this.chars = chars;
+            this.index = index;
+            this.count = count;
+
+            // the same as String.hashCode()
+            int h = 0;
+
+            for (int i = index; i < index + count; i++)
+                h = 31 * h + chars[i];
+
+            hash = hashSettings() * 31 + h;
+        }
+
+        private int hashSettings() {
+            int h = typeface != null ? typeface.hashCode() : 0;
+            h = h * 31 + Float.floatToIntBits(textSize);
+            h = h * 31 + Float.floatToIntBits(textScaleX);
+            h = h * 31 + Float.floatToIntBits(textSkewX);
+            h = h * 31 + Float.floatToIntBits(letterSpacing);
+            return h * 31 + flags;
+        }
+
+        int length() {
+            return text != null ? text.length() : count;
+        }
+
+        char charAt(int i) {
+            return text != null ? text.charAt(i) : chars[index + i];
+        }
+
+        /**
+         * Returns a copy of this key that holds the text as a String.
+         */
+        Key copy() {
+            Key key = new Key();
+            key.typeface = typeface;
+            key.textSize = textSize;
+            key.textScaleX = textScaleX;
+            key.textSkewX = textSkewX;
+            key.letterSpacing = letterSpacing;
+            key.flags = flags;
+            key.text = text != null ? text : String.valueOf(chars, index, count);
+            key.hash = hash;
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+
+            if (hash != other.hash || flags != other.flags
+                    || textSize != other.textSize || textScaleX != other.textScaleX
+                    || textSkewX != other.textSkewX || letterSpacing != other.letterSpacing
+                    || (typeface == null ? other.typeface != null : !typeface.equals(other.typeface)))
+                return false;
+
+            final int length = length();
+
+            if (length != other.length())
+                return false;
+
+            for (int i = 0; i < length; i++) {
+                if (charAt(i) != other.charAt(i))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+
+    private int mMaxSize;
+
+    private final LinkedHashMap<Key, Metrics> mCache;
+
+    private final Key mLookupKey = new Key();
+
+    private final Rect mBoundsBuffer = new Rect();
+
+    public TextMetricsCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of cached texts
+     */
+    public TextMetricsCache(int maxSize) {
+
+        mMaxSize = maxSize;
+
+        // access order, the least recently used text is evicted first
+        mCache = new LinkedHashMap<Key, Metrics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Metrics> eldest) {
+                return size() > mMaxSize;
+            }
+        };
+    }
+
+    /**
+     * Sets the maximum number of cached texts. Default: 512
+     *
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+
+        mMaxSize = Math.max(maxSize, 0);
+
+        if (mCache.size() > mMaxSize)
+            mCache.clear();
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Returns the number of cached texts.
+     *
+     * @return
+     */
+    public int size() {
+        return mCache.size();
+    }
+
+    /**
+     * Removes all cached measurements.
+     */
+    public void clear() {
+        mCache.clear();
+    }
+
+    /**
+     * Returns the width of the given text as measured by Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public float getWidth(Paint paint, String text) {
+        mLookupKey.set(paint);
+        mLookupKey.setText(text);
+        return getWidth(paint);
+    }
+
+    /**
+     * Returns the width of count chars of the given array, starting at index, as measured by
+     * Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @param index
+     * @param count
+     * @return
+     */
+    public float getWidth(Paint paint, char[] text, int index, int count) {
+        mLookupKey.set(paint);
+        mLookupKey.setText(text, index, count);
+        return getWidth(paint);
+    }
+
+    private float getWidth(Paint paint) {
+
+        Metrics metrics = getMetrics();
+
+        if (!metrics.hasWidth) {
+
+            if (mLookupKey.text != null)
+                metrics.width = paint.measureText(mLookupKey.text);
+            else
+                metrics.width = paint.measureText(mLookupKey.chars, mLookupKey.index, mLookupKey.count);
+
+            metrics.hasWidth = true;
+        }
+
+        releaseLookupKey();
+
+        return metrics.width;
+    }
+
+    /**
+     * Returns the bounds of the given text (see Paint.getTextBounds(...)).
+     *
+     * @param paint
+     * @param text
+     * @param outBounds an output variable, modified by the function
+     */
+    public void getBounds(Paint paint, String text, Rect outBounds) {
+        mLookupKey.set(paint);
+        mLookupKey.setText(text);
+        getBounds(paint, outBounds);
+    }
+
+    /**
+     * Returns the bounds of count chars of the given array, starting at index (see
+     * Paint.getTextBounds(...)).
+     *
+     * @param paint
+     * @param text
+     * @param index
+     * @param count
+     * @param outBounds an output variable, modified by the function
+     */
+    public void getBounds(Paint paint, char[] text, int index, int count, Rect outBounds) {
+        mLookupKey.set(paint);
+        mLookupKey.setText(text, index, count);
+        getBounds(paint, outBounds);
+    }
+
+    /**
+     * Returns the size of the bounds of the given text (see Paint.getTextBounds(...)).
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize an output variable, modified by the function
+     */
+    public void getBounds(Paint paint, String text, FSize outputFSize) {
+
+        Rect r = mBoundsBuffer;
+        getBounds(paint, text, r);
+
+        outputFSize.width = r.width();
+        outputFSize.height = r.height();
+    }
+
+    /**
+     * Returns the height of the bounds of the given text (see Paint.getTextBounds(...)).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public int getBoundsHeight(Paint paint, String text) {
+
+        Rect r = mBoundsBuffer;
+        getBounds(paint, text, r);
+
+        return r.height();
+    }
+
+    private void getBounds(Paint paint, Rect outBounds) {
+
+        Metrics metrics = getMetrics();
+
+        if (!metrics.hasBounds) {
+
+            outBounds.set(0, 0, 0, 0);
+
+            if (mLookupKey.text != null)
+                paint.getTextBounds(mLookupKey.text, 0, mLookupKey.text.length(), outBounds);
+            else
+                paint.getTextBounds(mLookupKey.chars, mLookupKey.index, mLookupKey.count, outBounds);
+
+            metrics.boundsLeft = outBounds.left;
+            metrics.boundsTop = outBounds.top;
+            metrics.boundsRight = outBounds.right;
+            metrics.boundsBottom = outBounds.bottom;
+            metrics.hasBounds = true;
+        }
+
+        outBounds.set(metrics.boundsLeft, metrics.boundsTop, metrics.boundsRight, metrics.boundsBottom);
+        releaseLookupKey();
+    }
+
+    /**
+     * Returns the cached metrics for the lookup key, adding empty metrics if there are none.
+     */
+    private Metrics getMetrics() {
+
+        Metrics metrics = mCache.get(mLookupKey);
+
+        if (metrics == null) {
+            metrics = new Metrics();
+
+            if (mMaxSize > 0)
+                mCache.put(mLookupKey.copy(), metrics);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Drops the text of the lookup key, it must not keep the text alive.
+     */
+    private void releaseLookupKey() {
+        mLookupKey.text = null;
+        mLookupKey.chars = null;
+    }
+}
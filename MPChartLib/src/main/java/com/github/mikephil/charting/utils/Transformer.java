@@ -6,7 +6,6 @@ import android.graphics.Path;
 import android.graphics.RectF;
 
 import com.github.mikephil.charting.data.CandleEntry;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -34,6 +33,26 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * incremented by the prepare and set methods of the value and offset matrix
+     */
+    protected int mMatrixVersion = 0;
+
+    /**
+     * the combined matrices of the last transformation, see getSnapshot()
+     */
+    private ViewPortSnapshot mSnapshot = null;
+
+    /**
+     * if true, the transformed points are counted for performance monitoring
+     */
+    protected boolean mCountingEnabled = false;
+
+    /**
+     * total number of points transformed between values and pixels while counting was enabled
+     */
+    protected long mPointsTransformed = 0;
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -63,6 +82,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        mMatrixVersion++;
     }
 
     /**
@@ -84,6 +105,50 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        mMatrixVersion++;
+    }
+
+    /**
+     * Returns the snapshot of the current transformation (the combined value, touch and offset
+     * matrix, its inverse and the values at the content rect edges). It is only created again
+     * after one of the matrices or the content rect changed, so it is shared by everything that
+     * transforms with this Transformer within a draw.
+     *
+     * @return
+     */
+    public ViewPortSnapshot getSnapshot() {
+
+        if (mSnapshot == null || !mSnapshot.isValid(mMatrixVersion, mViewPortHandler.getVersion()))
+            mSnapshot = new ViewPortSnapshot(this, mMatrixValueToPx, mMatrixOffset,
+                    mViewPortHandler, mMatrixVersion);
+
+        return mSnapshot;
+    }
+
+    /**
+     * Enables counting the points transformed by this Transformer (and its snapshots), set by
+     * the chart while a performance listener is attached.
+     *
+     * @param enabled
+     */
+    public void setCountingEnabled(boolean enabled) {
+        mCountingEnabled = enabled;
+    }
+
+    /**
+     * Returns the total number of points this Transformer transformed between values and pixels
+     * while counting was enabled.
+     *
+     * @return
+     */
+    public long getPointsTransformed() {
+        return mPointsTransformed;
+    }
+
+    void countPointsTransformed(int count) {
+        if (mCountingEnabled)
+            mPointsTransformed += count;
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -107,18 +172,13 @@ public class Transformer {
 
         for (int j = 0; j < count; j += 2) {
 
-            Entry e = data.getEntryForIndex(j / 2 + from);
+            final int index = j / 2 + from;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getX(index);
+            valuePoints[j + 1] = data.getY(index) * phaseY;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getSnapshot().valuesToPixels(valuePoints, valuePoints.length / 2);
 
         return valuePoints;
     }
@@ -143,18 +203,13 @@ public class Transformer {
 
         for (int j = 0; j < count; j += 2) {
 
-            Entry e = data.getEntryForIndex(j / 2 + from);
+            final int index = j / 2 + from;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getX(index);
+            valuePoints[j + 1] = data.getY(index) * phaseY;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getSnapshot().valuesToPixels(valuePoints, valuePoints.length / 2);
 
         return valuePoints;
     }
@@ -181,18 +236,13 @@ public class Transformer {
 
         for (int j = 0; j < count; j += 2) {
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
+            final int index = j / 2 + min;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getX(index);
+            valuePoints[j + 1] = data.getY(index) * phaseY;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getSnapshot().valuesToPixels(valuePoints, valuePoints.length / 2);
 
         return valuePoints;
     }
@@ -229,7 +279,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getSnapshot().valuesToPixels(valuePoints, valuePoints.length / 2);
 
         return valuePoints;
     }
@@ -242,9 +292,7 @@ public class Transformer {
      */
     public void pathValueToPixel(Path path) {
 
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        getSnapshot().pathValueToPixel(path);
     }
 
     /**
@@ -267,9 +315,24 @@ public class Transformer {
      */
     public void pointValuesToPixel(float[] pts) {
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+        getSnapshot().valuesToPixels(pts, pts.length / 2);
+    }
+
+    /**
+     * Transform the first count values (count / 2 points) of an array of points with all
+     * matrices, the rest of the array is left untouched.
+     *
+     * @param pts
+     * @param count number of values (x and y) to transform
+     */
+    public void pointValuesToPixel(float[] pts, int count) {
+
+        final int pointCount = count / 2;
+
+        if (pointCount <= 0)
+            return;
+
+        getSnapshot().valuesToPixels(pts, pointCount);
     }
 
     /**
@@ -279,9 +342,7 @@ public class Transformer {
      */
     public void rectValueToPixel(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        getSnapshot().rectValueToPixel(r);
     }
 
     /**
@@ -296,9 +357,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        getSnapshot().rectValueToPixel(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +366,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        getSnapshot().rectValueToPixel(r);
     }
 
     /**
@@ -319,9 +376,7 @@ public class Transformer {
      */
     public void rectValueToPixelHorizontal(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        getSnapshot().rectValueToPixel(r);
     }
 
     /**
@@ -336,9 +391,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        getSnapshot().rectValueToPixel(r);
     }
 
     /**
@@ -348,14 +401,12 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
-        Matrix m = getValueToPixelMatrix();
+        ViewPortSnapshot snapshot = getSnapshot();
 
         for (int i = 0; i < rects.size(); i++)
-            m.mapRect(rects.get(i));
+            snapshot.rectValueToPixel(rects.get(i));
     }
 
-    protected Matrix mPixelToValueMatrixBuffer = new Matrix();
-
     /**
      * Transforms the given array of touch positions (pixels) (x, y, x, y, ...)
      * into values on the chart.
@@ -363,19 +414,7 @@ public class Transformer {
      * @param pixels
      */
     public void pixelsToValue(float[] pixels) {
-
-        Matrix tmp = mPixelToValueMatrixBuffer;
-        tmp.reset();
-
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        getSnapshot().pixelsToValues(pixels);
     }
 
     /**
@@ -433,27 +472,57 @@ public class Transformer {
         return MPPointD.getInstance(xPx, yPx);
     }
 
+    /**
+     * Returns the value matrix. Don't modify it, use setValueMatrix(...) or
+     * prepareMatrixValuePx(...) instead, changes made directly are not seen by the snapshot.
+     *
+     * @return
+     */
     public Matrix getValueMatrix() {
         return mMatrixValueToPx;
     }
 
+    /**
+     * Sets the value matrix to the values of the given matrix.
+     *
+     * @param matrix
+     */
+    public void setValueMatrix(Matrix matrix) {
+        mMatrixValueToPx.set(matrix);
+        mMatrixVersion++;
+    }
+
+    /**
+     * Returns the offset matrix. Don't modify it, use setOffsetMatrix(...) or
+     * prepareMatrixOffset(...) instead, changes made directly are not seen by the snapshot.
+     *
+     * @return
+     */
     public Matrix getOffsetMatrix() {
         return mMatrixOffset;
     }
 
+    /**
+     * Sets the offset matrix to the values of the given matrix.
+     *
+     * @param matrix
+     */
+    public void setOffsetMatrix(Matrix matrix) {
+        mMatrixOffset.set(matrix);
+        mMatrixVersion++;
+    }
+
     private Matrix mMBuffer1 = new Matrix();
 
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
+        getSnapshot().getValueToPixelMatrix(mMBuffer1);
         return mMBuffer1;
     }
 
     private Matrix mMBuffer2 = new Matrix();
 
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+        getSnapshot().getPixelToValueMatrix(mMBuffer2);
         return mMBuffer2;
     }
 }
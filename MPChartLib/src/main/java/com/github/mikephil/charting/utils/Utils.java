@@ -136,33 +136,54 @@ public abstract class Utils {
         return px / mMetrics.density;
     }
 
+    private static TextMetricsCache mTextMetricsCache = new TextMetricsCache();
+
     /**
-     * calculates the approximate width of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * Returns the cache the text measurements of calcTextWidth(...), calcTextHeight(...) and
+     * calcTextSize(...) go through.
+     *
+     * @return
+     */
+    public static TextMetricsCache getTextMetricsCache() {
+        return mTextMetricsCache;
+    }
+
+    /**
+     * calculates the approximate width of a text, depending on a demo text,
+     * measurements are cached (see getTextMetricsCache())
      *
      * @param paint
      * @param demoText
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
-        return (int) paint.measureText(demoText);
+        return (int) mTextMetricsCache.getWidth(paint, demoText);
     }
 
-    private static Rect mCalcTextHeightRect = new Rect();
     /**
-     * calculates the approximate height of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate width of count chars of a text, starting at
+     * index, measurements are cached (see getTextMetricsCache())
+     *
+     * @param paint
+     * @param text
+     * @param index
+     * @param count
+     * @return
+     */
+    public static int calcTextWidth(Paint paint, char[] text, int index, int count) {
+        return (int) mTextMetricsCache.getWidth(paint, text, index, count);
+    }
+
+    /**
+     * calculates the approximate height of a text, depending on a demo text,
+     * measurements are cached (see getTextMetricsCache())
      *
      * @param paint
      * @param demoText
      * @return
      */
     public static int calcTextHeight(Paint paint, String demoText) {
-
-        Rect r = mCalcTextHeightRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return r.height();
+        return mTextMetricsCache.getBoundsHeight(paint, demoText);
     }
 
     private static Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
@@ -201,23 +222,35 @@ public abstract class Utils {
         return result;
     }
 
-    private static Rect mCalcTextSizeRect = new Rect();
     /**
-     * calculates the approximate size of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate size of a text, depending on a demo text,
+     * measurements are cached (see getTextMetricsCache())
      *
      * @param paint
      * @param demoText
      * @param outputFSize An output variable, modified by the function.
      */
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
+        mTextMetricsCache.getBounds(paint, demoText, outputFSize);
+    }
+
+    private static Rect mCalcTextSizeRect = new Rect();
+    /**
+     * calculates the approximate size of count chars of a text, starting at
+     * index, measurements are cached (see getTextMetricsCache())
+     *
+     * @param paint
+     * @param text
+     * @param index
+     * @param count
+     * @param outputFSize An output variable, modified by the function.
+     */
+    public static void calcTextSize(Paint paint, char[] text, int index, int count, FSize outputFSize) {
 
         Rect r = mCalcTextSizeRect;
-        r.set(0,0,0,0);
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
+        mTextMetricsCache.getBounds(paint, text, index, count, r);
         outputFSize.width = r.width();
         outputFSize.height = r.height();
-
     }
 
 
@@ -507,6 +540,22 @@ public abstract class Utils {
             view.postInvalidateDelayed(10);
     }
 
+    /**
+     * Runs the given action on the next animation frame, view.postOnAnimation(...) is only
+     * supported in API >= 16, older versions run it with view.post(...). Can be called from any
+     * thread.
+     *
+     * @param view
+     * @param action
+     */
+    @SuppressLint("NewApi")
+    public static void postOnAnimation(View view, Runnable action) {
+        if (Build.VERSION.SDK_INT >= 16)
+            view.postOnAnimation(action);
+        else
+            view.post(action);
+    }
+
     public static int getMinimumFlingVelocity() {
         return mMinimumFlingVelocity;
     }
@@ -556,12 +605,45 @@ public abstract class Utils {
     public static void drawXAxisValue(Canvas c, String text, float x, float y,
                                       Paint paint,
                                       MPPointF anchor, float angleDegrees) {
+        drawXAxisValue(c, text, null, 0, 0, x, y, paint, anchor, angleDegrees);
+    }
+
+    /**
+     * Same as drawXAxisValue(Canvas, String, ...), but draws count chars of the given array
+     * starting at index, without creating a String.
+     *
+     * @param c
+     * @param text
+     * @param index
+     * @param count
+     * @param x
+     * @param y
+     * @param paint
+     * @param anchor
+     * @param angleDegrees
+     */
+    public static void drawXAxisValue(Canvas c, char[] text, int index, int count, float x, float y,
+                                      Paint paint,
+                                      MPPointF anchor, float angleDegrees) {
+        drawXAxisValue(c, null, text, index, count, x, y, paint, anchor, angleDegrees);
+    }
+
+    /**
+     * Draws either the String or, if it is null, the chars.
+     */
+    private static void drawXAxisValue(Canvas c, String text, char[] chars, int index, int count,
+                                       float x, float y, Paint paint,
+                                       MPPointF anchor, float angleDegrees) {
 
         float drawOffsetX = 0.f;
         float drawOffsetY = 0.f;
 
         final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
-        paint.getTextBounds(text, 0, text.length(), mDrawTextRectBuffer);
+
+        if (text != null)
+            mTextMetricsCache.getBounds(paint, text, mDrawTextRectBuffer);
+        else
+            mTextMetricsCache.getBounds(paint, chars, index, count, mDrawTextRectBuffer);
 
         // Android sometimes has pre-padding
         drawOffsetX -= mDrawTextRectBuffer.left;
@@ -600,7 +682,10 @@ public abstract class Utils {
             c.translate(translateX, translateY);
             c.rotate(angleDegrees);
 
-            c.drawText(text, drawOffsetX, drawOffsetY, paint);
+            if (text != null)
+                c.drawText(text, drawOffsetX, drawOffsetY, paint);
+            else
+                c.drawText(chars, index, count, drawOffsetX, drawOffsetY, paint);
 
             c.restore();
         } else {
@@ -613,7 +698,10 @@ public abstract class Utils {
             drawOffsetX += x;
             drawOffsetY += y;
 
-            c.drawText(text, drawOffsetX, drawOffsetY, paint);
+            if (text != null)
+                c.drawText(text, drawOffsetX, drawOffsetY, paint);
+            else
+                c.drawText(chars, index, count, drawOffsetX, drawOffsetY, paint);
         }
 
         paint.setTextAlign(originalTextAlign);
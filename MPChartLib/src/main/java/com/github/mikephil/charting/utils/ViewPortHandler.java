@@ -5,6 +5,8 @@ import android.graphics.Matrix;
 import android.graphics.RectF;
 import android.view.View;
 
+import java.util.Arrays;
+
 /**
  * Class that contains information about the charts current viewport settings, including offsets, scale & translation
  * levels, ...
@@ -26,6 +28,11 @@ public class ViewPortHandler {
     protected float mChartWidth = 0f;
     protected float mChartHeight = 0f;
 
+    /**
+     * incremented whenever the touch matrix or the content rect changes
+     */
+    protected int mVersion = 0;
+
     /**
      * minimum scale value on the y-axis
      */
@@ -114,6 +121,18 @@ public class ViewPortHandler {
                                  float offsetBottom) {
         mContentRect.set(offsetLeft, offsetTop, mChartWidth - offsetRight, mChartHeight
                 - offsetBottom);
+
+        mVersion++;
+    }
+
+    /**
+     * Returns a number that changes whenever the touch matrix or the content rect of this
+     * ViewPortHandler changes, e.g. to find out if something drawn before is still valid.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mVersion;
     }
 
     public float offsetLeft() {
@@ -411,6 +430,11 @@ public class ViewPortHandler {
      */
     protected final float[] matrixBuffer = new float[9];
 
+    /**
+     * the values of the touch matrix at the last change of mVersion
+     */
+    private final float[] mVersionTouchValues = new float[]{1f, 0f, 0f, 0f, 1f, 0f, 0f, 0f, 1f};
+
     /**
      * call this method to refresh the graph with a given matrix
      *
@@ -473,6 +497,12 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        // only an actual change of the touch matrix outdates what was computed from it
+        if (matrix == mMatrixTouch && !Arrays.equals(matrixBuffer, mVersionTouchValues)) {
+            System.arraycopy(matrixBuffer, 0, mVersionTouchValues, 0, matrixBuffer.length);
+            mVersion++;
+        }
     }
 
     /**
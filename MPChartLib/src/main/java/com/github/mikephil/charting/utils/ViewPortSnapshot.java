@@ -0,0 +1,188 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+import android.graphics.Path;
+import android.graphics.RectF;
+
+
+/**
+ * Immutable snapshot of the transformation of a Transformer: the combined value-to-pixel matrix
+ * (value, touch and offset matrix), its inverse and the values at the corners of the content
+ * rect. A snapshot is created on the first use after the matrices of the Transformer or the
+ * ViewPortHandler changed, so all renderers, axis renderers and highlighters share one snapshot
+ * within a draw instead of combining and inverting the matrices on every transformation.
+ *
+ * Obtain the current snapshot with Transformer.getSnapshot(), don't keep it across frames. The
+ * content rect edge values are in the coordinates of the Transformer (for the HorizontalBarChart,
+ * y is the x-axis).
+ */
+public final class ViewPortSnapshot {
+
+    /**
+     * the Transformer that created this snapshot, counts the transformed points
+     */
+    private final Transformer mTransformer;
+
+    private final Matrix mValueToPixel = new Matrix();
+    private final Matrix mPixelToValue = new Matrix();
+
+    private final float[] mValues = new float[9];
+
+    /**
+     * the values at the left bottom and the right top corner of the content rect
+     */
+    private final float mLeftBottomX, mLeftBottomY;
+    private final float mRightTopX, mRightTopY;
+
+    private final int mMatrixVersion;
+    private final int mViewPortVersion;
+
+    /**
+     * @param transformer   the Transformer that creates the snapshot
+     * @param valueToPx     the value matrix of the Transformer
+     * @param offset        the offset matrix of the Transformer
+     * @param handler
+     * @param matrixVersion the version of the matrices of the Transformer
+     */
+    ViewPortSnapshot(Transformer transformer, Matrix valueToPx, Matrix offset,
+                     ViewPortHandler handler, int matrixVersion) {
+
+        mTransformer = transformer;
+
+        mValueToPixel.set(valueToPx);
+        mValueToPixel.postConcat(handler.mMatrixTouch);
+        mValueToPixel.postConcat(offset);
+        mValueToPixel.getValues(mValues);
+
+        if (!mValueToPixel.invert(mPixelToValue))
+            mPixelToValue.reset();
+
+        float[] corners = new float[]{
+                handler.contentLeft(), handler.contentBottom(),
+                handler.contentRight(), handler.contentTop()
+        };
+        mPixelToValue.mapPoints(corners);
+
+        mLeftBottomX = corners[0];
+        mLeftBottomY = corners[1];
+        mRightTopX = corners[2];
+        mRightTopY = corners[3];
+
+        mMatrixVersion = matrixVersion;
+        mViewPortVersion = handler.getVersion();
+    }
+
+    /**
+     * Returns true if this snapshot was created from the given versions of the matrices.
+     *
+     * @param matrixVersion   the version of the matrices of the Transformer
+     * @param viewPortVersion see ViewPortHandler.getVersion()
+     * @return
+     */
+    public boolean isValid(int matrixVersion, int viewPortVersion) {
+        return mMatrixVersion == matrixVersion && mViewPortVersion == viewPortVersion;
+    }
+
+    /**
+     * Transforms the given number of points (x, y, x, y, ...) from values to pixels.
+     *
+     * @param pts
+     * @param pointCount
+     */
+    public void valuesToPixels(float[] pts, int pointCount) {
+        mValueToPixel.mapPoints(pts, 0, pts, 0, pointCount);
+        mTransformer.countPointsTransformed(pointCount);
+    }
+
+    /**
+     * Transforms all points (x, y, x, y, ...) of the given array from pixels to values.
+     *
+     * @param pts
+     */
+    public void pixelsToValues(float[] pts) {
+        mPixelToValue.mapPoints(pts);
+        mTransformer.countPointsTransformed(pts.length / 2);
+    }
+
+    /**
+     * Transforms a rectangle from values to pixels.
+     *
+     * @param r
+     */
+    public void rectValueToPixel(RectF r) {
+        mValueToPixel.mapRect(r);
+        mTransformer.countPointsTransformed(2);
+    }
+
+    /**
+     * Transforms a path from values to pixels.
+     *
+     * @param path
+     */
+    public void pathValueToPixel(Path path) {
+        path.transform(mValueToPixel);
+    }
+
+    /**
+     * Copies the 9 values of the value-to-pixel matrix into the given array.
+     *
+     * @param out
+     */
+    public void getValues(float[] out) {
+        System.arraycopy(mValues, 0, out, 0, mValues.length);
+    }
+
+    /**
+     * Copies the value-to-pixel matrix into the given matrix.
+     *
+     * @param out
+     */
+    public void getValueToPixelMatrix(Matrix out) {
+        out.set(mValueToPixel);
+    }
+
+    /**
+     * Copies the pixel-to-value matrix into the given matrix.
+     *
+     * @param out
+     */
+    public void getPixelToValueMatrix(Matrix out) {
+        out.set(mPixelToValue);
+    }
+
+    /**
+     * Returns the x-value at the left edge of the content rect.
+     *
+     * @return
+     */
+    public float getContentLeftX() {
+        return mLeftBottomX;
+    }
+
+    /**
+     * Returns the x-value at the right edge of the content rect.
+     *
+     * @return
+     */
+    public float getContentRightX() {
+        return mRightTopX;
+    }
+
+    /**
+     * Returns the y-value at the bottom edge of the content rect.
+     *
+     * @return
+     */
+    public float getContentBottomY() {
+        return mLeftBottomY;
+    }
+
+    /**
+     * Returns the y-value at the top edge of the content rect.
+     *
+     * @return
+     */
+    public float getContentTopY() {
+        return mRightTopY;
+    }
+}
@@ -0,0 +1,310 @@
+package android.graphics;
+
+/**
+ * Pure-Java replacement of android.graphics.Matrix for running the library on a plain JVM. The
+ * Matrix of the android.jar is only a stub without an implementation, this class implements the
+ * parts of its API the library uses with the same semantics (a 3x3 matrix, "pre" operations
+ * multiply from the right, "post" operations from the left). The unit tests come first on the
+ * classpath, so this class replaces the stub in the tests that transform points. Benchmarks that
+ * transform points (e.g. TransformerBenchmark) measure this implementation, not the native one
+ * of Android.
+ *
+ * The values are stored in the order of getValues(...): scale x, skew x, translate x, skew y,
+ * scale y, translate y, persp 0, persp 1, persp 2.
+ */
+public class Matrix {
+
+    public static final int MSCALE_X = 0;
+    public static final int MSKEW_X = 1;
+    public static final int MTRANS_X = 2;
+    public static final int MSKEW_Y = 3;
+    public static final int MSCALE_Y = 4;
+    public static final int MTRANS_Y = 5;
+    public static final int MPERSP_0 = 6;
+    public static final int MPERSP_1 = 7;
+    public static final int MPERSP_2 = 8;
+
+    private final float[] mValues = new float[9];
+
+    /**
+     * temporary matrix for concatenations
+     */
+    private final float[] mTemp = new float[9];
+
+    public Matrix() {
+        reset();
+    }
+
+    public Matrix(Matrix src) {
+        set(src);
+    }
+
+    public boolean isIdentity() {
+        return mValues[0] == 1f && mValues[1] == 0f && mValues[2] == 0f
+                && mValues[3] == 0f && mValues[4] == 1f && mValues[5] == 0f
+                && mValues[6] == 0f && mValues[7] == 0f && mValues[8] == 1f;
+    }
+
+    public boolean isAffine() {
+        return mValues[6] == 0f && mValues[7] == 0f && mValues[8] == 1f;
+    }
+
+    public void reset() {
+        setValues(1f, 0f, 0f, 0f, 1f, 0f);
+    }
+
+    public void set(Matrix src) {
+        if (src == null)
+            reset();
+        else
+            System.arraycopy(src.mValues, 0, mValues, 0, 9);
+    }
+
+    public void setValues(float[] values) {
+        System.arraycopy(values, 0, mValues, 0, 9);
+    }
+
+    public void getValues(float[] values) {
+        System.arraycopy(mValues, 0, values, 0, 9);
+    }
+
+    public void setTranslate(float dx, float dy) {
+        setValues(1f, 0f, dx, 0f, 1f, dy);
+    }
+
+    public void setScale(float sx, float sy) {
+        setValues(sx, 0f, 0f, 0f, sy, 0f);
+    }
+
+    public void setScale(float sx, float sy, float px, float py) {
+        setValues(sx, 0f, px - sx * px, 0f, sy, py - sy * py);
+    }
+
+    public boolean setConcat(Matrix a, Matrix b) {
+        multiply(a.mValues, b.mValues, mValues);
+        return true;
+    }
+
+    public boolean preTranslate(float dx, float dy) {
+        return preConcat(1f, 0f, dx, 0f, 1f, dy);
+    }
+
+    public boolean preScale(float sx, float sy) {
+        return preConcat(sx, 0f, 0f, 0f, sy, 0f);
+    }
+
+    public boolean preScale(float sx, float sy, float px, float py) {
+        return preConcat(sx, 0f, px - sx * px, 0f, sy, py - sy * py);
+    }
+
+    public boolean preConcat(Matrix other) {
+        multiply(mValues, other.mValues, mValues);
+        return true;
+    }
+
+    public boolean postTranslate(float dx, float dy) {
+        return postConcat(1f, 0f, dx, 0f, 1f, dy);
+    }
+
+    public boolean postScale(float sx, float sy) {
+        return postConcat(sx, 0f, 0f, 0f, sy, 0f);
+    }
+
+    public boolean postScale(float sx, float sy, float px, float py) {
+        return postConcat(sx, 0f, px - sx * px, 0f, sy, py - sy * py);
+    }
+
+    public boolean postConcat(Matrix other) {
+        multiply(other.mValues, mValues, mValues);
+        return true;
+    }
+
+    /**
+     * Inverts this matrix into the given one. Returns false (leaving the given matrix unchanged)
+     * if this matrix cannot be inverted.
+     *
+     * @param inverse
+     * @return
+     */
+    public boolean invert(Matrix inverse) {
+
+        final float[] m = mValues;
+
+        final double c0 = (double) m[4] * m[8] - (double) m[5] * m[7];
+        final double c1 = (double) m[5] * m[6] - (double) m[3] * m[8];
+        final double c2 = (double) m[3] * m[7] - (double) m[4] * m[6];
+
+        final double det = m[0] * c0 + m[1] * c1 + m[2] * c2;
+
+        if (det == 0.0 || Double.isNaN(det) || Double.isInfinite(det))
+            return false;
+
+        final double invDet = 1.0 / det;
+        final float[] r = inverse.mValues;
+
+        final float r1 = (float) (((double) m[2] * m[7] - (double) m[1] * m[8]) * invDet);
+        final float r2 = (float) (((double) m[1] * m[5] - (double) m[2] * m[4]) * invDet);
+        final float r4 = (float) (((double) m[0] * m[8] - (double) m[2] * m[6]) * invDet);
+        final float r5 = (float) (((double) m[2] * m[3] - (double) m[0] * m[5]) * invDet);
+        final float r7 = (float) (((double) m[1] * m[6] - (double) m[0] * m[7]) * invDet);
+        final float r8 = (float) (((double) m[0] * m[4] - (double) m[1] * m[3]) * invDet);
+
+        r[0] = (float) (c0 * invDet);
+        r[1] = r1;
+        r[2] = r2;
+        r[3] = (float) (c1 * invDet);
+        r[4] = r4;
+        r[5] = r5;
+        r[6] = (float) (c2 * invDet);
+        r[7] = r7;
+        r[8] = r8;
+
+        return true;
+    }
+
+    public void mapPoints(float[] pts) {
+        mapPoints(pts, 0, pts, 0, pts.length >> 1);
+    }
+
+    public void mapPoints(float[] dst, float[] src) {
+        mapPoints(dst, 0, src, 0, src.length >> 1);
+    }
+
+    public void mapPoints(float[] dst, int dstIndex, float[] src, int srcIndex, int pointCount) {
+
+        final float[] m = mValues;
+        final boolean affine = isAffine();
+
+        for (int i = 0; i < pointCount; i++) {
+
+            final float x = src[srcIndex + i * 2];
+            final float y = src[srcIndex + i * 2 + 1];
+
+            float mx = m[0] * x + m[1] * y + m[2];
+            float my = m[3] * x + m[4] * y + m[5];
+
+            if (!affine) {
+                final float w = m[6] * x + m[7] * y + m[8];
+                mx /= w;
+                my /= w;
+            }
+
+            dst[dstIndex + i * 2] = mx;
+            dst[dstIndex + i * 2 + 1] = my;
+        }
+    }
+
+    public boolean mapRect(RectF rect) {
+        return mapRect(rect, rect);
+    }
+
+    /**
+     * Maps the corners of src and stores their bounds in dst. Returns true if the mapped
+     * rectangle is still a rectangle (no rotation or skew).
+     *
+     * @param dst
+     * @param src
+     * @return
+     */
+    public boolean mapRect(RectF dst, RectF src) {
+
+        final float[] corners = new float[]{
+                src.left, src.top, src.right, src.top,
+                src.right, src.bottom, src.left, src.bottom
+        };
+
+        mapPoints(corners);
+
+        float left = corners[0], right = corners[0], top = corners[1], bottom = corners[1];
+
+        for (int i = 2; i < 8; i += 2) {
+            left = Math.min(left, corners[i]);
+            right = Math.max(right, corners[i]);
+            top = Math.min(top, corners[i + 1]);
+            bottom = Math.max(bottom, corners[i + 1]);
+        }
+
+        dst.left = left;
+        dst.top = top;
+        dst.right = right;
+        dst.bottom = bottom;
+
+        return mValues[MSKEW_X] == 0f && mValues[MSKEW_Y] == 0f && isAffine();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Matrix && java.util.Arrays.equals(mValues, ((Matrix) obj).mValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Arrays.hashCode(mValues);
+    }
+
+    private void setValues(float scaleX, float skewX, float transX,
+                           float skewY, float scaleY, float transY) {
+        mValues[0] = scaleX;
+        mValues[1] = skewX;
+        mValues[2] = transX;
+        mValues[3] = skewY;
+        mValues[4] = scaleY;
+        mValues[5] = transY;
+        mValues[6] = 0f;
+        mValues[7] = 0f;
+        mValues[8] = 1f;
+    }
+
+    private boolean preConcat(float scaleX, float skewX, float transX,
+                              float skewY, float scaleY, float transY) {
+        setAffine(mTemp, scaleX, skewX, transX, skewY, scaleY, transY);
+        multiply(mValues, mTemp, mValues);
+        return true;
+    }
+
+    private boolean postConcat(float scaleX, float skewX, float transX,
+                               float skewY, float scaleY, float transY) {
+        setAffine(mTemp, scaleX, skewX, transX, skewY, scaleY, transY);
+        multiply(mTemp, mValues, mValues);
+        return true;
+    }
+
+    private static void setAffine(float[] m, float scaleX, float skewX, float transX,
+                                  float skewY, float scaleY, float transY) {
+        m[0] = scaleX;
+        m[1] = skewX;
+        m[2] = transX;
+        m[3] = skewY;
+        m[4] = scaleY;
+        m[5] = transY;
+        m[6] = 0f;
+        m[7] = 0f;
+        m[8] = 1f;
+    }
+
+    /**
+     * result = a * b, result may be one of the operands
+     */
+    private static void multiply(float[] a, float[] b, float[] result) {
+
+        float r0 = a[0] * b[0] + a[1] * b[3] + a[2] * b[6];
+        float r1 = a[0] * b[1] + a[1] * b[4] + a[2] * b[7];
+        float r2 = a[0] * b[2] + a[1] * b[5] + a[2] * b[8];
+        float r3 = a[3] * b[0] + a[4] * b[3] + a[5] * b[6];
+        float r4 = a[3] * b[1] + a[4] * b[4] + a[5] * b[7];
+        float r5 = a[3] * b[2] + a[4] * b[5] + a[5] * b[8];
+        float r6 = a[6] * b[0] + a[7] * b[3] + a[8] * b[6];
+        float r7 = a[6] * b[1] + a[7] * b[4] + a[8] * b[7];
+        float r8 = a[6] * b[2] + a[7] * b[5] + a[8] * b[8];
+
+        result[0] = r0;
+        result[1] = r1;
+        result[2] = r2;
+        result[3] = r3;
+        result[4] = r4;
+        result[5] = r5;
+        result[6] = r6;
+        result[7] = r7;
+        result[8] = r8;
+    }
+}
@@ -1,7 +1,12 @@
 package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.RollingLineDataSet;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+import com.github.mikephil.charting.data.filter.LevelOfDetail;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 
 import org.junit.Test;
 
@@ -9,6 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +48,232 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testApproximationKeepsEndsAndTolerance() {
+
+        int count = 1000;
+        float[] points = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = (float) Math.sin(i / 20.0) * 100f;
+        }
+
+        Approximator a = new Approximator();
+        boolean[] keep = new boolean[count];
+
+        int kept = a.reduceWithDouglasPeucker(points, count, 1f, keep);
+
+        assertTrue(kept > 2);
+        assertTrue(kept < count);
+        assertTrue(keep[0]);
+        assertTrue(keep[count - 1]);
+
+        // the array based reduction has to agree with the index based one
+        assertEquals(kept * 2, a.reduceWithDouglasPeucker(points, 1f).length);
+
+        // every dropped point has to be within the tolerance of the simplified line
+        int prev = 0;
+        for (int i = 1; i < count; i++) {
+
+            if (!keep[i])
+                continue;
+
+            for (int j = prev + 1; j < i; j++) {
+                float x1 = points[prev * 2], y1 = points[prev * 2 + 1];
+                float x2 = points[i * 2], y2 = points[i * 2 + 1];
+                float y = y1 + (y2 - y1) * (points[j * 2] - x1) / (x2 - x1);
+                assertTrue(Math.abs(points[j * 2 + 1] - y) <= 1.01f * Math.hypot(1, (y2 - y1) / (x2 - x1)));
+            }
+
+            prev = i;
+        }
+    }
+
+    @Test
+    public void testApproximationN() {
+
+        int count = 500;
+        float[] points = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = (float) Math.cos(i / 10.0) * 50f;
+        }
+
+        ApproximatorN a = new ApproximatorN();
+
+        float[] reduced = a.reduceWithDouglasPeucker(points, 40);
+
+        assertEquals(80, reduced.length);
+
+        // first and last point stay, the order is kept
+        assertEquals(0f, reduced[0], 0.01f);
+        assertEquals(count - 1, reduced[reduced.length - 2], 0.01f);
+
+        for (int i = 2; i < reduced.length; i += 2) {
+            assertTrue(reduced[i] > reduced[i - 2]);
+        }
+
+        // a straight line cannot be reduced any further than its ends
+        float[] line = new float[]{0, 0, 1, 1, 2, 2, 3, 3, 4, 4};
+        assertEquals(4, a.reduceWithDouglasPeucker(line, 3).length);
+    }
+
+    @Test
+    public void testLevelOfDetail() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 500.0) * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        LevelOfDetail lod = new LevelOfDetail();
+        lod.build(set);
+
+        assertTrue(lod.isValid(set));
+
+        // every level is coarser than the previous one
+        int prevCount = set.getEntryCount();
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+            assertTrue(lod.getCount(level) <= prevCount);
+            assertEquals(0f, lod.getXValues(level)[0], 0.01f);
+            assertEquals(9999f, lod.getXValues(level)[lod.getCount(level) - 1], 0.01f);
+            prevCount = lod.getCount(level);
+        }
+
+        // small charts use a coarse level, deep zoom levels the full data
+        assertEquals(lod.getLevelCount() - 1, lod.selectLevel(0.04f, 2f));
+        assertEquals(-1, lod.selectLevel(100f, 2f));
+
+        // the pixel error is measured on both axes, a stretched y-axis needs a finer level
+        assertTrue(lod.selectLevel(0.04f, 100f) < lod.getLevelCount() - 1);
+
+        set.addEntry(new Entry(10000, 0));
+        assertTrue(!lod.isValid(set));
+    }
+
+    @Test
+    public void testLevelOfDetailAppend() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 500.0) * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        LevelOfDetail lod = new LevelOfDetail();
+        lod.build(set);
+
+        int[] counts = new int[lod.getLevelCount()];
+
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+            counts[level] = lod.getCount(level);
+        }
+
+        assertFalse(lod.update(set));
+
+        for (int i = 10000; i < 10100; i++) {
+            set.addEntry(new Entry(i, (float) Math.sin(i / 500.0) * 100f));
+        }
+
+        assertTrue(lod.update(set));
+        assertTrue(lod.isValid(set));
+
+        // the appended values are reduced and added to the end of every level
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+
+            final int count = lod.getCount(level);
+            final float[] xValues = lod.getXValues(level);
+
+            assertTrue(count >= counts[level]);
+            assertTrue(count < counts[level] + 100);
+            assertEquals(0f, xValues[0], 0.01f);
+            assertEquals(10099f, xValues[count - 1], 0.01f);
+
+            for (int i = 1; i < count; i++) {
+                assertTrue(xValues[i] > xValues[i - 1]);
+            }
+        }
+
+        // other changes rebuild the levels
+        set.removeEntry(500);
+        assertTrue(lod.update(set));
+        assertTrue(lod.isValid(set));
+    }
+
+    @Test
+    public void testLevelOfDetailRemoveFirst() {
+
+        RollingLineDataSet set = new RollingLineDataSet(5000, "");
+
+        for (int i = 0; i < 5000; i++) {
+            set.addEntry(i, (float) Math.sin(i / 250.0) * 100f);
+        }
+
+        set.setLevelOfDetailEnabled(true);
+
+        LevelOfDetail lod = set.getLevelOfDetail();
+        lod.build(set);
+
+        // evicts the first 200 values
+        for (int i = 5000; i < 5200; i++) {
+            set.addEntry(i, (float) Math.sin(i / 250.0) * 100f);
+        }
+
+        assertTrue(lod.update(set));
+        assertTrue(lod.isValid(set));
+
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+
+            final int count = lod.getCount(level);
+
+            assertEquals(200f, lod.getXValues(level)[0], 0.01f);
+            assertEquals(set.getY(0), lod.getYValues(level)[0], 0.01f);
+            assertEquals(5199f, lod.getXValues(level)[count - 1], 0.01f);
+        }
+    }
+
+    @Test
+    public void testLevelOfDetailDataSets() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, (float) Math.sin(i / 500.0) * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setLevelOfDetailEnabled(true);
+        set.setLineWidth(2f);
+
+        ILineDataSet level = set.getLevelOfDetail(0.04f, 2f);
+
+        assertTrue(level != set);
+        assertEquals(set.getLineWidth(), level.getLineWidth(), 0.01f);
+
+        // the styling is only copied again after it changed
+        ((LineDataSet) level).setLineWidth(5f);
+        assertSame(level, set.getLevelOfDetail(0.04f, 2f));
+        assertEquals(5f, level.getLineWidth(), 0.01f);
+
+        set.setLineWidth(3f);
+        assertSame(level, set.getLevelOfDetail(0.04f, 2f));
+        assertEquals(set.getLineWidth(), level.getLineWidth(), 0.01f);
+
+        // appended values show up in the same level DataSet
+        set.addEntry(new Entry(10000, 50f));
+        assertSame(level, set.getLevelOfDetail(0.04f, 2f));
+        assertEquals(10000f, level.getXMax(), 0.01f);
+        assertEquals(50f, level.getY(level.getEntryCount() - 1), 0.01f);
+
+        // zoomed in far enough, the full DataSet is drawn
+        assertSame(set, set.getLevelOfDetail(100f, 2f));
+    }
 }
@@ -1,12 +1,26 @@
 package com.github.mikephil.charting.test;
 
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.AxisLabelCache;
 import com.github.mikephil.charting.renderer.AxisRenderer;
+import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
 
 /**
  * Created by philipp on 31/05/16.
@@ -102,4 +116,118 @@ public class AxisRendererTest {
         assertEquals(30, entries[2], 0.0001);
         assertEquals(90, entries[entries.length - 1], 0.0001);
     }
+
+    @Test
+    public void testAxisValuesCache() {
+
+        YAxis yAxis = new YAxis();
+        yAxis.setLabelCount(6);
+        AxisRenderer renderer = new YAxisRenderer(null, yAxis, null);
+
+        // the cache is opt-in
+        assertFalse(yAxis.isLabelCacheEnabled());
+        yAxis.setLabelCacheEnabled(true);
+
+        renderer.computeAxis(0, 100, false);
+        float[] entries = yAxis.mEntries;
+
+        // same range and settings, the entries are not computed again
+        renderer.computeAxis(0, 100, false);
+        assertSame(entries, yAxis.mEntries);
+
+        yAxis.setGranularity(50f);
+        renderer.computeAxis(0, 100, false);
+        assertEquals(3, yAxis.mEntryCount);
+        assertEquals(50, yAxis.mEntries[1] - yAxis.mEntries[0], 0.01);
+
+        yAxis.setLabelCacheEnabled(false);
+        yAxis.mEntries = new float[0];
+        renderer.computeAxis(0, 100, false);
+        assertEquals(3, yAxis.mEntryCount);
+        assertNotSame(entries, yAxis.mEntries);
+    }
+
+    @Test
+    public void testLabelCache() {
+
+        AxisLabelCache cache = new AxisLabelCache(3);
+        char[] out = new char[8];
+
+        cache.validate(null, 0);
+        assertEquals(-1, cache.get(10f, out));
+
+        cache.put(10f, "10".toCharArray(), 2);
+        cache.put(20f, "20".toCharArray(), 2);
+        cache.put(30f, "30".toCharArray(), 2);
+
+        assertEquals(2, cache.get(20f, out));
+        assertEquals("20", new String(out, 0, 2));
+
+        // the cache is full, the first label is replaced
+        cache.put(40f, "40".toCharArray(), 2);
+        assertEquals(3, cache.size());
+        assertEquals(-1, cache.get(10f, out));
+        assertEquals(2, cache.get(40f, out));
+        assertEquals("40", new String(out, 0, 2));
+        assertEquals(2, cache.get(30f, out));
+        assertEquals("30", new String(out, 0, 2));
+
+        // a new generation invalidates all labels
+        cache.validate(null, 1);
+        assertEquals(0, cache.size());
+        assertEquals(-1, cache.get(20f, out));
+    }
+
+    @Test
+    public void testXAxisLabelsOfSubclasses() {
+
+        XAxis xAxis = new XAxis();
+        xAxis.mEntries = new float[]{100f, 200f};
+        xAxis.mEntryCount = 2;
+
+        // without an override, the labels are drawn from the char buffer
+        RecordingCanvas canvas = new RecordingCanvas();
+        new LabelRenderer(xAxis).drawLabels(canvas);
+        assertEquals(Arrays.asList("100", "200"), canvas.mTexts);
+
+        // an override of the String variant receives every label
+        StringLabelRenderer renderer = new StringLabelRenderer(xAxis);
+        renderer.drawLabels(new RecordingCanvas());
+        assertEquals(Arrays.asList("100", "200"), renderer.mLabels);
+
+        // also if it is inherited
+        renderer = new StringLabelRenderer(xAxis) {
+        };
+        renderer.drawLabels(new RecordingCanvas());
+        assertEquals(Arrays.asList("100", "200"), renderer.mLabels);
+    }
+
+    private static class LabelRenderer extends XAxisRenderer {
+
+        LabelRenderer(XAxis xAxis) {
+            this(TestDataProvider.createViewPortHandler(), xAxis);
+        }
+
+        private LabelRenderer(ViewPortHandler handler, XAxis xAxis) {
+            super(handler, xAxis, new Transformer(handler));
+        }
+
+        void drawLabels(Canvas c) {
+            drawLabels(c, 0f, MPPointF.getInstance(0.5f, 0f));
+        }
+    }
+
+    private static class StringLabelRenderer extends LabelRenderer {
+
+        final ArrayList<String> mLabels = new ArrayList<>();
+
+        StringLabelRenderer(XAxis xAxis) {
+            super(xAxis);
+        }
+
+        @Override
+        protected void drawLabel(Canvas c, String formattedLabel, float x, float y, MPPointF anchor, float angleDegrees) {
+            mLabels.add(formattedLabel);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.buffer.StackedValueBuffer;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
+import com.github.mikephil.charting.renderer.BarChartRenderer;
+import com.github.mikephil.charting.renderer.HorizontalBarChartRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests drawing the values of stacked bars and the StackedValueBuffer. The transformation maps
+ * values to pixels 1:1.
+ */
+public class BarChartRendererTest {
+
+    /**
+     * a stacked bar, a non-stacked bar, a missing entry and another stacked bar
+     */
+    private static BarDataSet createDataSet() {
+
+        ArrayList<BarEntry> entries = new ArrayList<>();
+        entries.add(new BarEntry(1f, new float[]{10f, 20f}));
+        entries.add(new BarEntry(2f, 15f));
+        entries.add(new BarEntry(3f, new float[]{1f, 1f}));
+        entries.add(new BarEntry(4f, new float[]{5f, 5f, 5f}));
+
+        return new BarDataSet(entries, "") {
+            @Override
+            public BarEntry getEntryForIndex(int index) {
+                return index == 2 ? null : super.getEntryForIndex(index);
+            }
+        };
+    }
+
+    @Test
+    public void testDrawStackedValues() {
+
+        RecordingCanvas canvas = draw(createDataSet(), false);
+
+        // every stack value, the non-stacked value in between, nothing for the missing entry
+        assertPositions(canvas.mTextX, 1f, 1f, 2f, 4f, 4f, 4f);
+        assertPositions(canvas.mTextY, 10f - 4.5f, 30f - 4.5f, 15f - 4.5f,
+                5f - 4.5f, 10f - 4.5f, 15f - 4.5f);
+    }
+
+    @Test
+    public void testDrawStackedValuesHorizontal() {
+
+        RecordingCanvas canvas = draw(createDataSet(), true);
+
+        assertPositions(canvas.mTextX, 10f + 5f, 30f + 5f, 15f + 5f, 5f + 5f, 10f + 5f, 15f + 5f);
+        // the value of the non-stacked bar is aligned with its edge (bar width 0.85)
+        assertPositions(canvas.mTextY, 1f, 1f, 2f + 0.425f, 4f, 4f, 4f);
+    }
+
+    @Test
+    public void testStackedValueBufferRecomputesChangedValues() {
+
+        BarDataSet set = createDataSet();
+
+        CountingTransformer trans = new CountingTransformer();
+        StackedValueBuffer buffer = new StackedValueBuffer(false);
+
+        buffer.feed(set, feed(set), 1f, trans);
+
+        // the missing entry is skipped, the non-stacked one has no positions
+        Assert.assertEquals(10, buffer.getFeedSize());
+        Assert.assertEquals(1, trans.mCalls);
+        Assert.assertEquals(30f, buffer.buffer[3]);
+        Assert.assertEquals(5f, buffer.buffer[5]);
+
+        // nothing changed
+        buffer.feed(set, feed(set), 1f, trans);
+        Assert.assertEquals(1, trans.mCalls);
+
+        // the values changed without notifying, the bars are fed from the new values
+        set.getEntryForIndex(0).setVals(new float[]{20f, 20f});
+
+        buffer.feed(set, feed(set), 1f, trans);
+        Assert.assertEquals(2, trans.mCalls);
+        Assert.assertEquals(20f, buffer.buffer[1]);
+        Assert.assertEquals(40f, buffer.buffer[3]);
+    }
+
+    @Test
+    public void testDrawVisibleBarRange() {
+
+        int[] colors = new int[]{0xffff0000, 0xff00ff00, 0xff0000ff};
+
+        ArrayList<BarEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++)
+            entries.add(new BarEntry(i, 10f + i));
+
+        BarDataSet set = new BarDataSet(entries, "");
+        set.setColors(colors);
+
+        BarData data = new BarData(set);
+        final float barWidthHalf = data.getBarWidth() / 2f;
+
+        // the bars at 5 and 9 are only partially visible
+        TestDataProvider chart = new TestDataProvider(data);
+        chart.setVisibleXRange(5.5f, 8.5f);
+
+        TestRenderer renderer = new TestRenderer(chart);
+        renderer.initBuffers();
+
+        RecordingCanvas canvas = new RecordingCanvas();
+        renderer.drawData(canvas);
+        renderer.drawValues(canvas);
+
+        Assert.assertEquals(5, renderer.getVisibleBarRange()[0]);
+        Assert.assertEquals(9, renderer.getVisibleBarRange()[1]);
+
+        // the colors and values belong to the index of the entry, not to the index in the buffer
+        ArrayList<String> expected = new ArrayList<>();
+        RecordingPaint paint = new RecordingPaint();
+
+        for (int i = 5; i <= 9; i++) {
+            paint.setColor(colors[i % colors.length]);
+            expected.add(RecordingCanvas.rect(i - barWidthHalf, 10f + i, i + barWidthHalf, 0f, paint));
+        }
+
+        Assert.assertEquals(expected, canvas.mShapes);
+
+        assertPositions(canvas.mTextX, 5f, 6f, 7f, 8f, 9f);
+        Assert.assertEquals("15.0", canvas.mTexts.get(0));
+        Assert.assertEquals("19.0", canvas.mTexts.get(4));
+    }
+
+    /**
+     * Draws the bars (which feeds the buffers) and the values of the given DataSet.
+     */
+    private static RecordingCanvas draw(BarDataSet set, boolean horizontal) {
+
+        BarDataProvider chart = new TestDataProvider(new BarData(set));
+        ViewPortHandler handler = TestDataProvider.createViewPortHandler();
+
+        BarChartRenderer renderer = horizontal
+                ? new HorizontalBarChartRenderer(chart, new ChartAnimator(), handler)
+                : new BarChartRenderer(chart, new ChartAnimator(), handler);
+
+        renderer.initBuffers();
+
+        RecordingCanvas canvas = new RecordingCanvas();
+        renderer.drawData(canvas);
+        renderer.drawValues(canvas);
+
+        return canvas;
+    }
+
+    private static BarBuffer feed(BarDataSet set) {
+
+        BarBuffer buffer = new BarBuffer(set.getEntryCount() * 4 * set.getStackSize(), 1, true);
+        buffer.setPhases(1f, 1f);
+        buffer.setBarWidth(0.5f);
+        buffer.feed(set);
+
+        return buffer;
+    }
+
+    private static void assertPositions(ArrayList<Float> actual, float... expected) {
+
+        Assert.assertEquals(expected.length, actual.size());
+
+        for (int i = 0; i < expected.length; i++)
+            Assert.assertEquals(expected[i], actual.get(i), 0.001f);
+    }
+
+    private static class CountingTransformer extends Transformer {
+
+        int mCalls = 0;
+
+        CountingTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        @Override
+        public void pointValuesToPixel(float[] pts, int count) {
+            mCalls++;
+        }
+    }
+
+    private static class TestRenderer extends BarChartRenderer {
+
+        TestRenderer(BarDataProvider chart) {
+            super(chart, new ChartAnimator(), TestDataProvider.createViewPortHandler());
+
+            // the Paint of unit tests doesn't keep its color
+            mRenderPaint = new RecordingPaint();
+        }
+
+        int[] getVisibleBarRange() {
+            return mVisibleBarRange;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.BitmapTileCache;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests the memory budget, the LRU order and the versions of the BitmapTileCache.
+ */
+public class BitmapTileCacheTest {
+
+    /**
+     * counts every tile as 100 bytes and records the removed tiles instead of recycling them
+     */
+    private static class TestCache extends BitmapTileCache {
+
+        ArrayList<Long> removedKeys = new ArrayList<>();
+        ArrayList<Integer> removedVersions = new ArrayList<>();
+
+        TestCache(int maxBytes) {
+            super(maxBytes);
+        }
+
+        @Override
+        protected int sizeOf(Tile tile) {
+            return 100;
+        }
+
+        @Override
+        protected void entryRemoved(long key, Tile tile) {
+            removedKeys.add(key);
+            removedVersions.add(tile.version);
+        }
+    }
+
+    @Test
+    public void testKey() {
+
+        Assert.assertTrue(BitmapTileCache.key(1, 5) != BitmapTileCache.key(2, 5));
+        Assert.assertTrue(BitmapTileCache.key(1, 5) != BitmapTileCache.key(1, 6));
+        Assert.assertTrue(BitmapTileCache.key(-1, 5) != BitmapTileCache.key(1, 5));
+        Assert.assertTrue(BitmapTileCache.key(1, -5) != BitmapTileCache.key(1, 5));
+    }
+
+    @Test
+    public void testBudgetAndLruOrder() {
+
+        TestCache cache = new TestCache(250);
+
+        cache.put(1, new BitmapTileCache.Tile(null, 0));
+        cache.put(2, new BitmapTileCache.Tile(null, 0));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(200, cache.getByteCount());
+        Assert.assertTrue(cache.removedKeys.isEmpty());
+
+        // using the first tile makes the second one the least recently used
+        Assert.assertNotNull(cache.get(1));
+
+        cache.put(3, new BitmapTileCache.Tile(null, 0));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(200, cache.getByteCount());
+        Assert.assertEquals(1, cache.removedKeys.size());
+        Assert.assertEquals(2L, (long) cache.removedKeys.get(0));
+        Assert.assertNull(cache.get(2));
+        Assert.assertNotNull(cache.get(1));
+        Assert.assertNotNull(cache.get(3));
+
+        cache.clear();
+
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.getByteCount());
+        Assert.assertEquals(3, cache.removedKeys.size());
+    }
+
+    @Test
+    public void testNewVersionReplacesTile() {
+
+        TestCache cache = new TestCache(1000);
+
+        cache.put(1, new BitmapTileCache.Tile(null, 0));
+
+        // an outdated tile stays available until the new version is put
+        Assert.assertEquals(0, cache.get(1).version);
+
+        cache.put(1, new BitmapTileCache.Tile(null, 1));
+
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(100, cache.getByteCount());
+        Assert.assertEquals(1, cache.get(1).version);
+
+        // the outdated tile was handed back for reuse
+        Assert.assertEquals(1, cache.removedKeys.size());
+        Assert.assertEquals(0, (int) cache.removedVersions.get(0));
+    }
+}
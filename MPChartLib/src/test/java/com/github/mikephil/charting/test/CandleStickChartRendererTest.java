@@ -0,0 +1,144 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.renderer.CandleStickChartRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Tests that drawing the candles in batches produces the same lines, bodies and colors as
+ * drawing them one by one. The transformation maps values to pixels 1:1.
+ */
+public class CandleStickChartRendererTest {
+
+    private static final int RED = 0xffff0000;
+    private static final int GREEN = 0xff00ff00;
+    private static final int GRAY = 0xff808080;
+    private static final int BLUE = 0xff0000ff;
+
+    @Test
+    public void testSingleColor() {
+
+        for (boolean showCandleBar : new boolean[]{true, false}) {
+
+            CandleDataSet set = createDataSet();
+            set.setColor(BLUE);
+            set.setShowCandleBar(showCandleBar);
+
+            assertBatchedEqualsPerCandle(set);
+        }
+    }
+
+    @Test
+    public void testDirectionColors() {
+
+        for (boolean showCandleBar : new boolean[]{true, false}) {
+
+            CandleDataSet set = createDataSet();
+            set.setColors(BLUE, GRAY);
+            set.setDecreasingColor(RED);
+            set.setIncreasingColor(GREEN);
+            set.setNeutralColor(GRAY);
+            set.setDecreasingPaintStyle(Paint.Style.FILL);
+            set.setIncreasingPaintStyle(Paint.Style.STROKE);
+            set.setShadowColorSameAsCandle(true);
+            set.setShowCandleBar(showCandleBar);
+
+            assertBatchedEqualsPerCandle(set);
+        }
+    }
+
+    @Test
+    public void testShadowColor() {
+
+        CandleDataSet set = createDataSet();
+        set.setColors(BLUE, GRAY);
+        set.setDecreasingColor(RED);
+        set.setIncreasingColor(GREEN);
+        set.setNeutralColor(GRAY);
+        set.setShadowColor(BLUE);
+
+        assertBatchedEqualsPerCandle(set);
+    }
+
+    /**
+     * decreasing, increasing and neutral candles, with bodies touching their shadows
+     */
+    private static CandleDataSet createDataSet() {
+
+        ArrayList<CandleEntry> entries = new ArrayList<>();
+        entries.add(new CandleEntry(0f, 10f, 2f, 8f, 4f));
+        entries.add(new CandleEntry(1f, 12f, 3f, 5f, 9f));
+        entries.add(new CandleEntry(2f, 7f, 5f, 6f, 6f));
+        entries.add(new CandleEntry(3f, 9f, 1f, 9f, 1f));
+        entries.add(new CandleEntry(4f, 15f, 4f, 4f, 15f));
+        entries.add(new CandleEntry(5f, 6f, 6f, 6f, 6f));
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+        set.setBarSpace(0.2f);
+        set.setShadowWidth(2f);
+
+        return set;
+    }
+
+    private static void assertBatchedEqualsPerCandle(CandleDataSet set) {
+
+        ArrayList<String> batched = draw(set, true);
+        ArrayList<String> perCandle = draw(set, false);
+
+        // the batches draw the candles grouped by direction, so only the shapes are compared
+        Collections.sort(batched);
+        Collections.sort(perCandle);
+
+        Assert.assertFalse(perCandle.isEmpty());
+        Assert.assertEquals(perCandle, batched);
+    }
+
+    /**
+     * Draws the given DataSet and returns every drawn line and body with its color (and the
+     * style of bodies).
+     */
+    private static ArrayList<String> draw(CandleDataSet set, boolean batched) {
+
+        ViewPortHandler handler = TestDataProvider.createViewPortHandler();
+
+        TestRenderer renderer = new TestRenderer(new TestDataProvider(new CandleData(set)), handler);
+        renderer.setBatchDrawingEnabled(batched);
+
+        Assert.assertTrue(renderer.isBatchable(set));
+
+        RecordingCanvas canvas = new RecordingCanvas();
+        renderer.drawData(canvas);
+
+        return canvas.mShapes;
+    }
+
+    private static class TestRenderer extends CandleStickChartRenderer {
+
+        TestRenderer(CandleDataProvider chart, ViewPortHandler handler) {
+            super(chart, new ChartAnimator(), handler);
+
+            // the Paint and Path of unit tests don't keep their state
+            mRenderPaint = new RecordingPaint();
+            mBatchPath = new RecordingPath();
+        }
+
+        @Override
+        protected boolean isBatchable(ICandleDataSet dataSet) {
+            return super.isBatchable(dataSet);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.PercentFormatter;
+import com.github.mikephil.charting.utils.CharDecimalFormat;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Tests that formatting into char arrays gives the same results as the DecimalFormat.
+ */
+public class CharDecimalFormatTest {
+
+    @Test
+    public void testFormat() {
+
+        String[] patterns = new String[]{
+                "###,###,###,##0", "###,###,###,##0.0", "###,###,###,##0.000", "#.##", "0.00 '%'",
+                "00.#"
+        };
+
+        char[] out = new char[64];
+        Random random = new Random(3);
+
+        for (String pattern : patterns) {
+
+            DecimalFormat decimalFormat = new DecimalFormat(pattern);
+            CharDecimalFormat format = new CharDecimalFormat(decimalFormat);
+
+            assertTrue(format.isSupported());
+
+            for (int i = 0; i < 10000; i++) {
+
+                float value = (float) (Math.pow(10.0, random.nextInt(12) - 3) * random.nextDouble());
+
+                // exact middle values
+                if (i % 3 == 0)
+                    value = Math.round(value * 200f) / 200f;
+
+                if (random.nextBoolean())
+                    value = -value;
+
+                int length = format.format(value, out, 0);
+
+                if (length >= 0)
+                    assertEquals(decimalFormat.format(value), String.valueOf(out, 0, length));
+            }
+        }
+
+        DecimalFormat decimalFormat = new DecimalFormat("###,##0.0");
+        CharDecimalFormat format = new CharDecimalFormat(decimalFormat);
+
+        int length = format.format(1234567.25f, out, 2);
+        assertEquals(decimalFormat.format(1234567.25f), String.valueOf(out, 2, length));
+
+        // does not fit
+        assertEquals(-1, format.format(1234567.25f, new char[4], 0));
+        assertEquals(-1, format.format(Float.NaN, out, 0));
+
+        assertFalse(new CharDecimalFormat(new DecimalFormat("###E00")).isSupported());
+        assertFalse(new CharDecimalFormat(new DecimalFormat("#0.0%")).isSupported());
+    }
+
+    @Test
+    public void testFormatters() {
+
+        DefaultValueFormatter defaultFormatter = new DefaultValueFormatter(2);
+        PercentFormatter percentFormatter = new PercentFormatter();
+
+        char[] out = new char[64];
+
+        int length = defaultFormatter.format(1234.5678f, null, out);
+        assertEquals(defaultFormatter.getFormattedValue(1234.5678f, null, 0, null),
+                String.valueOf(out, 0, length));
+
+        length = percentFormatter.format(42.25f, null, out);
+        assertEquals(percentFormatter.getFormattedValue(42.25f, null, 0, null),
+                String.valueOf(out, 0, length));
+
+        // subclasses may override getFormattedValue(...), so they are formatted as Strings
+        DefaultValueFormatter subclass = new DefaultValueFormatter(2) {
+        };
+
+        assertEquals(-1, subclass.format(1f, null, out));
+    }
+}
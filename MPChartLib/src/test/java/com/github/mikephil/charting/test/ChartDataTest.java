@@ -208,4 +208,36 @@ public class ChartDataTest {
         assertFalse(lineData.removeDataSet(lineSet1));
         assertFalse(lineData.removeDataSet(lineSet2));
     }
+
+    @Test
+    public void testGetDataSetForEntry() {
+
+        List<Entry> entries1 = new ArrayList<Entry>();
+        List<Entry> entries2 = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++) {
+            entries1.add(new Entry(i, i));
+            entries2.add(new Entry(i, i));
+        }
+
+        ScatterDataSet set1 = new ScatterDataSet(entries1, "");
+        ScatterDataSet set2 = new ScatterDataSet(entries2, "");
+
+        ScatterData data = new ScatterData(set1, set2);
+
+        // the entries of both sets are equal, the objects decide
+        for (int i = 0; i < 100; i++) {
+            assertEquals(set1, data.getDataSetForEntry(entries1.get(i % 10)));
+            assertEquals(set2, data.getDataSetForEntry(entries2.get(i % 10)));
+        }
+
+        // also if the x-value was changed after the entry was added
+        Entry changed = entries2.get(3);
+        changed.setX(8.5f);
+        assertEquals(set2, data.getDataSetForEntry(changed));
+
+        // an equal entry is found in the first set that contains one
+        assertEquals(set1, data.getDataSetForEntry(new Entry(5, 5)));
+        assertEquals(null, data.getDataSetForEntry(new Entry(5, 6)));
+    }
 }
@@ -0,0 +1,107 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.components.ComponentBase;
+import com.github.mikephil.charting.components.Description;
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.LimitLine;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests that every setter of the components changes their version, the cached layers of the
+ * charts are only redrawn if it does.
+ */
+public class ComponentVersionTest {
+
+    /**
+     * the prefixes of the methods that change a component
+     */
+    private static final String[] PREFIXES = new String[]{
+            "set", "enable", "disable", "add", "remove", "reset"
+    };
+
+    @Test
+    public void testSettersChangeVersion() throws Exception {
+
+        assertSettersChangeVersion(new XAxis());
+        assertSettersChangeVersion(new YAxis());
+        assertSettersChangeVersion(new Legend());
+        assertSettersChangeVersion(new Description());
+        assertSettersChangeVersion(new LimitLine(1f));
+    }
+
+    private static void assertSettersChangeVersion(ComponentBase component) throws Exception {
+
+        int checked = 0;
+
+        for (Method method : component.getClass().getMethods()) {
+
+            if (!isSetter(method))
+                continue;
+
+            Object[] args = new Object[method.getParameterTypes().length];
+
+            for (int i = 0; i < args.length; i++)
+                args[i] = createArgument(method.getParameterTypes()[i]);
+
+            int version = component.getVersion();
+            method.invoke(component, args);
+
+            Assert.assertTrue(component.getClass().getSimpleName() + "." + method.getName()
+                    + " does not change the version", version != component.getVersion());
+
+            checked++;
+        }
+
+        Assert.assertTrue(checked > 0);
+    }
+
+    private static boolean isSetter(Method method) {
+
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getDeclaringClass() == Object.class
+                || method.getReturnType() != void.class
+                || method.getParameterTypes().length == 0 && method.getName().startsWith("set"))
+            return false;
+
+        for (String prefix : PREFIXES) {
+            if (method.getName().startsWith(prefix))
+                return true;
+        }
+
+        return false;
+    }
+
+    private static Object createArgument(Class<?> type) throws Exception {
+
+        if (type == boolean.class)
+            return true;
+        if (type == int.class)
+            return 4;
+        if (type == float.class)
+            return 4f;
+        if (type == String.class)
+            return "label";
+        if (type.isEnum())
+            return type.getEnumConstants()[0];
+        if (type.isArray())
+            return Array.newInstance(type.getComponentType(), 0);
+        if (type == List.class)
+            return new ArrayList<>();
+        if (type == LimitLine.class)
+            return new LimitLine(2f);
+
+        // listeners, formatters, typefaces and path effects
+        return null;
+    }
+}
@@ -2,15 +2,22 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatArrayLineDataSet;
+import com.github.mikephil.charting.data.RollingLineDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.IdentityIndexTable;
+import com.github.mikephil.charting.utils.KdTree;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -235,4 +242,658 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testCalcMinMaxYWithIndex() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 10));
+        entries.add(new Entry(1, 2));
+        entries.add(new Entry(2, 7));
+        entries.add(new Entry(3, 15));
+        entries.add(new Entry(4, 1));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        set.setMinMaxIndexEnabled(true);
+
+        set.calcMinMaxY(1, 3);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(15f, set.getYMax(), 0.01f);
+
+        set.addEntry(new Entry(5, -3));
+
+        set.calcMinMaxY(4, 5);
+        assertEquals(-3f, set.getYMin(), 0.01f);
+        assertEquals(1f, set.getYMax(), 0.01f);
+
+        set.removeEntry(3);
+
+        set.calcMinMaxY(0, 2);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(0, 3);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.addEntryOrdered(new Entry(2.5f, 20));
+
+        set.calcMinMaxY(2, 2.5f);
+        assertEquals(7f, set.getYMin(), 0.01f);
+        assertEquals(20f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testMinMaxSegmentTree() {
+
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(4);
+        ArrayList<Float> values = new ArrayList<>();
+
+        Random random = new Random(42);
+
+        for (int step = 0; step < 2000; step++) {
+
+            float value = random.nextInt(1000);
+            int op = random.nextInt(6);
+
+            if (op <= 1 || values.isEmpty()) {
+                tree.add(value, value);
+                values.add(value);
+            } else if (op == 2) {
+                tree.removeFirst();
+                values.remove(0);
+            } else if (op == 3) {
+                tree.removeLast();
+                values.remove(values.size() - 1);
+            } else if (op == 4) {
+                int index = random.nextInt(values.size() + 1);
+                tree.insert(index, value, value);
+                values.add(index, value);
+            } else {
+                int from = random.nextInt(values.size());
+                int to = from + random.nextInt(values.size() - from + 1);
+                tree.remove(from, to);
+                values.subList(from, to).clear();
+            }
+
+            assertEquals(values.size(), tree.size());
+
+            if (values.isEmpty())
+                continue;
+
+            int from = random.nextInt(values.size());
+            int to = from + random.nextInt(values.size() - from);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int i = from; i <= to; i++) {
+                min = Math.min(min, values.get(i));
+                max = Math.max(max, values.get(i));
+            }
+
+            assertEquals(min, tree.getMin(from, to));
+            assertEquals(max, tree.getMax(from, to));
+        }
+    }
+
+    @Test
+    public void testMinMaxIndexIsUpdatedIncrementally() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 20; i++)
+            entries.add(new Entry(i, (i * 7) % 11));
+
+        CountingScatterDataSet set = new CountingScatterDataSet(entries);
+        set.setMinMaxIndexEnabled(true);
+
+        set.calcMinMaxY(0, 19);
+        assertEquals(1, set.mIndexBuilds);
+
+        // front removal, removal and insertion in the middle, removal at the end
+        set.removeFirst();
+        set.removeEntries(5, 8);
+        set.addEntryOrdered(new Entry(10.5f, 30));
+        set.removeEntry(set.getEntryForIndex(3));
+        set.removeLast();
+
+        assertMinMaxY(set, 1, 18);
+        assertMinMaxY(set, 9, 11);
+        assertMinMaxY(set, 5, 12);
+
+        assertEquals(1, set.mIndexBuilds);
+
+        // the entries were changed directly, the index is rebuilt
+        set.getEntries().get(0).setY(-5);
+        set.notifyDataSetChanged();
+
+        assertMinMaxY(set, 1, 18);
+        assertEquals(2, set.mIndexBuilds);
+    }
+
+    @Test
+    public void testRollingLineDataSetMinMaxIndex() {
+
+        RollingLineDataSet set = new RollingLineDataSet(6, "");
+        set.setMinMaxIndexEnabled(true);
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50; i++) {
+
+            if (i % 10 == 9) {
+                set.removeFirst();
+            } else if (i % 10 == 4) {
+                set.addEntries(new float[]{i, i + 0.5f}, new float[]{random.nextInt(100), random.nextInt(100)}, 2);
+            } else {
+                set.addEntry(i, random.nextInt(100));
+            }
+
+            for (int from = 0; from < set.getEntryCount(); from++) {
+                for (int to = from; to < set.getEntryCount(); to++) {
+                    assertMinMaxY(set, set.getX(from), set.getX(to));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that the y-range between the given x-values matches the range of the entries.
+     */
+    private static void assertMinMaxY(DataSet<?> set, float fromX, float toX) {
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 0; i < set.getEntryCount(); i++) {
+
+            if (set.getX(i) >= fromX && set.getX(i) <= toX) {
+                min = Math.min(min, set.getY(i));
+                max = Math.max(max, set.getY(i));
+            }
+        }
+
+        set.calcMinMaxY(fromX, toX);
+
+        assertEquals(min, set.getYMin());
+        assertEquals(max, set.getYMax());
+    }
+
+    private static class CountingScatterDataSet extends ScatterDataSet {
+
+        int mIndexBuilds = 0;
+
+        CountingScatterDataSet(List<Entry> entries) {
+            super(entries, "");
+        }
+
+        @Override
+        protected void buildMinMaxIndex() {
+            mIndexBuilds++;
+            super.buildMinMaxIndex();
+        }
+    }
+
+    @Test
+    public void testSpatialIndex() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 0));
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(1, 3));
+        entries.add(new Entry(2, 8));
+        entries.add(new Entry(5, 5));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        assertEquals(null, set.getSpatialIndex());
+
+        set.setSpatialIndexEnabled(true);
+
+        KdTree index = set.getSpatialIndex();
+        assertEquals(5, index.size());
+
+        // the closest x-value is 1, but (2, 8) is closer in 2-D
+        assertEquals(3, index.nearest(1.6f, 7.5f, 1f, 1f, 100f));
+        assertEquals(2, index.nearest(1.1f, 3.2f, 1f, 1f, 100f));
+
+        // out of reach
+        assertEquals(-1, index.nearest(10f, 20f, 1f, 1f, 2f));
+
+        // x-units ten times longer than y-units
+        assertEquals(3, index.nearest(1.3f, 8.5f, 1f, 1f, 100f));
+        assertEquals(1, index.nearest(1.3f, 8.5f, 10f, 1f, 100f));
+
+        set.addEntry(new Entry(6, 7));
+
+        index = set.getSpatialIndex();
+        assertEquals(6, index.size());
+        assertEquals(5, index.nearest(6.2f, 7.2f, 1f, 1f, 1f));
+
+        set.removeEntry(0);
+
+        index = set.getSpatialIndex();
+        assertEquals(5, index.size());
+        assertEquals(-1, index.nearest(0f, 0f, 1f, 1f, 1f));
+    }
+
+    @Test
+    public void testRollingLineDataSet() {
+
+        RollingLineDataSet set = new RollingLineDataSet(3, "");
+
+        set.addEntry(0, 5);
+        set.addEntry(1, 1);
+        set.addEntry(2, 3);
+
+        assertTrue(set.isFull());
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+
+        // evicts (0, 5)
+        set.addEntry(3, 2);
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(3f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(3f, set.getYMax(), 0.01f);
+
+        // evicts (1, 1)
+        set.addEntry(4, 4);
+
+        assertEquals(2f, set.getX(0), 0.01f);
+        assertEquals(4f, set.getX(2), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+
+        assertEquals(1, set.getEntryIndex(new Entry(3, 2)));
+        assertEquals(3f, set.getEntryForXValue(2.9f, Float.NaN).getX(), 0.01f);
+
+        assertTrue(set.removeFirst());
+
+        assertEquals(2, set.getEntryCount());
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(4, 4);
+        assertEquals(4f, set.getYMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testBatchAddRemoveEntries() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 4));
+        entries.add(new Entry(1, 9));
+        entries.add(new Entry(2, 5));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        List<Entry> batch = new ArrayList<Entry>();
+        batch.add(new Entry(3, 6));
+        batch.add(new Entry(4, -2));
+        batch.add(new Entry(5, 7));
+
+        set.addEntries(batch);
+
+        assertEquals(6, set.getEntryCount());
+        assertEquals(5f, set.getXMax(), 0.01f);
+        assertEquals(-2f, set.getYMin(), 0.01f);
+        assertEquals(9f, set.getYMax(), 0.01f);
+
+        // no extreme removed
+        assertTrue(set.removeEntries(2, 4));
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(4f, set.getEntryForIndex(2).getX(), 0.01f);
+        assertEquals(-2f, set.getYMin(), 0.01f);
+        assertEquals(9f, set.getYMax(), 0.01f);
+
+        // removes the max
+        assertTrue(set.removeEntry(1));
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(-2f, set.getYMin(), 0.01f);
+        assertEquals(7f, set.getYMax(), 0.01f);
+
+        // removes the x-min
+        assertTrue(set.removeEntries(0, 1));
+
+        assertEquals(4f, set.getXMin(), 0.01f);
+        assertEquals(-2f, set.getYMin(), 0.01f);
+
+        assertFalse(set.removeEntries(2, 2));
+        assertFalse(set.removeEntries(5, 8));
+    }
+
+    @Test
+    public void testGetEntryIndexByEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i * 2));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        Entry fifth = entries.get(5);
+
+        assertEquals(5, set.getEntryIndex(fifth));
+        assertEquals(-1, set.getEntryIndex(new Entry(5, 10)));
+
+        // appending keeps the index up to date
+        Entry appended = new Entry(10, 20);
+        set.addEntry(appended);
+        assertEquals(10, set.getEntryIndex(appended));
+
+        // removing shifts the following entries
+        set.removeEntry(0);
+        assertEquals(4, set.getEntryIndex(fifth));
+        assertEquals(9, set.getEntryIndex(appended));
+
+        Entry inserted = new Entry(4.5f, 1);
+        set.addEntryOrdered(inserted);
+        assertEquals(4, set.getEntryIndex(inserted));
+        assertEquals(5, set.getEntryIndex(fifth));
+
+        // entries added to the list directly
+        Entry direct = new Entry(11, 1);
+        set.getEntries().add(direct);
+        assertEquals(11, set.getEntryIndex(direct));
+
+        set.getEntries().remove(fifth);
+        assertEquals(-1, set.getEntryIndex(fifth));
+        assertEquals(10, set.getEntryIndex(direct));
+    }
+
+    @Test
+    public void testGetEntryIndexByEntryWithEqualX() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // runs of equal x-values, the entries of a run are equal except for their identity
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i / 10, 1));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        assertEquals(-1, set.getEntryIndex(new Entry(5, 1)));
+
+        // the first lookups search the x-values, the identity index is built after many lookups
+        for (int i = 0; i < entries.size(); i++)
+            assertEquals(i, set.getEntryIndex(entries.get(i)));
+
+        assertEquals(-1, set.getEntryIndex(new Entry(5, 1)));
+
+        Entry first = entries.get(0);
+        Entry second = entries.get(1);
+        Entry last = entries.get(99);
+
+        set.setEntryIndexEnabled(true);
+        set.removeEntry(0);
+
+        assertEquals(-1, set.getEntryIndex(first));
+        assertEquals(0, set.getEntryIndex(second));
+        assertEquals(98, set.getEntryIndex(last));
+        assertEquals(-1, set.getEntryIndex(new Entry(5, 1)));
+    }
+
+    @Test
+    public void testGetEntryIndexOfChangedEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i));
+
+        IndexCountingDataSet set = new IndexCountingDataSet(entries);
+
+        // the x-value is changed after the entry was added, the entries are no longer sorted
+        Entry changed = entries.get(2);
+        changed.setX(7.5f);
+
+        assertEquals(2, set.getEntryIndex(changed));
+
+        // lookups of entries that are not in the DataSet don't build the identity index
+        for (int i = 0; i < 1000; i++)
+            assertEquals(-1, set.getEntryIndex(new Entry(i % 10, i % 10)));
+
+        assertEquals(0, set.mIndexBuilds);
+
+        // the same results once it is built
+        for (int i = 0; i < 100; i++)
+            assertEquals(i % 10, set.getEntryIndex(entries.get(i % 10)));
+
+        assertEquals(1, set.mIndexBuilds);
+        assertEquals(2, set.getEntryIndex(changed));
+        assertEquals(-1, set.getEntryIndex(new Entry(7.5f, 2)));
+    }
+
+    /**
+     * Counts how often the identity index of the entries is built.
+     */
+    private static class IndexCountingDataSet extends ScatterDataSet {
+
+        int mIndexBuilds = 0;
+
+        IndexCountingDataSet(List<Entry> entries) {
+            super(entries, "");
+        }
+
+        @Override
+        protected void buildEntryIndex() {
+            mIndexBuilds++;
+            super.buildEntryIndex();
+        }
+    }
+
+    @Test
+    public void testIdentityIndexTable() {
+
+        IdentityIndexTable table = new IdentityIndexTable(2);
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // grows past its initial capacity
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(0, 0));
+            table.putIfAbsent(entries.get(i), i);
+        }
+
+        // the first index stored for a key wins
+        table.putIfAbsent(entries.get(3), 10);
+
+        assertEquals(1000, table.size());
+
+        for (int i = 0; i < entries.size(); i++)
+            assertEquals(i, table.get(entries.get(i)));
+
+        assertEquals(-1, table.get(new Entry(0, 0)));
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(-1, table.get(entries.get(3)));
+    }
+
+    @Test
+    public void testFloatArrayLineDataSetSearch() {
+
+        // duplicate x-values at 3 and 4
+        float[] x = new float[]{0, 1, 2, 3, 3, 4, 4, 5};
+        float[] y = new float[]{10, 20, 30, 40, 50, 60, 70, 80};
+
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet(x, y, x.length, "");
+
+        assertEquals(3, set.getEntryIndex(3f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(4, set.getEntryIndex(3f, 50f, DataSet.Rounding.CLOSEST));
+        assertEquals(5, set.getEntryIndex(4f, 58f, DataSet.Rounding.CLOSEST));
+        assertEquals(6, set.getEntryIndex(4f, 75f, DataSet.Rounding.CLOSEST));
+
+        // rounding onto a run of duplicates starts at its first value
+        assertEquals(3, set.getEntryIndex(2.5f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(4, set.getEntryIndex(2.5f, 55f, DataSet.Rounding.UP));
+        assertEquals(5, set.getEntryIndex(4.5f, 60f, DataSet.Rounding.DOWN));
+
+        assertEquals(4, set.getEntryIndex(new Entry(3, 50)));
+        assertEquals(-1, set.getEntryIndex(new Entry(3, 60)));
+
+        List<Entry> entries = set.getEntriesForXValue(4f);
+        assertEquals(2, entries.size());
+        assertEquals(60, entries.get(0).getY(), 0.01f);
+        assertEquals(70, entries.get(1).getY(), 0.01f);
+    }
+
+    @Test
+    public void testFloatArrayLineDataSetAddEntryOrdered() {
+
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet("");
+
+        set.addEntry(0, 10);
+        set.addEntry(2, 30);
+        set.addEntry(4, 50);
+
+        set.addEntryOrdered(new Entry(3, 40));
+        set.addEntryOrdered(new Entry(1, 20));
+        set.addEntryOrdered(new Entry(-1, 0));
+        set.addEntryOrdered(new Entry(5, 60));
+
+        assertEquals(7, set.getEntryCount());
+
+        for (int i = 0; i < set.getEntryCount(); i++) {
+            assertEquals(i - 1, set.getX(i), 0.01f);
+            assertEquals(i * 10, set.getY(i), 0.01f);
+        }
+
+        assertEquals(-1f, set.getXMin(), 0.01f);
+        assertEquals(5f, set.getXMax(), 0.01f);
+        assertEquals(0f, set.getYMin(), 0.01f);
+        assertEquals(60f, set.getYMax(), 0.01f);
+
+        // appending below the highest x-value is rejected
+        try {
+            set.addEntry(4, 0);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            assertEquals(7, set.getEntryCount());
+        }
+
+        // equal x-values may be appended
+        set.addEntry(5, 70);
+        assertEquals(8, set.getEntryCount());
+    }
+
+    @Test
+    public void testFloatArrayLineDataSetRemoveEntries() {
+
+        // arrays of different length, growing has to copy both
+        float[] x = new float[]{0, 1, 2, 3, 4, 0, 0};
+        float[] y = new float[]{5, -2, 8, 3, 1};
+
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet(x, y, 5, "");
+
+        assertEquals(-2f, set.getYMin(), 0.01f);
+        assertEquals(8f, set.getYMax(), 0.01f);
+
+        set.addEntry(5, 4);
+        set.addEntry(6, 6);
+        assertEquals(7, set.getEntryCount());
+        assertEquals(6f, set.getY(6), 0.01f);
+
+        // removes the minimum and the maximum
+        assertTrue(set.removeEntries(1, 3));
+        assertEquals(5, set.getEntryCount());
+        assertEquals(3f, set.getX(1), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+        assertEquals(0f, set.getXMin(), 0.01f);
+        assertEquals(6f, set.getXMax(), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertTrue(set.removeLast());
+        assertEquals(3f, set.getXMin(), 0.01f);
+        assertEquals(5f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+
+        assertFalse(set.removeEntries(3, 3));
+        assertFalse(set.removeEntries(5, 8));
+    }
+
+    @Test
+    public void testFloatArrayLineDataSetCopy() {
+
+        float[] x = new float[]{0, 1, 2, 0};
+        float[] y = new float[]{3, 4, 5, 0};
+
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet(x, y, 3, "Values");
+        set.setLineWidth(3f);
+
+        FloatArrayLineDataSet copied = (FloatArrayLineDataSet) set.copy();
+
+        assertNotSame(set.getXValues(), copied.getXValues());
+        assertEquals(3, copied.getEntryCount());
+        assertEquals("Values", copied.getLabel());
+        assertEquals(3f, copied.getLineWidth(), 0.01f);
+        assertEquals(2f, copied.getXMax(), 0.01f);
+        assertEquals(5f, copied.getYMax(), 0.01f);
+
+        // the copy is independent from the original
+        copied.addEntry(3, 6);
+        assertEquals(3, set.getEntryCount());
+        assertEquals(4, copied.getEntryCount());
+        assertEquals(0f, set.getXValues()[3], 0.01f);
+    }
+
+    @Test
+    public void testFloatArrayLineDataSetOrderChecks() {
+
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet("");
+
+        ArrayList<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(0, 5));
+        entries.add(new Entry(1, -3));
+        entries.add(new Entry(1, 7));
+        entries.add(new Entry(2, 1));
+
+        set.addEntries(entries);
+        assertEquals(4, set.getEntryCount());
+        assertEquals(-3f, set.getYMin(), 0.01f);
+        assertEquals(7f, set.getYMax(), 0.01f);
+        assertEquals(2f, set.getXMax(), 0.01f);
+
+        // unsorted values are rejected and leave the DataSet unchanged
+        ArrayList<Entry> unsorted = new ArrayList<>();
+        unsorted.add(new Entry(5, 0));
+        unsorted.add(new Entry(4, 0));
+
+        try {
+            set.setEntries(unsorted);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            assertEquals(4, set.getEntryCount());
+        }
+
+        try {
+            set.setValues(new float[]{0, 2, 1}, new float[]{0, 0, 0}, 3);
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            assertEquals(4, set.getEntryCount());
+            assertEquals(7f, set.getYMax(), 0.01f);
+        }
+
+        try {
+            new FloatArrayLineDataSet(new float[]{1, 0}, new float[]{0, 0}, 2, "");
+            assertTrue(false);
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        // only the used part of the arrays has to be sorted
+        set.setValues(new float[]{0, 1, 2, -1}, new float[]{4, 5, 6, 0}, 3);
+        assertEquals(3, set.getEntryCount());
+        assertEquals(4f, set.getYMin(), 0.01f);
+    }
 }
@@ -0,0 +1,216 @@
+package com.github.mikephil.charting.test;
+
+import android.content.Context;
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.renderer.XAxisRenderer;
+import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests that the changes collected by notifyDataSetChanged(int) with deferred notifying enabled
+ * are recomputed once before the next draw.
+ */
+public class DeferredNotifyTest {
+
+    @Test
+    public void testChangesAreRecomputedOncePerDraw() {
+
+        CountingChart chart = new CountingChart();
+        chart.setData(createData());
+        chart.resetCounts();
+
+        chart.setDeferredNotifyEnabled(true);
+
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_DATA);
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_AXIS);
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_LEGEND);
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_DATA);
+
+        // nothing is recomputed until the draw
+        Assert.assertEquals(0, chart.mCalcMinMax);
+        Assert.assertEquals(0, chart.mComputeAxis[0]);
+        Assert.assertEquals(0, chart.mComputeLegend[0]);
+
+        chart.draw();
+
+        Assert.assertEquals(1, chart.mCalcMinMax);
+        // once per axis: left, right and x
+        Assert.assertEquals(3, chart.mComputeAxis[0]);
+        Assert.assertEquals(1, chart.mComputeLegend[0]);
+
+        // nothing changed since the last draw
+        chart.draw();
+
+        Assert.assertEquals(1, chart.mCalcMinMax);
+        Assert.assertEquals(3, chart.mComputeAxis[0]);
+        Assert.assertEquals(1, chart.mComputeLegend[0]);
+    }
+
+    @Test
+    public void testOnlyChangedStagesAreRecomputed() {
+
+        CountingChart chart = new CountingChart();
+        chart.setData(createData());
+        chart.setDeferredNotifyEnabled(true);
+        chart.resetCounts();
+
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_LEGEND);
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_LEGEND);
+        chart.draw();
+
+        Assert.assertEquals(0, chart.mCalcMinMax);
+        Assert.assertEquals(0, chart.mComputeAxis[0]);
+        Assert.assertEquals(1, chart.mComputeLegend[0]);
+
+        chart.resetCounts();
+
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_AXIS);
+        chart.notifyDataSetChanged(BarLineChartBase.CHANGED_AXIS);
+        chart.flushPendingChanges();
+        chart.draw();
+
+        Assert.assertEquals(1, chart.mCalcMinMax);
+        Assert.assertEquals(3, chart.mComputeAxis[0]);
+        Assert.assertEquals(0, chart.mComputeLegend[0]);
+    }
+
+    @Test
+    public void testImmediateNotify() {
+
+        CountingChart chart = new CountingChart();
+        chart.setData(createData());
+        chart.resetCounts();
+
+        chart.notifyDataSetChanged();
+        chart.notifyDataSetChanged();
+
+        Assert.assertEquals(2, chart.mCalcMinMax);
+        Assert.assertEquals(6, chart.mComputeAxis[0]);
+        Assert.assertEquals(2, chart.mComputeLegend[0]);
+    }
+
+    private static LineData createData() {
+
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i * i));
+
+        return new LineData(new LineDataSet(entries, ""));
+    }
+
+    /**
+     * Counts the recomputations of the min and max values, the axes and the legend.
+     */
+    private static class CountingChart extends LineChart {
+
+        int mCalcMinMax = 0;
+
+        // shared with the counting renderers
+        final int[] mComputeAxis = new int[1];
+        final int[] mComputeLegend = new int[1];
+
+        CountingChart() {
+            super((Context) null);
+
+            ViewPortHandler handler = getViewPortHandler();
+
+            setRendererLeftYAxis(new CountingYAxisRenderer(handler, getAxisLeft(),
+                    getTransformer(YAxis.AxisDependency.LEFT), mComputeAxis));
+            setRendererRightYAxis(new CountingYAxisRenderer(handler, getAxisRight(),
+                    getTransformer(YAxis.AxisDependency.RIGHT), mComputeAxis));
+            setXAxisRenderer(new CountingXAxisRenderer(handler, getXAxis(),
+                    getTransformer(YAxis.AxisDependency.LEFT), mComputeAxis));
+
+            mLegendRenderer = new CountingLegendRenderer(handler, getLegend(), mComputeLegend);
+
+            // drawing computes enabled axes on every frame, only the recomputations caused by
+            // notifying are counted
+            getAxisLeft().setEnabled(false);
+            getAxisRight().setEnabled(false);
+            getXAxis().setEnabled(false);
+        }
+
+        void resetCounts() {
+            mCalcMinMax = 0;
+            mComputeAxis[0] = 0;
+            mComputeLegend[0] = 0;
+        }
+
+        void draw() {
+            onDraw(new Canvas());
+        }
+
+        @Override
+        protected void calcMinMax() {
+            mCalcMinMax++;
+            super.calcMinMax();
+        }
+    }
+
+    private static class CountingYAxisRenderer extends YAxisRenderer {
+
+        private final int[] mCount;
+
+        CountingYAxisRenderer(ViewPortHandler handler, YAxis axis, Transformer trans, int[] count) {
+            super(handler, axis, trans);
+            mCount = count;
+        }
+
+        @Override
+        public void computeAxis(float min, float max, boolean inverted) {
+            mCount[0]++;
+            super.computeAxis(min, max, inverted);
+        }
+    }
+
+    private static class CountingXAxisRenderer extends XAxisRenderer {
+
+        private final int[] mCount;
+
+        CountingXAxisRenderer(ViewPortHandler handler, XAxis axis, Transformer trans, int[] count) {
+            super(handler, axis, trans);
+            mCount = count;
+        }
+
+        @Override
+        public void computeAxis(float min, float max, boolean inverted) {
+            mCount[0]++;
+            super.computeAxis(min, max, inverted);
+        }
+    }
+
+    private static class CountingLegendRenderer extends LegendRenderer {
+
+        private final int[] mCount;
+
+        CountingLegendRenderer(ViewPortHandler handler, Legend legend, int[] count) {
+            super(handler, legend);
+            mCount = count;
+        }
+
+        @Override
+        public void computeLegend(ChartData<?> data) {
+            mCount[0]++;
+            super.computeLegend(data);
+        }
+    }
+}
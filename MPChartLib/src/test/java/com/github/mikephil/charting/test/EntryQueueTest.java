@@ -0,0 +1,168 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.EntryQueue;
+import com.github.mikephil.charting.data.FloatArrayLineDataSet;
+import com.github.mikephil.charting.data.RollingLineDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests offering, draining and the drain requests of the EntryQueue.
+ */
+public class EntryQueueTest {
+
+    @Test
+    public void testOfferAndDrain() {
+
+        EntryQueue queue = new EntryQueue(3);
+        Assert.assertEquals(4, queue.getCapacity());
+
+        final int[] requests = new int[1];
+
+        queue.setDrainRequest(new Runnable() {
+            @Override
+            public void run() {
+                requests[0]++;
+            }
+        });
+
+        ScatterDataSet set = new ScatterDataSet(new ArrayList<Entry>(), "");
+
+        for (int i = 0; i < 5; i++)
+            queue.offer(i, i * 10f);
+
+        // the fifth sample did not fit, only the first offer requested a drain
+        Assert.assertEquals(4, queue.size());
+        Assert.assertEquals(1, queue.getDroppedCount());
+        Assert.assertEquals(1, requests[0]);
+
+        Assert.assertEquals(4, queue.drainTo(set));
+        Assert.assertEquals(0, queue.size());
+        Assert.assertEquals(4, set.getEntryCount());
+        Assert.assertEquals(3f, set.getXMax());
+        Assert.assertEquals(30f, set.getYMax());
+
+        Assert.assertEquals(0, queue.drainTo(set));
+
+        // the slots are reused after draining
+        for (int i = 4; i < 8; i++)
+            Assert.assertTrue(queue.offer(i, i * 10f));
+
+        Assert.assertEquals(2, requests[0]);
+        Assert.assertEquals(4, queue.drainTo(set));
+        Assert.assertEquals(8, set.getEntryCount());
+        Assert.assertEquals(7f, set.getEntryForIndex(7).getX());
+    }
+
+    @Test
+    public void testDrainSortsAndDropsOutOfOrderSamples() {
+
+        EntryQueue queue = new EntryQueue(16);
+        FloatArrayLineDataSet set = new FloatArrayLineDataSet("");
+
+        // two producers interleaved, each one in order
+        queue.offer(1f, 10f);
+        queue.offer(0f, 0f);
+        queue.offer(3f, 30f);
+        queue.offer(2f, 20f);
+        queue.offer(2f, 21f);
+
+        Assert.assertEquals(5, queue.drainTo(set));
+        Assert.assertEquals(0, queue.getOutOfOrderCount());
+
+        float[] expectedX = {0f, 1f, 2f, 2f, 3f};
+        float[] expectedY = {0f, 10f, 20f, 21f, 30f};
+
+        for (int i = 0; i < expectedX.length; i++) {
+            Assert.assertEquals(expectedX[i], set.getEntryForIndex(i).getX());
+            Assert.assertEquals(expectedY[i], set.getEntryForIndex(i).getY());
+        }
+
+        // a sample older than the DataSet is dropped instead of throwing
+        queue.offer(5f, 50f);
+        queue.offer(2.5f, 25f);
+        queue.offer(3f, 31f);
+
+        Assert.assertEquals(2, queue.drainTo(set));
+        Assert.assertEquals(1, queue.getOutOfOrderCount());
+        Assert.assertEquals(7, set.getEntryCount());
+        Assert.assertEquals(31f, set.getEntryForIndex(5).getY());
+        Assert.assertEquals(5f, set.getXMax());
+    }
+
+    @Test
+    public void testTwoProducers() throws InterruptedException {
+
+        final int perProducer = 20000;
+
+        final EntryQueue queue = new EntryQueue(1 << 16);
+
+        FloatArrayLineDataSet floatSet = new FloatArrayLineDataSet("");
+        RollingLineDataSet rollingSet = new RollingLineDataSet(1000, "");
+        ScatterDataSet scatterSet = new ScatterDataSet(new ArrayList<Entry>(), "");
+
+        Thread[] producers = new Thread[2];
+
+        for (int p = 0; p < producers.length; p++) {
+
+            final int offset = p;
+
+            producers[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perProducer; i++)
+                        queue.offer(i * 2 + offset, i);
+                }
+            });
+        }
+
+        for (Thread producer : producers)
+            producer.start();
+
+        // drains while the producers are running, samples of the slower one may arrive late
+        long appended = 0;
+        int round = 0;
+
+        while (producers[0].isAlive() || producers[1].isAlive() || queue.size() > 0) {
+
+            switch (round++ % 3) {
+                case 0:
+                    appended += queue.drainTo(floatSet);
+                    break;
+                case 1:
+                    appended += queue.drainTo(rollingSet);
+                    break;
+                default:
+                    appended += queue.drainTo(scatterSet);
+                    break;
+            }
+        }
+
+        for (Thread producer : producers)
+            producer.join();
+
+        appended += queue.drainTo(floatSet);
+
+        Assert.assertEquals(0, queue.getDroppedCount());
+        Assert.assertEquals(perProducer * 2,
+                appended + queue.getOutOfOrderCount());
+
+        assertSorted(floatSet);
+        assertSorted(rollingSet);
+        assertSorted(scatterSet);
+    }
+
+    private static void assertSorted(IDataSet<Entry> set) {
+
+        for (int i = 1; i < set.getEntryCount(); i++)
+            Assert.assertTrue(set.getEntryForIndex(i - 1).getX()
+                    <= set.getEntryForIndex(i).getX());
+    }
+}
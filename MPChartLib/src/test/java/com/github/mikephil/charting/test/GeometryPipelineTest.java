@@ -0,0 +1,211 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.renderer.GeometryPipeline;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests buffering, the non-blocking access and the eviction of the GeometryPipeline.
+ */
+public class GeometryPipelineTest {
+
+    private GeometryPipeline mPipeline = new GeometryPipeline();
+
+    private AtomicInteger mBuilds = new AtomicInteger();
+
+    /**
+     * the builds wait until this is counted down
+     */
+    private volatile CountDownLatch mGate = new CountDownLatch(0);
+
+    private GeometryPipeline.GeometryBuilder mBuilder = new GeometryPipeline.GeometryBuilder() {
+        @Override
+        public void build(IDataSet set, GeometryPipeline.Geometry geometry) {
+
+            try {
+                mGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            geometry.ensureCapacity(2);
+            geometry.vertices[0] = geometry.mapX(set.getEntryCount(), 0f);
+            geometry.vertices[1] = geometry.mapY(0f, 0f);
+            geometry.count = 2;
+
+            mBuilds.incrementAndGet();
+        }
+    };
+
+    @After
+    public void tearDown() {
+        mGate.countDown();
+        mPipeline.release();
+    }
+
+    private static ScatterDataSet createDataSet(int count) {
+
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, i));
+
+        return new ScatterDataSet(entries, "");
+    }
+
+    private CountDownLatch request(IDataSet set, float scale) {
+
+        final CountDownLatch ready = new CountDownLatch(1);
+
+        mPipeline.setOnGeometryReadyListener(new Runnable() {
+            @Override
+            public void run() {
+                ready.countDown();
+            }
+        });
+
+        GeometryPipeline.Geometry request = mPipeline.getRequest(set);
+        request.matrix[0] = scale;
+        request.matrix[4] = 1f;
+        request.matrix[8] = 1f;
+        request.to = set.getEntryCount() - 1;
+
+        mPipeline.request(set, mBuilder);
+
+        return ready;
+    }
+
+    @Test
+    public void testGetDoesNotBlock() throws InterruptedException {
+
+        ScatterDataSet set = createDataSet(10);
+
+        mPipeline.startFrame();
+        CountDownLatch ready = request(set, 2f);
+        Assert.assertTrue(ready.await(5, TimeUnit.SECONDS));
+
+        // the listener runs before the task is done, the front buffer is swapped in on the next get
+        for (int i = 0; i < 500 && mPipeline.get(set) == null; i++) {
+            Thread.sleep(10);
+            mPipeline.startFrame();
+            request(set, 2f);
+        }
+
+        mPipeline.startFrame();
+        request(set, 2f);
+
+        GeometryPipeline.Geometry geometry = mPipeline.get(set);
+        Assert.assertNotNull(geometry);
+        Assert.assertEquals(2, geometry.count);
+        Assert.assertEquals(20f, geometry.vertices[0]);
+        Assert.assertEquals(1, mBuilds.get());
+
+        // appended values: the older geometry is drawn while the new one is built
+        set.addEntry(new Entry(10, 10));
+
+        mPipeline.startFrame();
+        request(set, 2f);
+
+        geometry = mPipeline.get(set);
+        Assert.assertNotNull(geometry);
+
+        for (int i = 0; i < 500 && geometry.vertices[0] != 22f; i++) {
+            Thread.sleep(10);
+            mPipeline.startFrame();
+            request(set, 2f);
+            geometry = mPipeline.get(set);
+        }
+
+        Assert.assertEquals(22f, geometry.vertices[0]);
+        Assert.assertEquals(2, mBuilds.get());
+
+        // another matrix: the geometry must not be drawn while the new one is built
+        mGate = new CountDownLatch(1);
+
+        mPipeline.startFrame();
+        request(set, 3f);
+
+        Assert.assertNull(mPipeline.get(set));
+    }
+
+    @Test
+    public void testDiscardsGeometryOfChangedData() throws InterruptedException {
+
+        ScatterDataSet set = createDataSet(10);
+
+        mGate = new CountDownLatch(1);
+
+        mPipeline.startFrame();
+        CountDownLatch ready = request(set, 2f);
+
+        // the values change while the geometry is built
+        set.addEntry(new Entry(10, 10));
+
+        mGate.countDown();
+        Assert.assertTrue(ready.await(5, TimeUnit.SECONDS));
+
+        // the geometry of the older values is never drawn, it is built again
+        GeometryPipeline.Geometry geometry = null;
+
+        for (int i = 0; i < 500 && geometry == null; i++) {
+
+            mPipeline.startFrame();
+            request(set, 2f);
+            geometry = mPipeline.get(set);
+
+            if (geometry == null)
+                Thread.sleep(10);
+        }
+
+        Assert.assertNotNull(geometry);
+        Assert.assertEquals(22f, geometry.vertices[0]);
+        Assert.assertEquals(2, mBuilds.get());
+
+        // the entries of the DataSet are changed directly and notified
+        set.getEntryForIndex(0).setY(5f);
+        set.notifyDataSetChanged();
+
+        mPipeline.startFrame();
+        request(set, 2f);
+
+        for (int i = 0; i < 500 && mBuilds.get() < 3; i++)
+            Thread.sleep(10);
+
+        Assert.assertEquals(3, mBuilds.get());
+    }
+
+    @Test
+    public void testEvictsDataSetsNotDrawn() {
+
+        ScatterDataSet first = createDataSet(5);
+        ScatterDataSet second = createDataSet(5);
+
+        mPipeline.startFrame();
+        request(first, 1f);
+        request(second, 1f);
+        Assert.assertEquals(2, mPipeline.getSlotCount());
+
+        // only the first DataSet is drawn in the next frame
+        mPipeline.startFrame();
+        request(first, 1f);
+        Assert.assertEquals(2, mPipeline.getSlotCount());
+
+        mPipeline.startFrame();
+        Assert.assertEquals(1, mPipeline.getSlotCount());
+
+        mPipeline.startFrame();
+        mPipeline.startFrame();
+        Assert.assertEquals(0, mPipeline.getSlotCount());
+    }
+}
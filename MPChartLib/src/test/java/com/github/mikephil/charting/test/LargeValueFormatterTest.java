@@ -4,6 +4,8 @@ import com.github.mikephil.charting.formatter.LargeValueFormatter;
 
 import org.junit.Test;
 
+import java.util.Random;
+
 import static junit.framework.Assert.assertEquals;
 
 /**
@@ -92,4 +94,33 @@ public class LargeValueFormatterTest {
         result = formatter.getFormattedValue(100000000000000000f, null);
         assertEquals("100q", result);
     }
+
+    @Test
+    public void testCharFormat() {
+
+        LargeValueFormatter formatter = new LargeValueFormatter(" units");
+        formatter.setSuffix(new String[]{"", "k", "m", "b", "t", "q"});
+
+        char[] out = new char[32];
+
+        int length = formatter.format(5821f, null, out);
+        assertEquals("5.82k units", String.valueOf(out, 0, length));
+
+        // the char formatting has to match the String formatting, or fall back to it
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10000; i++) {
+
+            float value = (float) (Math.pow(10.0, random.nextInt(18)) * random.nextDouble());
+
+            if (random.nextBoolean())
+                value = -value;
+
+            length = formatter.format(value, null, out);
+
+            if (length >= 0)
+                assertEquals(formatter.getFormattedValue(value, null),
+                        String.valueOf(out, 0, length));
+        }
+    }
 }
@@ -0,0 +1,190 @@
+package com.github.mikephil.charting.test;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.LimitLine;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.RenderLayer;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests that the cached layers of a chart are reused while only the highlights change, and are
+ * redrawn after a setter of a component or DataSet was called or the data was notified.
+ */
+public class LayerCacheTest {
+
+    @Test
+    public void testHighlightReusesLayers() {
+
+        LayerChart chart = createChart();
+
+        chart.draw();
+        Assert.assertEquals(1, chart.mContentDraws);
+        Assert.assertEquals(1, chart.mHighlightDraws);
+
+        chart.draw();
+        Assert.assertEquals(1, chart.mContentDraws);
+
+        // the highlights are drawn in between the layers on every frame
+        chart.highlightValue(new Highlight(3f, 9f, 0));
+        chart.draw();
+        chart.highlightValue(null);
+        chart.draw();
+
+        Assert.assertEquals(1, chart.mContentDraws);
+        Assert.assertEquals(1, chart.mLabelDraws);
+        Assert.assertEquals(4, chart.mHighlightDraws);
+    }
+
+    @Test
+    public void testSettersInvalidateLayers() {
+
+        LayerChart chart = createChart();
+        chart.draw();
+
+        chart.getXAxis().setDrawGridLinesBehindData(false);
+        chart.draw();
+        Assert.assertEquals(2, chart.mContentDraws);
+
+        chart.getAxisLeft().addLimitLine(new LimitLine(5f));
+        chart.draw();
+        Assert.assertEquals(3, chart.mContentDraws);
+
+        // the limit lines are versioned with their axis
+        chart.getAxisLeft().getLimitLines().get(0).setLineColor(0xffff0000);
+        chart.draw();
+        Assert.assertEquals(4, chart.mContentDraws);
+
+        chart.getLegend().setTextSize(14f);
+        chart.draw();
+        Assert.assertEquals(5, chart.mContentDraws);
+
+        chart.getData().getDataSetByIndex(0).setDrawValues(false);
+        chart.draw();
+        Assert.assertEquals(6, chart.mContentDraws);
+
+        chart.draw();
+        Assert.assertEquals(6, chart.mContentDraws);
+        Assert.assertEquals(6, chart.mLabelDraws);
+    }
+
+    @Test
+    public void testNotifyInvalidatesLayers() {
+
+        LayerChart chart = createChart();
+        chart.draw();
+
+        chart.getData().getDataSetByIndex(0).getEntryForIndex(0).setY(5f);
+        chart.notifyDataSetChanged();
+        chart.draw();
+        Assert.assertEquals(2, chart.mContentDraws);
+
+        chart.getData().getDataSetByIndex(0).addEntry(new Entry(10f, 10f));
+        chart.notifyDataSetTailChanged();
+        chart.draw();
+        Assert.assertEquals(3, chart.mContentDraws);
+    }
+
+    private static LayerChart createChart() {
+
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i * i));
+
+        LayerChart chart = new LayerChart();
+        chart.setData(new LineData(new LineDataSet(entries, "")));
+        chart.setLayerCacheEnabled(true);
+
+        // the Bitmaps of unit tests have no size, the layers only track whether they are dirty
+        chart.setLayers(new TestLayer(), new TestLayer());
+
+        return chart;
+    }
+
+    /**
+     * Counts the redraws of the layers and the highlights.
+     */
+    private static class LayerChart extends LineChart {
+
+        int mContentDraws = 0;
+        int mLabelDraws = 0;
+        int mHighlightDraws = 0;
+
+        LayerChart() {
+            super((Context) null);
+        }
+
+        void setLayers(RenderLayer content, RenderLayer labels) {
+            mContentLayer = content;
+            mLabelLayer = labels;
+        }
+
+        void draw() {
+            onDraw(new Canvas());
+        }
+
+        @Override
+        protected void drawContent(Canvas canvas) {
+            mContentDraws++;
+            super.drawContent(canvas);
+        }
+
+        @Override
+        protected void drawLabels(Canvas canvas) {
+            mLabelDraws++;
+            super.drawLabels(canvas);
+        }
+
+        @Override
+        protected void drawHighlights(Canvas canvas) {
+            mHighlightDraws++;
+            super.drawHighlights(canvas);
+        }
+    }
+
+    private static class TestLayer extends RenderLayer {
+
+        private boolean mDirty = true;
+
+        TestLayer() {
+            super(null);
+        }
+
+        @Override
+        public void invalidate() {
+            mDirty = true;
+        }
+
+        @Override
+        public boolean isDirty(int width, int height) {
+            return mDirty;
+        }
+
+        @Override
+        public Canvas begin(int width, int height) {
+            mDirty = false;
+            return new Canvas();
+        }
+
+        @Override
+        public void draw(Canvas c, Paint paint) {
+        }
+
+        @Override
+        public void release() {
+            mDirty = true;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Tests the reduction and the entry counting of the decimated line drawing, and which parts of
+ * the retained lines are shifted and redrawn in the retained drawing of the LineChartRenderer.
+ */
+public class LineChartRendererTest {
+
+    @Test
+    public void testDecimationKeepsFirstMinMaxLast() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // column 0: first, min, max, last in this order
+        entries.add(new Entry(0f, 5));
+        entries.add(new Entry(0.1f, 4));
+        entries.add(new Entry(0.3f, -3));
+        entries.add(new Entry(0.5f, 6));
+        entries.add(new Entry(0.6f, 9));
+        entries.add(new Entry(0.9f, 2));
+
+        // column 1: a single entry
+        entries.add(new Entry(1f, 4));
+
+        // column 2: the max comes before the min
+        entries.add(new Entry(2f, 1));
+        entries.add(new Entry(2.2f, 8));
+        entries.add(new Entry(2.4f, 7));
+        entries.add(new Entry(2.5f, 0));
+        entries.add(new Entry(2.8f, 3));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        // the transformer maps values to pixels 1:1, every pixel column spans one x-value
+        RecordingTransformer trans = new RecordingTransformer();
+        RecordingCanvas canvas = new RecordingCanvas();
+
+        new TestRenderer().drawDecimated(canvas, set, trans, 0, entries.size() - 1);
+
+        float[] expected = new float[]{
+                0f, 5, 0.3f, -3, 0.6f, 9, 0.9f, 2,
+                1f, 4,
+                2f, 1, 2.2f, 8, 2.5f, 0, 2.8f, 3
+        };
+
+        int pointCount = expected.length / 2;
+
+        // one line segment between every two consecutive points
+        assertEquals((pointCount - 1) * 4, canvas.mLines.size());
+
+        for (int i = 0; i < pointCount - 1; i++) {
+            assertEquals(expected[i * 2], canvas.mLines.get(i * 4), 0.001f);
+            assertEquals(expected[i * 2 + 1], canvas.mLines.get(i * 4 + 1), 0.001f);
+            assertEquals(expected[i * 2 + 2], canvas.mLines.get(i * 4 + 2), 0.001f);
+            assertEquals(expected[i * 2 + 3], canvas.mLines.get(i * 4 + 3), 0.001f);
+        }
+
+        // only the used part of the line buffer is transformed
+        assertEquals(canvas.mLines.size(), trans.mTransformedCount);
+    }
+
+    @Test
+    public void testDecimationCountsVisitedEntries() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i * 0.1f, i % 7));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        TestRenderer renderer = new TestRenderer();
+
+        // every entry of the range is visited once per pass, not the whole DataSet
+        renderer.drawDecimated(new RecordingCanvas(), set, new RecordingTransformer(), 10, 59);
+        assertEquals(50, renderer.getEntriesVisited());
+
+        renderer.drawDecimated(new RecordingCanvas(), set, new RecordingTransformer(), 0, 99);
+        assertEquals(150, renderer.getEntriesVisited());
+    }
+
+    @Test
+    public void testRetainedDrawing() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i, i % 10));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        // zoomed in, the content rect spans 0 to 1000 pixels
+        TestDataProvider chart = new TestDataProvider(new LineData(set));
+        chart.setTransformationX(20f, 0f);
+
+        RetainedRenderer renderer = new RetainedRenderer(chart);
+
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        // nothing changed
+        renderer.assertDraw();
+
+        // panned: the retained lines are moved by whole pixels, only the exposed strip is drawn
+        // with the rest of the translation
+        chart.setTransformationX(20f, -10.4f);
+        renderer.assertDraw("shift -10", "strip 990 0 1000 1000 -0.4");
+
+        chart.setTransformationX(20f, -5f);
+        renderer.assertDraw("shift 5", "strip 0 0 5 1000 0.0");
+
+        // less than half a pixel, the retained lines are drawn at the sub-pixel position
+        chart.setTransformationX(20f, -5.3f);
+        renderer.assertDraw();
+
+        // panned by more than the content rect
+        chart.setTransformationX(20f, -1500f);
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        // zoomed
+        chart.setTransformationX(25f, -1500f);
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        // changed data
+        set.addEntry(new Entry(100f, 5f));
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        set.getEntryForIndex(0).setY(3f);
+        set.notifyDataSetChanged();
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        // changed style
+        set.setDrawCircleHole(false);
+        renderer.assertDraw("erase", "strip 0 0 1000 1000 0.0");
+
+        chart.setTransformationX(25f, -1510f);
+        renderer.assertDraw("shift -10", "strip 990 0 1000 1000 0.0");
+    }
+
+    private static class TestRenderer extends LineChartRenderer {
+
+        TestRenderer() {
+            super(null, new ChartAnimator(), new ViewPortHandler());
+        }
+
+        void drawDecimated(Canvas c, ILineDataSet dataSet, Transformer trans, int from, int to) {
+            drawLinearDecimated(c, dataSet, trans, from, to);
+        }
+    }
+
+    private static class RecordingTransformer extends Transformer {
+
+        int mTransformedCount = -1;
+
+        RecordingTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        @Override
+        public void pointValuesToPixel(float[] pts) {
+            // identity, the x-mapping of the decimation is derived from this
+        }
+
+        @Override
+        public void pointValuesToPixel(float[] pts, int count) {
+            mTransformedCount = count;
+        }
+    }
+
+    /**
+     * Records the operations on the retained bitmap instead of drawing, the Bitmaps of unit tests
+     * have no size.
+     */
+    private static class RetainedRenderer extends LineChartRenderer {
+
+        private final List<String> mOperations = new ArrayList<>();
+
+        RetainedRenderer(TestDataProvider chart) {
+            super(chart, new ChartAnimator(), TestDataProvider.createViewPortHandler());
+            setRetainedDrawingEnabled(true);
+        }
+
+        /**
+         * Draws the data and checks the operations on the retained bitmap.
+         *
+         * @param expected
+         */
+        void assertDraw(String... expected) {
+
+            mOperations.clear();
+            drawData(new RecordingCanvas());
+
+            assertEquals(Arrays.asList(expected), mOperations);
+        }
+
+        @Override
+        protected void prepareRetainedBitmaps(int width, int height) {
+        }
+
+        @Override
+        protected void eraseRetainedBitmap() {
+            mOperations.add("erase");
+        }
+
+        @Override
+        protected void shiftRetainedBitmap(int shift, int left, int top, int right, int bottom) {
+            mOperations.add("shift " + shift);
+        }
+
+        @Override
+        protected void drawRetainedStrip(LineData lineData, int left, int top, int right,
+                                         int bottom, float rest) {
+            mOperations.add(String.format(Locale.US, "strip %d %d %d %d %.1f",
+                    left, top, right, bottom, rest));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.BitmapTileCache;
+import com.github.mikephil.charting.utils.LongHashSet;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+/**
+ * Tests the LongHashSet against a HashSet, with keys of tiles that share their level or index.
+ */
+public class LongHashSetTest {
+
+    @Test
+    public void testMatchesHashSet() {
+
+        Random random = new Random(7);
+
+        LongHashSet set = new LongHashSet(4);
+        HashSet<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 20000; i++) {
+
+            // few distinct keys, so that adding, removing and probing collide often
+            long key = BitmapTileCache.key(random.nextInt(8) - 4, random.nextInt(64) - 32);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    Assert.assertEquals(expected.add(key), set.add(key));
+                    break;
+                case 1:
+                    Assert.assertEquals(expected.remove(key), set.remove(key));
+                    break;
+                default:
+                    Assert.assertEquals(expected.contains(key), set.contains(key));
+                    break;
+            }
+
+            Assert.assertEquals(expected.size(), set.size());
+        }
+
+        for (long key : expected)
+            Assert.assertTrue(set.contains(key));
+
+        set.clear();
+
+        Assert.assertEquals(0, set.size());
+        Assert.assertFalse(set.contains(expected.iterator().next()));
+    }
+
+    @Test
+    public void testExtremeKeys() {
+
+        LongHashSet set = new LongHashSet(0);
+
+        long[] keys = new long[]{0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        for (long key : keys)
+            Assert.assertTrue(set.add(key));
+
+        for (long key : keys) {
+            Assert.assertFalse(set.add(key));
+            Assert.assertTrue(set.contains(key));
+        }
+
+        Assert.assertTrue(set.remove(0L));
+        Assert.assertFalse(set.contains(0L));
+        Assert.assertTrue(set.contains(Long.MIN_VALUE));
+        Assert.assertEquals(3, set.size());
+    }
+}
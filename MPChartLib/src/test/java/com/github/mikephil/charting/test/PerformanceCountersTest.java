@@ -0,0 +1,167 @@
+package com.github.mikephil.charting.test;
+
+import android.content.Context;
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.ChartPerformanceListener;
+import com.github.mikephil.charting.utils.ObjectPool;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests the counters of transformed points and pool misses used for performance monitoring.
+ */
+public class PerformanceCountersTest {
+
+    @Test
+    public void testPointsTransformedPerTransformer() {
+
+        Transformer left = new Transformer(new ViewPortHandler());
+        Transformer right = new Transformer(new ViewPortHandler());
+
+        left.setCountingEnabled(true);
+        right.setCountingEnabled(true);
+
+        left.pointValuesToPixel(new float[6]);
+        right.pointValuesToPixel(new float[8], 4);
+        right.pixelsToValue(new float[2]);
+
+        Assert.assertEquals(3, left.getPointsTransformed());
+        Assert.assertEquals(2 + 1, right.getPointsTransformed());
+
+        // nothing to transform, nothing counted
+        left.pointValuesToPixel(new float[4], 0);
+        Assert.assertEquals(3, left.getPointsTransformed());
+
+        // not counted while not monitored
+        left.setCountingEnabled(false);
+        left.pointValuesToPixel(new float[6]);
+        Assert.assertEquals(3, left.getPointsTransformed());
+    }
+
+    @Test
+    public void testPoolMissesAreCountedPerThread() throws InterruptedException {
+
+        final ObjectPool<TestPoolable> pool = ObjectPool.create(1, new TestPoolable());
+        pool.setReplenishPercentage(1f);
+
+        ObjectPool.startCountingMisses();
+
+        pool.get();
+        pool.get();
+        pool.get();
+
+        // the misses of other threads are not counted
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                pool.get();
+                pool.get();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertEquals(2, ObjectPool.stopCountingMisses());
+
+        pool.get();
+
+        ObjectPool.startCountingMisses();
+        Assert.assertEquals(0, ObjectPool.stopCountingMisses());
+    }
+
+    @Test
+    public void testFrameCountersArePerChart() {
+
+        RecordingListener listener = new RecordingListener();
+
+        TestChart monitored = new TestChart();
+        monitored.setPerformanceListener(listener);
+
+        TestChart other = new TestChart();
+
+        monitored.draw();
+        other.draw();
+
+        Assert.assertEquals(1, listener.mFrames);
+        Assert.assertTrue(listener.mPointsTransformed > 0);
+
+        // only the transformations of the monitored chart are counted
+        Assert.assertEquals(0, other.getTransformer(YAxis.AxisDependency.LEFT).getPointsTransformed());
+
+        final long pointsTransformed = listener.mPointsTransformed;
+
+        monitored.draw();
+
+        Assert.assertEquals(2, listener.mFrames);
+        Assert.assertEquals(pointsTransformed, listener.mPointsTransformed);
+
+        monitored.setPerformanceListener(null);
+        monitored.draw();
+
+        Assert.assertEquals(2, listener.mFrames);
+    }
+
+    private static class TestPoolable extends ObjectPool.Poolable {
+
+        @Override
+        protected ObjectPool.Poolable instantiate() {
+            return new TestPoolable();
+        }
+    }
+
+    private static class TestChart extends LineChart {
+
+        TestChart() {
+            super((Context) null);
+
+            ArrayList<Entry> entries = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++)
+                entries.add(new Entry(i, i * i));
+
+            setData(new LineData(new LineDataSet(entries, "")));
+        }
+
+        void draw() {
+            onDraw(new Canvas());
+        }
+    }
+
+    private static class RecordingListener implements ChartPerformanceListener {
+
+        int mFrames = 0;
+        long mPointsTransformed = 0;
+
+        @Override
+        public void onPhaseCompleted(Phase phase, long durationNanos) {
+        }
+
+        @Override
+        public void onAxisComputed(AxisBase axis, long durationNanos) {
+        }
+
+        @Override
+        public void onDataSetDrawn(IDataSet dataSet, long durationNanos) {
+        }
+
+        @Override
+        public void onFrameCompleted(long durationNanos, FrameCounters counters) {
+            mFrames++;
+            mPointsTransformed = counters.pointsTransformed;
+        }
+    }
+}
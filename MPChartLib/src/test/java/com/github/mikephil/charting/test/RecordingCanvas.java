@@ -0,0 +1,91 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import java.util.ArrayList;
+
+/**
+ * Canvas for renderer tests that records what is drawn. The Canvas of unit tests draws nothing.
+ */
+class RecordingCanvas extends Canvas {
+
+    /**
+     * the drawn lines and rects (also the rects of RecordingPaths) with their color, and the
+     * style of rects
+     */
+    final ArrayList<String> mShapes = new ArrayList<>();
+
+    /**
+     * the coordinates of all drawn lines (x1, y1, x2, y2, ...)
+     */
+    final ArrayList<Float> mLines = new ArrayList<>();
+
+    /**
+     * all drawn texts and their positions
+     */
+    final ArrayList<String> mTexts = new ArrayList<>();
+    final ArrayList<Float> mTextX = new ArrayList<>();
+    final ArrayList<Float> mTextY = new ArrayList<>();
+
+    static String line(float x1, float y1, float x2, float y2, Paint paint) {
+        return "line " + Integer.toHexString(paint.getColor()) + " " + x1 + "," + y1 + " " + x2
+                + "," + y2;
+    }
+
+    static String rect(float left, float top, float right, float bottom, Paint paint) {
+        return "rect " + Integer.toHexString(paint.getColor()) + " " + paint.getStyle() + " "
+                + Math.min(left, right) + "," + Math.min(top, bottom) + " "
+                + Math.max(left, right) + "," + Math.max(top, bottom);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        mShapes.add(line(startX, startY, stopX, stopY, paint));
+        mLines.add(startX);
+        mLines.add(startY);
+        mLines.add(stopX);
+        mLines.add(stopY);
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+        for (int i = offset; i < offset + count; i += 4)
+            drawLine(pts[i], pts[i + 1], pts[i + 2], pts[i + 3], paint);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        mShapes.add(rect(left, top, right, bottom, paint));
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+
+        if (!(path instanceof RecordingPath))
+            return;
+
+        for (float[] r : ((RecordingPath) path).mRects)
+            mShapes.add(rect(r[0], r[1], r[2], r[3], paint));
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        mTexts.add(text);
+        mTextX.add(x);
+        mTextY.add(y);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        mTexts.add(new String(text, index, count));
+        mTextX.add(x);
+        mTextY.add(y);
+    }
+}
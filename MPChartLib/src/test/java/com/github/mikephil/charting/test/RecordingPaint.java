@@ -0,0 +1,32 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+/**
+ * Paint for renderer tests that keeps its color and style. The Paint of unit tests keeps nothing.
+ */
+class RecordingPaint extends Paint {
+
+    private int mColor;
+    private Style mStyle;
+
+    @Override
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    @Override
+    public int getColor() {
+        return mColor;
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    @Override
+    public Style getStyle() {
+        return mStyle;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Path;
+
+import java.util.ArrayList;
+
+/**
+ * Path for renderer tests that keeps the rects added to it. The Path of unit tests keeps nothing.
+ */
+class RecordingPath extends Path {
+
+    final ArrayList<float[]> mRects = new ArrayList<>();
+
+    @Override
+    public void reset() {
+        mRects.clear();
+    }
+
+    @Override
+    public void addRect(float left, float top, float right, float bottom, Direction dir) {
+        mRects.add(new float[]{left, top, right, bottom});
+    }
+}
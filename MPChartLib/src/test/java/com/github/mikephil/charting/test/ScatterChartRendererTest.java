@@ -0,0 +1,87 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.ScatterChartRenderer;
+import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests that the batched drawing of the ScatterChartRenderer draws every visible point with the
+ * color of its entry. The transformation maps values to pixels 1:1.
+ */
+public class ScatterChartRendererTest {
+
+    @Test
+    public void testDrawVisibleRangeInBatches() {
+
+        int[] colors = new int[]{0xffff0000, 0xff00ff00, 0xff0000ff, 0xff808080, 0xff000000};
+
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 400; i++)
+            entries.add(new Entry(i, 1f + i % 7));
+
+        RecordingShapeRenderer shapes = new RecordingShapeRenderer();
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        set.setColors(colors);
+        set.setShapeRenderer(shapes);
+
+        // the visible range starts and ends between two entries and spans more than one batch
+        TestDataProvider chart = new TestDataProvider(new ScatterData(set));
+        chart.setVisibleXRange(100.5f, 350.5f);
+
+        new TestRenderer(chart).drawData(new RecordingCanvas());
+
+        // the closest entries outside of the range are included, like for all charts
+        Assert.assertEquals(252, shapes.mX.size());
+
+        for (int i = 0; i < shapes.mX.size(); i++) {
+
+            final int index = 100 + i;
+
+            Assert.assertEquals((float) index, shapes.mX.get(i));
+            Assert.assertEquals(1f + index % 7, shapes.mY.get(i));
+            Assert.assertEquals(colors[index % colors.length], (int) shapes.mColors.get(i));
+        }
+    }
+
+    private static class TestRenderer extends ScatterChartRenderer {
+
+        TestRenderer(ScatterDataProvider chart) {
+            super(chart, new ChartAnimator(), TestDataProvider.createViewPortHandler());
+
+            // the Paint of unit tests doesn't keep its color
+            mRenderPaint = new RecordingPaint();
+        }
+    }
+
+    private static class RecordingShapeRenderer implements IShapeRenderer {
+
+        ArrayList<Float> mX = new ArrayList<>();
+        ArrayList<Float> mY = new ArrayList<>();
+        ArrayList<Integer> mColors = new ArrayList<>();
+
+        @Override
+        public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                float posX, float posY, Paint renderPaint) {
+            mX.add(posX);
+            mY.add(posY);
+            mColors.add(renderPaint.getColor());
+        }
+    }
+}
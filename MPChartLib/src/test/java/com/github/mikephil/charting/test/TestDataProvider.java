@@ -0,0 +1,236 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CombinedData;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Chart for renderer tests that provides the given data to the renderers of every chart type.
+ * The transformation maps values to pixels 1:1, the chart is 1000 x 1000 pixels large and shows
+ * the full x-range of the data unless setVisibleXRange(...) is called.
+ */
+class TestDataProvider implements CombinedDataProvider {
+
+    private final BarLineScatterCandleBubbleData mData;
+
+    private final TestTransformer mTransformer = new TestTransformer();
+
+    private final YAxis mAxisLeft = new YAxis(AxisDependency.LEFT);
+    private final YAxis mAxisRight = new YAxis(AxisDependency.RIGHT);
+
+    private float mLowestVisibleX;
+    private float mHighestVisibleX;
+
+    boolean mDrawValueAboveBar = true;
+
+    TestDataProvider(BarLineScatterCandleBubbleData data) {
+        mData = data;
+        mLowestVisibleX = data.getXMin();
+        mHighestVisibleX = data.getXMax();
+    }
+
+    /**
+     * Returns a ViewPortHandler with a content rect of the size of this chart. The methods of RectF
+     * are not available in unit tests, the fields are set directly.
+     *
+     * @return
+     */
+    static ViewPortHandler createViewPortHandler() {
+
+        ViewPortHandler handler = new ViewPortHandler();
+        handler.setChartDimens(1000f, 1000f);
+        handler.getContentRect().right = 1000f;
+        handler.getContentRect().bottom = 1000f;
+
+        return handler;
+    }
+
+    /**
+     * Sets the x-range the renderers draw, like a zoomed in chart.
+     *
+     * @param lowest
+     * @param highest
+     */
+    void setVisibleXRange(float lowest, float highest) {
+        mLowestVisibleX = lowest;
+        mHighestVisibleX = highest;
+    }
+
+    /**
+     * Sets the scale and the translation of the x-axis of the transformation, like a zoomed in
+     * and panned chart.
+     *
+     * @param scaleX
+     * @param translateX
+     */
+    void setTransformationX(float scaleX, float translateX) {
+        mTransformer.setTransformationX(scaleX, translateX);
+    }
+
+    @Override
+    public LineData getLineData() {
+        return (LineData) mData;
+    }
+
+    @Override
+    public BarData getBarData() {
+        return (BarData) mData;
+    }
+
+    @Override
+    public BubbleData getBubbleData() {
+        return (BubbleData) mData;
+    }
+
+    @Override
+    public CandleData getCandleData() {
+        return (CandleData) mData;
+    }
+
+    @Override
+    public ScatterData getScatterData() {
+        return (ScatterData) mData;
+    }
+
+    @Override
+    public CombinedData getCombinedData() {
+        return (CombinedData) mData;
+    }
+
+    @Override
+    public YAxis getAxis(AxisDependency dependency) {
+        return dependency == AxisDependency.LEFT ? mAxisLeft : mAxisRight;
+    }
+
+    @Override
+    public boolean isDrawBarShadowEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDrawValueAboveBarEnabled() {
+        return mDrawValueAboveBar;
+    }
+
+    @Override
+    public boolean isHighlightFullBarEnabled() {
+        return false;
+    }
+
+    @Override
+    public Transformer getTransformer(AxisDependency axis) {
+        return mTransformer;
+    }
+
+    @Override
+    public boolean isInverted(AxisDependency axis) {
+        return false;
+    }
+
+    @Override
+    public float getLowestVisibleX() {
+        return mLowestVisibleX;
+    }
+
+    @Override
+    public float getHighestVisibleX() {
+        return mHighestVisibleX;
+    }
+
+    @Override
+    public BarLineScatterCandleBubbleData getData() {
+        return mData;
+    }
+
+    @Override
+    public float getXChartMin() {
+        return mData.getXMin();
+    }
+
+    @Override
+    public float getXChartMax() {
+        return mData.getXMax();
+    }
+
+    @Override
+    public float getXRange() {
+        return mData.getXMax() - mData.getXMin();
+    }
+
+    @Override
+    public float getYChartMin() {
+        return mData.getYMin();
+    }
+
+    @Override
+    public float getYChartMax() {
+        return mData.getYMax();
+    }
+
+    @Override
+    public float getMaxHighlightDistance() {
+        return 0f;
+    }
+
+    @Override
+    public int getWidth() {
+        return 1000;
+    }
+
+    @Override
+    public int getHeight() {
+        return 1000;
+    }
+
+    @Override
+    public MPPointF getCenterOfView() {
+        return MPPointF.getInstance(500f, 500f);
+    }
+
+    @Override
+    public MPPointF getCenterOffsets() {
+        return MPPointF.getInstance(500f, 500f);
+    }
+
+    @Override
+    public RectF getContentRect() {
+        return new RectF(0f, 0f, 1000f, 1000f);
+    }
+
+    @Override
+    public IValueFormatter getDefaultValueFormatter() {
+        return new DefaultValueFormatter(1);
+    }
+
+    @Override
+    public int getMaxVisibleCount() {
+        return 100;
+    }
+
+    private static class TestTransformer extends Transformer {
+
+        TestTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        void setTransformationX(float scaleX, float translateX) {
+            mMatrixValueToPx.setScale(scaleX, 1f);
+            mMatrixValueToPx.postTranslate(translateX, 0f);
+            mMatrixVersion++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.TextMetricsCache;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Tests the caching, LRU eviction and paint setting keys of the TextMetricsCache.
+ */
+public class TextMetricsCacheTest {
+
+    /**
+     * paint with a fixed width per char that counts the measurements
+     */
+    static class CountingPaint extends Paint {
+
+        int measureCount = 0;
+        float textSize = 10f;
+
+        @Override
+        public float getTextSize() {
+            return textSize;
+        }
+
+        @Override
+        public float getTextScaleX() {
+            return 1f;
+        }
+
+        @Override
+        public float measureText(String text) {
+            measureCount++;
+            return text.length() * textSize;
+        }
+
+        @Override
+        public float measureText(char[] text, int index, int count) {
+            measureCount++;
+            return count * textSize;
+        }
+    }
+
+    @Test
+    public void testCache() {
+
+        TextMetricsCache cache = new TextMetricsCache(2);
+        CountingPaint paint = new CountingPaint();
+
+        Assert.assertEquals(30f, cache.getWidth(paint, "abc"));
+        Assert.assertEquals(30f, cache.getWidth(paint, "abc"));
+        Assert.assertEquals(1, paint.measureCount);
+
+        // chars and Strings with the same content share the measurement
+        Assert.assertEquals(30f, cache.getWidth(paint, new char[]{'x', 'a', 'b', 'c'}, 1, 3));
+        Assert.assertEquals(1, paint.measureCount);
+
+        // different paint settings lead to a new measurement
+        paint.textSize = 20f;
+        Assert.assertEquals(60f, cache.getWidth(paint, "abc"));
+        Assert.assertEquals(2, paint.measureCount);
+        Assert.assertEquals(2, cache.size());
+
+        // "abc" with text size 10 is the least recently used entry and evicted
+        Assert.assertEquals(20f, cache.getWidth(paint, "a"));
+        Assert.assertEquals(3, paint.measureCount);
+        Assert.assertEquals(2, cache.size());
+
+        Assert.assertEquals(60f, cache.getWidth(paint, "abc"));
+        Assert.assertEquals(3, paint.measureCount);
+
+        paint.textSize = 10f;
+        Assert.assertEquals(30f, cache.getWidth(paint, "abc"));
+        Assert.assertEquals(4, paint.measureCount);
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+}
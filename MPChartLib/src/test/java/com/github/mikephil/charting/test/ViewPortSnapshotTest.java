@@ -0,0 +1,190 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+import com.github.mikephil.charting.utils.ViewPortSnapshot;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+/**
+ * Tests that the combined matrix of the ViewPortSnapshot and its inverse transform like the
+ * value, touch and offset matrix applied one after another, and when the snapshot is created
+ * again, and that the version of the ViewPortHandler only changes with the view port. Uses the
+ * Matrix implementation of the unit tests.
+ */
+public class ViewPortSnapshotTest {
+
+    private static final float[] VALUES = new float[]{
+            0f, 0f, 1f, 2f, -3.5f, 10f, 250f, -40f, 1e4f, 0.001f
+    };
+
+    @Test
+    public void testSnapshotMatchesMatrices() {
+
+        ViewPortHandler handler = createHandler();
+        Transformer trans = createTransformer(handler);
+
+        Matrix touch = new Matrix();
+        touch.setScale(2f, 1.5f);
+        touch.postTranslate(-100f, 20f);
+        handler.refresh(touch, null, false);
+
+        // value to pixel, one matrix after another
+        float[] expected = VALUES.clone();
+        trans.getValueMatrix().mapPoints(expected);
+        handler.getMatrixTouch().mapPoints(expected);
+        trans.getOffsetMatrix().mapPoints(expected);
+
+        float[] actual = VALUES.clone();
+        trans.pointValuesToPixel(actual);
+
+        assertPoints(expected, actual);
+
+        // pixel to value, the inverted matrices in reverse order
+        float[] pixels = expected.clone();
+        Matrix inverse = new Matrix();
+
+        trans.getOffsetMatrix().invert(inverse);
+        inverse.mapPoints(pixels);
+        handler.getMatrixTouch().invert(inverse);
+        inverse.mapPoints(pixels);
+        trans.getValueMatrix().invert(inverse);
+        inverse.mapPoints(pixels);
+
+        float[] values = expected.clone();
+        trans.pixelsToValue(values);
+
+        assertPoints(pixels, values);
+        assertPoints(VALUES, values);
+    }
+
+    @Test
+    public void testSnapshotIsCreatedOnlyAfterChanges() {
+
+        ViewPortHandler handler = createHandler();
+        Transformer trans = createTransformer(handler);
+
+        ViewPortSnapshot snapshot = trans.getSnapshot();
+
+        // reading the matrices changes nothing
+        trans.getValueMatrix();
+        trans.getOffsetMatrix();
+        Assert.assertSame(snapshot, trans.getSnapshot());
+
+        // neither does refreshing with an unchanged touch matrix
+        int version = handler.getVersion();
+        handler.refresh(new Matrix(handler.getMatrixTouch()), null, false);
+        Assert.assertEquals(version, handler.getVersion());
+        Assert.assertSame(snapshot, trans.getSnapshot());
+
+        Matrix touch = new Matrix();
+        touch.setScale(2f, 1f);
+        handler.refresh(touch, null, false);
+        Assert.assertTrue(version != handler.getVersion());
+
+        snapshot = trans.getSnapshot();
+
+        Matrix value = new Matrix(trans.getValueMatrix());
+        value.postScale(2f, 2f);
+        trans.setValueMatrix(value);
+
+        Assert.assertNotSame(snapshot, trans.getSnapshot());
+
+        float[] expected = new float[]{1f, 1f};
+        trans.getValueMatrix().mapPoints(expected);
+        handler.getMatrixTouch().mapPoints(expected);
+        trans.getOffsetMatrix().mapPoints(expected);
+
+        float[] actual = new float[]{1f, 1f};
+        trans.pointValuesToPixel(actual);
+
+        assertPoints(expected, actual);
+    }
+
+    @Test
+    public void testVersionChangesOnlyWithViewPort() {
+
+        ViewPortHandler handler = createHandler();
+        Transformer trans = createTransformer(handler);
+
+        ViewPortSnapshot snapshot = trans.getSnapshot();
+        int version = handler.getVersion();
+
+        // limiting a touch matrix that is within its limits changes nothing
+        handler.limitTransAndScale(handler.getMatrixTouch(), handler.getContentRect());
+        handler.setMinMaxScaleX(1f, 10f);
+        Assert.assertEquals(version, handler.getVersion());
+        Assert.assertSame(snapshot, trans.getSnapshot());
+
+        // neither does limiting any other matrix
+        Matrix other = new Matrix();
+        other.setScale(2f, 2f);
+        handler.limitTransAndScale(other, handler.getContentRect());
+        Assert.assertEquals(version, handler.getVersion());
+
+        // zooming in does
+        handler.refresh(handler.zoom(2f, 1f), null, false);
+        Assert.assertTrue(version != handler.getVersion());
+        Assert.assertNotSame(snapshot, trans.getSnapshot());
+
+        snapshot = trans.getSnapshot();
+        version = handler.getVersion();
+
+        // as well as a new limit that changes the scale
+        handler.setMinimumScaleX(4f);
+        Assert.assertEquals(4f, handler.getScaleX(), 0.001f);
+        Assert.assertTrue(version != handler.getVersion());
+        Assert.assertNotSame(snapshot, trans.getSnapshot());
+
+        snapshot = trans.getSnapshot();
+        version = handler.getVersion();
+
+        // and a new content rect
+        handler.restrainViewPort(10f, 10f, 10f, 10f);
+        Assert.assertTrue(version != handler.getVersion());
+        Assert.assertNotSame(snapshot, trans.getSnapshot());
+    }
+
+    /**
+     * A 1080 x 1920 chart with offsets. The methods of RectF are not available on the JVM, the
+     * fields of the content rect are set directly.
+     */
+    private static ViewPortHandler createHandler() {
+
+        ViewPortHandler handler = new ViewPortHandler();
+        handler.getContentRect().left = 40f;
+        handler.getContentRect().top = 20f;
+        handler.getContentRect().right = 1060f;
+        handler.getContentRect().bottom = 1800f;
+
+        return handler;
+    }
+
+    private static Transformer createTransformer(ViewPortHandler handler) {
+
+        Matrix value = new Matrix();
+        value.setTranslate(5f, -20f);
+        value.postScale(3f, -7f);
+
+        Matrix offset = new Matrix();
+        offset.setTranslate(40f, 1800f);
+
+        Transformer trans = new Transformer(handler);
+        trans.setValueMatrix(value);
+        trans.setOffsetMatrix(offset);
+
+        return trans;
+    }
+
+    private static void assertPoints(float[] expected, float[] actual) {
+
+        Assert.assertEquals(expected.length, actual.length);
+
+        for (int i = 0; i < expected.length; i++)
+            Assert.assertEquals(expected[i], actual[i], Math.max(1e-3f, Math.abs(expected[i]) * 1e-5f));
+    }
+}